@@ -0,0 +1,213 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.analysis;
+
+import com.manolodominguez.openlrae.arquitecture.ComponentBinding;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements the contribution of a single component binding to the
+ * result of a risk analyser: how much it adds to the risk exposure, the risk
+ * impact and the maximum impact, and the root causes, warnings, good things
+ * and tips it gives rise to. It also keeps the facts of the component binding
+ * the risk analyser needs to finish the analysis. It is immutable.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public final class ComponentBindingContribution {
+
+    private Logger logger = LoggerFactory.getLogger(ComponentBindingContribution.class);
+
+    private final ComponentBinding componentBinding;
+    private final SupportedLicenses license;
+    private final float weightValue;
+    private final TranslatableMessage fullNameMessage;
+    private final float riskExposure;
+    private final float riskImpact;
+    private final float maxImpact;
+    private final List<TranslatableMessage> rootCauses;
+    private final List<TranslatableMessage> warnings;
+    private final List<TranslatableMessage> goodThings;
+    private final List<TranslatableMessage> tips;
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * ComponentBindingContribution.
+     *
+     * @param facts The facts of the component binding.
+     * @param componentBindingIndex The index of the component binding in the
+     * facts.
+     * @param riskExposure What the component binding adds to the risk
+     * exposure, before normalizing it.
+     * @param riskImpact What the component binding adds to the risk impact,
+     * before normalizing it.
+     * @param maxImpact What the component binding adds to the maximum impact
+     * used to normalize the risk impact, if any.
+     * @param rootCauses The root causes the component binding gives rise to.
+     * @param warnings The warnings the component binding gives rise to.
+     * @param goodThings The good things the component binding gives rise to.
+     * @param tips The tips the component binding gives rise to.
+     */
+    public ComponentBindingContribution(ComponentBindingsFacts facts, int componentBindingIndex, float riskExposure, float riskImpact, float maxImpact, List<TranslatableMessage> rootCauses, List<TranslatableMessage> warnings, List<TranslatableMessage> goodThings, List<TranslatableMessage> tips) {
+        if (facts == null) {
+            logger.error("facts cannot be null");
+            throw new IllegalArgumentException("facts cannot be null");
+        }
+        if ((componentBindingIndex < 0) || (componentBindingIndex >= facts.getNumberOfComponentBindings())) {
+            logger.error("componentBindingIndex is out of range");
+            throw new IllegalArgumentException("componentBindingIndex is out of range");
+        }
+        if (rootCauses == null) {
+            logger.error("rootCauses cannot be null");
+            throw new IllegalArgumentException("rootCauses cannot be null");
+        }
+        if (warnings == null) {
+            logger.error("warnings cannot be null");
+            throw new IllegalArgumentException("warnings cannot be null");
+        }
+        if (goodThings == null) {
+            logger.error("goodThings cannot be null");
+            throw new IllegalArgumentException("goodThings cannot be null");
+        }
+        if (tips == null) {
+            logger.error("tips cannot be null");
+            throw new IllegalArgumentException("tips cannot be null");
+        }
+        this.componentBinding = facts.getComponentBindings().get(componentBindingIndex);
+        this.license = facts.getLicense(componentBindingIndex);
+        this.weightValue = facts.getWeightValue(componentBindingIndex);
+        this.fullNameMessage = facts.getFullNameMessage(componentBindingIndex);
+        this.riskExposure = riskExposure;
+        this.riskImpact = riskImpact;
+        this.maxImpact = maxImpact;
+        this.rootCauses = MessageBuffer.freeze(rootCauses);
+        this.warnings = MessageBuffer.freeze(warnings);
+        this.goodThings = MessageBuffer.freeze(goodThings);
+        this.tips = MessageBuffer.freeze(tips);
+    }
+
+    /**
+     * This method gets the component binding this contribution comes from.
+     *
+     * @return the component binding this contribution comes from.
+     */
+    public ComponentBinding getComponentBinding() {
+        return componentBinding;
+    }
+
+    /**
+     * This method gets the license of the component binding.
+     *
+     * @return the license of the component binding.
+     */
+    public SupportedLicenses getLicense() {
+        return license;
+    }
+
+    /**
+     * This method gets the weight value of the component binding.
+     *
+     * @return the weight value of the component binding.
+     */
+    public float getWeightValue() {
+        return weightValue;
+    }
+
+    /**
+     * This method gets the full name of the component binding, as a message
+     * that is translated only when it is read.
+     *
+     * @return the full name of the component binding, as a translatable
+     * message.
+     */
+    public TranslatableMessage getFullNameMessage() {
+        return fullNameMessage;
+    }
+
+    /**
+     * This method gets what the component binding adds to the risk exposure.
+     *
+     * @return what the component binding adds to the risk exposure.
+     */
+    public float getRiskExposure() {
+        return riskExposure;
+    }
+
+    /**
+     * This method gets what the component binding adds to the risk impact.
+     *
+     * @return what the component binding adds to the risk impact.
+     */
+    public float getRiskImpact() {
+        return riskImpact;
+    }
+
+    /**
+     * This method gets what the component binding adds to the maximum impact.
+     *
+     * @return what the component binding adds to the maximum impact.
+     */
+    public float getMaxImpact() {
+        return maxImpact;
+    }
+
+    /**
+     * This method gets the root causes the component binding gives rise to.
+     *
+     * @return the root causes, as an unmodifiable list.
+     */
+    public List<TranslatableMessage> getRootCauses() {
+        return rootCauses;
+    }
+
+    /**
+     * This method gets the warnings the component binding gives rise to.
+     *
+     * @return the warnings, as an unmodifiable list.
+     */
+    public List<TranslatableMessage> getWarnings() {
+        return warnings;
+    }
+
+    /**
+     * This method gets the good things the component binding gives rise to.
+     *
+     * @return the good things, as an unmodifiable list.
+     */
+    public List<TranslatableMessage> getGoodThings() {
+        return goodThings;
+    }
+
+    /**
+     * This method gets the tips the component binding gives rise to.
+     *
+     * @return the tips, as an unmodifiable list.
+     */
+    public List<TranslatableMessage> getTips() {
+        return tips;
+    }
+}
@@ -0,0 +1,363 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.analysis;
+
+import com.manolodominguez.openlrae.arquitecture.ComponentBinding;
+import com.manolodominguez.openlrae.arquitecture.Project;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedCompatibilities;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedObsolescences;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRedistributions;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedSpreadings;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedTrends;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilityFactory;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilityVerdicts;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesKnowledgeBase;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesProfiles;
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements the facts about each component binding of a project
+ * that risk analysers need: its license, link, weight and full name, the
+ * obsolescence, trend and spreading of its license and its compatibility with
+ * each project license. They are computed in a single pass over the bill of
+ * components, so that risk analysers of the same run do not look them up
+ * again and again. Component bindings are identified by their index in the
+ * bill of components and project licenses by their index in the list of
+ * project licenses, both as they were when the facts were computed. It is
+ * immutable: every fact is computed when it is created and never changes, so
+ * it can be shared by risk analysers running in parallel.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public final class ComponentBindingsFacts {
+
+    private static final Logger logger = LoggerFactory.getLogger(ComponentBindingsFacts.class);
+
+    private final List<ComponentBinding> componentBindings;
+    private final List<SupportedLicenses> projectLicenses;
+    private final SupportedLicenses[] licenses;
+    private final SupportedLinks[] links;
+    private final float[] weightValues;
+    private final TranslatableMessage[] fullNameMessages;
+    private final long[] compatibleProjectLicensesMasks;
+    private final SupportedObsolescences[] obsolescences;
+    private final float[] obsolescenceValues;
+    private final SupportedTrends[] trends;
+    private final float[] trendValues;
+    private final SupportedSpreadings[] spreadings;
+    private final float[] spreadingValues;
+    private final LicensesCompatibilityVerdicts verdicts;
+    private final float totalWeight;
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * ComponentBindingsFacts computing the facts of each component binding of
+     * the specified project with the specified licenses knowledge base.
+     *
+     * @param project The project whose component bindings are described.
+     * @param licensesKnowledgeBase The licenses knowledge base used to compute
+     * the facts.
+     */
+    public ComponentBindingsFacts(Project project, LicensesKnowledgeBase licensesKnowledgeBase) {
+        // The project is checked before its bill of components is read.
+        this(getCheckedProject(project).getBillOfComponentBindings(), project.getLicenses(), project.getRedistribution(), licensesKnowledgeBase);
+    }
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * ComponentBindingsFacts computing the facts of each one of the specified
+     * component bindings, for a project having the specified licenses and
+     * redistribution, with the specified licenses knowledge base. It allows
+     * computing the facts of a few component bindings, for instance those
+     * just added to a project, without going through the whole bill of
+     * components.
+     *
+     * @param componentBindings The component bindings to be described.
+     * @param projectLicenses The licenses of the project.
+     * @param redistribution The redistribution of the project.
+     * @param licensesKnowledgeBase The licenses knowledge base used to compute
+     * the facts.
+     */
+    public ComponentBindingsFacts(List<ComponentBinding> componentBindings, List<SupportedLicenses> projectLicenses, SupportedRedistributions redistribution, LicensesKnowledgeBase licensesKnowledgeBase) {
+        if (componentBindings == null) {
+            logger.error("componentBindings cannot be null");
+            throw new IllegalArgumentException("componentBindings cannot be null");
+        }
+        if (projectLicenses == null) {
+            logger.error("projectLicenses cannot be null");
+            throw new IllegalArgumentException("projectLicenses cannot be null");
+        }
+        if (redistribution == null) {
+            logger.error("redistribution cannot be null");
+            throw new IllegalArgumentException("redistribution cannot be null");
+        }
+        if (licensesKnowledgeBase == null) {
+            logger.error("licensesKnowledgeBase cannot be null");
+            throw new IllegalArgumentException("licensesKnowledgeBase cannot be null");
+        }
+        this.componentBindings = Collections.unmodifiableList(new ArrayList<>(componentBindings));
+        this.projectLicenses = Collections.unmodifiableList(new ArrayList<>(projectLicenses));
+        int numberOfComponentBindings = this.componentBindings.size();
+        this.licenses = new SupportedLicenses[numberOfComponentBindings];
+        this.links = new SupportedLinks[numberOfComponentBindings];
+        this.weightValues = new float[numberOfComponentBindings];
+        this.fullNameMessages = new TranslatableMessage[numberOfComponentBindings];
+        this.compatibleProjectLicensesMasks = new long[numberOfComponentBindings];
+        this.obsolescences = new SupportedObsolescences[numberOfComponentBindings];
+        this.obsolescenceValues = new float[numberOfComponentBindings];
+        this.trends = new SupportedTrends[numberOfComponentBindings];
+        this.trendValues = new float[numberOfComponentBindings];
+        this.spreadings = new SupportedSpreadings[numberOfComponentBindings];
+        this.spreadingValues = new float[numberOfComponentBindings];
+        LicensesCompatibilityFactory licensesCompatibilities = licensesKnowledgeBase.getLicensesCompatibilityFactory();
+        LicensesProfiles licensesProfiles = licensesKnowledgeBase.getLicensesProfiles();
+        float weight = INITIAL_WEIGHT;
+        int i = 0;
+        for (ComponentBinding componentBinding : this.componentBindings) {
+            licenses[i] = componentBinding.getComponent().getLicense();
+            links[i] = componentBinding.getLinkType();
+            weightValues[i] = componentBinding.getWeight().getWeightValue();
+            fullNameMessages[i] = componentBinding.getFullNameMessage();
+            compatibleProjectLicensesMasks[i] = licensesCompatibilities.getProjectLicensesMask(licenses[i], links[i], redistribution, SupportedCompatibilities.COMPATIBLE);
+            obsolescences[i] = licensesProfiles.getObsolescenceOf(licenses[i]);
+            obsolescenceValues[i] = licensesProfiles.getObsolescenceValueOf(licenses[i]);
+            trends[i] = licensesProfiles.getTrendOf(licenses[i]);
+            trendValues[i] = licensesProfiles.getTrendValueOf(licenses[i]);
+            spreadings[i] = licensesProfiles.getSpreadingOf(licenses[i]);
+            spreadingValues[i] = licensesProfiles.getSpreadingValueOf(licenses[i]);
+            weight += weightValues[i];
+            i++;
+        }
+        this.totalWeight = weight;
+        this.verdicts = licensesCompatibilities.getCompatibilitiesOf(this.componentBindings, this.projectLicenses, redistribution);
+    }
+
+    private static Project getCheckedProject(Project project) {
+        if (project == null) {
+            logger.error("project cannot be null");
+            throw new IllegalArgumentException("project cannot be null");
+        }
+        return project;
+    }
+
+    /**
+     * This method gets the number of component bindings described.
+     *
+     * @return the number of component bindings described.
+     */
+    public int getNumberOfComponentBindings() {
+        return componentBindings.size();
+    }
+
+    /**
+     * This method gets the number of project licenses the component bindings
+     * have been checked against.
+     *
+     * @return the number of project licenses.
+     */
+    public int getNumberOfProjectLicenses() {
+        return projectLicenses.size();
+    }
+
+    /**
+     * This method gets the component bindings described, in the order of the
+     * bill of components.
+     *
+     * @return the component bindings described, as an unmodifiable list.
+     */
+    public List<ComponentBinding> getComponentBindings() {
+        return componentBindings;
+    }
+
+    /**
+     * This method gets the project licenses the component bindings have been
+     * checked against.
+     *
+     * @return the project licenses, as an unmodifiable list.
+     */
+    public List<SupportedLicenses> getProjectLicenses() {
+        return projectLicenses;
+    }
+
+    /**
+     * This method gets the license of the specified component binding.
+     *
+     * @param componentBindingIndex the index of the component binding.
+     * @return the license of the component binding.
+     */
+    public SupportedLicenses getLicense(int componentBindingIndex) {
+        return licenses[componentBindingIndex];
+    }
+
+    /**
+     * This method gets the link of the specified component binding.
+     *
+     * @param componentBindingIndex the index of the component binding.
+     * @return the link of the component binding.
+     */
+    public SupportedLinks getLink(int componentBindingIndex) {
+        return links[componentBindingIndex];
+    }
+
+    /**
+     * This method gets the weight value of the specified component binding.
+     *
+     * @param componentBindingIndex the index of the component binding.
+     * @return the weight value of the component binding.
+     */
+    public float getWeightValue(int componentBindingIndex) {
+        return weightValues[componentBindingIndex];
+    }
+
+    /**
+     * This method gets the full name of the specified component binding, as a
+     * message that is translated only when it is read.
+     *
+     * @param componentBindingIndex the index of the component binding.
+     * @return the full name of the component binding, as a translatable
+     * message.
+     */
+    public TranslatableMessage getFullNameMessage(int componentBindingIndex) {
+        return fullNameMessages[componentBindingIndex];
+    }
+
+    /**
+     * This method gets the potential project licenses the specified component
+     * binding is COMPATIBLE with, given the project redistribution.
+     *
+     * @param componentBindingIndex the index of the component binding.
+     * @return a bitmask where bit N is set if the component binding is
+     * COMPATIBLE with the license whose ordinal is N.
+     */
+    public long getCompatibleProjectLicensesMask(int componentBindingIndex) {
+        return compatibleProjectLicensesMasks[componentBindingIndex];
+    }
+
+    /**
+     * This method gets the compatibility of the specified component binding
+     * with the specified project license, given the project redistribution.
+     *
+     * @param componentBindingIndex the index of the component binding.
+     * @param projectLicenseIndex the index of the project license.
+     * @return the compatibility of the component binding with the project
+     * license.
+     */
+    public SupportedCompatibilities getCompatibility(int componentBindingIndex, int projectLicenseIndex) {
+        return verdicts.getCompatibility(componentBindingIndex, projectLicenseIndex);
+    }
+
+    /**
+     * This method gets the compatibility verdicts of every component binding
+     * with every project license.
+     *
+     * @return the compatibility verdicts.
+     */
+    public LicensesCompatibilityVerdicts getVerdicts() {
+        return verdicts;
+    }
+
+    /**
+     * This method gets the obsolescence of the license of the specified
+     * component binding.
+     *
+     * @param componentBindingIndex the index of the component binding.
+     * @return the obsolescence of the license of the component binding.
+     */
+    public SupportedObsolescences getObsolescence(int componentBindingIndex) {
+        return obsolescences[componentBindingIndex];
+    }
+
+    /**
+     * This method gets the obsolescence value of the license of the specified
+     * component binding.
+     *
+     * @param componentBindingIndex the index of the component binding.
+     * @return the obsolescence value of the license of the component binding.
+     */
+    public float getObsolescenceValue(int componentBindingIndex) {
+        return obsolescenceValues[componentBindingIndex];
+    }
+
+    /**
+     * This method gets the trend of the license of the specified component
+     * binding.
+     *
+     * @param componentBindingIndex the index of the component binding.
+     * @return the trend of the license of the component binding.
+     */
+    public SupportedTrends getTrend(int componentBindingIndex) {
+        return trends[componentBindingIndex];
+    }
+
+    /**
+     * This method gets the trend value of the license of the specified
+     * component binding.
+     *
+     * @param componentBindingIndex the index of the component binding.
+     * @return the trend value of the license of the component binding.
+     */
+    public float getTrendValue(int componentBindingIndex) {
+        return trendValues[componentBindingIndex];
+    }
+
+    /**
+     * This method gets the spreading of the license of the specified
+     * component binding.
+     *
+     * @param componentBindingIndex the index of the component binding.
+     * @return the spreading of the license of the component binding.
+     */
+    public SupportedSpreadings getSpreading(int componentBindingIndex) {
+        return spreadings[componentBindingIndex];
+    }
+
+    /**
+     * This method gets the spreading value of the license of the specified
+     * component binding.
+     *
+     * @param componentBindingIndex the index of the component binding.
+     * @return the spreading value of the license of the component binding.
+     */
+    public float getSpreadingValue(int componentBindingIndex) {
+        return spreadingValues[componentBindingIndex];
+    }
+
+    /**
+     * This method gets the sum of the weight values of every component
+     * binding.
+     *
+     * @return the sum of the weight values of every component binding.
+     */
+    public float getTotalWeight() {
+        return totalWeight;
+    }
+
+    private static final float INITIAL_WEIGHT = 0.0f;
+}
@@ -0,0 +1,108 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.analysis;
+
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements a distinct message of a risk analysis together with
+ * the number of times it was reported. It is immutable, so it can be shared.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public final class CountedMessage {
+
+    private static final Logger logger = LoggerFactory.getLogger(CountedMessage.class);
+
+    private final TranslatableMessage message;
+    private final int occurrences;
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * CountedMessage.
+     *
+     * @param message The message.
+     * @param occurrences The number of times the message was reported. It has
+     * to be greater than zero.
+     */
+    public CountedMessage(TranslatableMessage message, int occurrences) {
+        if (message == null) {
+            logger.error("message cannot be null");
+            throw new IllegalArgumentException("message cannot be null");
+        }
+        if (occurrences < MIN_OCCURRENCES) {
+            logger.error("occurrences has to be greater than zero");
+            throw new IllegalArgumentException("occurrences has to be greater than zero");
+        }
+        this.message = message;
+        this.occurrences = occurrences;
+    }
+
+    /**
+     * This method gets the message.
+     *
+     * @return the message.
+     */
+    public TranslatableMessage getMessage() {
+        return message;
+    }
+
+    /**
+     * This method gets the number of times the message was reported.
+     *
+     * @return the number of times the message was reported.
+     */
+    public int getOccurrences() {
+        return occurrences;
+    }
+
+    /**
+     * This method checks whether this counted message and the specified object
+     * are equal, that is, whether the latter is a counted message with an
+     * equal message and the same number of occurrences.
+     *
+     * @param object The object to be compared with this counted message.
+     * @return true, if both are equal. Otherwise, false.
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof CountedMessage)) {
+            return false;
+        }
+        CountedMessage countedMessage = (CountedMessage) object;
+        return (occurrences == countedMessage.occurrences) && message.equals(countedMessage.message);
+    }
+
+    @Override
+    public int hashCode() {
+        return (HASH_MULTIPLIER * message.hashCode()) + occurrences;
+    }
+
+    private static final int MIN_OCCURRENCES = 1;
+    private static final int HASH_MULTIPLIER = 31;
+}
@@ -0,0 +1,61 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.analysis;
+
+import com.manolodominguez.openlrae.arquitecture.Project;
+import java.net.URL;
+
+/**
+ * This interface has to be implemented by classes that receive the outcome of
+ * each project analysed by a LicenseRiskAnalysisBatchEngine. Methods are
+ * called from the worker threads of the engine as soon as each project is
+ * finished, in the order they finish, but never at the same time, so
+ * implementations do not need to be thread safe.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public interface IRiskAnalysisBatchSink {
+
+    /**
+     * This method, once implemented, should process the results of a project
+     * that has been analysed successfully.
+     *
+     * @param projectDefinitionURL the URL the project definition was read
+     * from.
+     * @param project the project that has been analysed.
+     * @param resultSet the results of running each risk analyser, in the same
+     * order than the risk analysers of the engine.
+     */
+    public void onProjectAnalysed(URL projectDefinitionURL, Project project, RiskAnalysisResult[] resultSet);
+
+    /**
+     * This method, once implemented, should process the failure of a project
+     * that could not be analysed, for instance because its definition is not
+     * valid.
+     *
+     * @param projectDefinitionURL the URL the project definition was read
+     * from.
+     * @param cause the exception that made the analysis fail.
+     */
+    public void onProjectFailed(URL projectDefinitionURL, RuntimeException cause);
+}
@@ -0,0 +1,287 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.analysis;
+
+import com.manolodominguez.openlrae.analysis.riskanalysers.AbstractRiskAnalyser;
+import com.manolodominguez.openlrae.arquitecture.Project;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesKnowledgeBase;
+import com.manolodominguez.openlrae.i18n.ILanguageChangeEventEmitter;
+import com.manolodominguez.openlrae.i18n.LanguageChangeEvent;
+import com.manolodominguez.openlrae.i18n.LanguageConfig;
+import com.manolodominguez.openlrae.i18n.SupportedLanguages;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements a risk analyser engine for batches of projects. It
+ * contains a set of risk analysers that are created once and shared by every
+ * project of the batch, as risk analysers keep no state of a run. Projects are
+ * read and analysed in a bounded pool of worker threads and the results of
+ * each one are sent to a sink as soon as it finishes. Project definitions are
+ * read from the source only when there is room for them, so memory usage does
+ * not depend on the size of the batch.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public class LicenseRiskAnalysisBatchEngine implements ILanguageChangeEventEmitter {
+
+    private Logger logger = LoggerFactory.getLogger(LicenseRiskAnalysisBatchEngine.class);
+    private List<AbstractRiskAnalyser> risksAnalysers;
+    private LanguageConfig languageConfig;
+    private int numberOfWorkers;
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * LicenseRiskAnalysisBatchEngine, adding the first risk analyser, that
+     * uses as many worker threads as available processors.
+     *
+     * @param firstRiskAnalyser the first analyser added to the engine. At least
+     * one risk analyser has to be added to the engine.
+     */
+    public LicenseRiskAnalysisBatchEngine(AbstractRiskAnalyser firstRiskAnalyser) {
+        this(firstRiskAnalyser, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * LicenseRiskAnalysisBatchEngine, adding the first risk analyser, that
+     * uses the specified number of worker threads.
+     *
+     * @param firstRiskAnalyser the first analyser added to the engine. At least
+     * one risk analyser has to be added to the engine.
+     * @param numberOfWorkers the number of projects that can be analysed at
+     * the same time. It has to be greater than zero.
+     */
+    public LicenseRiskAnalysisBatchEngine(AbstractRiskAnalyser firstRiskAnalyser, int numberOfWorkers) {
+        if (firstRiskAnalyser == null) {
+            logger.error("firstRiskAnalyser cannot be null");
+            throw new IllegalArgumentException("firstRiskAnalyser cannot be null");
+        }
+        if (numberOfWorkers < ONE) {
+            logger.error("numberOfWorkers has to be greater than zero");
+            throw new IllegalArgumentException("numberOfWorkers has to be greater than zero");
+        }
+        this.risksAnalysers = new CopyOnWriteArrayList<>();
+        this.risksAnalysers.add(firstRiskAnalyser);
+        this.numberOfWorkers = numberOfWorkers;
+        this.languageConfig = new LanguageConfig();
+    }
+
+    /**
+     * This method adds a new risk analyser to the engine, that will be run for
+     * every project of the next batches.
+     *
+     * @param riskAnalyser an additional risk analyser to be included in the set
+     * of risk analysers of this engine.
+     */
+    public void addRiskAnalyser(AbstractRiskAnalyser riskAnalyser) {
+        if (riskAnalyser == null) {
+            logger.error("riskAnalyser cannot be null");
+            throw new IllegalArgumentException("riskAnalyser cannot be null");
+        }
+        this.risksAnalysers.add(riskAnalyser);
+        riskAnalyser.onLanguageChange(new LanguageChangeEvent(this, languageConfig.getLanguage()));
+    }
+
+    /**
+     * This method reads and analyses each project definition of the specified
+     * source and sends the outcome of each one to the sink as soon as it
+     * finishes. Up to getNumberOfWorkers() projects are analysed at the same
+     * time, and the source is not read further while all workers are busy and
+     * the queue of pending projects is full. Every project of the batch is
+     * analysed with the licenses knowledge base in use when the batch starts.
+     * This method returns when every project has been sent to the sink.
+     *
+     * @param projectDefinitionURLs the source of URLs containing JSON project
+     * definitions.
+     * @param sink the sink that receives the outcome of each project.
+     * @return the number of projects that have been analysed successfully.
+     */
+    public int analyse(Iterator<URL> projectDefinitionURLs, IRiskAnalysisBatchSink sink) {
+        if (projectDefinitionURLs == null) {
+            logger.error("projectDefinitionURLs cannot be null");
+            throw new IllegalArgumentException("projectDefinitionURLs cannot be null");
+        }
+        if (sink == null) {
+            logger.error("sink cannot be null");
+            throw new IllegalArgumentException("sink cannot be null");
+        }
+        LicensesKnowledgeBase licensesKnowledgeBase = LicensesKnowledgeBase.getCurrent();
+        List<AbstractRiskAnalyser> batchRisksAnalysers = new ArrayList<>(this.risksAnalysers);
+        SupportedLanguages language = languageConfig.getLanguage();
+        int maxPendingProjects = numberOfWorkers * PENDING_PROJECTS_PER_WORKER;
+        Semaphore pendingProjects = new Semaphore(maxPendingProjects);
+        AtomicInteger analysedProjects = new AtomicInteger();
+        Object sinkLock = new Object();
+        ExecutorService workers = Executors.newFixedThreadPool(numberOfWorkers);
+        try {
+            while (projectDefinitionURLs.hasNext()) {
+                URL projectDefinitionURL = projectDefinitionURLs.next();
+                pendingProjects.acquireUninterruptibly();
+                try {
+                    workers.execute(() -> {
+                        try {
+                            if (analyseProject(projectDefinitionURL, batchRisksAnalysers, licensesKnowledgeBase, language, sink, sinkLock)) {
+                                analysedProjects.incrementAndGet();
+                            }
+                        } finally {
+                            pendingProjects.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    pendingProjects.release();
+                    throw e;
+                }
+            }
+            // Waits for the projects still being analysed.
+            pendingProjects.acquireUninterruptibly(maxPendingProjects);
+        } finally {
+            workers.shutdown();
+        }
+        return analysedProjects.get();
+    }
+
+    /**
+     * This method gets the number of projects that can be analysed at the same
+     * time.
+     *
+     * @return the number of projects that can be analysed at the same time.
+     */
+    public int getNumberOfWorkers() {
+        return numberOfWorkers;
+    }
+
+    /**
+     * This method gets the language currently configured.
+     *
+     * @return the language currently configured.
+     */
+    public SupportedLanguages getLanguage() {
+        return languageConfig.getLanguage();
+    }
+
+    /**
+     * This method sets the language. This change propagates to the risk
+     * analysers and to every project of the next batches. If the specified
+     * locale is not supported by OpenLRAE right now, the most nearest one in
+     * the hierarchy is used instead. As a fallback mechanism, the default
+     * language is used if no other option is possible.
+     *
+     * Supported languages in this version: "en" (default), "es"
+     *
+     * @param newLocale the locale specifying the language that should be used
+     * to generate the risk analysis result.
+     */
+    public void setLanguage(Locale newLocale) {
+        if (newLocale == null) {
+            logger.error("locale cannot be null");
+            throw new IllegalArgumentException("locale cannot be null");
+        }
+        languageConfig.setLanguage(newLocale);
+        fireLanguageChangeEvent();
+    }
+
+    /**
+     * This method sets the language to the default one. This change propagates
+     * to the risk analysers and to every project of the next batches.
+     */
+    public void setDefaultLanguage() {
+        languageConfig.setDefaultLanguage();
+        fireLanguageChangeEvent();
+    }
+
+    /**
+     * This method gets the list of risk analysers that have been added to the
+     * engine.
+     *
+     * @return the list of risk analysers that have been added to the engine.
+     */
+    public List<AbstractRiskAnalyser> getRisksAnalysers() {
+        return risksAnalysers;
+    }
+
+    /**
+     * This method sends an event to all risk analysers to inform that a new
+     * language has been configured, in order for them to be updated.
+     */
+    @Override
+    public void fireLanguageChangeEvent() {
+        for (AbstractRiskAnalyser riskAnalyser : risksAnalysers) {
+            riskAnalyser.onLanguageChange(new LanguageChangeEvent(this, languageConfig.getLanguage()));
+        }
+    }
+
+    private boolean analyseProject(URL projectDefinitionURL, List<AbstractRiskAnalyser> batchRisksAnalysers, LicensesKnowledgeBase licensesKnowledgeBase, SupportedLanguages language, IRiskAnalysisBatchSink sink, Object sinkLock) {
+        Project project;
+        RiskAnalysisResult[] resultSet;
+        try {
+            project = new Project(projectDefinitionURL);
+            if (project.getLanguage() != language) {
+                project.onLanguageChange(new LanguageChangeEvent(this, language));
+            }
+            RiskAnalysisContext context = new RiskAnalysisContext(project, licensesKnowledgeBase);
+            resultSet = new RiskAnalysisResult[batchRisksAnalysers.size()];
+            int i = 0;
+            for (AbstractRiskAnalyser riskAnalyser : batchRisksAnalysers) {
+                resultSet[i] = riskAnalyser.getRiskAnalisysResult(context);
+                i++;
+            }
+        } catch (RuntimeException e) {
+            logger.error("Project " + projectDefinitionURL + " could not be analysed");
+            deliverFailure(projectDefinitionURL, e, sink, sinkLock);
+            return false;
+        }
+        try {
+            synchronized (sinkLock) {
+                sink.onProjectAnalysed(projectDefinitionURL, project, resultSet);
+            }
+        } catch (RuntimeException e) {
+            logger.error("The sink failed processing the results of project " + projectDefinitionURL);
+        }
+        return true;
+    }
+
+    private void deliverFailure(URL projectDefinitionURL, RuntimeException cause, IRiskAnalysisBatchSink sink, Object sinkLock) {
+        try {
+            synchronized (sinkLock) {
+                sink.onProjectFailed(projectDefinitionURL, cause);
+            }
+        } catch (RuntimeException e) {
+            logger.error("The sink failed processing the failure of project " + projectDefinitionURL);
+        }
+    }
+
+    private static final int ONE = 1;
+    private static final int PENDING_PROJECTS_PER_WORKER = 2;
+}
@@ -22,14 +22,42 @@
  */
 package com.manolodominguez.openlrae.analysis;
 
+import com.manolodominguez.openlrae.analysis.riskanalysers.AbstractIncrementalRiskAnalyser;
 import com.manolodominguez.openlrae.analysis.riskanalysers.AbstractRiskAnalyser;
+import com.manolodominguez.openlrae.arquitecture.IProjectChangeListener;
+import com.manolodominguez.openlrae.arquitecture.Project;
+import com.manolodominguez.openlrae.arquitecture.ProjectChangeEvent;
+import com.manolodominguez.openlrae.arquitecture.SupportedProjectChanges;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesKnowledgeBase;
 import com.manolodominguez.openlrae.i18n.ILanguageChangeEventEmitter;
 import com.manolodominguez.openlrae.i18n.LanguageChangeEvent;
 import com.manolodominguez.openlrae.i18n.LanguageConfig;
 import com.manolodominguez.openlrae.i18n.SupportedLanguages;
+import com.manolodominguez.openlrae.reporting.SupportedVerbosityLevel;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,8 +72,26 @@ public class LicenseRiskAnalysisEngine implements ILanguageChangeEventEmitter {
 
     private Logger logger = LoggerFactory.getLogger(LicenseRiskAnalysisEngine.class);
     private List<AbstractRiskAnalyser> risksAnalysers;
-    private List<RiskAnalysisResult> riskAnalysisResultSet;
     private LanguageConfig languageConfig;
+    private final Object runHistoryLock;
+    private RiskAnalysisRun[] runHistory;
+    private int nextRunHistoryIndex;
+    private int runHistoryLength;
+    private final Object refreshLock;
+    private final IProjectChangeListener projectChangeListener;
+    private final Queue<ProjectChangeEvent> pendingProjectChanges;
+    private final AtomicInteger numberOfPendingProjectChanges;
+    private volatile boolean pendingProjectChangesOverflowed;
+    private final Set<Project> listenedProjects;
+    private List<AbstractRiskAnalyser> refreshedRisksAnalysers;
+    private LicensesKnowledgeBase refreshedLicensesKnowledgeBase;
+    private SupportedLanguages[] refreshedLanguages;
+    private int[] refreshedNumberOfComponentBindings;
+    private RiskAnalysisTally[] refreshedTallies;
+    private RiskAnalysisResult[] refreshedResults;
+    private volatile RiskAnalysisResultsCache resultsCache;
+    private volatile SupportedVerbosityLevel verbosity;
+    private SupportedVerbosityLevel refreshedVerbosity;
 
     /**
      * This is the constructor of the class.It creates a new instance of
@@ -61,7 +107,19 @@ public class LicenseRiskAnalysisEngine implements ILanguageChangeEventEmitter {
         }
         this.risksAnalysers = new CopyOnWriteArrayList<>();
         this.risksAnalysers.add(firstRiskAnalyser);
-        this.riskAnalysisResultSet = new CopyOnWriteArrayList<>();
+        this.runHistoryLock = new Object();
+        this.runHistory = new RiskAnalysisRun[0];
+        this.nextRunHistoryIndex = 0;
+        this.runHistoryLength = 0;
+        this.refreshLock = new Object();
+        this.pendingProjectChanges = new ConcurrentLinkedQueue<>();
+        this.numberOfPendingProjectChanges = new AtomicInteger(0);
+        this.pendingProjectChangesOverflowed = false;
+        this.projectChangeListener = this::queueProjectChange;
+        this.listenedProjects = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.refreshedRisksAnalysers = null;
+        this.resultsCache = null;
+        this.verbosity = DEFAULT_VERBOSITY_LEVEL;
         this.languageConfig = new LanguageConfig();
     }
 
@@ -83,15 +141,656 @@ public class LicenseRiskAnalysisEngine implements ILanguageChangeEventEmitter {
 
     /**
      * This method executes in a loop all risk analysers that have been
-     * configured in the engine, and returns the corresponding results.
+     * configured in the engine, and returns the corresponding results. Each
+     * call returns only the results of its own run, so the engine can be run
+     * as many times as needed.
      *
      * @return the results of running each risk analysers.
      */
     public RiskAnalysisResult[] analyse() {
-        this.risksAnalysers.forEach(riskAnaliser -> {
-            this.riskAnalysisResultSet.add(riskAnaliser.getRiskAnalisysResult());
+        return run().getResults();
+    }
+
+    /**
+     * This method executes in parallel, in the common fork-join pool, all risk
+     * analysers that have been configured in the engine, and returns the
+     * corresponding results in the same order than getRisksAnalysers().
+     *
+     * @return the results of running each risk analysers.
+     */
+    public RiskAnalysisResult[] analyseInParallel() {
+        return analyse(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * This method executes in parallel, using the specified executor, all risk
+     * analysers that have been configured in the engine, and returns the
+     * corresponding results in the same order than getRisksAnalysers(). Risk
+     * analysers only read the project and the licenses knowledge base, so they
+     * can run at the same time. If the engine has a single risk analyser, it
+     * is run in the calling thread as analyse() does.
+     *
+     * @param executor the executor used to run the risk analysers.
+     * @return the results of running each risk analysers.
+     */
+    public RiskAnalysisResult[] analyse(Executor executor) {
+        return run(executor).getResults();
+    }
+
+    /**
+     * This method executes in a loop all risk analysers that have been
+     * configured in the engine, and returns the whole run, including when it
+     * started and finished. The run is also kept in the run history, if
+     * enabled.
+     *
+     * @return the run, including the results of running each risk analysers.
+     */
+    public RiskAnalysisRun run() {
+        Instant startTime = Instant.now();
+        List<AbstractRiskAnalyser> runRisksAnalysers = new ArrayList<>(this.risksAnalysers);
+        LicensesKnowledgeBase licensesKnowledgeBase = LicensesKnowledgeBase.getCurrent();
+        SupportedVerbosityLevel runVerbosity = this.verbosity;
+        RiskAnalysisResultsCache runResultsCache = this.resultsCache;
+        String fingerprint = getFingerprintOf(runRisksAnalysers, licensesKnowledgeBase, runVerbosity, runResultsCache);
+        RiskAnalysisResult[] resultSet = (fingerprint == null) ? null : runResultsCache.get(fingerprint);
+        if (resultSet == null) {
+            List<RiskAnalysisContext> contexts = getContextsOf(runRisksAnalysers, licensesKnowledgeBase, runVerbosity);
+            resultSet = new RiskAnalysisResult[runRisksAnalysers.size()];
+            for (int i = 0; i < resultSet.length; i++) {
+                resultSet[i] = getRiskAnalisysResultOf(runRisksAnalysers.get(i), contexts.get(i));
+            }
+            if (fingerprint != null) {
+                runResultsCache.put(fingerprint, resultSet);
+            }
+        }
+        return recordRun(new RiskAnalysisRun(startTime, Instant.now(), resultSet));
+    }
+
+    /**
+     * This method executes in parallel, using the specified executor, all risk
+     * analysers that have been configured in the engine, and returns the whole
+     * run, including when it started and finished. Results keep the same order
+     * than getRisksAnalysers(). The run is also kept in the run history, if
+     * enabled.
+     *
+     * @param executor the executor used to run the risk analysers.
+     * @return the run, including the results of running each risk analysers.
+     */
+    public RiskAnalysisRun run(Executor executor) {
+        if (executor == null) {
+            logger.error("executor cannot be null");
+            throw new IllegalArgumentException("executor cannot be null");
+        }
+        if (this.risksAnalysers.size() == ONE) {
+            return run();
+        }
+        Instant startTime = Instant.now();
+        List<AbstractRiskAnalyser> runRisksAnalysers = new ArrayList<>(this.risksAnalysers);
+        LicensesKnowledgeBase licensesKnowledgeBase = LicensesKnowledgeBase.getCurrent();
+        SupportedVerbosityLevel runVerbosity = this.verbosity;
+        RiskAnalysisResultsCache runResultsCache = this.resultsCache;
+        String fingerprint = getFingerprintOf(runRisksAnalysers, licensesKnowledgeBase, runVerbosity, runResultsCache);
+        RiskAnalysisResult[] cachedResultSet = (fingerprint == null) ? null : runResultsCache.get(fingerprint);
+        if (cachedResultSet != null) {
+            return recordRun(new RiskAnalysisRun(startTime, Instant.now(), cachedResultSet));
+        }
+        List<RiskAnalysisContext> contexts = getContextsOf(runRisksAnalysers, licensesKnowledgeBase, runVerbosity);
+        List<CompletableFuture<RiskAnalysisResult>> futureResults = new ArrayList<>();
+        for (int i = 0; i < runRisksAnalysers.size(); i++) {
+            AbstractRiskAnalyser riskAnalyser = runRisksAnalysers.get(i);
+            RiskAnalysisContext context = contexts.get(i);
+            futureResults.add(CompletableFuture.supplyAsync(() -> getRiskAnalisysResultOf(riskAnalyser, context), executor));
+        }
+        RiskAnalysisResult[] resultSet = new RiskAnalysisResult[futureResults.size()];
+        // Results are collected in order, whatever the order they finish in.
+        for (int i = 0; i < resultSet.length; i++) {
+            try {
+                resultSet[i] = futureResults.get(i).join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        if (fingerprint != null) {
+            runResultsCache.put(fingerprint, resultSet);
+        }
+        return recordRun(new RiskAnalysisRun(startTime, Instant.now(), resultSet));
+    }
+
+    /**
+     * This method runs the risk analysers of the engine as a gate, checking
+     * that the risk value of each type of risk does not exceed its threshold.
+     * Only the risk analysers whose type of risk has a threshold are run, the
+     * cheapest ones first and, among those of the same cost, the ones with
+     * the lowest threshold first, as they are the most likely to fail. The
+     * gate stops as soon as a risk exceeds its threshold, so the rest of risk
+     * analysers are not run and neither their risk values nor their messages
+     * are computed. Gate runs are not kept in the run history nor served from
+     * the results cache.
+     *
+     * @param riskThresholds the maximum risk value allowed for each type of
+     * risk to be gated, between 0.00f and 1.00f.
+     * @return the outcome of the gate, including the run of the gated risk
+     * analysers in the order they were run.
+     */
+    public RiskAnalysisGateResult gate(Map<SupportedRisks, Float> riskThresholds) {
+        if (riskThresholds == null) {
+            logger.error("riskThresholds cannot be null");
+            throw new IllegalArgumentException("riskThresholds cannot be null");
+        }
+        for (Map.Entry<SupportedRisks, Float> riskThreshold : riskThresholds.entrySet()) {
+            if ((riskThreshold.getKey() == null) || (riskThreshold.getValue() == null)) {
+                logger.error("riskThresholds cannot contain null values");
+                throw new IllegalArgumentException("riskThresholds cannot contain null values");
+            }
+            if ((riskThreshold.getValue() < MIN_RISK_THRESHOLD) || (riskThreshold.getValue() > MAX_RISK_THRESHOLD)) {
+                logger.error("riskThresholds have to be between 0.0 and 1.0");
+                throw new IllegalArgumentException("riskThresholds have to be between 0.0 and 1.0");
+            }
+        }
+        Instant startTime = Instant.now();
+        List<AbstractRiskAnalyser> gatedRisksAnalysers = new ArrayList<>();
+        for (AbstractRiskAnalyser riskAnalyser : this.risksAnalysers) {
+            if (riskThresholds.containsKey(riskAnalyser.getHandledRiskType())) {
+                gatedRisksAnalysers.add(riskAnalyser);
+            }
+        }
+        gatedRisksAnalysers.sort(Comparator.comparing(AbstractRiskAnalyser::getAnalysisCost).thenComparing(riskAnalyser -> riskThresholds.get(riskAnalyser.getHandledRiskType())));
+        List<RiskAnalysisContext> contexts = getContextsOf(gatedRisksAnalysers, LicensesKnowledgeBase.getCurrent(), this.verbosity);
+        List<RiskAnalysisResult> results = new ArrayList<>();
+        for (int i = 0; i < gatedRisksAnalysers.size(); i++) {
+            RiskAnalysisResult result = getRiskAnalisysResultOf(gatedRisksAnalysers.get(i), contexts.get(i));
+            results.add(result);
+            if (result.getRiskValue() > riskThresholds.get(result.getRiskType())) {
+                List<SupportedRisks> notRunRiskTypes = new ArrayList<>();
+                for (AbstractRiskAnalyser notRunRiskAnalyser : gatedRisksAnalysers.subList(i + 1, gatedRisksAnalysers.size())) {
+                    notRunRiskTypes.add(notRunRiskAnalyser.getHandledRiskType());
+                }
+                RiskAnalysisRun run = new RiskAnalysisRun(startTime, Instant.now(), results.toArray(new RiskAnalysisResult[0]), notRunRiskTypes);
+                return new RiskAnalysisGateResult(run, result);
+            }
+        }
+        return new RiskAnalysisGateResult(new RiskAnalysisRun(startTime, Instant.now(), results.toArray(new RiskAnalysisResult[0])));
+    }
+
+    /**
+     * This method sets the cache run() and run(Executor) serve results from.
+     * Results are cached by a fingerprint of the licenses knowledge base
+     * version, the verbosity and, for each risk analyser, its risk type, its
+     * language and the fingerprint of its project, so running again the same
+     * analysis of an unchanged project does not analyse it again. The same
+     * cache can be shared by several engines.
+     *
+     * @param resultsCache the cache of results, or null to disable caching.
+     * Caching is disabled by default.
+     */
+    public void setResultsCache(RiskAnalysisResultsCache resultsCache) {
+        this.resultsCache = resultsCache;
+    }
+
+    /**
+     * This method gets the cache run() and run(Executor) serve results from.
+     *
+     * @return the cache of results, or null if caching is disabled.
+     */
+    public RiskAnalysisResultsCache getResultsCache() {
+        return resultsCache;
+    }
+
+    /**
+     * This method sets the verbosity of the reports the results of the engine
+     * are going to be used for. Risk analysers only collect the messages that
+     * are reported with that verbosity: no messages at all for ESSENTIAL, and
+     * no tips for RICH. This saves building and keeping messages that would be
+     * thrown away when reporting, which is noticeable on big projects. It
+     * applies to the runs started from then on.
+     *
+     * @param verbosity the verbosity of the reports. DETAILED, the default
+     * one, collects every message.
+     */
+    public void setVerbosity(SupportedVerbosityLevel verbosity) {
+        if (verbosity == null) {
+            logger.error("verbosity cannot be null");
+            throw new IllegalArgumentException("verbosity cannot be null");
+        }
+        this.verbosity = verbosity;
+    }
+
+    /**
+     * This method gets the verbosity of the reports the results of the engine
+     * are going to be used for.
+     *
+     * @return the verbosity of the reports the results of the engine are going
+     * to be used for.
+     */
+    public SupportedVerbosityLevel getVerbosity() {
+        return verbosity;
+    }
+
+    /**
+     * This method brings the results of the last refresh up to date with the
+     * changes made since then to the bill of components of the projects, and
+     * returns the whole run. The first call runs every risk analyser from
+     * scratch; from then on, the engine listens to its projects and incremental
+     * risk analysers only add or remove the contribution of the component
+     * bindings that have been added or removed, instead of analysing the whole
+     * bill of components again. Other risk analysers are only run again if
+     * their project has changed. Everything is run again from scratch if a
+     * license has been added to a project, or if the risk analysers, their
+     * language, the verbosity or the licenses knowledge base in use are not
+     * the same than in the last refresh. The run is also kept in the run history, if enabled.
+     *
+     * The engine stops listening to the projects no risk analyser refers to
+     * any more. At most MAX_PENDING_PROJECT_CHANGES changes are kept between
+     * two refreshes; if there are more, the next refresh runs everything
+     * again from scratch. Use stopRefreshing() to stop listening to every
+     * project once refreshing is not needed any longer.
+     *
+     * @return the run, including the up to date results of each risk
+     * analysers.
+     */
+    public RiskAnalysisRun refresh() {
+        synchronized (refreshLock) {
+            Instant startTime = Instant.now();
+            List<AbstractRiskAnalyser> runRisksAnalysers = new ArrayList<>(this.risksAnalysers);
+            LicensesKnowledgeBase licensesKnowledgeBase = LicensesKnowledgeBase.getCurrent();
+            SupportedVerbosityLevel runVerbosity = this.verbosity;
+            List<RiskAnalysisContext> contexts = getContextsOf(runRisksAnalysers, licensesKnowledgeBase, runVerbosity);
+            Set<Project> runProjects = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (AbstractRiskAnalyser riskAnalyser : runRisksAnalysers) {
+                if (riskAnalyser.getProject() != null) {
+                    runProjects.add(riskAnalyser.getProject());
+                }
+            }
+            // Projects no risk analyser refers to any more are not listened
+            // to, so they do not queue changes nor keep the engine reachable.
+            Iterator<Project> listenedProjectsIterator = listenedProjects.iterator();
+            while (listenedProjectsIterator.hasNext()) {
+                Project listenedProject = listenedProjectsIterator.next();
+                if (!runProjects.contains(listenedProject)) {
+                    listenedProject.removeProjectChangeListener(projectChangeListener);
+                    listenedProjectsIterator.remove();
+                }
+            }
+            for (Project runProject : runProjects) {
+                if (listenedProjects.add(runProject)) {
+                    runProject.addProjectChangeListener(projectChangeListener);
+                }
+            }
+            // Changes are grouped by project, keeping the order they were made.
+            Map<Project, List<ProjectChangeEvent>> projectChanges = new IdentityHashMap<>();
+            boolean fromScratch = !runRisksAnalysers.equals(refreshedRisksAnalysers) || (licensesKnowledgeBase != refreshedLicensesKnowledgeBase) || (runVerbosity != refreshedVerbosity);
+            if (pendingProjectChangesOverflowed) {
+                // Some changes were not kept.
+                pendingProjectChangesOverflowed = false;
+                fromScratch = true;
+            }
+            ProjectChangeEvent projectChangeEvent = pendingProjectChanges.poll();
+            while (projectChangeEvent != null) {
+                numberOfPendingProjectChanges.decrementAndGet();
+                if (projectChangeEvent.getChange() == SupportedProjectChanges.LICENSE_ADDED) {
+                    fromScratch = true;
+                }
+                if (runProjects.contains(projectChangeEvent.getProject())) {
+                    projectChanges.computeIfAbsent(projectChangeEvent.getProject(), project -> new ArrayList<>()).add(projectChangeEvent);
+                }
+                projectChangeEvent = pendingProjectChanges.poll();
+            }
+            SupportedLanguages[] languages = new SupportedLanguages[runRisksAnalysers.size()];
+            int[] numbersOfComponentBindings = new int[runRisksAnalysers.size()];
+            RiskAnalysisTally[] tallies = new RiskAnalysisTally[runRisksAnalysers.size()];
+            RiskAnalysisResult[] resultSet = new RiskAnalysisResult[runRisksAnalysers.size()];
+            for (int i = 0; i < resultSet.length; i++) {
+                AbstractRiskAnalyser riskAnalyser = runRisksAnalysers.get(i);
+                RiskAnalysisContext context = contexts.get(i);
+                if (context == null) {
+                    // Throws the same exception than the rest of runs.
+                    getRiskAnalisysResultOf(riskAnalyser, context);
+                }
+                languages[i] = riskAnalyser.getLanguage();
+                numbersOfComponentBindings[i] = context.getProject().getBillOfComponentBindings().size();
+                boolean reusable = !fromScratch && (languages[i] == refreshedLanguages[i]);
+                List<ProjectChangeEvent> changes = projectChanges.getOrDefault(context.getProject(), Collections.emptyList());
+                if (riskAnalyser instanceof AbstractIncrementalRiskAnalyser) {
+                    AbstractIncrementalRiskAnalyser incrementalRiskAnalyser = (AbstractIncrementalRiskAnalyser) riskAnalyser;
+                    RiskAnalysisTally tally = reusable ? refreshedTallies[i] : null;
+                    for (ProjectChangeEvent change : changes) {
+                        if (tally == null) {
+                            break;
+                        }
+                        if (change.getChange() == SupportedProjectChanges.COMPONENT_BINDING_ADDED) {
+                            incrementalRiskAnalyser.addToTally(tally, change.getComponentBinding(), context);
+                        } else if (!incrementalRiskAnalyser.removeFromTally(tally, change.getComponentBinding())) {
+                            tally = null;
+                        }
+                    }
+                    // Changes made directly on the bill of component bindings
+                    // are not notified. At least, they are detected when the
+                    // number of component bindings does not match.
+                    if ((tally == null) || (tally.getNumberOfComponentBindings() != numbersOfComponentBindings[i])) {
+                        tally = incrementalRiskAnalyser.createTally(context);
+                    }
+                    tallies[i] = tally;
+                    resultSet[i] = incrementalRiskAnalyser.getRiskAnalisysResult(tally, context);
+                } else if (reusable && changes.isEmpty() && (numbersOfComponentBindings[i] == refreshedNumberOfComponentBindings[i])) {
+                    resultSet[i] = refreshedResults[i];
+                } else {
+                    resultSet[i] = riskAnalyser.getRiskAnalisysResult(context);
+                }
+            }
+            refreshedRisksAnalysers = runRisksAnalysers;
+            refreshedLicensesKnowledgeBase = licensesKnowledgeBase;
+            refreshedVerbosity = runVerbosity;
+            refreshedLanguages = languages;
+            refreshedNumberOfComponentBindings = numbersOfComponentBindings;
+            refreshedTallies = tallies;
+            refreshedResults = resultSet;
+            return recordRun(new RiskAnalysisRun(startTime, Instant.now(), resultSet));
+        }
+    }
+
+    /**
+     * This method stops listening to the projects of the risk analysers and
+     * forgets the results of the last refresh, so the engine does not keep
+     * changes made to the projects from then on. Calling refresh() again
+     * runs every risk analyser from scratch and listens to the projects
+     * again.
+     */
+    public void stopRefreshing() {
+        synchronized (refreshLock) {
+            for (Project listenedProject : listenedProjects) {
+                listenedProject.removeProjectChangeListener(projectChangeListener);
+            }
+            listenedProjects.clear();
+            ProjectChangeEvent projectChangeEvent = pendingProjectChanges.poll();
+            while (projectChangeEvent != null) {
+                numberOfPendingProjectChanges.decrementAndGet();
+                projectChangeEvent = pendingProjectChanges.poll();
+            }
+            pendingProjectChangesOverflowed = false;
+            refreshedRisksAnalysers = null;
+            refreshedLicensesKnowledgeBase = null;
+            refreshedVerbosity = null;
+            refreshedLanguages = null;
+            refreshedNumberOfComponentBindings = null;
+            refreshedTallies = null;
+            refreshedResults = null;
+        }
+    }
+
+    /**
+     * This method gets the number of project changes kept for the next
+     * refresh.
+     *
+     * @return the number of project changes kept for the next refresh.
+     */
+    int getNumberOfPendingProjectChanges() {
+        return numberOfPendingProjectChanges.get();
+    }
+
+    private void queueProjectChange(ProjectChangeEvent projectChangeEvent) {
+        if (numberOfPendingProjectChanges.incrementAndGet() > MAX_PENDING_PROJECT_CHANGES) {
+            // The next refresh runs everything from scratch, so the change is
+            // not needed.
+            numberOfPendingProjectChanges.decrementAndGet();
+            pendingProjectChangesOverflowed = true;
+        } else {
+            pendingProjectChanges.add(projectChangeEvent);
+        }
+    }
+
+    /**
+     * This method starts running, in the common fork-join pool, all risk
+     * analysers that have been configured in the engine, and returns at once
+     * a future that completes with the run when every risk analyser has
+     * finished. Cancelling the future makes the risk analysers that are still
+     * running stop as soon as possible.
+     *
+     * @return a future of the run, including the results of running each risk
+     * analysers.
+     */
+    public CompletableFuture<RiskAnalysisRun> analyseAsync() {
+        return analyseAsync(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * This method starts running, using the specified executor, all risk
+     * analysers that have been configured in the engine, and returns at once
+     * a future that completes with the run when every risk analyser has
+     * finished. Cancelling the future makes the risk analysers that are still
+     * running stop as soon as possible.
+     *
+     * @param executor the executor used to run the risk analysers.
+     * @return a future of the run, including the results of running each risk
+     * analysers.
+     */
+    public CompletableFuture<RiskAnalysisRun> analyseAsync(Executor executor) {
+        return analyseAsync(executor, NO_TIMEOUT, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * This method starts running, using the specified executor, all risk
+     * analysers that have been configured in the engine, and returns at once
+     * a future that completes with the run when every risk analyser has
+     * finished or has been given up. A risk analyser that does not finish
+     * within the specified timeout is asked to stop and its result is left out
+     * of the run, that is marked as partial. Cancelling the future makes the
+     * risk analysers that are still running stop as soon as possible. The run
+     * is also kept in the run history, if enabled.
+     *
+     * @param executor the executor used to run the risk analysers.
+     * @param timeoutPerAnalyser the maximum time each risk analyser can run,
+     * counted from the moment the run starts. Zero means no timeout.
+     * @param timeUnit the unit of timeoutPerAnalyser.
+     * @return a future of the run, including the results of running each risk
+     * analysers.
+     */
+    public CompletableFuture<RiskAnalysisRun> analyseAsync(Executor executor, long timeoutPerAnalyser, TimeUnit timeUnit) {
+        if (executor == null) {
+            logger.error("executor cannot be null");
+            throw new IllegalArgumentException("executor cannot be null");
+        }
+        if (timeoutPerAnalyser < NO_TIMEOUT) {
+            logger.error("timeoutPerAnalyser cannot be negative");
+            throw new IllegalArgumentException("timeoutPerAnalyser cannot be negative");
+        }
+        if (timeUnit == null) {
+            logger.error("timeUnit cannot be null");
+            throw new IllegalArgumentException("timeUnit cannot be null");
+        }
+        Instant startTime = Instant.now();
+        LicensesKnowledgeBase licensesKnowledgeBase = LicensesKnowledgeBase.getCurrent();
+        AtomicBoolean runCancelled = new AtomicBoolean(false);
+        List<AbstractRiskAnalyser> runRisksAnalysers = new ArrayList<>(this.risksAnalysers);
+        List<RiskAnalysisContext> contexts = getContextsOf(runRisksAnalysers, licensesKnowledgeBase, this.verbosity);
+        List<CompletableFuture<RiskAnalysisResult>> futureResults = new ArrayList<>();
+        for (int i = 0; i < runRisksAnalysers.size(); i++) {
+            AbstractRiskAnalyser riskAnalyser = runRisksAnalysers.get(i);
+            RiskAnalysisContext context = contexts.get(i);
+            AtomicBoolean riskAnalyserTimedOut = new AtomicBoolean(false);
+            CompletableFuture<RiskAnalysisResult> futureResult = CompletableFuture.supplyAsync(() -> {
+                RiskAnalysisContext cancellableContext = null;
+                if (context != null) {
+                    cancellableContext = context.withCancellationRequest(() -> runCancelled.get() || riskAnalyserTimedOut.get());
+                }
+                return getRiskAnalisysResultOf(riskAnalyser, cancellableContext);
+            }, executor);
+            if (timeoutPerAnalyser > NO_TIMEOUT) {
+                futureResult.orTimeout(timeoutPerAnalyser, timeUnit);
+            }
+            // A risk analyser that has been given up yields no result instead
+            // of making the whole run fail.
+            futureResults.add(futureResult.handle((result, exception) -> {
+                if (exception == null) {
+                    return result;
+                }
+                Throwable cause = exception;
+                if ((cause instanceof CompletionException) && (cause.getCause() != null)) {
+                    cause = cause.getCause();
+                }
+                if (cause instanceof TimeoutException) {
+                    riskAnalyserTimedOut.set(true);
+                    return null;
+                }
+                if (cause instanceof CancellationException) {
+                    return null;
+                }
+                throw new CompletionException(cause);
+            }));
+        }
+        CompletableFuture<RiskAnalysisRun> futureRun = CompletableFuture.allOf(futureResults.toArray(new CompletableFuture<?>[0])).thenApply(allDone -> {
+            List<RiskAnalysisResult> resultSet = new ArrayList<>();
+            List<SupportedRisks> unfinishedRiskTypes = new ArrayList<>();
+            for (int i = 0; i < futureResults.size(); i++) {
+                RiskAnalysisResult result = futureResults.get(i).join();
+                if (result == null) {
+                    unfinishedRiskTypes.add(runRisksAnalysers.get(i).getHandledRiskType());
+                } else {
+                    resultSet.add(result);
+                }
+            }
+            return recordRun(new RiskAnalysisRun(startTime, Instant.now(), resultSet.toArray(new RiskAnalysisResult[0]), unfinishedRiskTypes));
+        });
+        futureRun.whenComplete((run, exception) -> {
+            if (futureRun.isCancelled()) {
+                runCancelled.set(true);
+            }
         });
-        return this.riskAnalysisResultSet.toArray(new RiskAnalysisResult[0]);
+        return futureRun;
+    }
+
+    /**
+     * This method sets how many of the latest runs are kept in the run
+     * history. When the history is full, the oldest run is discarded each time
+     * a new one finishes, so memory usage stays bounded however many times the
+     * engine is run. A size of zero, the default one, disables the history.
+     * Runs already kept are preserved, as many of them as fit in the new size,
+     * newest first.
+     *
+     * @param runHistorySize the number of latest runs to keep. Zero or greater.
+     */
+    public void setRunHistorySize(int runHistorySize) {
+        if (runHistorySize < 0) {
+            logger.error("runHistorySize cannot be negative");
+            throw new IllegalArgumentException("runHistorySize cannot be negative");
+        }
+        synchronized (runHistoryLock) {
+            List<RiskAnalysisRun> keptRuns = getRunHistory();
+            int firstKeptRun = Math.max(0, keptRuns.size() - runHistorySize);
+            this.runHistory = new RiskAnalysisRun[runHistorySize];
+            this.nextRunHistoryIndex = 0;
+            this.runHistoryLength = 0;
+            for (RiskAnalysisRun keptRun : keptRuns.subList(firstKeptRun, keptRuns.size())) {
+                recordRun(keptRun);
+            }
+        }
+    }
+
+    /**
+     * This method gets how many of the latest runs are kept in the run
+     * history. Zero means the history is disabled.
+     *
+     * @return how many of the latest runs are kept in the run history.
+     */
+    public int getRunHistorySize() {
+        synchronized (runHistoryLock) {
+            return runHistory.length;
+        }
+    }
+
+    /**
+     * This method gets the latest runs kept in the run history, from the
+     * oldest to the newest one. The returned list is a copy, so it does not
+     * change when the engine is run again.
+     *
+     * @return the latest runs kept in the run history. An empty list if the
+     * history is disabled or the engine has not been run yet.
+     */
+    public List<RiskAnalysisRun> getRunHistory() {
+        synchronized (runHistoryLock) {
+            List<RiskAnalysisRun> runs = new ArrayList<>(runHistoryLength);
+            int oldestRunIndex = nextRunHistoryIndex - runHistoryLength;
+            if (oldestRunIndex < 0) {
+                oldestRunIndex += runHistory.length;
+            }
+            for (int i = 0; i < runHistoryLength; i++) {
+                runs.add(runHistory[(oldestRunIndex + i) % runHistory.length]);
+            }
+            return runs;
+        }
+    }
+
+    /**
+     * This method removes all runs kept in the run history. The size of the
+     * history does not change.
+     */
+    public void clearRunHistory() {
+        synchronized (runHistoryLock) {
+            Arrays.fill(runHistory, null);
+            this.nextRunHistoryIndex = 0;
+            this.runHistoryLength = 0;
+        }
+    }
+
+    private String getFingerprintOf(List<AbstractRiskAnalyser> runRisksAnalysers, LicensesKnowledgeBase licensesKnowledgeBase, SupportedVerbosityLevel runVerbosity, RiskAnalysisResultsCache runResultsCache) {
+        if (runResultsCache == null) {
+            return null;
+        }
+        Map<Project, String> fingerprintsByProject = new IdentityHashMap<>();
+        // The version of a knowledge base is free text, so its content is
+        // also taken into account.
+        StringBuilder fingerprint = new StringBuilder(licensesKnowledgeBase.getVersion());
+        fingerprint.append(FINGERPRINT_SEPARATOR).append(licensesKnowledgeBase.getFingerprint());
+        fingerprint.append(FINGERPRINT_SEPARATOR).append(runVerbosity);
+        for (AbstractRiskAnalyser riskAnalyser : runRisksAnalysers) {
+            if (riskAnalyser.getProject() == null) {
+                // The run will fail, there is nothing to be cached.
+                return null;
+            }
+            fingerprint.append(FINGERPRINT_SEPARATOR).append(riskAnalyser.getClass().getName());
+            fingerprint.append(FINGERPRINT_SEPARATOR).append(riskAnalyser.getHandledRiskType());
+            fingerprint.append(FINGERPRINT_SEPARATOR).append(riskAnalyser.getLanguage());
+            fingerprint.append(FINGERPRINT_SEPARATOR).append(fingerprintsByProject.computeIfAbsent(riskAnalyser.getProject(), Project::getFingerprint));
+        }
+        return fingerprint.toString();
+    }
+
+    private List<RiskAnalysisContext> getContextsOf(List<AbstractRiskAnalyser> runRisksAnalysers, LicensesKnowledgeBase licensesKnowledgeBase, SupportedVerbosityLevel runVerbosity) {
+        // Risk analysers of the same project share a context, so the facts
+        // about its component bindings are computed only once per run.
+        Map<Project, RiskAnalysisContext> contextsByProject = new IdentityHashMap<>();
+        List<RiskAnalysisContext> contexts = new ArrayList<>();
+        for (AbstractRiskAnalyser riskAnalyser : runRisksAnalysers) {
+            if (riskAnalyser.getProject() == null) {
+                contexts.add(null);
+            } else {
+                contexts.add(contextsByProject.computeIfAbsent(riskAnalyser.getProject(), project -> new RiskAnalysisContext(project, licensesKnowledgeBase).withVerbosity(runVerbosity)));
+            }
+        }
+        return contexts;
+    }
+
+    private RiskAnalysisResult getRiskAnalisysResultOf(AbstractRiskAnalyser riskAnalyser, RiskAnalysisContext context) {
+        if (context == null) {
+            logger.error("This risk analyser is not bound to a project. A context is needed.");
+            throw new IllegalStateException("This risk analyser is not bound to a project. A context is needed.");
+        }
+        return riskAnalyser.getRiskAnalisysResult(context);
+    }
+
+    private RiskAnalysisRun recordRun(RiskAnalysisRun run) {
+        synchronized (runHistoryLock) {
+            if (runHistory.length > 0) {
+                runHistory[nextRunHistoryIndex] = run;
+                nextRunHistoryIndex = (nextRunHistoryIndex + 1) % runHistory.length;
+                if (runHistoryLength < runHistory.length) {
+                    runHistoryLength++;
+                }
+            }
+        }
+        return run;
     }
 
     /**
@@ -160,4 +859,16 @@ public class LicenseRiskAnalysisEngine implements ILanguageChangeEventEmitter {
             riskAnalyser.onLanguageChange(new LanguageChangeEvent(this, languageConfig.getLanguage()));
         }
     }
+
+    private static final int ONE = 1;
+    private static final long NO_TIMEOUT = 0L;
+    private static final char FINGERPRINT_SEPARATOR = '|';
+    private static final float MIN_RISK_THRESHOLD = 0.0f;
+    private static final float MAX_RISK_THRESHOLD = 1.0f;
+    private static final SupportedVerbosityLevel DEFAULT_VERBOSITY_LEVEL = SupportedVerbosityLevel.DETAILED;
+
+    /**
+     * Maximum number of project changes kept between two refreshes.
+     */
+    public static final int MAX_PENDING_PROJECT_CHANGES = 10000;
 }
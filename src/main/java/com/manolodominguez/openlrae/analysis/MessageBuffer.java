@@ -0,0 +1,337 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.analysis;
+
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements an append-only buffer where a risk analyser collects
+ * root causes, warnings, good things or tips while it runs. Messages are kept
+ * in chunks that are never copied while the buffer grows, each one twice as
+ * big as the previous one, so collecting messages takes linear time and
+ * memory however many of them there are. When the run finishes, the buffer is
+ * frozen into an immutable list, copying every message only once, and no more
+ * messages can be added. A buffer can also be created so that it discards
+ * whatever is added to it, for messages that are not going to be reported.
+ *
+ * Messages are hashed as they are added, so a message equal to one that was
+ * already added is not kept again: the buffer only keeps the first one and
+ * counts how many times it was added. This way, the frozen list can also be
+ * read as a list of distinct messages, in the order they were first added,
+ * with their number of occurrences.
+ *
+ * A buffer has a single writer: it is not thread safe while messages are
+ * being added, but the list it is frozen into is immutable and can be shared.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public final class MessageBuffer {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageBuffer.class);
+
+    private final boolean collecting;
+    private int[][] chunks;
+    private int numberOfChunks;
+    private int nextPositionInLastChunk;
+    private int size;
+    private Map<TranslatableMessage, Integer> distinctMessageIndexes;
+    private TranslatableMessage[] distinctMessages;
+    private int[] occurrences;
+    private int numberOfDistinctMessages;
+    private FrozenMessages frozenMessages;
+
+    /**
+     * This is the constructor of the class. It creates a new, empty, instance
+     * of MessageBuffer that collects every message added to it.
+     */
+    public MessageBuffer() {
+        this(true);
+    }
+
+    /**
+     * This is the constructor of the class. It creates a new, empty, instance
+     * of MessageBuffer.
+     *
+     * @param collecting true, if messages added to the buffer have to be
+     * collected. False, if they have to be discarded because they are not
+     * going to be reported.
+     */
+    public MessageBuffer(boolean collecting) {
+        this.collecting = collecting;
+        this.chunks = null;
+        this.numberOfChunks = 0;
+        this.nextPositionInLastChunk = 0;
+        this.size = 0;
+        this.distinctMessageIndexes = null;
+        this.distinctMessages = null;
+        this.occurrences = null;
+        this.numberOfDistinctMessages = 0;
+        this.frozenMessages = null;
+    }
+
+    /**
+     * This method adds a message at the end of the buffer, unless the buffer
+     * discards messages.
+     *
+     * @param message The message to be added.
+     */
+    public void add(TranslatableMessage message) {
+        if (message == null) {
+            logger.error("message cannot be null");
+            throw new IllegalArgumentException("message cannot be null");
+        }
+        if (frozenMessages != null) {
+            logger.error("The buffer has been frozen. No more messages can be added");
+            throw new IllegalStateException("The buffer has been frozen. No more messages can be added");
+        }
+        if (!collecting) {
+            return;
+        }
+        if ((numberOfChunks == 0) || (nextPositionInLastChunk == chunks[numberOfChunks - 1].length)) {
+            addChunk();
+        }
+        chunks[numberOfChunks - 1][nextPositionInLastChunk] = getDistinctMessageIndex(message);
+        nextPositionInLastChunk++;
+        size++;
+    }
+
+    /**
+     * This method adds the specified messages at the end of the buffer, in
+     * the same order, unless the buffer discards messages.
+     *
+     * @param messages The messages to be added.
+     */
+    public void addAll(List<TranslatableMessage> messages) {
+        if (messages == null) {
+            logger.error("messages cannot be null");
+            throw new IllegalArgumentException("messages cannot be null");
+        }
+        for (TranslatableMessage message : messages) {
+            add(message);
+        }
+    }
+
+    private void addChunk() {
+        if (chunks == null) {
+            chunks = new int[INITIAL_NUMBER_OF_CHUNKS][];
+        } else if (numberOfChunks == chunks.length) {
+            // Only references to the chunks are copied, never the messages.
+            chunks = Arrays.copyOf(chunks, chunks.length * 2);
+        }
+        int chunkSize = FIRST_CHUNK_SIZE << Math.min(numberOfChunks, MAX_CHUNK_SIZE_SHIFT);
+        chunks[numberOfChunks] = new int[chunkSize];
+        numberOfChunks++;
+        nextPositionInLastChunk = 0;
+    }
+
+    private int getDistinctMessageIndex(TranslatableMessage message) {
+        if (distinctMessageIndexes == null) {
+            distinctMessageIndexes = new HashMap<>();
+            distinctMessages = new TranslatableMessage[FIRST_CHUNK_SIZE];
+            occurrences = new int[FIRST_CHUNK_SIZE];
+        }
+        Integer distinctMessageIndex = distinctMessageIndexes.get(message);
+        if (distinctMessageIndex == null) {
+            if (numberOfDistinctMessages == distinctMessages.length) {
+                distinctMessages = Arrays.copyOf(distinctMessages, distinctMessages.length * 2);
+                occurrences = Arrays.copyOf(occurrences, occurrences.length * 2);
+            }
+            distinctMessageIndex = numberOfDistinctMessages;
+            distinctMessages[numberOfDistinctMessages] = message;
+            distinctMessageIndexes.put(message, distinctMessageIndex);
+            numberOfDistinctMessages++;
+        }
+        occurrences[distinctMessageIndex]++;
+        return distinctMessageIndex;
+    }
+
+    /**
+     * This method gets the number of messages in the buffer.
+     *
+     * @return the number of messages in the buffer.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * This method gets the number of distinct messages in the buffer.
+     *
+     * @return the number of distinct messages in the buffer.
+     */
+    public int getNumberOfDistinctMessages() {
+        return numberOfDistinctMessages;
+    }
+
+    /**
+     * This method checks whether the buffer has no messages.
+     *
+     * @return true, if the buffer has no messages. Otherwise, false.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * This method checks whether the buffer collects the messages added to it
+     * or discards them.
+     *
+     * @return true, if the buffer collects the messages added to it.
+     * Otherwise, false.
+     */
+    public boolean isCollecting() {
+        return collecting;
+    }
+
+    /**
+     * This method freezes the buffer into an immutable list with its
+     * messages, in the order they were added. From then on, no more messages
+     * can be added to the buffer and freezing it again returns the same list.
+     *
+     * @return an immutable list with the messages of the buffer.
+     */
+    public List<TranslatableMessage> freeze() {
+        if ((frozenMessages == null) && (size == 0)) {
+            // Every empty buffer, as those discarding messages, is frozen into
+            // the same list.
+            frozenMessages = EMPTY_FROZEN_MESSAGES;
+        } else if (frozenMessages == null) {
+            int[] distinctMessageIndexesByPosition = new int[size];
+            int copiedMessages = 0;
+            for (int i = 0; i < numberOfChunks; i++) {
+                int messagesInChunk = Math.min(chunks[i].length, size - copiedMessages);
+                System.arraycopy(chunks[i], 0, distinctMessageIndexesByPosition, copiedMessages, messagesInChunk);
+                copiedMessages += messagesInChunk;
+            }
+            TranslatableMessage[] frozenDistinctMessages = new TranslatableMessage[numberOfDistinctMessages];
+            int[] frozenOccurrences = new int[numberOfDistinctMessages];
+            if (numberOfDistinctMessages > 0) {
+                System.arraycopy(distinctMessages, 0, frozenDistinctMessages, 0, numberOfDistinctMessages);
+                System.arraycopy(occurrences, 0, frozenOccurrences, 0, numberOfDistinctMessages);
+            }
+            frozenMessages = new FrozenMessages(distinctMessageIndexesByPosition, frozenDistinctMessages, frozenOccurrences);
+            // Chunks and hashes are not needed any longer.
+            chunks = null;
+            distinctMessageIndexes = null;
+            distinctMessages = null;
+            occurrences = null;
+        }
+        return frozenMessages;
+    }
+
+    /**
+     * This method gets an immutable list with the specified messages. If they
+     * already are the frozen messages of a buffer, they are returned as is,
+     * without copying them.
+     *
+     * @param messages The messages.
+     * @return an immutable list with the specified messages, in the same
+     * order.
+     */
+    public static List<TranslatableMessage> freeze(List<TranslatableMessage> messages) {
+        if (messages == null) {
+            logger.error("messages cannot be null");
+            throw new IllegalArgumentException("messages cannot be null");
+        }
+        if (messages instanceof FrozenMessages) {
+            return messages;
+        }
+        MessageBuffer messageBuffer = new MessageBuffer();
+        messageBuffer.addAll(messages);
+        return messageBuffer.freeze();
+    }
+
+    /**
+     * This method gets the distinct messages of the specified ones, in the
+     * order they were first found, with the number of times each one appears.
+     * If the specified messages are the frozen messages of a buffer, the
+     * counts computed while they were added are used, without hashing them
+     * again.
+     *
+     * @param messages The messages.
+     * @return an immutable list with the distinct messages and their number of
+     * occurrences.
+     */
+    public static List<CountedMessage> countDistinct(List<TranslatableMessage> messages) {
+        return ((FrozenMessages) freeze(messages)).getCountedMessages();
+    }
+
+    /**
+     * This class implements the immutable list a buffer is frozen into. Each
+     * position only keeps the index of a distinct message.
+     */
+    private static final class FrozenMessages extends AbstractList<TranslatableMessage> implements RandomAccess {
+
+        private final int[] distinctMessageIndexes;
+        private final TranslatableMessage[] distinctMessages;
+        private final int[] occurrences;
+        private volatile List<CountedMessage> countedMessages;
+
+        private FrozenMessages(int[] distinctMessageIndexes, TranslatableMessage[] distinctMessages, int[] occurrences) {
+            this.distinctMessageIndexes = distinctMessageIndexes;
+            this.distinctMessages = distinctMessages;
+            this.occurrences = occurrences;
+            this.countedMessages = null;
+        }
+
+        @Override
+        public TranslatableMessage get(int index) {
+            return distinctMessages[distinctMessageIndexes[index]];
+        }
+
+        @Override
+        public int size() {
+            return distinctMessageIndexes.length;
+        }
+
+        private List<CountedMessage> getCountedMessages() {
+            // Concurrent callers could build it at the same time, but all of
+            // them get an equal list.
+            List<CountedMessage> counted = countedMessages;
+            if (counted == null) {
+                List<CountedMessage> newCountedMessages = new ArrayList<>(distinctMessages.length);
+                for (int i = 0; i < distinctMessages.length; i++) {
+                    newCountedMessages.add(new CountedMessage(distinctMessages[i], occurrences[i]));
+                }
+                counted = Collections.unmodifiableList(newCountedMessages);
+                countedMessages = counted;
+            }
+            return counted;
+        }
+    }
+
+    private static final FrozenMessages EMPTY_FROZEN_MESSAGES = new FrozenMessages(new int[0], new TranslatableMessage[0], new int[0]);
+    private static final int INITIAL_NUMBER_OF_CHUNKS = 8;
+    private static final int FIRST_CHUNK_SIZE = 8;
+    private static final int MAX_CHUNK_SIZE_SHIFT = 16;
+}
@@ -0,0 +1,269 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.analysis;
+
+import com.manolodominguez.openlrae.arquitecture.Project;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesKnowledgeBase;
+import com.manolodominguez.openlrae.reporting.SupportedVerbosityLevel;
+import java.util.concurrent.CancellationException;
+import java.util.function.BooleanSupplier;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements the context of a single risk analysis run: the project
+ * to be analysed and the licenses knowledge base used to analyse it. It is
+ * thread-safe: its project, knowledge base, cancellation request and verbosity
+ * never change, so a risk analyser can serve any number of concurrent runs,
+ * each one with its own context, and every risk analyser of a run uses the
+ * same knowledge base even if a new one is put in use meanwhile. A run can also be
+ * cancelled: risk analysers check it, through checkNotCancelled(), on each
+ * iteration of their main loops and give up as soon as possible. The facts
+ * about the component bindings of the project are computed the first time a
+ * risk analyser asks for them, only once even if several risk analysers ask
+ * for them at the same time, and shared by every risk analyser using the same
+ * context. The context also sets the verbosity of the run, DETAILED by
+ * default, so risk analysers do not collect messages that are not going to be
+ * reported.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public final class RiskAnalysisContext {
+
+    private Logger logger = LoggerFactory.getLogger(RiskAnalysisContext.class);
+
+    private final Project project;
+    private final LicensesKnowledgeBase licensesKnowledgeBase;
+    private final BooleanSupplier cancellationRequest;
+    private final SupportedVerbosityLevel verbosity;
+    private final ComponentBindingsFactsHolder componentBindingsFacts;
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * RiskAnalysisContext for the specified project and the licenses
+     * knowledge base currently in use.
+     *
+     * @param project The project to be analysed.
+     */
+    public RiskAnalysisContext(Project project) {
+        this(project, LicensesKnowledgeBase.getCurrent());
+    }
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * RiskAnalysisContext for the specified project and licenses knowledge
+     * base.
+     *
+     * @param project The project to be analysed.
+     * @param licensesKnowledgeBase The licenses knowledge base used to analyse
+     * the project.
+     */
+    public RiskAnalysisContext(Project project, LicensesKnowledgeBase licensesKnowledgeBase) {
+        this(project, licensesKnowledgeBase, NEVER_CANCELLED);
+    }
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * RiskAnalysisContext for the specified project and licenses knowledge
+     * base, that is cancelled as soon as the specified cancellation request
+     * returns true.
+     *
+     * @param project The project to be analysed.
+     * @param licensesKnowledgeBase The licenses knowledge base used to analyse
+     * the project.
+     * @param cancellationRequest The condition, checked by risk analysers
+     * while running, that tells whether the run has to be cancelled. It could
+     * be checked from several threads at the same time.
+     */
+    public RiskAnalysisContext(Project project, LicensesKnowledgeBase licensesKnowledgeBase, BooleanSupplier cancellationRequest) {
+        if (project == null) {
+            logger.error("project cannot be null");
+            throw new IllegalArgumentException("project cannot be null");
+        }
+        if (licensesKnowledgeBase == null) {
+            logger.error("licensesKnowledgeBase cannot be null");
+            throw new IllegalArgumentException("licensesKnowledgeBase cannot be null");
+        }
+        if (cancellationRequest == null) {
+            logger.error("cancellationRequest cannot be null");
+            throw new IllegalArgumentException("cancellationRequest cannot be null");
+        }
+        this.project = project;
+        this.licensesKnowledgeBase = licensesKnowledgeBase;
+        this.cancellationRequest = cancellationRequest;
+        this.verbosity = DEFAULT_VERBOSITY_LEVEL;
+        this.componentBindingsFacts = new ComponentBindingsFactsHolder();
+    }
+
+    private RiskAnalysisContext(RiskAnalysisContext context, BooleanSupplier cancellationRequest, SupportedVerbosityLevel verbosity) {
+        this.project = context.project;
+        this.licensesKnowledgeBase = context.licensesKnowledgeBase;
+        this.cancellationRequest = cancellationRequest;
+        this.verbosity = verbosity;
+        this.componentBindingsFacts = context.componentBindingsFacts;
+    }
+
+    /**
+     * This method creates a new context for the same project, licenses
+     * knowledge base and verbosity, that is cancelled as soon as the specified
+     * cancellation request returns true. Both contexts share the facts about
+     * the component bindings, so they are computed only once.
+     *
+     * @param cancellationRequest The condition, checked by risk analysers while
+     * running, that tells whether the run has to be cancelled.
+     * @return a new context sharing the facts about the component bindings with
+     * this one.
+     */
+    public RiskAnalysisContext withCancellationRequest(BooleanSupplier cancellationRequest) {
+        if (cancellationRequest == null) {
+            logger.error("cancellationRequest cannot be null");
+            throw new IllegalArgumentException("cancellationRequest cannot be null");
+        }
+        return new RiskAnalysisContext(this, cancellationRequest, verbosity);
+    }
+
+    /**
+     * This method creates a new context for the same project, licenses
+     * knowledge base and cancellation request, whose risk analysers only
+     * collect the messages needed for the specified verbosity. Both contexts
+     * share the facts about the component bindings, so they are computed only
+     * once.
+     *
+     * @param verbosity The verbosity of the reports the results are going to
+     * be used for. ESSENTIAL results have no messages at all and RICH results
+     * have no tips.
+     * @return a new context sharing the facts about the component bindings
+     * with this one.
+     */
+    public RiskAnalysisContext withVerbosity(SupportedVerbosityLevel verbosity) {
+        if (verbosity == null) {
+            logger.error("verbosity cannot be null");
+            throw new IllegalArgumentException("verbosity cannot be null");
+        }
+        return new RiskAnalysisContext(this, cancellationRequest, verbosity);
+    }
+
+    /**
+     * This method gets the project to be analysed.
+     *
+     * @return the project to be analysed.
+     */
+    public Project getProject() {
+        return project;
+    }
+
+    /**
+     * This method gets the licenses knowledge base used to analyse the
+     * project.
+     *
+     * @return the licenses knowledge base used to analyse the project.
+     */
+    public LicensesKnowledgeBase getLicensesKnowledgeBase() {
+        return licensesKnowledgeBase;
+    }
+
+    /**
+     * This method gets the verbosity of the run.
+     *
+     * @return the verbosity of the run.
+     */
+    public SupportedVerbosityLevel getVerbosity() {
+        return verbosity;
+    }
+
+    /**
+     * This method checks whether risk analysers have to collect root causes,
+     * warnings and good things in this run.
+     *
+     * @return true, if root causes, warnings and good things are going to be
+     * reported. Otherwise, false.
+     */
+    public boolean isCollectingMessages() {
+        return verbosity != SupportedVerbosityLevel.ESSENTIAL;
+    }
+
+    /**
+     * This method checks whether risk analysers have to collect tips in this
+     * run.
+     *
+     * @return true, if tips are going to be reported. Otherwise, false.
+     */
+    public boolean isCollectingTips() {
+        return verbosity == SupportedVerbosityLevel.DETAILED;
+    }
+
+    /**
+     * This method gets the facts about each component binding of the project,
+     * computed with the licenses knowledge base of this context. They are
+     * computed the first time this method is called and reused from then on.
+     * Risk analysers calling it concurrently wait for the first one to
+     * compute them, so they are computed only once.
+     *
+     * @return the facts about each component binding of the project.
+     */
+    public ComponentBindingsFacts getComponentBindingsFacts() {
+        ComponentBindingsFacts facts = componentBindingsFacts.facts;
+        if (facts == null) {
+            synchronized (componentBindingsFacts) {
+                facts = componentBindingsFacts.facts;
+                if (facts == null) {
+                    facts = new ComponentBindingsFacts(project, licensesKnowledgeBase);
+                    componentBindingsFacts.facts = facts;
+                }
+            }
+        }
+        return facts;
+    }
+
+    /**
+     * This method checks whether the run has been cancelled.
+     *
+     * @return true, if the run has been cancelled. Otherwise, false.
+     */
+    public boolean isCancelled() {
+        return cancellationRequest.getAsBoolean();
+    }
+
+    /**
+     * This method checks whether the run has been cancelled and, if so, stops
+     * the risk analyser that calls it by throwing a CancellationException. It
+     * is cheap enough to be called on each iteration of a loop.
+     */
+    public void checkNotCancelled() {
+        if (cancellationRequest.getAsBoolean()) {
+            throw new CancellationException("The risk analysis run has been cancelled");
+        }
+    }
+
+    /**
+     * This class implements the holder of the facts about the component
+     * bindings, shared by a context and those derived from it.
+     */
+    private static final class ComponentBindingsFactsHolder {
+
+        private volatile ComponentBindingsFacts facts;
+    }
+
+    private static final BooleanSupplier NEVER_CANCELLED = () -> false;
+    private static final SupportedVerbosityLevel DEFAULT_VERBOSITY_LEVEL = SupportedVerbosityLevel.DETAILED;
+}
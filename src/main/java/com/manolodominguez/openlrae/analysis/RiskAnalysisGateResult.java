@@ -0,0 +1,133 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.analysis;
+
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
+import java.util.Arrays;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements the outcome of running a license risk analysis engine
+ * as a gate: whether every risk stayed within its threshold and, if not, the
+ * result of the risk analyser that exceeded it. The gate stops at the first
+ * risk that exceeds its threshold, so the run it comes from is partial when
+ * the gate failed before running every gated risk analyser. It is immutable,
+ * so it can be handed to other threads safely.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public final class RiskAnalysisGateResult {
+
+    private Logger logger = LoggerFactory.getLogger(RiskAnalysisGateResult.class);
+
+    private final RiskAnalysisRun run;
+    private final RiskAnalysisResult failedRiskAnalysisResult;
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * RiskAnalysisGateResult for a gate that has been passed.
+     *
+     * @param run the run of the gated risk analysers, in the same order they
+     * were run.
+     */
+    public RiskAnalysisGateResult(RiskAnalysisRun run) {
+        if (run == null) {
+            logger.error("run cannot be null");
+            throw new IllegalArgumentException("run cannot be null");
+        }
+        this.run = run;
+        this.failedRiskAnalysisResult = null;
+    }
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * RiskAnalysisGateResult for a gate that has failed.
+     *
+     * @param run the run of the gated risk analysers, in the same order they
+     * were run, up to the one whose risk exceeded its threshold.
+     * @param failedRiskAnalysisResult the result whose risk exceeded its
+     * threshold. It has to be one of the results of the run.
+     */
+    public RiskAnalysisGateResult(RiskAnalysisRun run, RiskAnalysisResult failedRiskAnalysisResult) {
+        if (run == null) {
+            logger.error("run cannot be null");
+            throw new IllegalArgumentException("run cannot be null");
+        }
+        if (failedRiskAnalysisResult == null) {
+            logger.error("failedRiskAnalysisResult cannot be null");
+            throw new IllegalArgumentException("failedRiskAnalysisResult cannot be null");
+        }
+        if (Arrays.stream(run.getResults()).noneMatch(result -> result == failedRiskAnalysisResult)) {
+            logger.error("failedRiskAnalysisResult has to be one of the results of the run");
+            throw new IllegalArgumentException("failedRiskAnalysisResult has to be one of the results of the run");
+        }
+        this.run = run;
+        this.failedRiskAnalysisResult = failedRiskAnalysisResult;
+    }
+
+    /**
+     * This method checks whether the gate has been passed, that is, whether
+     * no risk exceeded its threshold.
+     *
+     * @return true, if the gate has been passed. Otherwise, false.
+     */
+    public boolean isPassed() {
+        return failedRiskAnalysisResult == null;
+    }
+
+    /**
+     * This method gets the type of the risk that exceeded its threshold.
+     *
+     * @return the type of the risk that exceeded its threshold, or null if the
+     * gate has been passed.
+     */
+    public SupportedRisks getFailedRiskType() {
+        if (failedRiskAnalysisResult == null) {
+            return null;
+        }
+        return failedRiskAnalysisResult.getRiskType();
+    }
+
+    /**
+     * This method gets the result whose risk exceeded its threshold.
+     *
+     * @return the result whose risk exceeded its threshold, or null if the
+     * gate has been passed.
+     */
+    public RiskAnalysisResult getFailedRiskAnalysisResult() {
+        return failedRiskAnalysisResult;
+    }
+
+    /**
+     * This method gets the run of the gated risk analysers. Its results are in
+     * the same order the risk analysers were run, and the types of risk whose
+     * risk analysers were not run because the gate stopped early are its
+     * unfinished risk types.
+     *
+     * @return the run of the gated risk analysers.
+     */
+    public RiskAnalysisRun getRun() {
+        return run;
+    }
+}
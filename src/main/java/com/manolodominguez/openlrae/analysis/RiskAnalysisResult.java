@@ -23,7 +23,13 @@
 package com.manolodominguez.openlrae.analysis;
 
 import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
+import com.manolodominguez.openlrae.i18n.SupportedLanguages;
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,6 +39,15 @@ import org.slf4j.LoggerFactory;
  * root causes, warnings, well-done things and tips to provide to help decission
  * making.
  *
+ * Root causes, warnings, good things and tips are kept as translatable
+ * messages and are translated only when they are read for the first time, so
+ * results whose messages are never read, as those of summarized reports, do
+ * not pay for building them. Equal messages share a single stored instance,
+ * which is also translated only once, but root causes, warnings, good things
+ * and tips are still returned once per occurrence, in the order they were
+ * reported. They can also be read as distinct messages with the number of
+ * times each one was reported, as reports deduplicating messages do.
+ *
  * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
  */
 public class RiskAnalysisResult {
@@ -43,10 +58,15 @@ public class RiskAnalysisResult {
     private float riskExposure;
     private float riskImpact;
     private float riskValue;
-    private List<String> rootCauses;
-    private List<String> warnings;
-    private List<String> goodThings;
-    private List<String> tips;
+    private SupportedLanguages language;
+    private List<TranslatableMessage> rootCauseMessages;
+    private List<TranslatableMessage> warningMessages;
+    private List<TranslatableMessage> goodThingMessages;
+    private List<TranslatableMessage> tipMessages;
+    private volatile List<String> rootCauses;
+    private volatile List<String> warnings;
+    private volatile List<String> goodThings;
+    private volatile List<String> tips;
 
     /**
      * This is the constructor of the class.It creates a new instance of
@@ -73,6 +93,31 @@ public class RiskAnalysisResult {
      * transfer the risk.
      */
     public RiskAnalysisResult(SupportedRisks riskType, float riskExposure, float riskImpact, List<String> rootCauses, List<String> warnings, List<String> goodThings, List<String> tips) {
+        this(riskType, riskExposure, riskImpact, SupportedLanguages.DEFAULT_LANGUAGE, toMessages(rootCauses), toMessages(warnings), toMessages(goodThings), toMessages(tips));
+    }
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * RiskAnalysisResult whose root causes, warnings, good things and tips
+     * are translated only when they are read.
+     *
+     * @param riskType This is the tipe of riks this results refers to.
+     * @param riskExposure A float number, between 0.00f and 1.00f representing
+     * the percentage of exposure to the risk (0% - 100%).
+     * @param riskImpact A float number, between 0.00f and 1.00f representing
+     * the percentage of risk impact (0% - 100%).
+     * @param language The language root causes, warnings, good things and tips
+     * are translated to when they are read.
+     * @param rootCauses The messages explaining each thing that has been taken
+     * into account to compute the risk exposure and risk impact.
+     * @param warnings The messages with information of interest to complete
+     * the context of the risk analysis.
+     * @param goodThings The messages with information of interest to know
+     * which kind of things are well done.
+     * @param tips The messages with recommendations to mitigate, avoid or
+     * transfer the risk.
+     */
+    public RiskAnalysisResult(SupportedRisks riskType, float riskExposure, float riskImpact, SupportedLanguages language, List<TranslatableMessage> rootCauses, List<TranslatableMessage> warnings, List<TranslatableMessage> goodThings, List<TranslatableMessage> tips) {
         if (riskType == null) {
             logger.error("riskType cannot be null");
             throw new IllegalArgumentException("riskType cannot be null");
@@ -85,6 +130,10 @@ public class RiskAnalysisResult {
             logger.error("riskImpact has to be a float between 0.0f and 1.0");
             throw new IllegalArgumentException("riskImpact has to be a float between 0.0f and 1.0");
         }
+        if (language == null) {
+            logger.error("language cannot be null");
+            throw new IllegalArgumentException("language cannot be null");
+        }
         if (rootCauses == null) {
             logger.error("rootCauses cannot be null");
             throw new IllegalArgumentException("rootCauses cannot be null");
@@ -105,10 +154,11 @@ public class RiskAnalysisResult {
         this.riskExposure = (float) Math.round(riskExposure * RISK_COMPUTATION_PRECISSION) / RISK_COMPUTATION_PRECISSION;
         this.riskImpact = (float) Math.round(riskImpact * RISK_COMPUTATION_PRECISSION) / RISK_COMPUTATION_PRECISSION;
         this.riskValue = (float) Math.round((riskImpact * riskExposure) * RISK_COMPUTATION_PRECISSION) / RISK_COMPUTATION_PRECISSION;
-        this.rootCauses = rootCauses;
-        this.warnings = warnings;
-        this.goodThings = goodThings;
-        this.tips = tips;
+        this.language = language;
+        this.rootCauseMessages = MessageBuffer.freeze(rootCauses);
+        this.warningMessages = MessageBuffer.freeze(warnings);
+        this.goodThingMessages = MessageBuffer.freeze(goodThings);
+        this.tipMessages = MessageBuffer.freeze(tips);
     }
 
     /**
@@ -171,7 +221,53 @@ public class RiskAnalysisResult {
      * format.
      */
     public List<String> getRootCauses() {
-        return rootCauses;
+        List<String> translatedRootCauses = rootCauses;
+        if (translatedRootCauses == null) {
+            translatedRootCauses = translate(rootCauseMessages, language);
+            rootCauses = translatedRootCauses;
+        }
+        return translatedRootCauses;
+    }
+
+    /**
+     * This method gets the root causes translated to the specified language,
+     * whatever the language of the risk analysis was.
+     *
+     * @param language The language the root causes have to be translated to.
+     * @return the root causes translated to the specified language, as an
+     * unmodifiable list.
+     */
+    public List<String> getRootCauses(SupportedLanguages language) {
+        if (language == null) {
+            logger.error("language cannot be null");
+            throw new IllegalArgumentException("language cannot be null");
+        }
+        if (language == this.language) {
+            return getRootCauses();
+        }
+        return translate(rootCauseMessages, language);
+    }
+
+    /**
+     * This method gets the root causes as translatable messages, that have not
+     * been translated yet.
+     *
+     * @return the root causes as translatable messages, as an unmodifiable
+     * list.
+     */
+    public List<TranslatableMessage> getRootCauseMessages() {
+        return rootCauseMessages;
+    }
+
+    /**
+     * This method gets the distinct root causes, in the order they were first
+     * reported, with the number of times each one was reported.
+     *
+     * @return the distinct root causes and their number of occurrences, as an
+     * unmodifiable list.
+     */
+    public List<CountedMessage> getDistinctRootCauseMessages() {
+        return MessageBuffer.countDistinct(rootCauseMessages);
     }
 
     /**
@@ -183,7 +279,52 @@ public class RiskAnalysisResult {
      * contexto of the risk analysis. In human readable format.
      */
     public List<String> getWarnings() {
-        return warnings;
+        List<String> translatedWarnings = warnings;
+        if (translatedWarnings == null) {
+            translatedWarnings = translate(warningMessages, language);
+            warnings = translatedWarnings;
+        }
+        return translatedWarnings;
+    }
+
+    /**
+     * This method gets the warnings translated to the specified language,
+     * whatever the language of the risk analysis was.
+     *
+     * @param language The language the warnings have to be translated to.
+     * @return the warnings translated to the specified language, as an
+     * unmodifiable list.
+     */
+    public List<String> getWarnings(SupportedLanguages language) {
+        if (language == null) {
+            logger.error("language cannot be null");
+            throw new IllegalArgumentException("language cannot be null");
+        }
+        if (language == this.language) {
+            return getWarnings();
+        }
+        return translate(warningMessages, language);
+    }
+
+    /**
+     * This method gets the warnings as translatable messages, that have not
+     * been translated yet.
+     *
+     * @return the warnings as translatable messages, as an unmodifiable list.
+     */
+    public List<TranslatableMessage> getWarningMessages() {
+        return warningMessages;
+    }
+
+    /**
+     * This method gets the distinct warnings, in the order they were first
+     * reported, with the number of times each one was reported.
+     *
+     * @return the distinct warnings and their number of occurrences, as an
+     * unmodifiable list.
+     */
+    public List<CountedMessage> getDistinctWarningMessages() {
+        return MessageBuffer.countDistinct(warningMessages);
     }
 
     /**
@@ -194,7 +335,53 @@ public class RiskAnalysisResult {
      * things are well done and do not induces risk. In human readable format.
      */
     public List<String> getGoodThings() {
-        return goodThings;
+        List<String> translatedGoodThings = goodThings;
+        if (translatedGoodThings == null) {
+            translatedGoodThings = translate(goodThingMessages, language);
+            goodThings = translatedGoodThings;
+        }
+        return translatedGoodThings;
+    }
+
+    /**
+     * This method gets the good things translated to the specified language,
+     * whatever the language of the risk analysis was.
+     *
+     * @param language The language the good things have to be translated to.
+     * @return the good things translated to the specified language, as an
+     * unmodifiable list.
+     */
+    public List<String> getGoodThings(SupportedLanguages language) {
+        if (language == null) {
+            logger.error("language cannot be null");
+            throw new IllegalArgumentException("language cannot be null");
+        }
+        if (language == this.language) {
+            return getGoodThings();
+        }
+        return translate(goodThingMessages, language);
+    }
+
+    /**
+     * This method gets the good things as translatable messages, that have not
+     * been translated yet.
+     *
+     * @return the good things as translatable messages, as an unmodifiable
+     * list.
+     */
+    public List<TranslatableMessage> getGoodThingMessages() {
+        return goodThingMessages;
+    }
+
+    /**
+     * This method gets the distinct good things, in the order they were first
+     * reported, with the number of times each one was reported.
+     *
+     * @return the distinct good things and their number of occurrences, as an
+     * unmodifiable list.
+     */
+    public List<CountedMessage> getDistinctGoodThingMessages() {
+        return MessageBuffer.countDistinct(goodThingMessages);
     }
 
     /**
@@ -205,7 +392,90 @@ public class RiskAnalysisResult {
      * the risk. In human readable format.
      */
     public List<String> getTips() {
-        return tips;
+        List<String> translatedTips = tips;
+        if (translatedTips == null) {
+            translatedTips = translate(tipMessages, language);
+            tips = translatedTips;
+        }
+        return translatedTips;
+    }
+
+    /**
+     * This method gets the tips translated to the specified language, whatever
+     * the language of the risk analysis was.
+     *
+     * @param language The language the tips have to be translated to.
+     * @return the tips translated to the specified language, as an unmodifiable
+     * list.
+     */
+    public List<String> getTips(SupportedLanguages language) {
+        if (language == null) {
+            logger.error("language cannot be null");
+            throw new IllegalArgumentException("language cannot be null");
+        }
+        if (language == this.language) {
+            return getTips();
+        }
+        return translate(tipMessages, language);
+    }
+
+    /**
+     * This method gets the tips as translatable messages, that have not been
+     * translated yet.
+     *
+     * @return the tips as translatable messages, as an unmodifiable list.
+     */
+    public List<TranslatableMessage> getTipMessages() {
+        return tipMessages;
+    }
+
+    /**
+     * This method gets the distinct tips, in the order they were first
+     * reported, with the number of times each one was reported.
+     *
+     * @return the distinct tips and their number of occurrences, as an
+     * unmodifiable list.
+     */
+    public List<CountedMessage> getDistinctTipMessages() {
+        return MessageBuffer.countDistinct(tipMessages);
+    }
+
+    /**
+     * This method gets the language root causes, warnings, good things and
+     * tips are translated to when they are read.
+     *
+     * @return the language of the risk analysis.
+     */
+    public SupportedLanguages getLanguage() {
+        return language;
+    }
+
+    private List<String> translate(List<TranslatableMessage> messages, SupportedLanguages language) {
+        // Equal messages are kept as the same instance, so each distinct
+        // message is translated only once.
+        Map<TranslatableMessage, String> translatedMessages = new IdentityHashMap<>();
+        List<String> translations = new ArrayList<>(messages.size());
+        for (TranslatableMessage message : messages) {
+            String translation = translatedMessages.get(message);
+            if (translation == null) {
+                translation = message.translate(language);
+                translatedMessages.put(message, translation);
+            }
+            translations.add(translation);
+        }
+        return Collections.unmodifiableList(translations);
+    }
+
+    private static List<TranslatableMessage> toMessages(List<String> texts) {
+        if (texts == null) {
+            // The checks of the other constructor report it.
+            return null;
+        }
+        List<TranslatableMessage> messages = new ArrayList<>(texts.size());
+        for (String text : texts) {
+            messages.add(new TranslatableMessage(text));
+        }
+        return messages;
     }
 
     private static final float MIN_RATIO = 0.0f;
@@ -0,0 +1,228 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.analysis;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements a cache of risk analysis results, keyed by a
+ * fingerprint of everything the results depend on. It keeps, at most, a given
+ * number of entries, evicting the least recently used one when it is full,
+ * and an entry is not served any longer once its time to live has elapsed.
+ * It also counts hits and misses, so its effectiveness can be monitored. It
+ * is thread safe.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public final class RiskAnalysisResultsCache {
+
+    private Logger logger = LoggerFactory.getLogger(RiskAnalysisResultsCache.class);
+
+    private final int maxSize;
+    private final Duration timeToLive;
+    private final Clock clock;
+    private final LinkedHashMap<String, CachedResults> entries;
+    private long hits;
+    private long misses;
+
+    /**
+     * This is the constructor of the class. It creates a new, empty, instance
+     * of RiskAnalysisResultsCache.
+     *
+     * @param maxSize the maximum number of entries of the cache. It has to be
+     * greater than zero.
+     * @param timeToLive how long an entry is served since it was put in the
+     * cache. It has to be greater than zero.
+     */
+    public RiskAnalysisResultsCache(int maxSize, Duration timeToLive) {
+        this(maxSize, timeToLive, Clock.systemUTC());
+    }
+
+    /**
+     * This is the constructor of the class. It creates a new, empty, instance
+     * of RiskAnalysisResultsCache that uses the specified clock to compute the
+     * age of entries.
+     *
+     * @param maxSize the maximum number of entries of the cache. It has to be
+     * greater than zero.
+     * @param timeToLive how long an entry is served since it was put in the
+     * cache. It has to be greater than zero.
+     * @param clock the clock used to compute the age of entries.
+     */
+    RiskAnalysisResultsCache(int maxSize, Duration timeToLive, Clock clock) {
+        if (maxSize <= 0) {
+            logger.error("maxSize has to be greater than zero");
+            throw new IllegalArgumentException("maxSize has to be greater than zero");
+        }
+        if (timeToLive == null) {
+            logger.error("timeToLive cannot be null");
+            throw new IllegalArgumentException("timeToLive cannot be null");
+        }
+        if (timeToLive.isZero() || timeToLive.isNegative()) {
+            logger.error("timeToLive has to be greater than zero");
+            throw new IllegalArgumentException("timeToLive has to be greater than zero");
+        }
+        if (clock == null) {
+            logger.error("clock cannot be null");
+            throw new IllegalArgumentException("clock cannot be null");
+        }
+        this.maxSize = maxSize;
+        this.timeToLive = timeToLive;
+        this.clock = clock;
+        // Access order makes the eldest entry the least recently used one.
+        this.entries = new LinkedHashMap<String, CachedResults>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResults> eldest) {
+                return size() > RiskAnalysisResultsCache.this.maxSize;
+            }
+        };
+        this.hits = 0;
+        this.misses = 0;
+    }
+
+    /**
+     * This method gets the results cached for the specified fingerprint, if
+     * any and if they have not expired.
+     *
+     * @param fingerprint the fingerprint of everything the results depend on.
+     * @return a copy of the cached results, or null if there are not results
+     * for the fingerprint or they have expired.
+     */
+    public synchronized RiskAnalysisResult[] get(String fingerprint) {
+        if (fingerprint == null) {
+            logger.error("fingerprint cannot be null");
+            throw new IllegalArgumentException("fingerprint cannot be null");
+        }
+        CachedResults cachedResults = entries.get(fingerprint);
+        if ((cachedResults != null) && clock.instant().isAfter(cachedResults.expirationTime)) {
+            entries.remove(fingerprint);
+            cachedResults = null;
+        }
+        if (cachedResults == null) {
+            misses++;
+            return null;
+        }
+        hits++;
+        return cachedResults.results.clone();
+    }
+
+    /**
+     * This method puts in the cache the results for the specified fingerprint,
+     * replacing the previous ones, if any. The least recently used entry is
+     * evicted if the cache is full.
+     *
+     * @param fingerprint the fingerprint of everything the results depend on.
+     * @param results the results to be cached.
+     */
+    public synchronized void put(String fingerprint, RiskAnalysisResult[] results) {
+        if (fingerprint == null) {
+            logger.error("fingerprint cannot be null");
+            throw new IllegalArgumentException("fingerprint cannot be null");
+        }
+        if (results == null) {
+            logger.error("results cannot be null");
+            throw new IllegalArgumentException("results cannot be null");
+        }
+        entries.put(fingerprint, new CachedResults(results.clone(), clock.instant().plus(timeToLive)));
+    }
+
+    /**
+     * This method removes every entry from the cache. Hit and miss counters
+     * are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    /**
+     * This method gets the number of entries currently in the cache, including
+     * those that have expired but have not been evicted yet.
+     *
+     * @return the number of entries currently in the cache.
+     */
+    public synchronized int getSize() {
+        return entries.size();
+    }
+
+    /**
+     * This method gets the maximum number of entries of the cache.
+     *
+     * @return the maximum number of entries of the cache.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * This method gets how long an entry is served since it was put in the
+     * cache.
+     *
+     * @return the time to live of entries.
+     */
+    public Duration getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * This method gets how many times results have been served from the cache.
+     *
+     * @return the number of hits.
+     */
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    /**
+     * This method gets how many times results were not in the cache or had
+     * expired.
+     *
+     * @return the number of misses.
+     */
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    /**
+     * This class implements an entry of the cache: the results and when they
+     * expire.
+     */
+    private static final class CachedResults {
+
+        private final RiskAnalysisResult[] results;
+        private final Instant expirationTime;
+
+        private CachedResults(RiskAnalysisResult[] results, Instant expirationTime) {
+            this.results = results;
+            this.expirationTime = expirationTime;
+        }
+    }
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final float LOAD_FACTOR = 0.75f;
+}
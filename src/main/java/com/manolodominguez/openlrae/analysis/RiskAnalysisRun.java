@@ -0,0 +1,175 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.analysis;
+
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements the outcome of a single run of a license risk analysis
+ * engine: the results of each risk analyser and the moments the run started
+ * and finished. A run is partial when some risk analysers did not finish, for
+ * instance because they took longer than allowed or the run was cancelled;
+ * then, only the results of the risk analysers that finished are included. It
+ * is immutable, so it can be kept in a run history or handed to other threads
+ * safely.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public final class RiskAnalysisRun {
+
+    private Logger logger = LoggerFactory.getLogger(RiskAnalysisRun.class);
+
+    private final Instant startTime;
+    private final Instant endTime;
+    private final RiskAnalysisResult[] results;
+    private final List<SupportedRisks> unfinishedRiskTypes;
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * RiskAnalysisRun.
+     *
+     * @param startTime the moment the run started.
+     * @param endTime the moment the run finished. It cannot be before
+     * startTime.
+     * @param results the results of running each risk analyser, in the same
+     * order the risk analysers were run. A copy of the array is stored.
+     */
+    public RiskAnalysisRun(Instant startTime, Instant endTime, RiskAnalysisResult[] results) {
+        this(startTime, endTime, results, new ArrayList<>());
+    }
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * RiskAnalysisRun that is partial if some risk analysers did not finish.
+     *
+     * @param startTime the moment the run started.
+     * @param endTime the moment the run finished. It cannot be before
+     * startTime.
+     * @param results the results of the risk analysers that finished, in the
+     * same order the risk analysers were run. A copy of the array is stored.
+     * @param unfinishedRiskTypes the types of risk handled by the risk
+     * analysers that did not finish. Empty if the run is complete. A copy of
+     * the list is stored.
+     */
+    public RiskAnalysisRun(Instant startTime, Instant endTime, RiskAnalysisResult[] results, List<SupportedRisks> unfinishedRiskTypes) {
+        if (startTime == null) {
+            logger.error("startTime cannot be null");
+            throw new IllegalArgumentException("startTime cannot be null");
+        }
+        if (endTime == null) {
+            logger.error("endTime cannot be null");
+            throw new IllegalArgumentException("endTime cannot be null");
+        }
+        if (endTime.isBefore(startTime)) {
+            logger.error("endTime cannot be before startTime");
+            throw new IllegalArgumentException("endTime cannot be before startTime");
+        }
+        if (results == null) {
+            logger.error("results cannot be null");
+            throw new IllegalArgumentException("results cannot be null");
+        }
+        for (RiskAnalysisResult result : results) {
+            if (result == null) {
+                logger.error("results cannot contain null values");
+                throw new IllegalArgumentException("results cannot contain null values");
+            }
+        }
+        if (unfinishedRiskTypes == null) {
+            logger.error("unfinishedRiskTypes cannot be null");
+            throw new IllegalArgumentException("unfinishedRiskTypes cannot be null");
+        }
+        if (unfinishedRiskTypes.contains(null)) {
+            logger.error("unfinishedRiskTypes cannot contain null values");
+            throw new IllegalArgumentException("unfinishedRiskTypes cannot contain null values");
+        }
+        this.startTime = startTime;
+        this.endTime = endTime;
+        this.results = results.clone();
+        this.unfinishedRiskTypes = Collections.unmodifiableList(new ArrayList<>(unfinishedRiskTypes));
+    }
+
+    /**
+     * This method gets the moment the run started.
+     *
+     * @return the moment the run started.
+     */
+    public Instant getStartTime() {
+        return startTime;
+    }
+
+    /**
+     * This method gets the moment the run finished.
+     *
+     * @return the moment the run finished.
+     */
+    public Instant getEndTime() {
+        return endTime;
+    }
+
+    /**
+     * This method gets the results of running each risk analyser, in the same
+     * order the risk analysers were run. A new array is returned each time, so
+     * changing it does not change this run.
+     *
+     * @return the results of running each risk analyser.
+     */
+    public RiskAnalysisResult[] getResults() {
+        return results.clone();
+    }
+
+    /**
+     * This method gets the number of results of this run.
+     *
+     * @return the number of results of this run.
+     */
+    public int getNumberOfResults() {
+        return results.length;
+    }
+
+    /**
+     * This method checks whether the run is partial, that is, whether some
+     * risk analysers did not finish and their results are missing.
+     *
+     * @return true, if the run is partial. Otherwise, false.
+     */
+    public boolean isPartial() {
+        return !unfinishedRiskTypes.isEmpty();
+    }
+
+    /**
+     * This method gets the types of risk handled by the risk analysers that
+     * did not finish.
+     *
+     * @return the types of risk handled by the risk analysers that did not
+     * finish, as an unmodifiable list. Empty if the run is complete.
+     */
+    public List<SupportedRisks> getUnfinishedRiskTypes() {
+        return unfinishedRiskTypes;
+    }
+}
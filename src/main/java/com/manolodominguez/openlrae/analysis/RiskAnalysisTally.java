@@ -0,0 +1,379 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.analysis;
+
+import com.manolodominguez.openlrae.arquitecture.ComponentBinding;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements the running state of a risk analyser for a project:
+ * the contribution of each component binding and the running sums of risk
+ * exposure, risk impact, maximum impact and the frequency and weight of each
+ * license. Adding or removing the contribution of a component binding updates
+ * them in constant time, so a risk analysis can be kept up to date while the
+ * bill of components changes without going through it again.
+ *
+ * Contributions are kept in the order they were added, as component bindings
+ * are in the bill of components, and removing a component binding removes its
+ * first contribution, as the bill of components does. The root causes,
+ * warnings, good things and tips of every contribution are kept up to date as
+ * contributions are added, so reading them only goes through the
+ * contributions again after a contribution has been removed.
+ *
+ * As long as contributions are only added, sums are exactly the same than
+ * those of a complete run. After removing contributions, they could differ in
+ * the last decimal digits, as floating point sums do. This class is not thread
+ * safe.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public final class RiskAnalysisTally {
+
+    private Logger logger = LoggerFactory.getLogger(RiskAnalysisTally.class);
+
+    private float riskExposure;
+    private float riskImpact;
+    private float maxImpact;
+    private int numberOfComponentBindings;
+    private final int[] licenseFrequencies;
+    private final float[] licenseWeights;
+    private ContributionNode firstContribution;
+    private ContributionNode lastContribution;
+    private final Map<ComponentBinding, ArrayDeque<ContributionNode>> contributionsByComponentBinding;
+    private final ContributionsMessages rootCauses;
+    private final ContributionsMessages warnings;
+    private final ContributionsMessages goodThings;
+    private final ContributionsMessages tips;
+
+    /**
+     * This is the constructor of the class. It creates a new, empty, instance
+     * of RiskAnalysisTally.
+     */
+    public RiskAnalysisTally() {
+        riskExposure = INITIAL_VALUE;
+        riskImpact = INITIAL_VALUE;
+        maxImpact = INITIAL_VALUE;
+        numberOfComponentBindings = 0;
+        licenseFrequencies = new int[SupportedLicenses.values().length];
+        licenseWeights = new float[SupportedLicenses.values().length];
+        firstContribution = null;
+        lastContribution = null;
+        contributionsByComponentBinding = new HashMap<>();
+        rootCauses = new ContributionsMessages(ComponentBindingContribution::getRootCauses);
+        warnings = new ContributionsMessages(ComponentBindingContribution::getWarnings);
+        goodThings = new ContributionsMessages(ComponentBindingContribution::getGoodThings);
+        tips = new ContributionsMessages(ComponentBindingContribution::getTips);
+    }
+
+    /**
+     * This method adds the contribution of a component binding to the running
+     * sums, after the contributions already added.
+     *
+     * @param contribution the contribution of a component binding.
+     */
+    public void add(ComponentBindingContribution contribution) {
+        if (contribution == null) {
+            logger.error("contribution cannot be null");
+            throw new IllegalArgumentException("contribution cannot be null");
+        }
+        riskExposure += contribution.getRiskExposure();
+        riskImpact += contribution.getRiskImpact();
+        maxImpact += contribution.getMaxImpact();
+        licenseFrequencies[contribution.getLicense().ordinal()]++;
+        licenseWeights[contribution.getLicense().ordinal()] += contribution.getWeightValue();
+        ContributionNode contributionNode = new ContributionNode(contribution);
+        if (lastContribution == null) {
+            firstContribution = contributionNode;
+        } else {
+            lastContribution.next = contributionNode;
+            contributionNode.previous = lastContribution;
+        }
+        lastContribution = contributionNode;
+        contributionsByComponentBinding.computeIfAbsent(contribution.getComponentBinding(), componentBinding -> new ArrayDeque<>()).addLast(contributionNode);
+        rootCauses.onAdded(contribution);
+        warnings.onAdded(contribution);
+        goodThings.onAdded(contribution);
+        tips.onAdded(contribution);
+        numberOfComponentBindings++;
+    }
+
+    /**
+     * This method removes the contribution of the specified component binding
+     * from the running sums. If the component binding has been added several
+     * times, only its first contribution is removed.
+     *
+     * @param componentBinding the component binding whose contribution has to
+     * be removed.
+     * @return true, if there was a contribution of the component binding and
+     * it has been removed. Otherwise, false.
+     */
+    public boolean remove(ComponentBinding componentBinding) {
+        if (componentBinding == null) {
+            logger.error("componentBinding cannot be null");
+            throw new IllegalArgumentException("componentBinding cannot be null");
+        }
+        ArrayDeque<ContributionNode> componentBindingContributions = contributionsByComponentBinding.get(componentBinding);
+        if (componentBindingContributions == null) {
+            return false;
+        }
+        ContributionNode contributionNode = componentBindingContributions.removeFirst();
+        if (componentBindingContributions.isEmpty()) {
+            contributionsByComponentBinding.remove(componentBinding);
+        }
+        if (contributionNode.previous == null) {
+            firstContribution = contributionNode.next;
+        } else {
+            contributionNode.previous.next = contributionNode.next;
+        }
+        if (contributionNode.next == null) {
+            lastContribution = contributionNode.previous;
+        } else {
+            contributionNode.next.previous = contributionNode.previous;
+        }
+        ComponentBindingContribution contribution = contributionNode.contribution;
+        rootCauses.onRemoved(contribution);
+        warnings.onRemoved(contribution);
+        goodThings.onRemoved(contribution);
+        tips.onRemoved(contribution);
+        numberOfComponentBindings--;
+        int licenseOrdinal = contribution.getLicense().ordinal();
+        licenseFrequencies[licenseOrdinal]--;
+        if (licenseFrequencies[licenseOrdinal] == 0) {
+            // Avoids leaving rounding residues behind.
+            licenseWeights[licenseOrdinal] = INITIAL_VALUE;
+        } else {
+            licenseWeights[licenseOrdinal] -= contribution.getWeightValue();
+        }
+        if (numberOfComponentBindings == 0) {
+            riskExposure = INITIAL_VALUE;
+            riskImpact = INITIAL_VALUE;
+            maxImpact = INITIAL_VALUE;
+        } else {
+            riskExposure -= contribution.getRiskExposure();
+            riskImpact -= contribution.getRiskImpact();
+            maxImpact -= contribution.getMaxImpact();
+        }
+        return true;
+    }
+
+    /**
+     * This method gets the contributions of every component binding, in the
+     * order they were added.
+     *
+     * @return the contributions of every component binding.
+     */
+    public List<ComponentBindingContribution> getContributions() {
+        List<ComponentBindingContribution> orderedContributions = new ArrayList<>(numberOfComponentBindings);
+        for (ContributionNode contributionNode = firstContribution; contributionNode != null; contributionNode = contributionNode.next) {
+            orderedContributions.add(contributionNode.contribution);
+        }
+        return orderedContributions;
+    }
+
+    /**
+     * This method gets the root causes of every contribution, in the order
+     * contributions were added.
+     *
+     * @return an immutable list with the root causes of every contribution.
+     */
+    public List<TranslatableMessage> getRootCauses() {
+        return rootCauses.get(firstContribution);
+    }
+
+    /**
+     * This method gets the warnings of every contribution, in the order
+     * contributions were added.
+     *
+     * @return an immutable list with the warnings of every contribution.
+     */
+    public List<TranslatableMessage> getWarnings() {
+        return warnings.get(firstContribution);
+    }
+
+    /**
+     * This method gets the good things of every contribution, in the order
+     * contributions were added.
+     *
+     * @return an immutable list with the good things of every contribution.
+     */
+    public List<TranslatableMessage> getGoodThings() {
+        return goodThings.get(firstContribution);
+    }
+
+    /**
+     * This method gets the tips of every contribution, in the order
+     * contributions were added.
+     *
+     * @return an immutable list with the tips of every contribution.
+     */
+    public List<TranslatableMessage> getTips() {
+        return tips.get(firstContribution);
+    }
+
+    /**
+     * This method gets the number of component bindings whose contribution is
+     * in the running sums.
+     *
+     * @return the number of component bindings.
+     */
+    public int getNumberOfComponentBindings() {
+        return numberOfComponentBindings;
+    }
+
+    /**
+     * This method gets the sum of the risk exposure of every contribution.
+     *
+     * @return the sum of the risk exposure of every contribution.
+     */
+    public float getRiskExposure() {
+        return riskExposure;
+    }
+
+    /**
+     * This method gets the sum of the risk impact of every contribution.
+     *
+     * @return the sum of the risk impact of every contribution.
+     */
+    public float getRiskImpact() {
+        return riskImpact;
+    }
+
+    /**
+     * This method gets the sum of the maximum impact of every contribution.
+     *
+     * @return the sum of the maximum impact of every contribution.
+     */
+    public float getMaxImpact() {
+        return maxImpact;
+    }
+
+    /**
+     * This method gets how many component bindings use the specified license.
+     *
+     * @param license the license.
+     * @return how many component bindings use the license.
+     */
+    public int getLicenseFrequency(SupportedLicenses license) {
+        if (license == null) {
+            logger.error("license cannot be null");
+            throw new IllegalArgumentException("license cannot be null");
+        }
+        return licenseFrequencies[license.ordinal()];
+    }
+
+    /**
+     * This method gets the sum of the weight values of the component bindings
+     * that use the specified license.
+     *
+     * @param license the license.
+     * @return the sum of the weight values of the component bindings that use
+     * the license.
+     */
+    public float getLicenseWeight(SupportedLicenses license) {
+        if (license == null) {
+            logger.error("license cannot be null");
+            throw new IllegalArgumentException("license cannot be null");
+        }
+        return licenseWeights[license.ordinal()];
+    }
+
+    /**
+     * This class implements a contribution in the list of contributions, in
+     * the order they were added.
+     */
+    private static final class ContributionNode {
+
+        private final ComponentBindingContribution contribution;
+        private ContributionNode previous;
+        private ContributionNode next;
+
+        private ContributionNode(ComponentBindingContribution contribution) {
+            this.contribution = contribution;
+            this.previous = null;
+            this.next = null;
+        }
+    }
+
+    /**
+     * This class implements the messages of one kind (root causes, warnings,
+     * good things or tips) of every contribution. Messages of the
+     * contributions added since they were last read are appended to them
+     * when they are read again. They are only collected again from every
+     * contribution after one having messages has been removed.
+     */
+    private static final class ContributionsMessages {
+
+        private final Function<ComponentBindingContribution, List<TranslatableMessage>> messagesOf;
+        private List<TranslatableMessage> messages;
+        private final List<ComponentBindingContribution> contributionsAddedSinceRead;
+
+        private ContributionsMessages(Function<ComponentBindingContribution, List<TranslatableMessage>> messagesOf) {
+            this.messagesOf = messagesOf;
+            this.messages = new MessageBuffer().freeze();
+            this.contributionsAddedSinceRead = new ArrayList<>();
+        }
+
+        private void onAdded(ComponentBindingContribution contribution) {
+            if ((messages != null) && !messagesOf.apply(contribution).isEmpty()) {
+                contributionsAddedSinceRead.add(contribution);
+            }
+        }
+
+        private void onRemoved(ComponentBindingContribution contribution) {
+            if (!messagesOf.apply(contribution).isEmpty()) {
+                messages = null;
+                contributionsAddedSinceRead.clear();
+            }
+        }
+
+        private List<TranslatableMessage> get(ContributionNode firstContribution) {
+            if (messages == null) {
+                MessageBuffer messageBuffer = new MessageBuffer();
+                for (ContributionNode contributionNode = firstContribution; contributionNode != null; contributionNode = contributionNode.next) {
+                    messageBuffer.addAll(messagesOf.apply(contributionNode.contribution));
+                }
+                messages = messageBuffer.freeze();
+            } else if (!contributionsAddedSinceRead.isEmpty()) {
+                MessageBuffer messageBuffer = new MessageBuffer();
+                messageBuffer.addAll(messages);
+                for (ComponentBindingContribution contribution : contributionsAddedSinceRead) {
+                    messageBuffer.addAll(messagesOf.apply(contribution));
+                }
+                messages = messageBuffer.freeze();
+                contributionsAddedSinceRead.clear();
+            }
+            return messages;
+        }
+    }
+
+    private static final float INITIAL_VALUE = 0.0f;
+}
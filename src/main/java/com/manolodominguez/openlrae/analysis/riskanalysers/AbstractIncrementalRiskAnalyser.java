@@ -0,0 +1,218 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.analysis.riskanalysers;
+
+import com.manolodominguez.openlrae.analysis.ComponentBindingContribution;
+import com.manolodominguez.openlrae.analysis.ComponentBindingsFacts;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisContext;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisResult;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisTally;
+import com.manolodominguez.openlrae.arquitecture.ComponentBinding;
+import com.manolodominguez.openlrae.arquitecture.Project;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
+import java.util.Collections;
+
+/**
+ * This abstract class has to be implemented by risk analysers whose result is
+ * the sum of the independent contributions of each component binding. The
+ * running sums are kept in a RiskAnalysisTally so that, when a component
+ * binding is added to or removed from the bill of components, the result can
+ * be updated in constant time instead of analysing the whole bill of
+ * components again.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public abstract class AbstractIncrementalRiskAnalyser extends AbstractRiskAnalyser {
+
+    /**
+     * This is the constructor of the class. It has to be called from within the
+     * subclass constructor.
+     *
+     * @param project The software project to be analised.
+     * @param handledRiskType The type of risk the subclass addresses.
+     */
+    protected AbstractIncrementalRiskAnalyser(Project project, SupportedRisks handledRiskType) {
+        super(project, handledRiskType);
+    }
+
+    /**
+     * This is the constructor of the class. It has to be called from within the
+     * subclass constructor. It creates a risk analyser that is not bound to
+     * any project.
+     *
+     * @param handledRiskType The type of risk the subclass addresses.
+     */
+    protected AbstractIncrementalRiskAnalyser(SupportedRisks handledRiskType) {
+        super(handledRiskType);
+    }
+
+    /**
+     * This method gets the estimated cost of running this risk analyser. It
+     * is medium because each component binding is analysed once.
+     *
+     * @return the estimated cost of running this risk analyser.
+     */
+    @Override
+    public SupportedAnalysisCosts getAnalysisCost() {
+        return SupportedAnalysisCosts.MEDIUM;
+    }
+
+    /**
+     * This method creates a new tally with the contribution of every component
+     * binding of the project of the specified context.
+     *
+     * @param context The context of the run: the project to be analysed and
+     * the licenses knowledge base to be used.
+     * @return a new tally with the contribution of every component binding.
+     */
+    public RiskAnalysisTally createTally(RiskAnalysisContext context) {
+        if (context == null) {
+            logger.error("context cannot be null");
+            throw new IllegalArgumentException("context cannot be null");
+        }
+        ComponentBindingsFacts facts = context.getComponentBindingsFacts();
+        RiskAnalysisTally tally = new RiskAnalysisTally();
+        for (int componentBindingIndex = 0; componentBindingIndex < facts.getNumberOfComponentBindings(); componentBindingIndex++) {
+            context.checkNotCancelled();
+            tally.add(getContributionOf(facts, componentBindingIndex, context));
+        }
+        return tally;
+    }
+
+    /**
+     * This method adds to the specified tally the contribution of a component
+     * binding that has been added to the project of the specified context.
+     *
+     * @param tally The tally to be updated.
+     * @param componentBinding The component binding added to the project.
+     * @param context The context of the run: the project to be analysed and
+     * the licenses knowledge base to be used.
+     */
+    public void addToTally(RiskAnalysisTally tally, ComponentBinding componentBinding, RiskAnalysisContext context) {
+        if (tally == null) {
+            logger.error("tally cannot be null");
+            throw new IllegalArgumentException("tally cannot be null");
+        }
+        if (componentBinding == null) {
+            logger.error("componentBinding cannot be null");
+            throw new IllegalArgumentException("componentBinding cannot be null");
+        }
+        if (context == null) {
+            logger.error("context cannot be null");
+            throw new IllegalArgumentException("context cannot be null");
+        }
+        Project project = context.getProject();
+        ComponentBindingsFacts facts = new ComponentBindingsFacts(Collections.singletonList(componentBinding), project.getLicenses(), project.getRedistribution(), context.getLicensesKnowledgeBase());
+        tally.add(getContributionOf(facts, FIRST, context));
+    }
+
+    /**
+     * This method removes from the specified tally the contribution of a
+     * component binding that has been removed from the project.
+     *
+     * @param tally The tally to be updated.
+     * @param componentBinding The component binding removed from the project.
+     * @return true, if the tally had a contribution of the component binding
+     * and it has been removed. Otherwise, false.
+     */
+    public boolean removeFromTally(RiskAnalysisTally tally, ComponentBinding componentBinding) {
+        if (tally == null) {
+            logger.error("tally cannot be null");
+            throw new IllegalArgumentException("tally cannot be null");
+        }
+        if (componentBinding == null) {
+            logger.error("componentBinding cannot be null");
+            throw new IllegalArgumentException("componentBinding cannot be null");
+        }
+        return tally.remove(componentBinding);
+    }
+
+    /**
+     * This method computes the risk analysis result from the running sums of
+     * the specified tally, without going through the bill of components.
+     *
+     * @param tally The tally of the project of the context.
+     * @param context The context of the run: the project to be analysed and
+     * the licenses knowledge base to be used.
+     * @return the result of the risk analysis.
+     */
+    public RiskAnalysisResult getRiskAnalisysResult(RiskAnalysisTally tally, RiskAnalysisContext context) {
+        if (tally == null) {
+            logger.error("tally cannot be null");
+            throw new IllegalArgumentException("tally cannot be null");
+        }
+        if (context == null) {
+            logger.error("context cannot be null");
+            throw new IllegalArgumentException("context cannot be null");
+        }
+        if (tally.getNumberOfComponentBindings() == 0) {
+            logger.error("tally has no component bindings");
+            throw new IllegalArgumentException("tally has no component bindings");
+        }
+        return getResultOf(tally, context);
+    }
+
+    @Override
+    protected RiskAnalysisResult runAnalyser(RiskAnalysisContext context) {
+        return getResultOf(createTally(context), context);
+    }
+
+    /**
+     * This method computes the contribution of the specified component binding
+     * to the risk analysis. It must depend only on the component binding, the
+     * project licenses and the licenses knowledge base, never on other
+     * component bindings.
+     *
+     * @param facts The facts of the component bindings.
+     * @param componentBindingIndex The index of the component binding in the
+     * facts.
+     * @param context The context of the run.
+     * @return the contribution of the component binding.
+     */
+    protected abstract ComponentBindingContribution getContributionOf(ComponentBindingsFacts facts, int componentBindingIndex, RiskAnalysisContext context);
+
+    /**
+     * This method computes the risk analysis result from the running sums of
+     * the specified tally.
+     *
+     * @param tally The tally of the project of the context.
+     * @param context The context of the run.
+     * @return the result of the risk analysis.
+     */
+    protected abstract RiskAnalysisResult getResultOf(RiskAnalysisTally tally, RiskAnalysisContext context);
+
+    /**
+     * This method keeps a ratio computed from running sums between 0.0 and 1.0,
+     * as removing contributions can leave tiny rounding residues behind.
+     *
+     * @param ratio The ratio computed from running sums.
+     * @return the ratio, between 0.0 and 1.0.
+     */
+    protected static float toRatio(float ratio) {
+        return Math.max(MIN_RATIO, Math.min(MAX_RATIO, ratio));
+    }
+
+    private static final int FIRST = 0;
+    private static final float MIN_RATIO = 0.0f;
+    private static final float MAX_RATIO = 1.0f;
+}
@@ -22,6 +22,8 @@
  */
 package com.manolodominguez.openlrae.analysis.riskanalysers;
 
+import com.manolodominguez.openlrae.analysis.MessageBuffer;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisContext;
 import com.manolodominguez.openlrae.analysis.RiskAnalysisResult;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
 import com.manolodominguez.openlrae.arquitecture.Project;
@@ -30,9 +32,6 @@ import com.manolodominguez.openlrae.i18n.ILanguageChangeListener;
 import com.manolodominguez.openlrae.i18n.LanguageChangeEvent;
 import com.manolodominguez.openlrae.i18n.LanguageConfig;
 import com.manolodominguez.openlrae.i18n.SupportedLanguages;
-import java.util.List;
-import java.util.ResourceBundle;
-import java.util.concurrent.CopyOnWriteArrayList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,13 +47,6 @@ public abstract class AbstractRiskAnalyser implements ILanguageChangeEventEmitte
     protected Logger logger;
     protected Project project = null;
     protected SupportedRisks handledRiskType;
-    protected float riskExposure;
-    protected float riskImpact;
-    protected List<String> rootCauses;
-    protected List<String> warnings;
-    protected List<String> goodThings;
-    protected List<String> tips;
-    protected ResourceBundle ownI18N;
     protected LanguageConfig languageConfig;
 
     /**
@@ -65,38 +57,32 @@ public abstract class AbstractRiskAnalyser implements ILanguageChangeEventEmitte
      * @param handledRiskType The type of risk the subclass addresses.
      */
     protected AbstractRiskAnalyser(Project project, SupportedRisks handledRiskType) {
-        logger = LoggerFactory.getLogger(AbstractRiskAnalyser.class);
+        this(handledRiskType);
         if (project == null) {
             logger.error("Project cannot be null");
             throw new IllegalArgumentException("Project cannot be null");
         }
+        this.project = project;
+    }
+
+    /**
+     * This is the constructor of the class. It has to be called from within the
+     * subclass constructor. It creates a risk analyser that is not bound to
+     * any project, so it can only be run through
+     * getRiskAnalisysResult(RiskAnalysisContext), for any number of projects.
+     *
+     * @param handledRiskType The type of risk the subclass addresses.
+     */
+    protected AbstractRiskAnalyser(SupportedRisks handledRiskType) {
+        logger = LoggerFactory.getLogger(AbstractRiskAnalyser.class);
         if (handledRiskType == null) {
             logger.error("handledRiskType cannot be null");
             throw new IllegalArgumentException("handledRiskType cannot be null");
         }
-        this.project = project;
         this.handledRiskType = handledRiskType;
-        riskExposure = AbstractRiskAnalyser.DEFAULT_EXPOSURE_LEVEL;
-        riskImpact = AbstractRiskAnalyser.DEFAULT_IMPACT_LEVEL;
-        rootCauses = new CopyOnWriteArrayList<>();
-        warnings = new CopyOnWriteArrayList<>();
-        goodThings = new CopyOnWriteArrayList<>();
-        tips = new CopyOnWriteArrayList<>();
         languageConfig = new LanguageConfig();
     }
 
-    /**
-     * This private method resets the instace as in the moment it was created.
-     */
-    private void reset() {
-        riskExposure = AbstractRiskAnalyser.DEFAULT_EXPOSURE_LEVEL;
-        riskImpact = AbstractRiskAnalyser.DEFAULT_IMPACT_LEVEL;
-        rootCauses = new CopyOnWriteArrayList<>();
-        warnings = new CopyOnWriteArrayList<>();
-        goodThings = new CopyOnWriteArrayList<>();
-        tips = new CopyOnWriteArrayList<>();
-    }
-
     /**
      * This method gets the project on wich the risk analysis is going to be
      * done.
@@ -117,15 +103,36 @@ public abstract class AbstractRiskAnalyser implements ILanguageChangeEventEmitte
     }
     
     /**
-     * This method resets the instace, run the analysis and return the
-     * corresponding risk analysis result.
+     * This method runs the analysis of the project this risk analyser was
+     * created for, using the licenses knowledge base currently in use, and
+     * return the corresponding risk analysis result.
      *
      * @return the result of running the risk analysis.
      */
     public RiskAnalysisResult getRiskAnalisysResult() {
-        reset();
-        runAnalyser();
-        return new RiskAnalysisResult(handledRiskType, riskExposure, riskImpact, rootCauses, warnings, goodThings, tips);
+        if (project == null) {
+            logger.error("This risk analyser is not bound to a project. A context is needed.");
+            throw new IllegalStateException("This risk analyser is not bound to a project. A context is needed.");
+        }
+        return getRiskAnalisysResult(new RiskAnalysisContext(project));
+    }
+
+    /**
+     * This method runs the analysis of the project of the specified context
+     * and return the corresponding risk analysis result. The risk analyser
+     * keeps no state of the run, so it can be called concurrently with
+     * different contexts.
+     *
+     * @param context The context of the run: the project to be analysed and
+     * the licenses knowledge base to be used.
+     * @return the result of running the risk analysis.
+     */
+    public RiskAnalysisResult getRiskAnalisysResult(RiskAnalysisContext context) {
+        if (context == null) {
+            logger.error("context cannot be null");
+            throw new IllegalArgumentException("context cannot be null");
+        }
+        return runAnalyser(context);
     }
 
     /**
@@ -137,47 +144,100 @@ public abstract class AbstractRiskAnalyser implements ILanguageChangeEventEmitte
         return handledRiskType;
     }
 
+    /**
+     * This method gets the estimated cost of running this risk analyser. It is
+     * used to run the cheapest risk analysers first when the run can stop
+     * early. Risk analysers that only look at the project licenses, or at each
+     * component binding once, should override it.
+     *
+     * @return the estimated cost of running this risk analyser.
+     */
+    public SupportedAnalysisCosts getAnalysisCost() {
+        return SupportedAnalysisCosts.HIGH;
+    }
+
+    /**
+     * This method creates the buffer where a run collects root causes,
+     * warnings or good things. If the verbosity of the run does not report
+     * them, the buffer discards whatever is added to it, so the run does not
+     * keep messages nobody is going to read.
+     *
+     * @param context The context of the run.
+     * @return a new buffer for root causes, warnings or good things.
+     */
+    protected MessageBuffer createMessages(RiskAnalysisContext context) {
+        return new MessageBuffer(context.isCollectingMessages());
+    }
+
+    /**
+     * This method creates the buffer where a run collects tips. If the
+     * verbosity of the run does not report them, the buffer discards whatever
+     * is added to it.
+     *
+     * @param context The context of the run.
+     * @return a new buffer for tips.
+     */
+    protected MessageBuffer createTips(RiskAnalysisContext context) {
+        return new MessageBuffer(context.isCollectingTips());
+    }
+
     @Override
     public void fireLanguageChangeEvent() {
-        project.onLanguageChange(new LanguageChangeEvent(this, languageConfig.getLanguage()));
+        if (project != null) {
+            project.onLanguageChange(new LanguageChangeEvent(this, languageConfig.getLanguage()));
+        }
     }
 
     /**
      * This is the abstract method that has to be implemented in every subclass
-     * developed to address a given risk. This class makes available to the
-     * developer a set of attributes he/she has to use for the risk analyzer to
-     * be operational.
+     * developed to address a given risk. It analyses the project of the
+     * specified context and returns the result.
      *
      * Important information for developers of risk analysers:
      *
-     * - At the beggining of the method all internal values are always as if the
-     * intances is newly created.
+     * - The method must not keep any state of the run in the risk analyser, as
+     * the same instance can be analysing several projects at the same time.
+     * Everything the run needs is in the context (the project and the licenses
+     * knowledge base) and the run state has to be kept in local variables.
+     *
+     * - He/she has to call context.checkNotCancelled() on each iteration of
+     * the loops over the bill of components, so the run stops as soon as
+     * possible when it is cancelled or takes longer than allowed.
+     *
+     * - He/she has to create rootCauses, warnings and goodThings buffers
+     * through createMessages(), and tips buffer through createTips(), so
+     * messages are only collected when the verbosity of the run is going to
+     * report them. Buffers are frozen when the result is built.
      *
-     * - He/se has to use rootCauses, warnings and goodThings attributes
-     * wherever possible to provide a comprehensive analysis of whatever the
-     * risk analyser is suppose to analyse. rootCauses is used to give
-     * information about causes that determine a given thing is a risk (thin as
-     * RED in a semaphore). Warnings is used to give information of interest
-     * about situations the user has to know (think as ORANGE in a semaphore).
+     * - He/se has to use rootCauses, warnings and goodThings lists wherever
+     * possible to provide a comprehensive analysis of whatever the risk
+     * analyser is suppose to analyse. rootCauses is used to give information
+     * about causes that determine a given thing is a risk (thin as RED in a
+     * semaphore). Warnings is used to give information of interest about
+     * situations the user has to know (think as ORANGE in a semaphore).
      * goodThings is used to give information about things that are OK and not
      * suppose an increment in the risk level (think as GREEN in a semaphore).
-     * These three attributes can be used in the risk analyser multiple times to
+     * These three lists can be used in the risk analyser multiple times to
      * provide a rich analysis. They are the "risk report" consisting in a set
      * of messages that allow the user to identify root causes of risks, special
      * situations or things well done.
      *
-     * - He/she has to update riskExposure and riskImpact attributes before the
-     * end of runAnalyser() method. These values are the risk computation. Both
-     * values are always between 0.00 (0%) and 1.00 (100%) as float values. It
-     * is important to maintain the same semantics in all implemented risk
+     * - He/she has to compute riskExposure and riskImpact before the end of
+     * runAnalyser() method. These values are the risk computation. Both values
+     * are always between 0.00 (0%) and 1.00 (100%) as float values. It is
+     * important to maintain the same semantics in all implemented risk
      * analysers to avoid misinterpretation of results. So, riskExposure has to
      * measure the portion of the project that is affected by a given risk. And
      * riskImpact has to measure the "effort" or "cost" needed to make the
      * project free of this riskExposure.
+     *
+     * @param context The context of the run: the project to be analysed and
+     * the licenses knowledge base to be used.
+     * @return the result of running the risk analysis.
      */
-    protected abstract void runAnalyser();
+    protected abstract RiskAnalysisResult runAnalyser(RiskAnalysisContext context);
 
-    private static final float DEFAULT_EXPOSURE_LEVEL = 0.0f;
-    private static final float DEFAULT_IMPACT_LEVEL = 0.0f;
+    protected static final float DEFAULT_EXPOSURE_LEVEL = 0.0f;
+    protected static final float DEFAULT_IMPACT_LEVEL = 0.0f;
 
 }
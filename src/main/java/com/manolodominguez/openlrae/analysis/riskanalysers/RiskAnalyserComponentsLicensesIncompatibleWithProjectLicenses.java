@@ -24,14 +24,20 @@ package com.manolodominguez.openlrae.analysis.riskanalysers;
 
 import com.manolodominguez.openlrae.bok.basevalues.SupportedCompatibilities;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
-import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilityFactory;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilityVerdicts;
 import com.manolodominguez.openlrae.arquitecture.Project;
-import com.manolodominguez.openlrae.arquitecture.ComponentBinding;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
 import com.manolodominguez.openlrae.i18n.LanguageChangeEvent;
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
+import com.manolodominguez.openlrae.i18n.TranslationKey;
 import com.manolodominguez.openlrae.i18n.Translations;
 import java.util.EnumMap;
-import java.util.ResourceBundle;
+import com.manolodominguez.openlrae.analysis.MessageBuffer;
+import com.manolodominguez.openlrae.analysis.ComponentBindingContribution;
+import com.manolodominguez.openlrae.analysis.ComponentBindingsFacts;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisContext;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisResult;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisTally;
 import org.slf4j.LoggerFactory;
 
 /**
@@ -63,11 +69,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
  */
-public class RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses extends AbstractRiskAnalyser {
-
-    private EnumMap<SupportedCompatibilities, Integer> compatibilityCounter;
-    private ResourceBundle spdxIdI18N;
-    private ResourceBundle warningsI18N;
+public class RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses extends AbstractIncrementalRiskAnalyser {
 
     /**
      * This is the constructor of the class. It creates a new instance of
@@ -79,179 +81,260 @@ public class RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses exten
         // Project is checked at superclass
         super(project, SupportedRisks.HAVING_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES);
         logger = LoggerFactory.getLogger(RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses.class);
-        compatibilityCounter = new EnumMap<>(SupportedCompatibilities.class);
-        spdxIdI18N = Translations.SUPPORTED_LICENSES_SPDX_ID.getResourceBundle(languageConfig.getLanguage().getLocale());
-        ownI18N = Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES.getResourceBundle(languageConfig.getLanguage().getLocale());
-        warningsI18N = Translations.COMPATIBILITY_WARNINGS.getResourceBundle(languageConfig.getLanguage().getLocale());
     }
 
     /**
-     * This method analyses the complete bill of components looking for risk of
-     * using component licenses that are not compatible with project licenses.
+     * This is the constructor of the class. It creates a new instance of
+     * RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses that is not
+     * bound to any project, so the same instance can analyse any number of
+     * projects, even concurrently, through
+     * getRiskAnalisysResult(RiskAnalysisContext).
+     */
+    public RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses() {
+        // Project is checked at superclass
+        super(SupportedRisks.HAVING_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES);
+        logger = LoggerFactory.getLogger(RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses.class);
+    }
+
+    /**
+     * This method computes the contribution of a component binding to the risk
+     * of having component licenses incompatible with the project licenses.
+     *
+     * @param facts The facts of the component bindings.
+     * @param componentBindingIndex The index of the component binding in the
+     * facts.
+     * @param context The context of the run: the project to be analysed and
+     * the licenses knowledge base to be used.
+     * @return the contribution of the component binding.
      */
     @Override
-    public void runAnalyser() {
-        compatibilityCounter.clear();
+    protected ComponentBindingContribution getContributionOf(ComponentBindingsFacts facts, int componentBindingIndex, RiskAnalysisContext context) {
+        Project project = context.getProject();
+        float riskExposure = DEFAULT_EXPOSURE_LEVEL;
+        float riskImpact = DEFAULT_IMPACT_LEVEL;
+        MessageBuffer rootCauses = createMessages(context);
+        MessageBuffer warnings = createMessages(context);
+        MessageBuffer goodThings = createMessages(context);
+        MessageBuffer tips = createTips(context);
+        boolean collectingMessages = context.isCollectingMessages();
+        boolean collectingTips = context.isCollectingTips();
+        EnumMap<SupportedCompatibilities, Integer> compatibilityCounter = new EnumMap<>(SupportedCompatibilities.class);
         SupportedCompatibilities compatibility;
-        LicensesCompatibilityFactory licensesCompatibilities = LicensesCompatibilityFactory.getInstance();
-        // Each component bindings has to be checked against all project 
+        int projectLicenseIndex;
+        // The component binding has to be checked against all project 
         // licenses. Having more than one project license requires that
-        // components licenses are compatible with all of them.
-        int totalCases = this.project.getBillOfComponentBindings().size() * project.getLicenses().size();
-        for (ComponentBinding componentBinding : this.project.getBillOfComponentBindings()) {
-            for (SupportedLicenses projectLicense : this.project.getLicenses()) {
-                compatibility = licensesCompatibilities.getCompatibilityOf(componentBinding.getComponent().getLicense(), projectLicense, componentBinding.getLinkType(), this.project.getRedistribution());
-                if (compatibilityCounter.containsKey(compatibility)) {
-                    compatibilityCounter.put(compatibility, compatibilityCounter.get(compatibility) + ONE);
-                } else {
-                    compatibilityCounter.put(compatibility, ONE);
-                }
-                switch (compatibility) {
-                    case COMPATIBLE:
-                        // The analyzed component is compatible with the project 
-                        // license being analysed (taking into account the type 
-                        // of link and the project distribution that has been 
-                        // specified). It can be used without risk but only 
-                        // after being sure that it is compatible with the rest 
-                        // of project licenses.
-                        //
-                        // Compatibility is analyzed at the exit of this loop
-                        // because a component is compatible only if it is 
-                        // compatible with all project licenses.
-                        break;
-                    case FORCED_COMPATIBLE:
-                        // The analyzed component is compatible with the project 
-                        // license being analysed (taking into account the type 
-                        // of link and the project distribution that has been 
-                        // specified). Only because it has ben foorced to be 
-                        // compatible. Generally this happens when the author of 
-                        // the component give written permission to use the 
-                        // component in a project under a given license or 
-                        // licenses. 
-                        //
-                        // In this case, the component will have the same 
-                        // compatibility value independently of the project 
-                        // license because it is forced. Knowledge are added at 
-                        // the exit of this loop to avoid repeating the same 
-                        // tips, warnings, root causes... for each project 
-                        // license.
-                        warnings.add(ownI18N.getString(ALTHOUGH) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(IS_COMPATIBLE_WITH_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(AND_CAN_BE_INCLUDED_IN) + " " + this.project.getFullName() + ", " + ownI18N.getString(IT_COULD_BE_SOURCE_OF_BLAH));
-                        warnings.add(ownI18N.getString(BE_SURE_YOU_HAVE_WRITTEN_BLAH) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(TO_USE_IT_IN_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()));
-                        tips.add(ownI18N.getString(TRY_TO_REPLACE) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(BY_ANOTHER_COMPONENT_NATIVELY_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()));
-                        break;
-                    case UNCOMPATIBLE:
-                        // The analyzed component is incompatible with the 
-                        // project license being analysed (taking into account 
-                        // the type of link and the project distribution that 
-                        // has been specified). Therefore, it cannot be used in 
-                        // the project independently on whether it is compatible
-                        // with other licenses of the project or not.
-                        rootCauses.add(componentBinding.getFullName() + ", " + ownI18N.getString(CANNOT_BE_INCLUDED_IN) + " " + project.getFullName() + ". " + ownI18N.getString(THE_LICENSE_OF_THE_PROJECT_IS_INCOMPATIBLE_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()));
-                        tips.add(ownI18N.getString(TRY_TO_REPLACE) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(BY_ANOTHER_COMPONENT_COMPATIBLE_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()));
-                        tips.add(ownI18N.getString(TRY_TO_GET_BLAH) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(TO_USE_IT_IN_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()));
-                        riskExposure += componentBinding.getWeight().getWeightValue();
-                        riskImpact += ((TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue()) * componentBinding.getWeight().getWeightValue());
-                        break;
-                    case UNKNOWN:
-                        // The analyzed component could be compatible or 
-                        // incompatible with the project license being analised 
-                        // (taking into account the type of link and the project
-                        // redistribution that has been specified). But, by 
-                        // default, when the compatibility of a component is 
-                        // unknown one cannot assume that the component is 
-                        // compatible. On the contrary, in this situation the 
-                        //component is handled as uncompatible. Therefore, it 
-                        // cannot be used in the project. 
-                        riskExposure += componentBinding.getWeight().getWeightValue();
-                        riskImpact += ((TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue()) * componentBinding.getWeight().getWeightValue());
-                        rootCauses.add(componentBinding.getFullName() + ", " + ownI18N.getString(CANNOT_BE_INCLUDED_IN) + " " + project.getFullName() + ". " + ownI18N.getString(THE_LICENSE_OF_THE_PROJECT_IS_UNKNOWN_AND_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()));
-                        warnings.add(ownI18N.getString(ALTHOUGH) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(IS_HANDLED_AS_INCOMPATIBLE_BLAH));
-                        tips.add(ownI18N.getString(TRY_TO_REPLACE) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(BY_ANOTHER_COMPONENT_KNOWN_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()));
-                        tips.add(ownI18N.getString(TRY_TO_ASK_THE_BLAH) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(TO_CLARIFY_THE_LICENSE_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(OR_NOT));
-                        break;
-                    case UNSUPPORTED:
-                        // The analyzed component could be compatible or 
-                        // incompatible with the project license being analysed
-                        // (taking into account the type of link and the project
-                        // redistribution that has been specified). But, by 
-                        // default, when the compatibility of a component is 
-                        // unknown one cannot assume that the component is 
-                        // compatible. On the contrary, OpenLRAE by default
-                        // assumes that the license of the component, in this 
-                        // situation is uncompatible. This is obviously a 
-                        // weakness of OpenLRAE that will be reduced as the 
-                        // project evolves.
-                        riskExposure += componentBinding.getWeight().getWeightValue();
-                        riskImpact += ((TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue()) * componentBinding.getWeight().getWeightValue());
-                        rootCauses.add(componentBinding.getFullName() + ", " + ownI18N.getString(CANNOT_BE_INCLUDED_IN) + " " + project.getFullName() + ". " + ownI18N.getString(OPENLRAE_DOES_NOT_SUPPORT) + " " + spdxIdI18N.getString(projectLicense.toString()));
-                        warnings.add(ownI18N.getString(ALTHOUGH) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(IS_HANDLED_AS_INCOMPATIBLE_UNSUPPORTED_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + ". " + ownI18N.getString(WE_APOLOGIZE_BLAH));
-                        tips.add(ownI18N.getString(TRY_TO_REPLACE) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(BY_ANOTHER_COMPONENT_WITH_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()));
-                        break;
-                    case MOSTLY_COMPATIBLE:
-                        // The analyzed component is compatible with the project 
-                        // license being analysed (taking into account the type 
-                        // of link and the project distribution that has been 
-                        // specified) in most cases. But there are a few cases 
-                        // where it is incompatible. Therefore it could be used 
-                        // after verifying the specific case and also after 
-                        // being sure that it is compatible with the rest of 
-                        // project licenses. Anyway, components with this kind 
-                        // of compatibilities induce a moderated risk in the 
-                        // overall project, because it is prone to error.
-                        riskExposure += componentBinding.getWeight().getWeightValue();
-                        riskImpact += ((TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue()) * componentBinding.getWeight().getWeightValue());
-                        rootCauses.add(componentBinding.getFullName() + ", " + ownI18N.getString(CANNOT_BE_INCLUDED_IN) + " " + project.getFullName() + ", " + ownI18N.getString(UNTIL_A_DEEP_BLAH_1) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(EXCEPT_UNDER_BLAH));
-                        warnings.add(ownI18N.getString(CARRY_OUT_A_DEEP_BLAH_1) + " " + componentBinding.getFullName() + " " + ownI18N.getString(IS_INCOMPATIBLE_WITH_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(BEFORE_USING_BLAH));
-                        tips.add(ownI18N.getString(TRY_TO_REPLACE) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(BY_ANOTHER_COMPONENT_FULLY_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()));
-                        break;
-                    case MOSTLY_UNCOMPATIBLE:
-                        // The analyzed component is incompatible with the 
-                        // project license being analysed (taking into account 
-                        // the type of link and the project redistribution that 
-                        // has been specified) in most cases. But there are a 
-                        // few cases where it is compatible. Therefore it could
-                        // be used after verifying the specific case and also 
-                        // after being sure that it is compatible with the rest
-                        // of project licenses. Anyway, components with this 
-                        // kind of compatibilities induce a high risk in the 
-                        // overall project, because it is prone to error.
-                        riskExposure += componentBinding.getWeight().getWeightValue();
-                        riskImpact += ((TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue()) * componentBinding.getWeight().getWeightValue());
-                        rootCauses.add(componentBinding.getFullName() + ", " + ownI18N.getString(CANNOT_BE_INCLUDED_IN) + " " + project.getFullName() + ", " + ownI18N.getString(UNTIL_A_DEEP_BLAH_2) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(EXCEPT_UNDER_BLAH));
-                        warnings.add(ownI18N.getString(CARRY_OUT_A_DEEP_BLAH_2) + " " + componentBinding.getFullName() + " " + ownI18N.getString(IS_COMPATIBLE_WITH_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(BEFORE_USING_BLAH));
-                        tips.add(ownI18N.getString(TRY_TO_REPLACE) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(BY_ANOTHER_COMPONENT_FULLY_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()));
-                        break;
-                    default:
-                        logger.warn("default case reached in switch ???");
-                        break;
-                }
-                if (licensesCompatibilities.hasASpecificWarning(componentBinding.getComponent().getLicense(), projectLicense, componentBinding.getLinkType(), this.project.getRedistribution())) {
-                    warnings.add(warningsI18N.getString(licensesCompatibilities.getSpecificWarningKey(componentBinding.getComponent().getLicense(), projectLicense, componentBinding.getLinkType(), this.project.getRedistribution())));
+        // component license is compatible with all of them.
+        LicensesCompatibilityVerdicts verdicts = facts.getVerdicts();
+        projectLicenseIndex = 0;
+        for (SupportedLicenses projectLicense : facts.getProjectLicenses()) {
+            compatibility = verdicts.getCompatibility(componentBindingIndex, projectLicenseIndex);
+            if (compatibilityCounter.containsKey(compatibility)) {
+                compatibilityCounter.put(compatibility, compatibilityCounter.get(compatibility) + ONE);
+            } else {
+                compatibilityCounter.put(compatibility, ONE);
+            }
+            switch (compatibility) {
+                case COMPATIBLE:
+                    // The analyzed component is compatible with the project 
+                    // license being analysed (taking into account the type 
+                    // of link and the project distribution that has been 
+                    // specified). It can be used without risk but only 
+                    // after being sure that it is compatible with the rest 
+                    // of project licenses.
+                    //
+                    // Compatibility is analyzed at the exit of this loop
+                    // because a component is compatible only if it is 
+                    // compatible with all project licenses.
+                    break;
+                case FORCED_COMPATIBLE:
+                    // The analyzed component is compatible with the project 
+                    // license being analysed (taking into account the type 
+                    // of link and the project distribution that has been 
+                    // specified). Only because it has ben foorced to be 
+                    // compatible. Generally this happens when the author of 
+                    // the component give written permission to use the 
+                    // component in a project under a given license or 
+                    // licenses. 
+                    //
+                    // In this case, the component will have the same 
+                    // compatibility value independently of the project 
+                    // license because it is forced. Knowledge are added at 
+                    // the exit of this loop to avoid repeating the same 
+                    // tips, warnings, root causes... for each project 
+                    // license.
+                    if (collectingMessages) {
+                        warnings.add(new TranslatableMessage(ALTHOUGH, " ", facts.getFullNameMessage(componentBindingIndex), ", ", IS_COMPATIBLE_WITH_BLAH, " ", projectLicense, " ", AND_CAN_BE_INCLUDED_IN, " ", project.getFullNameMessage(), ", ", IT_COULD_BE_SOURCE_OF_BLAH));
+                        warnings.add(new TranslatableMessage(BE_SURE_YOU_HAVE_WRITTEN_BLAH, " ", facts.getFullNameMessage(componentBindingIndex), ", ", TO_USE_IT_IN_BLAH, " ", projectLicense));
+                        if (collectingTips) {
+                            tips.add(new TranslatableMessage(TRY_TO_REPLACE, " ", facts.getFullNameMessage(componentBindingIndex), ", ", BY_ANOTHER_COMPONENT_NATIVELY_BLAH, " ", projectLicense));
+                        }
+                    }
+                    break;
+                case UNCOMPATIBLE:
+                    // The analyzed component is incompatible with the 
+                    // project license being analysed (taking into account 
+                    // the type of link and the project distribution that 
+                    // has been specified). Therefore, it cannot be used in 
+                    // the project independently on whether it is compatible
+                    // with other licenses of the project or not.
+                    if (collectingMessages) {
+                        rootCauses.add(new TranslatableMessage(facts.getFullNameMessage(componentBindingIndex), ", ", CANNOT_BE_INCLUDED_IN, " ", project.getFullNameMessage(), ". ", THE_LICENSE_OF_THE_PROJECT_IS_INCOMPATIBLE_BLAH, " ", projectLicense));
+                        if (collectingTips) {
+                            tips.add(new TranslatableMessage(TRY_TO_REPLACE, " ", facts.getFullNameMessage(componentBindingIndex), ", ", BY_ANOTHER_COMPONENT_COMPATIBLE_BLAH, " ", projectLicense));
+                            tips.add(new TranslatableMessage(TRY_TO_GET_BLAH, " ", facts.getFullNameMessage(componentBindingIndex), ", ", TO_USE_IT_IN_BLAH, " ", projectLicense));
+                        }
+                    }
+                    riskExposure += facts.getWeightValue(componentBindingIndex);
+                    riskImpact += ((TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue()) * facts.getWeightValue(componentBindingIndex));
+                    break;
+                case UNKNOWN:
+                    // The analyzed component could be compatible or 
+                    // incompatible with the project license being analised 
+                    // (taking into account the type of link and the project
+                    // redistribution that has been specified). But, by 
+                    // default, when the compatibility of a component is 
+                    // unknown one cannot assume that the component is 
+                    // compatible. On the contrary, in this situation the 
+                    //component is handled as uncompatible. Therefore, it 
+                    // cannot be used in the project. 
+                    riskExposure += facts.getWeightValue(componentBindingIndex);
+                    riskImpact += ((TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue()) * facts.getWeightValue(componentBindingIndex));
+                    if (collectingMessages) {
+                        rootCauses.add(new TranslatableMessage(facts.getFullNameMessage(componentBindingIndex), ", ", CANNOT_BE_INCLUDED_IN, " ", project.getFullNameMessage(), ". ", THE_LICENSE_OF_THE_PROJECT_IS_UNKNOWN_AND_BLAH, " ", projectLicense));
+                        warnings.add(new TranslatableMessage(ALTHOUGH, " ", facts.getFullNameMessage(componentBindingIndex), ", ", IS_HANDLED_AS_INCOMPATIBLE_BLAH));
+                        if (collectingTips) {
+                            tips.add(new TranslatableMessage(TRY_TO_REPLACE, " ", facts.getFullNameMessage(componentBindingIndex), ", ", BY_ANOTHER_COMPONENT_KNOWN_BLAH, " ", projectLicense));
+                            tips.add(new TranslatableMessage(TRY_TO_ASK_THE_BLAH, " ", facts.getFullNameMessage(componentBindingIndex), ", ", TO_CLARIFY_THE_LICENSE_BLAH, " ", projectLicense, " ", OR_NOT));
+                        }
+                    }
+                    break;
+                case UNSUPPORTED:
+                    // The analyzed component could be compatible or 
+                    // incompatible with the project license being analysed
+                    // (taking into account the type of link and the project
+                    // redistribution that has been specified). But, by 
+                    // default, when the compatibility of a component is 
+                    // unknown one cannot assume that the component is 
+                    // compatible. On the contrary, OpenLRAE by default
+                    // assumes that the license of the component, in this 
+                    // situation is uncompatible. This is obviously a 
+                    // weakness of OpenLRAE that will be reduced as the 
+                    // project evolves.
+                    riskExposure += facts.getWeightValue(componentBindingIndex);
+                    riskImpact += ((TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue()) * facts.getWeightValue(componentBindingIndex));
+                    if (collectingMessages) {
+                        rootCauses.add(new TranslatableMessage(facts.getFullNameMessage(componentBindingIndex), ", ", CANNOT_BE_INCLUDED_IN, " ", project.getFullNameMessage(), ". ", OPENLRAE_DOES_NOT_SUPPORT, " ", projectLicense));
+                        warnings.add(new TranslatableMessage(ALTHOUGH, " ", facts.getFullNameMessage(componentBindingIndex), ", ", IS_HANDLED_AS_INCOMPATIBLE_UNSUPPORTED_BLAH, " ", projectLicense, ". ", WE_APOLOGIZE_BLAH));
+                        if (collectingTips) {
+                            tips.add(new TranslatableMessage(TRY_TO_REPLACE, " ", facts.getFullNameMessage(componentBindingIndex), ", ", BY_ANOTHER_COMPONENT_WITH_BLAH, " ", projectLicense));
+                        }
+                    }
+                    break;
+                case MOSTLY_COMPATIBLE:
+                    // The analyzed component is compatible with the project 
+                    // license being analysed (taking into account the type 
+                    // of link and the project distribution that has been 
+                    // specified) in most cases. But there are a few cases 
+                    // where it is incompatible. Therefore it could be used 
+                    // after verifying the specific case and also after 
+                    // being sure that it is compatible with the rest of 
+                    // project licenses. Anyway, components with this kind 
+                    // of compatibilities induce a moderated risk in the 
+                    // overall project, because it is prone to error.
+                    riskExposure += facts.getWeightValue(componentBindingIndex);
+                    riskImpact += ((TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue()) * facts.getWeightValue(componentBindingIndex));
+                    if (collectingMessages) {
+                        rootCauses.add(new TranslatableMessage(facts.getFullNameMessage(componentBindingIndex), ", ", CANNOT_BE_INCLUDED_IN, " ", project.getFullNameMessage(), ", ", UNTIL_A_DEEP_BLAH_1, " ", projectLicense, " ", EXCEPT_UNDER_BLAH));
+                        warnings.add(new TranslatableMessage(CARRY_OUT_A_DEEP_BLAH_1, " ", facts.getFullNameMessage(componentBindingIndex), " ", IS_INCOMPATIBLE_WITH_BLAH, " ", projectLicense, " ", BEFORE_USING_BLAH));
+                        if (collectingTips) {
+                            tips.add(new TranslatableMessage(TRY_TO_REPLACE, " ", facts.getFullNameMessage(componentBindingIndex), ", ", BY_ANOTHER_COMPONENT_FULLY_BLAH, " ", projectLicense));
+                        }
+                    }
+                    break;
+                case MOSTLY_UNCOMPATIBLE:
+                    // The analyzed component is incompatible with the 
+                    // project license being analysed (taking into account 
+                    // the type of link and the project redistribution that 
+                    // has been specified) in most cases. But there are a 
+                    // few cases where it is compatible. Therefore it could
+                    // be used after verifying the specific case and also 
+                    // after being sure that it is compatible with the rest
+                    // of project licenses. Anyway, components with this 
+                    // kind of compatibilities induce a high risk in the 
+                    // overall project, because it is prone to error.
+                    riskExposure += facts.getWeightValue(componentBindingIndex);
+                    riskImpact += ((TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue()) * facts.getWeightValue(componentBindingIndex));
+                    if (collectingMessages) {
+                        rootCauses.add(new TranslatableMessage(facts.getFullNameMessage(componentBindingIndex), ", ", CANNOT_BE_INCLUDED_IN, " ", project.getFullNameMessage(), ", ", UNTIL_A_DEEP_BLAH_2, " ", projectLicense, " ", EXCEPT_UNDER_BLAH));
+                        warnings.add(new TranslatableMessage(CARRY_OUT_A_DEEP_BLAH_2, " ", facts.getFullNameMessage(componentBindingIndex), " ", IS_COMPATIBLE_WITH_BLAH, " ", projectLicense, " ", BEFORE_USING_BLAH));
+                        if (collectingTips) {
+                            tips.add(new TranslatableMessage(TRY_TO_REPLACE, " ", facts.getFullNameMessage(componentBindingIndex), ", ", BY_ANOTHER_COMPONENT_FULLY_BLAH, " ", projectLicense));
+                        }
+                    }
+                    break;
+                default:
+                    logger.warn("default case reached in switch ???");
+                    break;
+            }
+            if (verdicts.hasSpecificWarning(componentBindingIndex, projectLicenseIndex)) {
+                if (collectingMessages) {
+                    warnings.add(new TranslatableMessage(new TranslationKey(Translations.COMPATIBILITY_WARNINGS, verdicts.getSpecificWarningKey(componentBindingIndex, projectLicenseIndex))));
                 }
             }
-            if ((compatibilityCounter.containsKey(SupportedCompatibilities.COMPATIBLE) && (compatibilityCounter.get(SupportedCompatibilities.COMPATIBLE) == project.getLicenses().size()))) {
-                goodThings.add(componentBinding.getFullName() + ", " + ownI18N.getString(IS_NATIVELY_BLAH) + " " + this.project.getFullName());
+            projectLicenseIndex++;
+        }
+        if ((compatibilityCounter.containsKey(SupportedCompatibilities.COMPATIBLE) && (compatibilityCounter.get(SupportedCompatibilities.COMPATIBLE) == facts.getNumberOfProjectLicenses()))) {
+            if (collectingMessages) {
+                goodThings.add(new TranslatableMessage(facts.getFullNameMessage(componentBindingIndex), ", ", IS_NATIVELY_BLAH, " ", project.getFullNameMessage()));
             }
-            if ((compatibilityCounter.containsKey(SupportedCompatibilities.FORCED_COMPATIBLE) && (compatibilityCounter.get(SupportedCompatibilities.FORCED_COMPATIBLE) == project.getLicenses().size()))) {
-                goodThings.add(componentBinding.getFullName() + ", " + ownI18N.getString(IS_FORCED_TO_BLAH) + " " + this.project.getFullName());
+        }
+        if ((compatibilityCounter.containsKey(SupportedCompatibilities.FORCED_COMPATIBLE) && (compatibilityCounter.get(SupportedCompatibilities.FORCED_COMPATIBLE) == facts.getNumberOfProjectLicenses()))) {
+            if (collectingMessages) {
+                goodThings.add(new TranslatableMessage(facts.getFullNameMessage(componentBindingIndex), ", ", IS_FORCED_TO_BLAH, " ", project.getFullNameMessage()));
             }
-            compatibilityCounter.clear();
         }
-        riskExposure /= (float) totalCases;
-        riskImpact /= (float) totalCases;
+        return new ComponentBindingContribution(facts, componentBindingIndex, riskExposure, riskImpact, NO_MAX_IMPACT, rootCauses.freeze(), warnings.freeze(), goodThings.freeze(), tips.freeze());
+    }
+
+    /**
+     * This method computes the risk of having component licenses incompatible with the project licenses from the
+     * running sums of the contributions of the whole bill of components.
+     *
+     * @param tally The tally of the project of the context.
+     * @param context The context of the run: the project to be analysed and
+     * the licenses knowledge base to be used.
+     * @return the result of running the risk analysis.
+     */
+    @Override
+    protected RiskAnalysisResult getResultOf(RiskAnalysisTally tally, RiskAnalysisContext context) {
+        Project project = context.getProject();
+        MessageBuffer warnings = createMessages(context);
+        warnings.addAll(tally.getWarnings());
+        MessageBuffer tips = createTips(context);
+        tips.addAll(tally.getTips());
+        boolean collectingMessages = context.isCollectingMessages();
+        boolean collectingTips = context.isCollectingTips();
+        int totalCases = tally.getNumberOfComponentBindings() * project.getLicenses().size();
+        float riskExposure = toRatio(tally.getRiskExposure() / (float) totalCases);
+        float riskImpact = toRatio(tally.getRiskImpact() / (float) totalCases);
         if (riskExposure > NO_RISK) {
-            warnings.add(ownI18N.getString(YOUR_PROJECT_HAS_LEGAL_BLAH));
-            tips.add(ownI18N.getString(GENERAL_TIP_1));
-            tips.add(ownI18N.getString(GENERAL_TIP_2));
-            tips.add(ownI18N.getString(GENERAL_TIP_3));
-            tips.add(ownI18N.getString(GENERAL_TIP_4));
-            tips.add(ownI18N.getString(GENERAL_TIP_5));
-            tips.add(ownI18N.getString(GENERAL_TIP_6));
-            tips.add(ownI18N.getString(GENERAL_TIP_7));
-            if (project.getLicenses().size() > ONE) {
-                tips.add(ownI18N.getString(GENERAL_TIP_8));
+            if (collectingMessages) {
+                warnings.add(new TranslatableMessage(YOUR_PROJECT_HAS_LEGAL_BLAH));
+                if (collectingTips) {
+                    tips.add(new TranslatableMessage(GENERAL_TIP_1));
+                    tips.add(new TranslatableMessage(GENERAL_TIP_2));
+                    tips.add(new TranslatableMessage(GENERAL_TIP_3));
+                    tips.add(new TranslatableMessage(GENERAL_TIP_4));
+                    tips.add(new TranslatableMessage(GENERAL_TIP_5));
+                    tips.add(new TranslatableMessage(GENERAL_TIP_6));
+                    tips.add(new TranslatableMessage(GENERAL_TIP_7));
+                    if (project.getLicenses().size() > ONE) {
+                        tips.add(new TranslatableMessage(GENERAL_TIP_8));
+                    }
+                }
             }
         }
+        return new RiskAnalysisResult(handledRiskType, riskExposure, riskImpact, languageConfig.getLanguage(), tally.getRootCauses(), warnings.freeze(), tally.getGoodThings(), tips.freeze());
     }
 
     @Override
@@ -261,58 +344,55 @@ public class RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses exten
             throw new IllegalArgumentException("languajeEvent cannot be null");
         }
         languageConfig.setLanguage(languageChangeEvent.getNewLanguage());
-        // reload resource bundles
-        spdxIdI18N = Translations.SUPPORTED_LICENSES_SPDX_ID.getResourceBundle(languageConfig.getLanguage().getLocale());
-        ownI18N = Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES.getResourceBundle(languageConfig.getLanguage().getLocale());
-        warningsI18N = Translations.COMPATIBILITY_WARNINGS.getResourceBundle(languageConfig.getLanguage().getLocale());
         fireLanguageChangeEvent();
     }
 
     private static final float TOTAL_COMPATIBILITY = 1.0f;
     private static final float NO_RISK = 0.0f;
+    private static final float NO_MAX_IMPACT = 0.0f;
     private static final int ONE = 1;
 
     // i18N Keys
-    private static final String ALTHOUGH = "ALTHOUGH";
-    private static final String TRY_TO_REPLACE = "TRY_TO_REPLACE";
-    private static final String CANNOT_BE_INCLUDED_IN = "CANNOT_BE_INCLUDED_IN";
-    private static final String IS_COMPATIBLE_WITH_BLAH = "IS_COMPATIBLE_WITH_BLAH";
-    private static final String AND_CAN_BE_INCLUDED_IN = "AND_CAN_BE_INCLUDED_IN";
-    private static final String IT_COULD_BE_SOURCE_OF_BLAH = "IT_COULD_BE_SOURCE_OF_BLAH";
-    private static final String BE_SURE_YOU_HAVE_WRITTEN_BLAH = "BE_SURE_YOU_HAVE_WRITTEN_BLAH";
-    private static final String TO_USE_IT_IN_BLAH = "TO_USE_IT_IN_BLAH";
-    private static final String BY_ANOTHER_COMPONENT_NATIVELY_BLAH = "BY_ANOTHER_COMPONENT_NATIVELY_BLAH";
-    private static final String THE_LICENSE_OF_THE_PROJECT_IS_UNKNOWN_AND_BLAH = "THE_LICENSE_OF_THE_PROJECT_IS_UNKNOWN_AND_BLAH";
-    private static final String IS_HANDLED_AS_INCOMPATIBLE_BLAH = "IS_HANDLED_AS_INCOMPATIBLE_BLAH";
-    private static final String BY_ANOTHER_COMPONENT_KNOWN_BLAH = "BY_ANOTHER_COMPONENT_KNOWN_BLAH";
-    private static final String TRY_TO_ASK_THE_BLAH = "TRY_TO_ASK_THE_BLAH";
-    private static final String TO_CLARIFY_THE_LICENSE_BLAH = "TO_CLARIFY_THE_LICENSE_BLAH";
-    private static final String OR_NOT = "OR_NOT";
-    private static final String IS_HANDLED_AS_INCOMPATIBLE_UNSUPPORTED_BLAH = "IS_HANDLED_AS_INCOMPATIBLE_UNSUPPORTED_BLAH";
-    private static final String WE_APOLOGIZE_BLAH = "WE_APOLOGIZE_BLAH";
-    private static final String OPENLRAE_DOES_NOT_SUPPORT = "OPENLRAE_DOES_NOT_SUPPORT";
-    private static final String BY_ANOTHER_COMPONENT_WITH_BLAH = "BY_ANOTHER_COMPONENT_WITH_BLAH";
-    private static final String UNTIL_A_DEEP_BLAH_1 = "UNTIL_A_DEEP_BLAH_1";
-    private static final String EXCEPT_UNDER_BLAH = "EXCEPT_UNDER_BLAH";
-    private static final String CARRY_OUT_A_DEEP_BLAH_1 = "CARRY_OUT_A_DEEP_BLAH_1";
-    private static final String IS_INCOMPATIBLE_WITH_BLAH = "IS_INCOMPATIBLE_WITH_BLAH";
-    private static final String BEFORE_USING_BLAH = "BEFORE_USING_BLAH";
-    private static final String BY_ANOTHER_COMPONENT_FULLY_BLAH = "BY_ANOTHER_COMPONENT_FULLY_BLAH";
-    private static final String CARRY_OUT_A_DEEP_BLAH_2 = "CARRY_OUT_A_DEEP_BLAH_2";
-    private static final String UNTIL_A_DEEP_BLAH_2 = "UNTIL_A_DEEP_BLAH_2";
-    private static final String TRY_TO_GET_BLAH = "TRY_TO_GET_BLAH";
-    private static final String BY_ANOTHER_COMPONENT_COMPATIBLE_BLAH = "BY_ANOTHER_COMPONENT_COMPATIBLE_BLAH";
-    private static final String THE_LICENSE_OF_THE_PROJECT_IS_INCOMPATIBLE_BLAH = "THE_LICENSE_OF_THE_PROJECT_IS_INCOMPATIBLE_BLAH";
-    private static final String IS_NATIVELY_BLAH = "IS_NATIVELY_BLAH";
-    private static final String IS_FORCED_TO_BLAH = "IS_FORCED_TO_BLAH";
-    private static final String YOUR_PROJECT_HAS_LEGAL_BLAH = "YOUR_PROJECT_HAS_LEGAL_BLAH";
-    private static final String GENERAL_TIP_1 = "GENERAL_TIP_1";
-    private static final String GENERAL_TIP_2 = "GENERAL_TIP_2";
-    private static final String GENERAL_TIP_3 = "GENERAL_TIP_3";
-    private static final String GENERAL_TIP_4 = "GENERAL_TIP_4";
-    private static final String GENERAL_TIP_5 = "GENERAL_TIP_5";
-    private static final String GENERAL_TIP_6 = "GENERAL_TIP_6";
-    private static final String GENERAL_TIP_7 = "GENERAL_TIP_7";
-    private static final String GENERAL_TIP_8 = "GENERAL_TIP_8";
+    private static final TranslationKey ALTHOUGH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "ALTHOUGH");
+    private static final TranslationKey TRY_TO_REPLACE = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "TRY_TO_REPLACE");
+    private static final TranslationKey CANNOT_BE_INCLUDED_IN = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "CANNOT_BE_INCLUDED_IN");
+    private static final TranslationKey IS_COMPATIBLE_WITH_BLAH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "IS_COMPATIBLE_WITH_BLAH");
+    private static final TranslationKey AND_CAN_BE_INCLUDED_IN = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "AND_CAN_BE_INCLUDED_IN");
+    private static final TranslationKey IT_COULD_BE_SOURCE_OF_BLAH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "IT_COULD_BE_SOURCE_OF_BLAH");
+    private static final TranslationKey BE_SURE_YOU_HAVE_WRITTEN_BLAH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "BE_SURE_YOU_HAVE_WRITTEN_BLAH");
+    private static final TranslationKey TO_USE_IT_IN_BLAH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "TO_USE_IT_IN_BLAH");
+    private static final TranslationKey BY_ANOTHER_COMPONENT_NATIVELY_BLAH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "BY_ANOTHER_COMPONENT_NATIVELY_BLAH");
+    private static final TranslationKey THE_LICENSE_OF_THE_PROJECT_IS_UNKNOWN_AND_BLAH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "THE_LICENSE_OF_THE_PROJECT_IS_UNKNOWN_AND_BLAH");
+    private static final TranslationKey IS_HANDLED_AS_INCOMPATIBLE_BLAH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "IS_HANDLED_AS_INCOMPATIBLE_BLAH");
+    private static final TranslationKey BY_ANOTHER_COMPONENT_KNOWN_BLAH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "BY_ANOTHER_COMPONENT_KNOWN_BLAH");
+    private static final TranslationKey TRY_TO_ASK_THE_BLAH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "TRY_TO_ASK_THE_BLAH");
+    private static final TranslationKey TO_CLARIFY_THE_LICENSE_BLAH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "TO_CLARIFY_THE_LICENSE_BLAH");
+    private static final TranslationKey OR_NOT = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "OR_NOT");
+    private static final TranslationKey IS_HANDLED_AS_INCOMPATIBLE_UNSUPPORTED_BLAH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "IS_HANDLED_AS_INCOMPATIBLE_UNSUPPORTED_BLAH");
+    private static final TranslationKey WE_APOLOGIZE_BLAH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "WE_APOLOGIZE_BLAH");
+    private static final TranslationKey OPENLRAE_DOES_NOT_SUPPORT = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "OPENLRAE_DOES_NOT_SUPPORT");
+    private static final TranslationKey BY_ANOTHER_COMPONENT_WITH_BLAH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "BY_ANOTHER_COMPONENT_WITH_BLAH");
+    private static final TranslationKey UNTIL_A_DEEP_BLAH_1 = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "UNTIL_A_DEEP_BLAH_1");
+    private static final TranslationKey EXCEPT_UNDER_BLAH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "EXCEPT_UNDER_BLAH");
+    private static final TranslationKey CARRY_OUT_A_DEEP_BLAH_1 = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "CARRY_OUT_A_DEEP_BLAH_1");
+    private static final TranslationKey IS_INCOMPATIBLE_WITH_BLAH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "IS_INCOMPATIBLE_WITH_BLAH");
+    private static final TranslationKey BEFORE_USING_BLAH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "BEFORE_USING_BLAH");
+    private static final TranslationKey BY_ANOTHER_COMPONENT_FULLY_BLAH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "BY_ANOTHER_COMPONENT_FULLY_BLAH");
+    private static final TranslationKey CARRY_OUT_A_DEEP_BLAH_2 = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "CARRY_OUT_A_DEEP_BLAH_2");
+    private static final TranslationKey UNTIL_A_DEEP_BLAH_2 = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "UNTIL_A_DEEP_BLAH_2");
+    private static final TranslationKey TRY_TO_GET_BLAH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "TRY_TO_GET_BLAH");
+    private static final TranslationKey BY_ANOTHER_COMPONENT_COMPATIBLE_BLAH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "BY_ANOTHER_COMPONENT_COMPATIBLE_BLAH");
+    private static final TranslationKey THE_LICENSE_OF_THE_PROJECT_IS_INCOMPATIBLE_BLAH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "THE_LICENSE_OF_THE_PROJECT_IS_INCOMPATIBLE_BLAH");
+    private static final TranslationKey IS_NATIVELY_BLAH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "IS_NATIVELY_BLAH");
+    private static final TranslationKey IS_FORCED_TO_BLAH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "IS_FORCED_TO_BLAH");
+    private static final TranslationKey YOUR_PROJECT_HAS_LEGAL_BLAH = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "YOUR_PROJECT_HAS_LEGAL_BLAH");
+    private static final TranslationKey GENERAL_TIP_1 = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "GENERAL_TIP_1");
+    private static final TranslationKey GENERAL_TIP_2 = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "GENERAL_TIP_2");
+    private static final TranslationKey GENERAL_TIP_3 = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "GENERAL_TIP_3");
+    private static final TranslationKey GENERAL_TIP_4 = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "GENERAL_TIP_4");
+    private static final TranslationKey GENERAL_TIP_5 = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "GENERAL_TIP_5");
+    private static final TranslationKey GENERAL_TIP_6 = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "GENERAL_TIP_6");
+    private static final TranslationKey GENERAL_TIP_7 = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "GENERAL_TIP_7");
+    private static final TranslationKey GENERAL_TIP_8 = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, "GENERAL_TIP_8");
 
 }
@@ -24,11 +24,17 @@ package com.manolodominguez.openlrae.analysis.riskanalysers;
 
 import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
 import com.manolodominguez.openlrae.arquitecture.Project;
-import com.manolodominguez.openlrae.arquitecture.ComponentBinding;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
 import com.manolodominguez.openlrae.i18n.LanguageChangeEvent;
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
+import com.manolodominguez.openlrae.i18n.TranslationKey;
 import com.manolodominguez.openlrae.i18n.Translations;
-import java.util.ResourceBundle;
+import com.manolodominguez.openlrae.analysis.MessageBuffer;
+import com.manolodominguez.openlrae.analysis.ComponentBindingContribution;
+import com.manolodominguez.openlrae.analysis.ComponentBindingsFacts;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisContext;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisResult;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisTally;
 import org.slf4j.LoggerFactory;
 
 /**
@@ -61,9 +67,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
  */
-public class RiskAnalyserComponentsLicensesMisalignedFromProjectLicenses extends AbstractRiskAnalyser {
-
-    private ResourceBundle spdxIdI18N;
+public class RiskAnalyserComponentsLicensesMisalignedFromProjectLicenses extends AbstractIncrementalRiskAnalyser {
 
     /**
      * This is the constructor of the class. It creates a new instance of
@@ -75,44 +79,95 @@ public class RiskAnalyserComponentsLicensesMisalignedFromProjectLicenses extends
         // Project is ckecked at superclass
         super(project, SupportedRisks.HAVING_COMPONENTS_LICENSES_MISALIGNED_FROM_PROJECT_LICENSES);
         logger = LoggerFactory.getLogger(RiskAnalyserComponentsLicensesMisalignedFromProjectLicenses.class);
-        ownI18N = Translations.RISK_ANALYSER_COMPONENTS_LICENSES_MISALIGNED_FROM_PROJECT_LICENSES.getResourceBundle(languageConfig.getLanguage().getLocale());
-        spdxIdI18N = Translations.SUPPORTED_LICENSES_SPDX_ID.getResourceBundle(languageConfig.getLanguage().getLocale());
     }
 
     /**
-     * This method analyses the bill of components looking for risk of using
-     * components with licenses not equal than the project licenses.
+     * This is the constructor of the class. It creates a new instance of
+     * RiskAnalyserComponentsLicensesMisalignedFromProjectLicenses that is not
+     * bound to any project, so the same instance can analyse any number of
+     * projects, even concurrently, through
+     * getRiskAnalisysResult(RiskAnalysisContext).
+     */
+    public RiskAnalyserComponentsLicensesMisalignedFromProjectLicenses() {
+        super(SupportedRisks.HAVING_COMPONENTS_LICENSES_MISALIGNED_FROM_PROJECT_LICENSES);
+        logger = LoggerFactory.getLogger(RiskAnalyserComponentsLicensesMisalignedFromProjectLicenses.class);
+    }
+
+    /**
+     * This method computes the contribution of a component binding to the risk
+     * of having component licenses misaligned from the project licenses.
+     *
+     * @param facts The facts of the component bindings.
+     * @param componentBindingIndex The index of the component binding in the
+     * facts.
+     * @param context The context of the run: the project to be analysed and
+     * the licenses knowledge base to be used.
+     * @return the contribution of the component binding.
      */
     @Override
-    public void runAnalyser() {
-        int totalCases = project.getBillOfComponentBindings().size() * project.getLicenses().size();
+    protected ComponentBindingContribution getContributionOf(ComponentBindingsFacts facts, int componentBindingIndex, RiskAnalysisContext context) {
+        Project project = context.getProject();
+        float riskExposure = DEFAULT_EXPOSURE_LEVEL;
+        float riskImpact = DEFAULT_IMPACT_LEVEL;
+        MessageBuffer rootCauses = createMessages(context);
+        MessageBuffer warnings = createMessages(context);
+        MessageBuffer goodThings = createMessages(context);
+        MessageBuffer tips = createTips(context);
+        boolean collectingMessages = context.isCollectingMessages();
+        boolean collectingTips = context.isCollectingTips();
         float maxImpact = INITIAL_MAXIMPACT;
-
-        for (ComponentBinding componentBinding : project.getBillOfComponentBindings()) {
-            for (SupportedLicenses projectLicense : project.getLicenses()) {
-                maxImpact += componentBinding.getWeight().getWeightValue();
-                if (componentBinding.getComponent().getLicense() == projectLicense) {
-                    goodThings.add(componentBinding.getFullName() + ", " + ownI18N.getString(USES_THE_SAME_LICENSE_AS) + " " + project.getFullName());
-                } else {
-                    riskImpact += componentBinding.getWeight().getWeightValue();
-                    riskExposure++;
-                    rootCauses.add(componentBinding.getFullName() + ", " + ownI18N.getString(USES_A_LICENSE_THAT_IS_DIFFERENT_THAN) + " " + spdxIdI18N.getString(projectLicense.toString()) + ", " + ownI18N.getString(THAT_IS_USED_BY) + " " + project.getFullName());
-                    tips.add(ownI18N.getString(TRY_TO_REPLACE) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(BY_ANOTHER_COMPONENT_RELEASED_UNDER) + " " + spdxIdI18N.getString(projectLicense.toString()) + ", " + ownI18N.getString(THAT_IS_USED_BY) + " " + project.getFullName());
+        for (SupportedLicenses projectLicense : project.getLicenses()) {
+            maxImpact += facts.getWeightValue(componentBindingIndex);
+            if (facts.getLicense(componentBindingIndex) == projectLicense) {
+                if (collectingMessages) {
+                    goodThings.add(new TranslatableMessage(facts.getFullNameMessage(componentBindingIndex), ", ", USES_THE_SAME_LICENSE_AS, " ", project.getFullNameMessage()));
+                }
+            } else {
+                riskImpact += facts.getWeightValue(componentBindingIndex);
+                riskExposure++;
+                if (collectingMessages) {
+                    rootCauses.add(new TranslatableMessage(facts.getFullNameMessage(componentBindingIndex), ", ", USES_A_LICENSE_THAT_IS_DIFFERENT_THAN, " ", projectLicense, ", ", THAT_IS_USED_BY, " ", project.getFullNameMessage()));
+                    if (collectingTips) {
+                        tips.add(new TranslatableMessage(TRY_TO_REPLACE, " ", facts.getFullNameMessage(componentBindingIndex), ", ", BY_ANOTHER_COMPONENT_RELEASED_UNDER, " ", projectLicense, ", ", THAT_IS_USED_BY, " ", project.getFullNameMessage()));
+                    }
                 }
             }
         }
+        return new ComponentBindingContribution(facts, componentBindingIndex, riskExposure, riskImpact, maxImpact, rootCauses.freeze(), warnings.freeze(), goodThings.freeze(), tips.freeze());
+    }
 
-        riskExposure /= (float) totalCases;
-        riskImpact /= maxImpact;
+    /**
+     * This method computes the risk of having component licenses misaligned from the project licenses from the
+     * running sums of the contributions of the whole bill of components.
+     *
+     * @param tally The tally of the project of the context.
+     * @param context The context of the run: the project to be analysed and
+     * the licenses knowledge base to be used.
+     * @return the result of running the risk analysis.
+     */
+    @Override
+    protected RiskAnalysisResult getResultOf(RiskAnalysisTally tally, RiskAnalysisContext context) {
+        Project project = context.getProject();
+        MessageBuffer warnings = createMessages(context);
+        warnings.addAll(tally.getWarnings());
+        MessageBuffer tips = createTips(context);
+        tips.addAll(tally.getTips());
+        boolean collectingTips = context.isCollectingTips();
+        int totalCases = tally.getNumberOfComponentBindings() * project.getLicenses().size();
+        float riskExposure = toRatio(tally.getRiskExposure() / (float) totalCases);
+        float riskImpact = toRatio(tally.getRiskImpact() / tally.getMaxImpact());
         if (riskExposure > NO_RISK) {
-            tips.add(ownI18N.getString(GENERAL_TIP_1));
-            tips.add(ownI18N.getString(GENERAL_TIP_2));
-            tips.add(ownI18N.getString(GENERAL_TIP_3));
-            tips.add(ownI18N.getString(GENERAL_TIP_4));
-            if (project.getLicenses().size() > ONE) {
-                tips.add(ownI18N.getString(GENERAL_TIP_5));
+            if (collectingTips) {
+                tips.add(new TranslatableMessage(GENERAL_TIP_1));
+                tips.add(new TranslatableMessage(GENERAL_TIP_2));
+                tips.add(new TranslatableMessage(GENERAL_TIP_3));
+                tips.add(new TranslatableMessage(GENERAL_TIP_4));
+                if (project.getLicenses().size() > ONE) {
+                    tips.add(new TranslatableMessage(GENERAL_TIP_5));
+                }
             }
         }
+        return new RiskAnalysisResult(handledRiskType, riskExposure, riskImpact, languageConfig.getLanguage(), tally.getRootCauses(), warnings.freeze(), tally.getGoodThings(), tips.freeze());
     }
 
     @Override
@@ -122,9 +177,6 @@ public class RiskAnalyserComponentsLicensesMisalignedFromProjectLicenses extends
             throw new IllegalArgumentException("languajeEvent cannot be null");
         }
         languageConfig.setLanguage(languageChangeEvent.getNewLanguage());
-        // reload resource bundles
-        ownI18N = Translations.RISK_ANALYSER_COMPONENTS_LICENSES_MISALIGNED_FROM_PROJECT_LICENSES.getResourceBundle(languageConfig.getLanguage().getLocale());
-        spdxIdI18N = Translations.SUPPORTED_LICENSES_SPDX_ID.getResourceBundle(languageConfig.getLanguage().getLocale());
         fireLanguageChangeEvent();
     }
 
@@ -133,15 +185,15 @@ public class RiskAnalyserComponentsLicensesMisalignedFromProjectLicenses extends
     private static final int ONE = 1;
 
     // i18N Keys
-    private static final String USES_THE_SAME_LICENSE_AS = "USES_THE_SAME_LICENSE_AS";
-    private static final String USES_A_LICENSE_THAT_IS_DIFFERENT_THAN = "USES_A_LICENSE_THAT_IS_DIFFERENT_THAN";
-    private static final String THAT_IS_USED_BY = "THAT_IS_USED_BY";
-    private static final String TRY_TO_REPLACE = "TRY_TO_REPLACE";
-    private static final String BY_ANOTHER_COMPONENT_RELEASED_UNDER = "BY_ANOTHER_COMPONENT_RELEASED_UNDER";
-    private static final String GENERAL_TIP_1 = "GENERAL_TIP_1";
-    private static final String GENERAL_TIP_2 = "GENERAL_TIP_2";
-    private static final String GENERAL_TIP_3 = "GENERAL_TIP_3";
-    private static final String GENERAL_TIP_4 = "GENERAL_TIP_4";
-    private static final String GENERAL_TIP_5 = "GENERAL_TIP_5";
+    private static final TranslationKey USES_THE_SAME_LICENSE_AS = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_MISALIGNED_FROM_PROJECT_LICENSES, "USES_THE_SAME_LICENSE_AS");
+    private static final TranslationKey USES_A_LICENSE_THAT_IS_DIFFERENT_THAN = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_MISALIGNED_FROM_PROJECT_LICENSES, "USES_A_LICENSE_THAT_IS_DIFFERENT_THAN");
+    private static final TranslationKey THAT_IS_USED_BY = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_MISALIGNED_FROM_PROJECT_LICENSES, "THAT_IS_USED_BY");
+    private static final TranslationKey TRY_TO_REPLACE = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_MISALIGNED_FROM_PROJECT_LICENSES, "TRY_TO_REPLACE");
+    private static final TranslationKey BY_ANOTHER_COMPONENT_RELEASED_UNDER = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_MISALIGNED_FROM_PROJECT_LICENSES, "BY_ANOTHER_COMPONENT_RELEASED_UNDER");
+    private static final TranslationKey GENERAL_TIP_1 = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_MISALIGNED_FROM_PROJECT_LICENSES, "GENERAL_TIP_1");
+    private static final TranslationKey GENERAL_TIP_2 = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_MISALIGNED_FROM_PROJECT_LICENSES, "GENERAL_TIP_2");
+    private static final TranslationKey GENERAL_TIP_3 = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_MISALIGNED_FROM_PROJECT_LICENSES, "GENERAL_TIP_3");
+    private static final TranslationKey GENERAL_TIP_4 = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_MISALIGNED_FROM_PROJECT_LICENSES, "GENERAL_TIP_4");
+    private static final TranslationKey GENERAL_TIP_5 = new TranslationKey(Translations.RISK_ANALYSER_COMPONENTS_LICENSES_MISALIGNED_FROM_PROJECT_LICENSES, "GENERAL_TIP_5");
 
 }
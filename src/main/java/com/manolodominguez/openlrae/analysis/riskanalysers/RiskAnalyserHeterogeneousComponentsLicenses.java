@@ -24,12 +24,19 @@ package com.manolodominguez.openlrae.analysis.riskanalysers;
 
 import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
 import com.manolodominguez.openlrae.arquitecture.Project;
-import com.manolodominguez.openlrae.arquitecture.ComponentBinding;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
 import com.manolodominguez.openlrae.i18n.LanguageChangeEvent;
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
+import com.manolodominguez.openlrae.i18n.TranslationKey;
 import com.manolodominguez.openlrae.i18n.Translations;
 import java.util.EnumMap;
-import java.util.ResourceBundle;
+import com.manolodominguez.openlrae.analysis.MessageBuffer;
+import com.manolodominguez.openlrae.analysis.ComponentBindingContribution;
+import com.manolodominguez.openlrae.analysis.ComponentBindingsFacts;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisContext;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisResult;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisTally;
+import java.util.ArrayList;
 import org.slf4j.LoggerFactory;
 
 /**
@@ -70,11 +77,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
  */
-public class RiskAnalyserHeterogeneousComponentsLicenses extends AbstractRiskAnalyser {
-
-    private EnumMap<SupportedLicenses, Integer> licensesByFrequency;
-    private EnumMap<SupportedLicenses, Float> licensesByWeight;
-    private ResourceBundle spdxIdI18N;
+public class RiskAnalyserHeterogeneousComponentsLicenses extends AbstractIncrementalRiskAnalyser {
 
     /**
      * This is the constructor of the class. It creates a new instance of
@@ -86,42 +89,72 @@ public class RiskAnalyserHeterogeneousComponentsLicenses extends AbstractRiskAna
         // Project is ckecked at superclass
         super(project, SupportedRisks.HAVING_HETEROGENEOUS_COMPONENTS_LICENSES);
         logger = LoggerFactory.getLogger(RiskAnalyserHeterogeneousComponentsLicenses.class);
-        licensesByFrequency = new EnumMap<>(SupportedLicenses.class);
-        licensesByWeight = new EnumMap<>(SupportedLicenses.class);
-        for (SupportedLicenses suportedLicense : SupportedLicenses.getLicensesForComponents()) {
-            licensesByFrequency.put(suportedLicense, ZERO);
-            licensesByWeight.put(suportedLicense, INITIAL_WEIGHT);
-        }
-        spdxIdI18N = Translations.SUPPORTED_LICENSES_SPDX_ID.getResourceBundle(languageConfig.getLanguage().getLocale());
-        ownI18N = Translations.RISK_ANALYSER_HETEROGENEOUS_COMPONENTS_LICENSES.getResourceBundle(languageConfig.getLanguage().getLocale());
+    }
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * RiskAnalyserHeterogeneousComponentsLicenses that is not bound to any
+     * project, so the same instance can analyse any number of projects, even
+     * concurrently, through getRiskAnalisysResult(RiskAnalysisContext).
+     */
+    public RiskAnalyserHeterogeneousComponentsLicenses() {
+        super(SupportedRisks.HAVING_HETEROGENEOUS_COMPONENTS_LICENSES);
+        logger = LoggerFactory.getLogger(RiskAnalyserHeterogeneousComponentsLicenses.class);
+    }
+
+    /**
+     * This method computes the contribution of a component binding to the risk
+     * of using components with heterogeneous licenses. As the main license
+     * depends on the whole bill of components, the contribution only feeds
+     * the running frequency and weight of each license and the maximum
+     * impact.
+     *
+     * @param facts The facts of the component bindings.
+     * @param componentBindingIndex The index of the component binding in the
+     * facts.
+     * @param context The context of the run: the project to be analysed and
+     * the licenses knowledge base to be used.
+     * @return the contribution of the component binding.
+     */
+    @Override
+    protected ComponentBindingContribution getContributionOf(ComponentBindingsFacts facts, int componentBindingIndex, RiskAnalysisContext context) {
+        return new ComponentBindingContribution(facts, componentBindingIndex, DEFAULT_EXPOSURE_LEVEL, DEFAULT_IMPACT_LEVEL, facts.getWeightValue(componentBindingIndex), new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
     }
 
     /**
      * This method analyses the bill of components looking for risk of using
-     * components with licenses not equal than the project licenses.
+     * components with licenses not equal than the project licenses. The main
+     * license is chosen from the running frequency and weight of each license.
+     *
+     * @param tally The tally of the project of the context.
+     * @param context The context of the run: the project to be analysed and
+     * the licenses knowledge base to be used.
+     * @return the result of running the risk analysis.
      */
     @Override
-    public void runAnalyser() {
-        // Initialize auxiliary values
-        licensesByFrequency.clear();
-        licensesByWeight.clear();
+    protected RiskAnalysisResult getResultOf(RiskAnalysisTally tally, RiskAnalysisContext context) {
+        float riskExposure = DEFAULT_EXPOSURE_LEVEL;
+        float riskImpact = DEFAULT_IMPACT_LEVEL;
+        MessageBuffer rootCauses = createMessages(context);
+        MessageBuffer warnings = createMessages(context);
+        MessageBuffer goodThings = createMessages(context);
+        MessageBuffer tips = createTips(context);
+        boolean collectingMessages = context.isCollectingMessages();
+        boolean collectingTips = context.isCollectingTips();
+        // Initialize auxiliary values from the running frequency and weight of
+        // each license
+        EnumMap<SupportedLicenses, Integer> licensesByFrequency = new EnumMap<>(SupportedLicenses.class);
+        EnumMap<SupportedLicenses, Float> licensesByWeight = new EnumMap<>(SupportedLicenses.class);
         for (SupportedLicenses suportedLicense : SupportedLicenses.getLicensesForComponents()) {
-            licensesByFrequency.put(suportedLicense, ZERO);
-            licensesByWeight.put(suportedLicense, INITIAL_WEIGHT);
+            licensesByFrequency.put(suportedLicense, tally.getLicenseFrequency(suportedLicense));
+            licensesByWeight.put(suportedLicense, tally.getLicenseWeight(suportedLicense));
         }
         float highestWeight = INITIAL_WEIGHT;
         int highestFrequency = ZERO;
         // Initialize reference values
         SupportedLicenses mainLicense;
         int totalCases = ZERO;
-        float maxImpact = INITIAL_MAXIMPACT;
 
-        // Classify components by license and by wheight and compute max impact
-        for (ComponentBinding componentBinding : project.getBillOfComponentBindings()) {
-            maxImpact += componentBinding.getWeight().getWeightValue();
-            licensesByFrequency.put(componentBinding.getComponent().getLicense(), licensesByFrequency.get(componentBinding.getComponent().getLicense()) + ONE);
-            licensesByWeight.put(componentBinding.getComponent().getLicense(), licensesByWeight.get(componentBinding.getComponent().getLicense()) + componentBinding.getWeight().getWeightValue());
-        }
         // Look for those license with the highest weight in the bill of 
         // components. Also, it computes the number of different licenses in
         // the bill of components
@@ -154,27 +187,39 @@ public class RiskAnalyserHeterogeneousComponentsLicenses extends AbstractRiskAna
         // necessary.
         mainLicense = licensesByFrequency.keySet().toArray(new SupportedLicenses[ZERO])[ZERO];
         // Analysis can start
-        for (ComponentBinding componentBinding : project.getBillOfComponentBindings()) {
-            if (componentBinding.getComponent().getLicense() == mainLicense) {
-                goodThings.add(componentBinding.getFullName() + ", " + ownI18N.getString(USES_THE_MOST_BLAH));
+        for (ComponentBindingContribution contribution : tally.getContributions()) {
+            context.checkNotCancelled();
+            if (contribution.getLicense() == mainLicense) {
+                if (collectingMessages) {
+                    goodThings.add(new TranslatableMessage(contribution.getFullNameMessage(), ", ", USES_THE_MOST_BLAH));
+                }
             } else {
                 riskExposure++;
-                riskImpact += componentBinding.getWeight().getWeightValue();
-                rootCauses.add(componentBinding.getFullName() + ", " + ownI18N.getString(USES_A_LICENSE_DIFFERENT_BLAH) + " (" + spdxIdI18N.getString(mainLicense.toString()) + ")");
-                tips.add(ownI18N.getString(TRY_TO_REPLACE) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(BY_ANOTHER_COMPONENT_BLAH) + " " + spdxIdI18N.getString(mainLicense.toString()) + ", " + ownI18N.getString(TO_REDUCE_BLAH));
+                riskImpact += contribution.getWeightValue();
+                if (collectingMessages) {
+                    rootCauses.add(new TranslatableMessage(contribution.getFullNameMessage(), ", ", USES_A_LICENSE_DIFFERENT_BLAH, " (", mainLicense, ")"));
+                    if (collectingTips) {
+                        tips.add(new TranslatableMessage(TRY_TO_REPLACE, " ", contribution.getFullNameMessage(), ", ", BY_ANOTHER_COMPONENT_BLAH, " ", mainLicense, ", ", TO_REDUCE_BLAH));
+                    }
+                }
             }
         }
 
-        riskExposure /= (float) totalCases;
-        riskImpact /= maxImpact;
+        riskExposure = toRatio(riskExposure / (float) totalCases);
+        riskImpact = toRatio(riskImpact / tally.getMaxImpact());
         if (riskExposure > NO_RISK) {
-            warnings.add(ownI18N.getString(ALTHOUGH_THERE_ARE) + " " + totalCases + " " + ownI18N.getString(DIFFERENT_LICENSES_BLAH) + ", " + spdxIdI18N.getString(mainLicense.toString()) + " " + ownI18N.getString(HAS_BEEN_CHOSEN_BLAH) + " " + (totalCases - ONE) + " " + ownI18N.getString(LICENSES_AS_THE_MAIN_BLAH));
-            rootCauses.add(ownI18N.getString(THE_PROJECT_BILL_BLAH) + " " + totalCases + " " + ownI18N.getString(DIFFERENT_LICENSES_THIS_BLAH));
-            tips.add(ownI18N.getString(GENERAL_TIP_1));
-            tips.add(ownI18N.getString(GENERAL_TIP_2));
-            tips.add(ownI18N.getString(GENERAL_TIP_3));
-            tips.add(ownI18N.getString(GENERAL_TIP_4));
+            if (collectingMessages) {
+                warnings.add(new TranslatableMessage(ALTHOUGH_THERE_ARE, " ", totalCases, " ", DIFFERENT_LICENSES_BLAH, ", ", mainLicense, " ", HAS_BEEN_CHOSEN_BLAH, " ", (totalCases - ONE), " ", LICENSES_AS_THE_MAIN_BLAH));
+                rootCauses.add(new TranslatableMessage(THE_PROJECT_BILL_BLAH, " ", totalCases, " ", DIFFERENT_LICENSES_THIS_BLAH));
+                if (collectingTips) {
+                    tips.add(new TranslatableMessage(GENERAL_TIP_1));
+                    tips.add(new TranslatableMessage(GENERAL_TIP_2));
+                    tips.add(new TranslatableMessage(GENERAL_TIP_3));
+                    tips.add(new TranslatableMessage(GENERAL_TIP_4));
+                }
+            }
         }
+        return new RiskAnalysisResult(handledRiskType, riskExposure, riskImpact, languageConfig.getLanguage(), rootCauses.freeze(), warnings.freeze(), goodThings.freeze(), tips.freeze());
     }
 
     @Override
@@ -184,33 +229,29 @@ public class RiskAnalyserHeterogeneousComponentsLicenses extends AbstractRiskAna
             throw new IllegalArgumentException("languajeEvent cannot be null");
         }
         languageConfig.setLanguage(languageChangeEvent.getNewLanguage());
-        // reload resource bundles
-        spdxIdI18N = Translations.SUPPORTED_LICENSES_SPDX_ID.getResourceBundle(languageConfig.getLanguage().getLocale());
-        ownI18N = Translations.RISK_ANALYSER_HETEROGENEOUS_COMPONENTS_LICENSES.getResourceBundle(languageConfig.getLanguage().getLocale());
         fireLanguageChangeEvent();
     }
 
     private static final float NO_RISK = 0.0f;
-    private static final float INITIAL_MAXIMPACT = 0.0f;
     private static final float INITIAL_WEIGHT = 0.0f;
     private static final int ZERO = 0;
     private static final int ONE = 1;
 
     // i18N Keys
-    private static final String USES_THE_MOST_BLAH = "USES_THE_MOST_BLAH";
-    private static final String USES_A_LICENSE_DIFFERENT_BLAH = "USES_A_LICENSE_DIFFERENT_BLAH";
-    private static final String TRY_TO_REPLACE = "TRY_TO_REPLACE";
-    private static final String BY_ANOTHER_COMPONENT_BLAH = "BY_ANOTHER_COMPONENT_BLAH";
-    private static final String TO_REDUCE_BLAH = "TO_REDUCE_BLAH";
-    private static final String ALTHOUGH_THERE_ARE = "ALTHOUGH_THERE_ARE";
-    private static final String DIFFERENT_LICENSES_BLAH = "DIFFERENT_LICENSES_BLAH";
-    private static final String HAS_BEEN_CHOSEN_BLAH = "HAS_BEEN_CHOSEN_BLAH";
-    private static final String LICENSES_AS_THE_MAIN_BLAH = "LICENSES_AS_THE_MAIN_BLAH";
-    private static final String THE_PROJECT_BILL_BLAH = "THE_PROJECT_BILL_BLAH";
-    private static final String DIFFERENT_LICENSES_THIS_BLAH = "DIFFERENT_LICENSES_THIS_BLAH";
-    private static final String GENERAL_TIP_1 = "GENERAL_TIP_1";
-    private static final String GENERAL_TIP_2 = "GENERAL_TIP_2";
-    private static final String GENERAL_TIP_3 = "GENERAL_TIP_3";
-    private static final String GENERAL_TIP_4 = "GENERAL_TIP_4";
+    private static final TranslationKey USES_THE_MOST_BLAH = new TranslationKey(Translations.RISK_ANALYSER_HETEROGENEOUS_COMPONENTS_LICENSES, "USES_THE_MOST_BLAH");
+    private static final TranslationKey USES_A_LICENSE_DIFFERENT_BLAH = new TranslationKey(Translations.RISK_ANALYSER_HETEROGENEOUS_COMPONENTS_LICENSES, "USES_A_LICENSE_DIFFERENT_BLAH");
+    private static final TranslationKey TRY_TO_REPLACE = new TranslationKey(Translations.RISK_ANALYSER_HETEROGENEOUS_COMPONENTS_LICENSES, "TRY_TO_REPLACE");
+    private static final TranslationKey BY_ANOTHER_COMPONENT_BLAH = new TranslationKey(Translations.RISK_ANALYSER_HETEROGENEOUS_COMPONENTS_LICENSES, "BY_ANOTHER_COMPONENT_BLAH");
+    private static final TranslationKey TO_REDUCE_BLAH = new TranslationKey(Translations.RISK_ANALYSER_HETEROGENEOUS_COMPONENTS_LICENSES, "TO_REDUCE_BLAH");
+    private static final TranslationKey ALTHOUGH_THERE_ARE = new TranslationKey(Translations.RISK_ANALYSER_HETEROGENEOUS_COMPONENTS_LICENSES, "ALTHOUGH_THERE_ARE");
+    private static final TranslationKey DIFFERENT_LICENSES_BLAH = new TranslationKey(Translations.RISK_ANALYSER_HETEROGENEOUS_COMPONENTS_LICENSES, "DIFFERENT_LICENSES_BLAH");
+    private static final TranslationKey HAS_BEEN_CHOSEN_BLAH = new TranslationKey(Translations.RISK_ANALYSER_HETEROGENEOUS_COMPONENTS_LICENSES, "HAS_BEEN_CHOSEN_BLAH");
+    private static final TranslationKey LICENSES_AS_THE_MAIN_BLAH = new TranslationKey(Translations.RISK_ANALYSER_HETEROGENEOUS_COMPONENTS_LICENSES, "LICENSES_AS_THE_MAIN_BLAH");
+    private static final TranslationKey THE_PROJECT_BILL_BLAH = new TranslationKey(Translations.RISK_ANALYSER_HETEROGENEOUS_COMPONENTS_LICENSES, "THE_PROJECT_BILL_BLAH");
+    private static final TranslationKey DIFFERENT_LICENSES_THIS_BLAH = new TranslationKey(Translations.RISK_ANALYSER_HETEROGENEOUS_COMPONENTS_LICENSES, "DIFFERENT_LICENSES_THIS_BLAH");
+    private static final TranslationKey GENERAL_TIP_1 = new TranslationKey(Translations.RISK_ANALYSER_HETEROGENEOUS_COMPONENTS_LICENSES, "GENERAL_TIP_1");
+    private static final TranslationKey GENERAL_TIP_2 = new TranslationKey(Translations.RISK_ANALYSER_HETEROGENEOUS_COMPONENTS_LICENSES, "GENERAL_TIP_2");
+    private static final TranslationKey GENERAL_TIP_3 = new TranslationKey(Translations.RISK_ANALYSER_HETEROGENEOUS_COMPONENTS_LICENSES, "GENERAL_TIP_3");
+    private static final TranslationKey GENERAL_TIP_4 = new TranslationKey(Translations.RISK_ANALYSER_HETEROGENEOUS_COMPONENTS_LICENSES, "GENERAL_TIP_4");
 
 }
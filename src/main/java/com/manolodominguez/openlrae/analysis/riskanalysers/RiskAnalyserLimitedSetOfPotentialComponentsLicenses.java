@@ -22,22 +22,23 @@
  */
 package com.manolodominguez.openlrae.analysis.riskanalysers;
 
-import com.manolodominguez.openlrae.arquitecture.Component;
-import com.manolodominguez.openlrae.arquitecture.ComponentBinding;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedCompatibilities;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
 import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilityFactory;
 import com.manolodominguez.openlrae.arquitecture.Project;
-import com.manolodominguez.openlrae.bok.basevalues.SupportedComponentWeights;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
 import com.manolodominguez.openlrae.i18n.LanguageChangeEvent;
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
+import com.manolodominguez.openlrae.i18n.TranslationKey;
 import com.manolodominguez.openlrae.i18n.Translations;
 import java.util.Collections;
 import java.util.EnumMap;
 import java.util.EnumSet;
-import java.util.ResourceBundle;
 import java.util.Set;
+import com.manolodominguez.openlrae.analysis.MessageBuffer;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisContext;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisResult;
 import org.slf4j.LoggerFactory;
 
 /**
@@ -72,9 +73,6 @@ import org.slf4j.LoggerFactory;
  */
 public class RiskAnalyserLimitedSetOfPotentialComponentsLicenses extends AbstractRiskAnalyser {
 
-    private EnumMap<SupportedCompatibilities, Integer> compatibilityCounter;
-    private ResourceBundle spdxIdI18N;
-
     /**
      * This is the constructor of the class. It creates a new instance of
      * RiskAnalyserLimitedSetOfPotentialComponentsLicenses.
@@ -85,9 +83,17 @@ public class RiskAnalyserLimitedSetOfPotentialComponentsLicenses extends Abstrac
         // Project is ckecked at superclass
         super(project, SupportedRisks.HAVING_A_LIMITED_SET_OF_POTENTIAL_COMPONENTS_LICENSES);
         logger = LoggerFactory.getLogger(RiskAnalyserLimitedSetOfPotentialComponentsLicenses.class);
-        compatibilityCounter = new EnumMap<>(SupportedCompatibilities.class);
-        spdxIdI18N = Translations.SUPPORTED_LICENSES_SPDX_ID.getResourceBundle(languageConfig.getLanguage().getLocale());
-        ownI18N = Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES.getResourceBundle(languageConfig.getLanguage().getLocale());
+    }
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * RiskAnalyserLimitedSetOfPotentialComponentsLicenses that is not bound to
+     * any project, so the same instance can analyse any number of projects, even
+     * concurrently, through getRiskAnalisysResult(RiskAnalysisContext).
+     */
+    public RiskAnalyserLimitedSetOfPotentialComponentsLicenses() {
+        super(SupportedRisks.HAVING_A_LIMITED_SET_OF_POTENTIAL_COMPONENTS_LICENSES);
+        logger = LoggerFactory.getLogger(RiskAnalyserLimitedSetOfPotentialComponentsLicenses.class);
     }
 
     /**
@@ -96,27 +102,48 @@ public class RiskAnalyserLimitedSetOfPotentialComponentsLicenses extends Abstrac
      * linking type (those Supported by OpenLRAE, also) and the set of project
      * licenses, looking for risk of having a reduced set of potential component
      * licenses to choose.
+     *
+     * @param context The context of the run: the project to be analysed and
+     * the licenses knowledge base to be used.
+     * @return the result of running the risk analysis.
      */
     @Override
-    public void runAnalyser() {
-        compatibilityCounter.clear();
+    public RiskAnalysisResult runAnalyser(RiskAnalysisContext context) {
+        Project project = context.getProject();
+        float riskExposure = DEFAULT_EXPOSURE_LEVEL;
+        float riskImpact = DEFAULT_IMPACT_LEVEL;
+        MessageBuffer rootCauses = createMessages(context);
+        MessageBuffer warnings = createMessages(context);
+        MessageBuffer goodThings = createMessages(context);
+        MessageBuffer tips = createTips(context);
+        boolean collectingMessages = context.isCollectingMessages();
+        boolean collectingTips = context.isCollectingTips();
+        EnumMap<SupportedCompatibilities, Integer> compatibilityCounter = new EnumMap<>(SupportedCompatibilities.class);
         SupportedCompatibilities compatibility;
         Set<SupportedLicenses> allPotentialComponentsLicenses;
-        Component dummyComponent;
-        ComponentBinding dummyComponentBinding;
+        TranslatableMessage dummyComponentName;
+        TranslatableMessage dummyComponentFullName;
         allPotentialComponentsLicenses = Collections.synchronizedSet(EnumSet.allOf(SupportedLicenses.class));
         // Each potential component licenses has to be checked against all
         // project licenses and linking types. Having more than one project 
         // license requires that components licenses are compatible with all of 
         // them.
         int totalCases = allPotentialComponentsLicenses.size() * SupportedLinks.values().length * project.getLicenses().size();
-        LicensesCompatibilityFactory licensesCompatibilities = LicensesCompatibilityFactory.getInstance();
+        LicensesCompatibilityFactory licensesCompatibilities = context.getLicensesKnowledgeBase().getLicensesCompatibilityFactory();
         for (SupportedLicenses potentialComponentLicense : allPotentialComponentsLicenses) {
+            context.checkNotCancelled();
             for (SupportedLinks potentialLink : SupportedLinks.values()) {
-                dummyComponent = new Component(ownI18N.getString(COMPONENT_WITH_LICENSE), "-------", potentialComponentLicense);
-                dummyComponentBinding = new ComponentBinding(dummyComponent, potentialLink, SupportedComponentWeights.HIGH);
-                dummyComponentBinding.onLanguageChange(new LanguageChangeEvent(project, languageConfig.getLanguage()));
-                for (SupportedLicenses projectLicense : this.project.getLicenses()) {
+                // The ficticious component is only named in messages, so its
+                // name is kept as a message to be translated when read and it
+                // is not built at all when no message is being collected.
+                if (collectingMessages) {
+                    dummyComponentName = new TranslatableMessage(COMPONENT_WITH_LICENSE, " (", potentialComponentLicense, "), ", potentialLink);
+                    dummyComponentFullName = new TranslatableMessage(COMPONENT_WITH_LICENSE, "-", DUMMY_COMPONENT_VERSION, " (", potentialComponentLicense, "), ", potentialLink);
+                } else {
+                    dummyComponentName = null;
+                    dummyComponentFullName = null;
+                }
+                for (SupportedLicenses projectLicense : project.getLicenses()) {
                     compatibility = licensesCompatibilities.getCompatibilityOf(potentialComponentLicense, projectLicense, potentialLink, project.getRedistribution());
                     if (compatibilityCounter.containsKey(compatibility)) {
                         compatibilityCounter.put(compatibility, compatibilityCounter.get(compatibility) + ONE);
@@ -154,7 +181,9 @@ public class RiskAnalyserLimitedSetOfPotentialComponentsLicenses extends Abstrac
                             // at the exit of this loop to avoid repeating the 
                             // same tips, warnings, root causes... for each 
                             // project license.
-                            warnings.add(ownI18N.getString(ALTHOUGH_A) + " " + dummyComponentBinding.getFullNameForDummyComponent() + ", " + ownI18N.getString(COULD_BE_INCLUDED_IN) + " " + project.getFullName() + ", " + ownI18N.getString(BE_SURE_YOU_HAVE_WRITEN_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()));
+                            if (collectingMessages) {
+                                warnings.add(new TranslatableMessage(ALTHOUGH_A, " ", dummyComponentName, ", ", COULD_BE_INCLUDED_IN, " ", project.getFullNameMessage(), ", ", BE_SURE_YOU_HAVE_WRITEN_BLAH, " ", projectLicense));
+                            }
                             break;
                         case UNCOMPATIBLE:
                             // The analyzed ficticious component is incompatible with the 
@@ -163,8 +192,12 @@ public class RiskAnalyserLimitedSetOfPotentialComponentsLicenses extends Abstrac
                             // has been specified). Therefore, it cannot be used in 
                             // the project independently on whether it is compatible
                             // with other licenses of the project or not.
-                            rootCauses.add(ownI18N.getString(A) + " " + dummyComponentBinding.getFullNameForDummyComponent() + ", " + ownI18N.getString(COULD_NOT_BE_INCLUDED_IN) + " " + project.getFullName() + ", " + ownI18N.getString(BECAUSE_IT_IS_INCOMPATIBLE_WITH) + " " + spdxIdI18N.getString(projectLicense.toString()));
-                            tips.add(ownI18N.getString(TRY_TO_USE_A_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + ", " + ownI18N.getString(THAT_ALLOW_A) + " " + dummyComponentBinding.getFullNameForDummyComponent() + ", " + ownI18N.getString(TO_BE_INCLUDED_BLAH));
+                            if (collectingMessages) {
+                                rootCauses.add(new TranslatableMessage(A, " ", dummyComponentName, ", ", COULD_NOT_BE_INCLUDED_IN, " ", project.getFullNameMessage(), ", ", BECAUSE_IT_IS_INCOMPATIBLE_WITH, " ", projectLicense));
+                                if (collectingTips) {
+                                    tips.add(new TranslatableMessage(TRY_TO_USE_A_BLAH, " ", projectLicense, ", ", THAT_ALLOW_A, " ", dummyComponentName, ", ", TO_BE_INCLUDED_BLAH));
+                                }
+                            }
                             riskExposure++;
                             riskImpact += (TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue());
                             break;
@@ -178,8 +211,12 @@ public class RiskAnalyserLimitedSetOfPotentialComponentsLicenses extends Abstrac
                             // compatible. On the contrary, in this situation the 
                             //component is handled as uncompatible. Therefore, it 
                             // cannot be used in the project. 
-                            rootCauses.add(ownI18N.getString(A) + " " + dummyComponentBinding.getFullNameForDummyComponent() + ", " + ownI18N.getString(COULD_NOT_BE_INCLUDED_IN) + " " + project.getFullName() + ", " + ownI18N.getString(BECAUSE_IT_IS_NOT_KNOWN_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(AND_THEREFORE_BLAH));
-                            tips.add(ownI18N.getString(WHENEVER_YOU_PLAN) + " " + dummyComponentBinding.getFullNameForDummyComponent() + ", " + ownI18N.getString(ASK_THE_AUTHOR_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(OR_NOT));
+                            if (collectingMessages) {
+                                rootCauses.add(new TranslatableMessage(A, " ", dummyComponentName, ", ", COULD_NOT_BE_INCLUDED_IN, " ", project.getFullNameMessage(), ", ", BECAUSE_IT_IS_NOT_KNOWN_BLAH, " ", projectLicense, " ", AND_THEREFORE_BLAH));
+                                if (collectingTips) {
+                                    tips.add(new TranslatableMessage(WHENEVER_YOU_PLAN, " ", dummyComponentName, ", ", ASK_THE_AUTHOR_BLAH, " ", projectLicense, " ", OR_NOT));
+                                }
+                            }
                             riskExposure++;
                             riskImpact += (TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue());
                             break;
@@ -196,9 +233,13 @@ public class RiskAnalyserLimitedSetOfPotentialComponentsLicenses extends Abstrac
                             // is uncompatible. This is obviously a weakness of 
                             // OpenLRAE that will be reduced as the project 
                             // evolves.
-                            rootCauses.add(ownI18N.getString(A) + " " + dummyComponentBinding.getFullNameForDummyComponent() + ", " + ownI18N.getString(COULD_NOT_BE_INCLUDED_IN) + " " + project.getFullName() + ". " + ownI18N.getString(OPENLRAE_DOES_NOT) + " " + spdxIdI18N.getString(projectLicense.toString()) + ". " + ownI18N.getString(WE_APOLOGIZE_BLAH));
-                            warnings.add(ownI18N.getString(ALTHOUGH_A) + " " + dummyComponentBinding.getFullNameForDummyComponent() + ", " + ownI18N.getString(WOULD_BE_HANDLED_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + ". " + ownI18N.getString(WE_APOLOGIZE_BLAH));
-                            tips.add(ownI18N.getString(WHENEVER_YOU_PLAN) + " " + dummyComponentBinding.getFullNameForDummyComponent() + " " + ownI18N.getString(IN_A_PROJECT_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + ", " + ownI18N.getString(TRY_TO_USE_A_BLAH_2));
+                            if (collectingMessages) {
+                                rootCauses.add(new TranslatableMessage(A, " ", dummyComponentName, ", ", COULD_NOT_BE_INCLUDED_IN, " ", project.getFullNameMessage(), ". ", OPENLRAE_DOES_NOT, " ", projectLicense, ". ", WE_APOLOGIZE_BLAH));
+                                warnings.add(new TranslatableMessage(ALTHOUGH_A, " ", dummyComponentName, ", ", WOULD_BE_HANDLED_BLAH, " ", projectLicense, ". ", WE_APOLOGIZE_BLAH));
+                                if (collectingTips) {
+                                    tips.add(new TranslatableMessage(WHENEVER_YOU_PLAN, " ", dummyComponentName, " ", IN_A_PROJECT_BLAH, " ", projectLicense, ", ", TRY_TO_USE_A_BLAH_2));
+                                }
+                            }
                             riskExposure++;
                             riskImpact += (TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue());
                             break;
@@ -217,9 +258,13 @@ public class RiskAnalyserLimitedSetOfPotentialComponentsLicenses extends Abstrac
                             // error.
                             riskExposure++;
                             riskImpact += (TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue());
-                            rootCauses.add(ownI18N.getString(A) + " " + dummyComponentBinding.getFullNameForDummyComponent() + ", " + ownI18N.getString(COULD_NOT_BE_INCLUDED_IN) + " " + project.getFullName() + ", " + ownI18N.getString(UNTIL_A_DEEP_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(EXCEPT_UNDER_BLAH));
-                            warnings.add(ownI18N.getString(BEFORE_INCLUDING_BLAH) + " " + dummyComponentBinding.getFullNameForDummyComponent() + ", " + ownI18N.getString(CARRY_OUT_A_DEEP_BLAH) + " " + dummyComponentBinding.getFullNameForDummyComponent() + " " + ownI18N.getString(IS_INCOMPATIBLE_WITH_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()));
-                            tips.add(ownI18N.getString(INSTEAD_OF_A) + " " + dummyComponentBinding.getFullName() + ", " + ownI18N.getString(TRY_TO_CHOOSE_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()));
+                            if (collectingMessages) {
+                                rootCauses.add(new TranslatableMessage(A, " ", dummyComponentName, ", ", COULD_NOT_BE_INCLUDED_IN, " ", project.getFullNameMessage(), ", ", UNTIL_A_DEEP_BLAH, " ", projectLicense, " ", EXCEPT_UNDER_BLAH));
+                                warnings.add(new TranslatableMessage(BEFORE_INCLUDING_BLAH, " ", dummyComponentName, ", ", CARRY_OUT_A_DEEP_BLAH, " ", dummyComponentName, " ", IS_INCOMPATIBLE_WITH_BLAH, " ", projectLicense));
+                                if (collectingTips) {
+                                    tips.add(new TranslatableMessage(INSTEAD_OF_A, " ", dummyComponentFullName, ", ", TRY_TO_CHOOSE_BLAH, " ", projectLicense));
+                                }
+                            }
                             break;
                         case MOSTLY_UNCOMPATIBLE:
                             // The analyzed ficticious component is incompatible
@@ -235,9 +280,13 @@ public class RiskAnalyserLimitedSetOfPotentialComponentsLicenses extends Abstrac
                             // overall project, because it is prone to error.
                             riskExposure++;
                             riskImpact += (TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue());
-                            rootCauses.add(ownI18N.getString(A) + " " + dummyComponentBinding.getFullNameForDummyComponent() + ", " + ownI18N.getString(COULD_NOT_BE_INCLUDED_IN) + " " + project.getFullName() + ", " + ownI18N.getString(UNTIL_A_DEEP_BLAH_2) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(EXCEPT_UNDER_BLAH));
-                            warnings.add(ownI18N.getString(BEFORE_INCLUDING_BLAH) + " " + dummyComponentBinding.getFullNameForDummyComponent() + ", " + ownI18N.getString(CARRY_OUT_A_DEEP_BLAH_2) + " " + dummyComponentBinding.getFullNameForDummyComponent() + " " + ownI18N.getString(IS_COMPATIBLE_WITH_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()));
-                            tips.add(ownI18N.getString(INSTEAD_OF_A) + " " + dummyComponentBinding.getFullName() + ", " + ownI18N.getString(TRY_TO_CHOOSE_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()));
+                            if (collectingMessages) {
+                                rootCauses.add(new TranslatableMessage(A, " ", dummyComponentName, ", ", COULD_NOT_BE_INCLUDED_IN, " ", project.getFullNameMessage(), ", ", UNTIL_A_DEEP_BLAH_2, " ", projectLicense, " ", EXCEPT_UNDER_BLAH));
+                                warnings.add(new TranslatableMessage(BEFORE_INCLUDING_BLAH, " ", dummyComponentName, ", ", CARRY_OUT_A_DEEP_BLAH_2, " ", dummyComponentName, " ", IS_COMPATIBLE_WITH_BLAH, " ", projectLicense));
+                                if (collectingTips) {
+                                    tips.add(new TranslatableMessage(INSTEAD_OF_A, " ", dummyComponentFullName, ", ", TRY_TO_CHOOSE_BLAH, " ", projectLicense));
+                                }
+                            }
                             break;
                         default:
                             logger.warn("default case reached in switch ???");
@@ -245,11 +294,15 @@ public class RiskAnalyserLimitedSetOfPotentialComponentsLicenses extends Abstrac
                     }
                 }
                 if ((compatibilityCounter.containsKey(SupportedCompatibilities.COMPATIBLE) && (compatibilityCounter.get(SupportedCompatibilities.COMPATIBLE) == project.getLicenses().size()))) {
-                    goodThings.add(ownI18N.getString(A) + " " + dummyComponentBinding.getFullNameForDummyComponent() + ", " + ownI18N.getString(COULD_BE_INCLUDED_IN) + " " + this.project.getFullName() + ", " + ownI18N.getString(BECAUSE_IT_IS_NATIVELY_BLAH));
+                    if (collectingMessages) {
+                        goodThings.add(new TranslatableMessage(A, " ", dummyComponentName, ", ", COULD_BE_INCLUDED_IN, " ", project.getFullNameMessage(), ", ", BECAUSE_IT_IS_NATIVELY_BLAH));
+                    }
                 }
                 if ((compatibilityCounter.containsKey(SupportedCompatibilities.FORCED_COMPATIBLE) && (compatibilityCounter.get(SupportedCompatibilities.FORCED_COMPATIBLE) == project.getLicenses().size()))) {
-                    warnings.add(ownI18N.getString(ALTHOUGH_A) + " " + dummyComponentBinding.getFullNameForDummyComponent() + ", " + ownI18N.getString(COULD_BE_USED_BLAH));
-                    goodThings.add(ownI18N.getString(A) + " " + dummyComponentBinding.getFullNameForDummyComponent() + ", " + ownI18N.getString(COULD_BE_INCLUDED_IN) + " " + this.project.getFullName() + ", " + ownI18N.getString(BECAUSE_IT_IS_FORCED_BLAH));
+                    if (collectingMessages) {
+                        warnings.add(new TranslatableMessage(ALTHOUGH_A, " ", dummyComponentName, ", ", COULD_BE_USED_BLAH));
+                        goodThings.add(new TranslatableMessage(A, " ", dummyComponentName, ", ", COULD_BE_INCLUDED_IN, " ", project.getFullNameMessage(), ", ", BECAUSE_IT_IS_FORCED_BLAH));
+                    }
                 }
                 compatibilityCounter.clear();
             }
@@ -258,17 +311,20 @@ public class RiskAnalyserLimitedSetOfPotentialComponentsLicenses extends Abstrac
         riskExposure /= (float) totalCases;
         riskImpact /= (float) totalCases;
         if (riskExposure > NO_RISK) {
-            tips.add(ownI18N.getString(GENERAL_TIP_1));
-            tips.add(ownI18N.getString(GENERAL_TIP_2));
-            tips.add(ownI18N.getString(GENERAL_TIP_3));
-            tips.add(ownI18N.getString(GENERAL_TIP_4));
-            tips.add(ownI18N.getString(GENERAL_TIP_5));
-            tips.add(ownI18N.getString(GENERAL_TIP_6));
-            tips.add(ownI18N.getString(GENERAL_TIP_7));
-            if (project.getLicenses().size() > ONE) {
-                tips.add(ownI18N.getString(GENERAL_TIP_8));
+            if (collectingTips) {
+                tips.add(new TranslatableMessage(GENERAL_TIP_1));
+                tips.add(new TranslatableMessage(GENERAL_TIP_2));
+                tips.add(new TranslatableMessage(GENERAL_TIP_3));
+                tips.add(new TranslatableMessage(GENERAL_TIP_4));
+                tips.add(new TranslatableMessage(GENERAL_TIP_5));
+                tips.add(new TranslatableMessage(GENERAL_TIP_6));
+                tips.add(new TranslatableMessage(GENERAL_TIP_7));
+                if (project.getLicenses().size() > ONE) {
+                    tips.add(new TranslatableMessage(GENERAL_TIP_8));
+                }
             }
         }
+        return new RiskAnalysisResult(handledRiskType, riskExposure, riskImpact, languageConfig.getLanguage(), rootCauses.freeze(), warnings.freeze(), goodThings.freeze(), tips.freeze());
     }
 
     @Override
@@ -278,56 +334,54 @@ public class RiskAnalyserLimitedSetOfPotentialComponentsLicenses extends Abstrac
             throw new IllegalArgumentException("languajeEvent cannot be null");
         }
         languageConfig.setLanguage(languageChangeEvent.getNewLanguage());
-        // reload resource bundles
-        spdxIdI18N = Translations.SUPPORTED_LICENSES_SPDX_ID.getResourceBundle(languageConfig.getLanguage().getLocale());
-        ownI18N = Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES.getResourceBundle(languageConfig.getLanguage().getLocale());
         fireLanguageChangeEvent();
     }
 
     private static final float TOTAL_COMPATIBILITY = 1.0f;
     private static final float NO_RISK = 0.0f;
     private static final int ONE = 1;
+    private static final String DUMMY_COMPONENT_VERSION = "-------";
 
     // i18N Keys
-    private static final String COMPONENT_WITH_LICENSE = "COMPONENT_WITH_LICENSE";
-    private static final String ALTHOUGH_A = "ALTHOUGH_A";
-    private static final String COULD_BE_INCLUDED_IN = "COULD_BE_INCLUDED_IN";
-    private static final String BE_SURE_YOU_HAVE_WRITEN_BLAH = "BE_SURE_YOU_HAVE_WRITEN_BLAH";
-    private static final String A = "A";
-    private static final String COULD_NOT_BE_INCLUDED_IN = "COULD_NOT_BE_INCLUDED_IN";
-    private static final String BECAUSE_IT_IS_INCOMPATIBLE_WITH = "BECAUSE_IT_IS_INCOMPATIBLE_WITH";
-    private static final String TRY_TO_USE_A_BLAH = "TRY_TO_USE_A_BLAH";
-    private static final String THAT_ALLOW_A = "THAT_ALLOW_A";
-    private static final String TO_BE_INCLUDED_BLAH = "TO_BE_INCLUDED_BLAH";
-    private static final String BECAUSE_IT_IS_NOT_KNOWN_BLAH = "BECAUSE_IT_IS_NOT_KNOWN_BLAH";
-    private static final String AND_THEREFORE_BLAH = "AND_THEREFORE_BLAH";
-    private static final String WHENEVER_YOU_PLAN = "WHENEVER_YOU_PLAN";
-    private static final String ASK_THE_AUTHOR_BLAH = "ASK_THE_AUTHOR_BLAH";
-    private static final String OR_NOT = "OR_NOT";
-    private static final String OPENLRAE_DOES_NOT = "OPENLRAE_DOES_NOT";
-    private static final String WE_APOLOGIZE_BLAH = "WE_APOLOGIZE_BLAH";
-    private static final String WOULD_BE_HANDLED_BLAH = "WOULD_BE_HANDLED_BLAH";
-    private static final String TRY_TO_USE_A_BLAH_2 = "TRY_TO_USE_A_BLAH_2";
-    private static final String UNTIL_A_DEEP_BLAH = "UNTIL_A_DEEP_BLAH";
-    private static final String EXCEPT_UNDER_BLAH = "EXCEPT_UNDER_BLAH";
-    private static final String BEFORE_INCLUDING_BLAH = "BEFORE_INCLUDING_BLAH";
-    private static final String CARRY_OUT_A_DEEP_BLAH = "CARRY_OUT_A_DEEP_BLAH";
-    private static final String IS_INCOMPATIBLE_WITH_BLAH = "IS_INCOMPATIBLE_WITH_BLAH";
-    private static final String INSTEAD_OF_A = "INSTEAD_OF_A";
-    private static final String TRY_TO_CHOOSE_BLAH = "TRY_TO_CHOOSE_BLAH";
-    private static final String UNTIL_A_DEEP_BLAH_2 = "UNTIL_A_DEEP_BLAH_2";
-    private static final String CARRY_OUT_A_DEEP_BLAH_2 = "CARRY_OUT_A_DEEP_BLAH_2";
-    private static final String IS_COMPATIBLE_WITH_BLAH = "IS_COMPATIBLE_WITH_BLAH";
-    private static final String BECAUSE_IT_IS_NATIVELY_BLAH = "BECAUSE_IT_IS_NATIVELY_BLAH";
-    private static final String BECAUSE_IT_IS_FORCED_BLAH = "BECAUSE_IT_IS_FORCED_BLAH";
-    private static final String COULD_BE_USED_BLAH = "COULD_BE_USED_BLAH";
-    private static final String GENERAL_TIP_1 = "GENERAL_TIP_1";
-    private static final String GENERAL_TIP_2 = "GENERAL_TIP_2";
-    private static final String GENERAL_TIP_3 = "GENERAL_TIP_3";
-    private static final String GENERAL_TIP_4 = "GENERAL_TIP_4";
-    private static final String GENERAL_TIP_5 = "GENERAL_TIP_5";
-    private static final String GENERAL_TIP_6 = "GENERAL_TIP_6";
-    private static final String GENERAL_TIP_7 = "GENERAL_TIP_7";
-    private static final String GENERAL_TIP_8 = "GENERAL_TIP_8";
-    private static final String IN_A_PROJECT_BLAH = "IN_A_PROJECT_BLAH";
+    private static final TranslationKey COMPONENT_WITH_LICENSE = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "COMPONENT_WITH_LICENSE");
+    private static final TranslationKey ALTHOUGH_A = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "ALTHOUGH_A");
+    private static final TranslationKey COULD_BE_INCLUDED_IN = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "COULD_BE_INCLUDED_IN");
+    private static final TranslationKey BE_SURE_YOU_HAVE_WRITEN_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "BE_SURE_YOU_HAVE_WRITEN_BLAH");
+    private static final TranslationKey A = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "A");
+    private static final TranslationKey COULD_NOT_BE_INCLUDED_IN = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "COULD_NOT_BE_INCLUDED_IN");
+    private static final TranslationKey BECAUSE_IT_IS_INCOMPATIBLE_WITH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "BECAUSE_IT_IS_INCOMPATIBLE_WITH");
+    private static final TranslationKey TRY_TO_USE_A_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "TRY_TO_USE_A_BLAH");
+    private static final TranslationKey THAT_ALLOW_A = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "THAT_ALLOW_A");
+    private static final TranslationKey TO_BE_INCLUDED_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "TO_BE_INCLUDED_BLAH");
+    private static final TranslationKey BECAUSE_IT_IS_NOT_KNOWN_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "BECAUSE_IT_IS_NOT_KNOWN_BLAH");
+    private static final TranslationKey AND_THEREFORE_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "AND_THEREFORE_BLAH");
+    private static final TranslationKey WHENEVER_YOU_PLAN = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "WHENEVER_YOU_PLAN");
+    private static final TranslationKey ASK_THE_AUTHOR_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "ASK_THE_AUTHOR_BLAH");
+    private static final TranslationKey OR_NOT = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "OR_NOT");
+    private static final TranslationKey OPENLRAE_DOES_NOT = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "OPENLRAE_DOES_NOT");
+    private static final TranslationKey WE_APOLOGIZE_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "WE_APOLOGIZE_BLAH");
+    private static final TranslationKey WOULD_BE_HANDLED_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "WOULD_BE_HANDLED_BLAH");
+    private static final TranslationKey TRY_TO_USE_A_BLAH_2 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "TRY_TO_USE_A_BLAH_2");
+    private static final TranslationKey UNTIL_A_DEEP_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "UNTIL_A_DEEP_BLAH");
+    private static final TranslationKey EXCEPT_UNDER_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "EXCEPT_UNDER_BLAH");
+    private static final TranslationKey BEFORE_INCLUDING_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "BEFORE_INCLUDING_BLAH");
+    private static final TranslationKey CARRY_OUT_A_DEEP_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "CARRY_OUT_A_DEEP_BLAH");
+    private static final TranslationKey IS_INCOMPATIBLE_WITH_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "IS_INCOMPATIBLE_WITH_BLAH");
+    private static final TranslationKey INSTEAD_OF_A = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "INSTEAD_OF_A");
+    private static final TranslationKey TRY_TO_CHOOSE_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "TRY_TO_CHOOSE_BLAH");
+    private static final TranslationKey UNTIL_A_DEEP_BLAH_2 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "UNTIL_A_DEEP_BLAH_2");
+    private static final TranslationKey CARRY_OUT_A_DEEP_BLAH_2 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "CARRY_OUT_A_DEEP_BLAH_2");
+    private static final TranslationKey IS_COMPATIBLE_WITH_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "IS_COMPATIBLE_WITH_BLAH");
+    private static final TranslationKey BECAUSE_IT_IS_NATIVELY_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "BECAUSE_IT_IS_NATIVELY_BLAH");
+    private static final TranslationKey BECAUSE_IT_IS_FORCED_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "BECAUSE_IT_IS_FORCED_BLAH");
+    private static final TranslationKey COULD_BE_USED_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "COULD_BE_USED_BLAH");
+    private static final TranslationKey GENERAL_TIP_1 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "GENERAL_TIP_1");
+    private static final TranslationKey GENERAL_TIP_2 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "GENERAL_TIP_2");
+    private static final TranslationKey GENERAL_TIP_3 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "GENERAL_TIP_3");
+    private static final TranslationKey GENERAL_TIP_4 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "GENERAL_TIP_4");
+    private static final TranslationKey GENERAL_TIP_5 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "GENERAL_TIP_5");
+    private static final TranslationKey GENERAL_TIP_6 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "GENERAL_TIP_6");
+    private static final TranslationKey GENERAL_TIP_7 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "GENERAL_TIP_7");
+    private static final TranslationKey GENERAL_TIP_8 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "GENERAL_TIP_8");
+    private static final TranslationKey IN_A_PROJECT_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_COMPONENT_LICENSES, "IN_A_PROJECT_BLAH");
 }
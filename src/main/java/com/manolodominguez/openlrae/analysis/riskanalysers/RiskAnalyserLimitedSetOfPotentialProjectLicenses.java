@@ -24,15 +24,22 @@ package com.manolodominguez.openlrae.analysis.riskanalysers;
 
 import com.manolodominguez.openlrae.bok.basevalues.SupportedCompatibilities;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRedistributions;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
 import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilityFactory;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilityVerdicts;
 import com.manolodominguez.openlrae.arquitecture.Project;
-import com.manolodominguez.openlrae.arquitecture.ComponentBinding;
 import com.manolodominguez.openlrae.i18n.LanguageChangeEvent;
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
+import com.manolodominguez.openlrae.i18n.TranslationKey;
 import com.manolodominguez.openlrae.i18n.Translations;
 import java.util.Arrays;
-import java.util.ResourceBundle;
 import java.util.concurrent.CopyOnWriteArrayList;
+import com.manolodominguez.openlrae.analysis.MessageBuffer;
+import com.manolodominguez.openlrae.analysis.ComponentBindingsFacts;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisContext;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisResult;
 import org.slf4j.LoggerFactory;
 
 /**
@@ -67,9 +74,6 @@ import org.slf4j.LoggerFactory;
  */
 public class RiskAnalyserLimitedSetOfPotentialProjectLicenses extends AbstractRiskAnalyser {
 
-    private ResourceBundle spdxIdI18N;
-    private ResourceBundle redistributionsI18N;
-
     /**
      * This is the constructor of the class. It creates a new instance of
      * RiskAnalyserLimitedSetOfPotentialProjectLicenses.
@@ -80,145 +84,225 @@ public class RiskAnalyserLimitedSetOfPotentialProjectLicenses extends AbstractRi
         // Project is ckecked at superclass
         super(project, SupportedRisks.HAVING_A_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES);
         logger = LoggerFactory.getLogger(RiskAnalyserLimitedSetOfPotentialProjectLicenses.class);
-        spdxIdI18N = Translations.SUPPORTED_LICENSES_SPDX_ID.getResourceBundle(languageConfig.getLanguage().getLocale());
-        redistributionsI18N = Translations.SUPPORTED_REDISTRIBUTIONS.getResourceBundle(languageConfig.getLanguage().getLocale());
-        ownI18N = Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES.getResourceBundle(languageConfig.getLanguage().getLocale());
+    }
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * RiskAnalyserLimitedSetOfPotentialProjectLicenses that is not bound to any
+     * project, so the same instance can analyse any number of projects, even
+     * concurrently, through getRiskAnalisysResult(RiskAnalysisContext).
+     */
+    public RiskAnalyserLimitedSetOfPotentialProjectLicenses() {
+        super(SupportedRisks.HAVING_A_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES);
+        logger = LoggerFactory.getLogger(RiskAnalyserLimitedSetOfPotentialProjectLicenses.class);
     }
 
     /**
      * This method analyses the potential project licenses (Supported by
      * OpenLRAE) and the bill of components, looking for risk of having a
      * reduced set of potential project licenses to choose.
+     *
+     * @param context The context of the run: the project to be analysed and
+     * the licenses knowledge base to be used.
+     * @return the result of running the risk analysis.
      */
     @Override
-    public void runAnalyser() {
+    public RiskAnalysisResult runAnalyser(RiskAnalysisContext context) {
+        Project project = context.getProject();
+        ComponentBindingsFacts facts = context.getComponentBindingsFacts();
+        float riskExposure = DEFAULT_EXPOSURE_LEVEL;
+        float riskImpact = DEFAULT_IMPACT_LEVEL;
+        MessageBuffer rootCauses = createMessages(context);
+        MessageBuffer warnings = createMessages(context);
+        MessageBuffer goodThings = createMessages(context);
+        MessageBuffer tips = createTips(context);
+        boolean collectingMessages = context.isCollectingMessages();
+        boolean collectingTips = context.isCollectingTips();
         float maxExposure;
         float maxImpact;
         boolean canBeProjectLicense;
+        long feasibleProjectLicenses;
+        long nativelyCompatibleProjectLicenses;
+        long projectLicenseBit;
         SupportedCompatibilities compatibility;
         CopyOnWriteArrayList<SupportedLicenses> allPotentialProjectLicenses;
         allPotentialProjectLicenses = new CopyOnWriteArrayList<>(Arrays.asList(SupportedLicenses.getLicensesForProjects()));
 
-        maxExposure = allPotentialProjectLicenses.size();
-        maxImpact = DEFAULT_TOTAL_IMPACT;
-        for (int i = ZERO; i < maxExposure; i++) {
-            for (ComponentBinding componentBinding : project.getBillOfComponentBindings()) {
-                maxImpact += componentBinding.getWeight().getWeightValue();
+        LicensesCompatibilityFactory licensesCompatibilities = context.getLicensesKnowledgeBase().getLicensesCompatibilityFactory();
+        // A potential project license is feasible only if no component binding
+        // rules it out, and it is natively compatible with the whole bill of 
+        // components only if all component bindings are COMPATIBLE with it. 
+        // Both sets are computed by ANDing the precomputed masks of each 
+        // distinct (license, link) pair of the bill of components.
+        feasibleProjectLicenses = licensesCompatibilities.getAllProjectLicensesMask();
+        nativelyCompatibleProjectLicenses = feasibleProjectLicenses;
+        boolean[][] alreadyMasked = new boolean[SupportedLicenses.values().length][SupportedLinks.values().length];
+        for (int componentBindingIndex = 0; componentBindingIndex < facts.getNumberOfComponentBindings(); componentBindingIndex++) {
+            context.checkNotCancelled();
+            if (!alreadyMasked[facts.getLicense(componentBindingIndex).ordinal()][facts.getLink(componentBindingIndex).ordinal()]) {
+                alreadyMasked[facts.getLicense(componentBindingIndex).ordinal()][facts.getLink(componentBindingIndex).ordinal()] = true;
+                feasibleProjectLicenses &= getFeasibleProjectLicensesMask(licensesCompatibilities, facts.getLicense(componentBindingIndex), facts.getLink(componentBindingIndex), project.getRedistribution());
+                nativelyCompatibleProjectLicenses &= facts.getCompatibleProjectLicensesMask(componentBindingIndex);
             }
         }
 
-        LicensesCompatibilityFactory licensesCompatibilities = LicensesCompatibilityFactory.getInstance();
-        for (SupportedLicenses potentialProjectLicense : allPotentialProjectLicenses) {
-            // canBeProjectLicense will be true at the en of the loop only if 
-            // all components in the bill of components are compatible with this 
-            // potential project license. Otherwise, it will be false.
-            canBeProjectLicense = CAN_BE_PROJECT_LICENSE;
-            for (ComponentBinding componentBinding : project.getBillOfComponentBindings()) {
-                compatibility = licensesCompatibilities.getCompatibilityOf(componentBinding.getComponent().getLicense(), potentialProjectLicense, componentBinding.getLinkType(), project.getRedistribution());
-                switch (compatibility) {
-                    case COMPATIBLE:
-                        // The analyzed component is compatible with the 
-                        // potential project license (taking into account the 
-                        // type of link and the project distribution that has 
-                        // been specified). Therefore, this component will not
-                        // be a problem to use the potential project license
-                        // for the project, altough the rest of components have 
-                        // to be also compatible for this to be true.
-                        break;
-                    case FORCED_COMPATIBLE:
-                        // The analyzed component is compatible with the 
-                        // potential project license (taking into account the 
-                        // type of link and the project distribution that has 
-                        // been specified). Only because it has been forced to 
-                        // be compatible (Generally this happens when the author 
-                        // of the component give written permission to use the 
-                        // component in a project with a given license). 
-                        // Therefore, this component will not be a problem to 
-                        // use the potential project license for the project, 
-                        // altough the rest of components have to be also 
-                        // compatible for this to be true.
-                        warnings.add(ownI18N.getString(BEWARE_THAT_BLAH) + " " + spdxIdI18N.getString(potentialProjectLicense.toString()) + " " + ownI18N.getString(AS_A_PROJECT_LICENSE_BLAH) + " " + componentBinding.getFullName() + " " + ownI18N.getString(TO_INCLUDE_THIS_BLAH) + " " + spdxIdI18N.getString(potentialProjectLicense.toString()) + " " + ownI18N.getString(THAT) + " " + redistributionsI18N.getString(project.getRedistribution().toString()));
-                        tips.add(ownI18N.getString(TRY_TO_REPLACE) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(BY_A_COMPONENT_WITH_BLAH) + " " + spdxIdI18N.getString(potentialProjectLicense.toString()) + " " + ownI18N.getString(THAT) + " " + redistributionsI18N.getString(project.getRedistribution().toString()));
-                        break;
-                    case UNCOMPATIBLE:
-                        // The analyzed component is incompatible with the 
-                        // potential project license (taking into account the 
-                        // type of link and the project distribution that has 
-                        // been specified). Therefore it cannot be used in the 
-                        // project.
-                        riskImpact += ((TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue()) * componentBinding.getWeight().getWeightValue());
-                        canBeProjectLicense = false;
-                        rootCauses.add(spdxIdI18N.getString(potentialProjectLicense.toString()) + " " + ownI18N.getString(COULD_NOT_BE_USED_BLAH) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(THAT_IS_INCOMPATIBLE_BLAH) + " " + spdxIdI18N.getString(potentialProjectLicense.toString()) + " " + ownI18N.getString(THAT) + " " + redistributionsI18N.getString(project.getRedistribution().toString()));
-                        tips.add(ownI18N.getString(TRY_TO_REPLACE) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(BY_A_COMPONENT_WITH_BLAH_2) + " " + spdxIdI18N.getString(potentialProjectLicense.toString()) + " " + ownI18N.getString(THAT) + " " + redistributionsI18N.getString(project.getRedistribution().toString()));
-                        break;
-                    case UNKNOWN:
-                        // The analyzed component could be compatible or 
-                        // incompatible with the potential project license 
-                        // (taking into account the type of link and the project 
-                        // distribution that has been specified). But, by 
-                        // default, when the compatibility of a component is 
-                        // unknown one cannot understand that the component is 
-                        // compatible. On the contrary, in this situation the 
-                        // component is handled as uncompatible.
-                        riskImpact += ((TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue()) * componentBinding.getWeight().getWeightValue());
-                        canBeProjectLicense = false;
-                        rootCauses.add(spdxIdI18N.getString(potentialProjectLicense.toString()) + " " + ownI18N.getString(COULD_NOT_BE_USED_BLAH) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(THAT_IS_NOT_KNOWN_BLAH) + " " + spdxIdI18N.getString(potentialProjectLicense.toString()) + " " + ownI18N.getString(THAT) + " " + redistributionsI18N.getString(project.getRedistribution().toString()));
-                        tips.add(ownI18N.getString(TRY_TO_REPLACE) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(BY_A_COMPONENT_WITH_BLAH_3) + " " + spdxIdI18N.getString(potentialProjectLicense.toString()) + " " + ownI18N.getString(THAT) + " " + redistributionsI18N.getString(project.getRedistribution().toString()));
-                        break;
-                    case UNSUPPORTED:
-                        // The analyzed component could be compatible or 
-                        // incompatible with the potential project license 
-                        // (taking into account the type of link and the project
-                        // distribution that has been specified). But, by 
-                        // default, when the compatibility of a component is 
-                        // unknown one cannot understand that the component is 
-                        // compatible. As OpenLRAE does not support the license 
-                        // of the component, in this situation the component is 
-                        // handled as uncompatible.
-                        riskImpact += ((TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue()) * componentBinding.getWeight().getWeightValue());
-                        canBeProjectLicense = false;
-                        rootCauses.add(spdxIdI18N.getString(potentialProjectLicense.toString()) + " " + ownI18N.getString(COULD_NOT_BE_USED_BLAH) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(WHOSE_LICENSE_BLAH) + " " + spdxIdI18N.getString(potentialProjectLicense.toString()) + " " + ownI18N.getString(THAT) + " " + redistributionsI18N.getString(project.getRedistribution().toString()) + ". " + ownI18N.getString(WE_APOLOGIZE_BLAH));
-                        warnings.add(ownI18N.getString(ALTHOUGH) + " " + spdxIdI18N.getString(potentialProjectLicense.toString()) + " " + ownI18N.getString(COULD_NOT_BE_USED_BLAH) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(IS_HANDLED_AS_BLAH));
-                        tips.add(ownI18N.getString(TRY_TO_REPLACE) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(BY_A_COMPONENT_WITH_BLAH_4) + " " + spdxIdI18N.getString(potentialProjectLicense.toString()) + " " + ownI18N.getString(THAT) + " " + redistributionsI18N.getString(project.getRedistribution().toString()) + ", " + ownI18N.getString(OR_NOT));
-                        break;
-                    case MOSTLY_COMPATIBLE:
-                        // The analyzed component is compatible with the 
-                        // potential project license (taking into account the 
-                        // type of link and the project distribution that has 
-                        // been specified) in most cases. But there are a few 
-                        // cases where it is incompatible. Therefore it can be 
-                        // used after verifying the specific case. Anyway, 
-                        // components with this kind of compatibilities induce 
-                        // a moderated risk in the overall project.
-                        riskImpact += ((TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue()) * componentBinding.getWeight().getWeightValue());
-                        rootCauses.add(spdxIdI18N.getString(potentialProjectLicense.toString()) + " " + ownI18N.getString(COULD_NOT_BE_USED_BLAH_2) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(WHOSE_LICENSE_IS_BLAH) + " " + spdxIdI18N.getString(potentialProjectLicense.toString()) + " " + ownI18N.getString(THAT) + " " + redistributionsI18N.getString(project.getRedistribution().toString()) + ", " + ownI18N.getString(EXCEPT_UNDER_BLAH));
-                        warnings.add(ownI18N.getString(CARRY_OUT_A_DEEP_BLAH) + " " + componentBinding.getFullName() + " " + ownI18N.getString(IS_INCOMPATIBLE_WITH_BLAH) + " " + spdxIdI18N.getString(potentialProjectLicense.toString()) + " " + ownI18N.getString(BEFORE_CHOOSING_BLAH));
-                        tips.add(ownI18N.getString(TRY_TO_REPLACE) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(BY_A_COMPONENT_WITH_BLAH_5) + " " + spdxIdI18N.getString(potentialProjectLicense.toString()) + " " + ownI18N.getString(THAT) + " " + redistributionsI18N.getString(project.getRedistribution().toString()));
-                        break;
-                    case MOSTLY_UNCOMPATIBLE:
-                        // The analyzed component is incompatible with the 
-                        // potential project license (taking into account the 
-                        // type of link and the project distribution that has 
-                        // been specified) in most cases. But there are a few 
-                        // cases where it is compatible. Therefore it can be 
-                        // used after verifying the specific case. Anyway, 
-                        // components with this kind of compatibilities induce 
-                        // a high risk in the overall project.
-                        riskImpact += ((TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue()) * componentBinding.getWeight().getWeightValue());
-                        rootCauses.add(spdxIdI18N.getString(potentialProjectLicense.toString()) + " " + ownI18N.getString(COULD_NOT_BE_USED_BLAH_2) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(WHOSE_LICENSE_IS_BLAH_2) + " " + spdxIdI18N.getString(potentialProjectLicense.toString()) + " " + ownI18N.getString(THAT) + " " + redistributionsI18N.getString(project.getRedistribution().toString()) + ", " + ownI18N.getString(EXCEPT_UNDER_BLAH));
-                        warnings.add(ownI18N.getString(CARRY_OUT_A_DEEP_BLAH_2) + " " + componentBinding.getFullName() + " " + ownI18N.getString(IS_COMPATIBLE_WITH_BLAH) + " " + spdxIdI18N.getString(potentialProjectLicense.toString()) + " " + ownI18N.getString(BEFORE_CHOOSING_BLAH));
-                        tips.add(ownI18N.getString(TRY_TO_REPLACE) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(BY_A_COMPONENT_WITH_BLAH_5) + " " + spdxIdI18N.getString(potentialProjectLicense.toString()) + " " + ownI18N.getString(THAT) + " " + redistributionsI18N.getString(project.getRedistribution().toString()));
-                        break;
-                    default:
-                        logger.warn("default case reached in switch ???");
-                        break;
+        maxExposure = allPotentialProjectLicenses.size();
+        // The whole bill of components could rule out each potential project
+        // license.
+        maxImpact = DEFAULT_TOTAL_IMPACT + (maxExposure * facts.getTotalWeight());
+
+        // Verdicts of the bill of components against every potential project 
+        // license are only queried if, at least, one of them is not natively
+        // compatible with the whole bill of components.
+        LicensesCompatibilityVerdicts potentialVerdicts = null;
+        for (int potentialProjectLicenseIndex = ZERO; potentialProjectLicenseIndex < allPotentialProjectLicenses.size(); potentialProjectLicenseIndex++) {
+            context.checkNotCancelled();
+            SupportedLicenses potentialProjectLicense = allPotentialProjectLicenses.get(potentialProjectLicenseIndex);
+            projectLicenseBit = ONE_BIT << potentialProjectLicense.ordinal();
+            // canBeProjectLicense will be true only if no component in the 
+            // bill of components rules out this potential project license. 
+            // Otherwise, it will be false.
+            canBeProjectLicense = (feasibleProjectLicenses & projectLicenseBit) != NO_BITS;
+            if ((nativelyCompatibleProjectLicenses & projectLicenseBit) == NO_BITS) {
+                // At least one component binding is not natively compatible
+                // with this potential project license. Only those bindings 
+                // need to be expanded into messages and risk impact.
+                if (potentialVerdicts == null) {
+                    potentialVerdicts = licensesCompatibilities.getCompatibilitiesOf(facts.getComponentBindings(), allPotentialProjectLicenses, project.getRedistribution());
+                }
+                for (int componentBindingIndex = 0; componentBindingIndex < facts.getNumberOfComponentBindings(); componentBindingIndex++) {
+                    if ((facts.getCompatibleProjectLicensesMask(componentBindingIndex) & projectLicenseBit) != NO_BITS) {
+                        continue;
+                    }
+                    compatibility = potentialVerdicts.getCompatibility(componentBindingIndex, potentialProjectLicenseIndex);
+                    switch (compatibility) {
+                        case COMPATIBLE:
+                            // The analyzed component is compatible with the 
+                            // potential project license (taking into account the 
+                            // type of link and the project distribution that has 
+                            // been specified). Therefore, this component will not
+                            // be a problem to use the potential project license
+                            // for the project, altough the rest of components have 
+                            // to be also compatible for this to be true.
+                            break;
+                        case FORCED_COMPATIBLE:
+                            // The analyzed component is compatible with the 
+                            // potential project license (taking into account the 
+                            // type of link and the project distribution that has 
+                            // been specified). Only because it has been forced to 
+                            // be compatible (Generally this happens when the author 
+                            // of the component give written permission to use the 
+                            // component in a project with a given license). 
+                            // Therefore, this component will not be a problem to 
+                            // use the potential project license for the project, 
+                            // altough the rest of components have to be also 
+                            // compatible for this to be true.
+                            if (collectingMessages) {
+                                warnings.add(new TranslatableMessage(BEWARE_THAT_BLAH, " ", potentialProjectLicense, " ", AS_A_PROJECT_LICENSE_BLAH, " ", facts.getFullNameMessage(componentBindingIndex), " ", TO_INCLUDE_THIS_BLAH, " ", potentialProjectLicense, " ", THAT, " ", project.getRedistribution()));
+                                if (collectingTips) {
+                                    tips.add(new TranslatableMessage(TRY_TO_REPLACE, " ", facts.getFullNameMessage(componentBindingIndex), ", ", BY_A_COMPONENT_WITH_BLAH, " ", potentialProjectLicense, " ", THAT, " ", project.getRedistribution()));
+                                }
+                            }
+                            break;
+                        case UNCOMPATIBLE:
+                            // The analyzed component is incompatible with the 
+                            // potential project license (taking into account the 
+                            // type of link and the project distribution that has 
+                            // been specified). Therefore it cannot be used in the 
+                            // project.
+                            riskImpact += ((TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue()) * facts.getWeightValue(componentBindingIndex));
+                            if (collectingMessages) {
+                                rootCauses.add(new TranslatableMessage(potentialProjectLicense, " ", COULD_NOT_BE_USED_BLAH, " ", facts.getFullNameMessage(componentBindingIndex), ", ", THAT_IS_INCOMPATIBLE_BLAH, " ", potentialProjectLicense, " ", THAT, " ", project.getRedistribution()));
+                                if (collectingTips) {
+                                    tips.add(new TranslatableMessage(TRY_TO_REPLACE, " ", facts.getFullNameMessage(componentBindingIndex), ", ", BY_A_COMPONENT_WITH_BLAH_2, " ", potentialProjectLicense, " ", THAT, " ", project.getRedistribution()));
+                                }
+                            }
+                            break;
+                        case UNKNOWN:
+                            // The analyzed component could be compatible or 
+                            // incompatible with the potential project license 
+                            // (taking into account the type of link and the project 
+                            // distribution that has been specified). But, by 
+                            // default, when the compatibility of a component is 
+                            // unknown one cannot understand that the component is 
+                            // compatible. On the contrary, in this situation the 
+                            // component is handled as uncompatible.
+                            riskImpact += ((TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue()) * facts.getWeightValue(componentBindingIndex));
+                            if (collectingMessages) {
+                                rootCauses.add(new TranslatableMessage(potentialProjectLicense, " ", COULD_NOT_BE_USED_BLAH, " ", facts.getFullNameMessage(componentBindingIndex), ", ", THAT_IS_NOT_KNOWN_BLAH, " ", potentialProjectLicense, " ", THAT, " ", project.getRedistribution()));
+                                if (collectingTips) {
+                                    tips.add(new TranslatableMessage(TRY_TO_REPLACE, " ", facts.getFullNameMessage(componentBindingIndex), ", ", BY_A_COMPONENT_WITH_BLAH_3, " ", potentialProjectLicense, " ", THAT, " ", project.getRedistribution()));
+                                }
+                            }
+                            break;
+                        case UNSUPPORTED:
+                            // The analyzed component could be compatible or 
+                            // incompatible with the potential project license 
+                            // (taking into account the type of link and the project
+                            // distribution that has been specified). But, by 
+                            // default, when the compatibility of a component is 
+                            // unknown one cannot understand that the component is 
+                            // compatible. As OpenLRAE does not support the license 
+                            // of the component, in this situation the component is 
+                            // handled as uncompatible.
+                            riskImpact += ((TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue()) * facts.getWeightValue(componentBindingIndex));
+                            if (collectingMessages) {
+                                rootCauses.add(new TranslatableMessage(potentialProjectLicense, " ", COULD_NOT_BE_USED_BLAH, " ", facts.getFullNameMessage(componentBindingIndex), ", ", WHOSE_LICENSE_BLAH, " ", potentialProjectLicense, " ", THAT, " ", project.getRedistribution(), ". ", WE_APOLOGIZE_BLAH));
+                                warnings.add(new TranslatableMessage(ALTHOUGH, " ", potentialProjectLicense, " ", COULD_NOT_BE_USED_BLAH, " ", facts.getFullNameMessage(componentBindingIndex), ", ", IS_HANDLED_AS_BLAH));
+                                if (collectingTips) {
+                                    tips.add(new TranslatableMessage(TRY_TO_REPLACE, " ", facts.getFullNameMessage(componentBindingIndex), ", ", BY_A_COMPONENT_WITH_BLAH_4, " ", potentialProjectLicense, " ", THAT, " ", project.getRedistribution(), ", ", OR_NOT));
+                                }
+                            }
+                            break;
+                        case MOSTLY_COMPATIBLE:
+                            // The analyzed component is compatible with the 
+                            // potential project license (taking into account the 
+                            // type of link and the project distribution that has 
+                            // been specified) in most cases. But there are a few 
+                            // cases where it is incompatible. Therefore it can be 
+                            // used after verifying the specific case. Anyway, 
+                            // components with this kind of compatibilities induce 
+                            // a moderated risk in the overall project.
+                            riskImpact += ((TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue()) * facts.getWeightValue(componentBindingIndex));
+                            if (collectingMessages) {
+                                rootCauses.add(new TranslatableMessage(potentialProjectLicense, " ", COULD_NOT_BE_USED_BLAH_2, " ", facts.getFullNameMessage(componentBindingIndex), ", ", WHOSE_LICENSE_IS_BLAH, " ", potentialProjectLicense, " ", THAT, " ", project.getRedistribution(), ", ", EXCEPT_UNDER_BLAH));
+                                warnings.add(new TranslatableMessage(CARRY_OUT_A_DEEP_BLAH, " ", facts.getFullNameMessage(componentBindingIndex), " ", IS_INCOMPATIBLE_WITH_BLAH, " ", potentialProjectLicense, " ", BEFORE_CHOOSING_BLAH));
+                                if (collectingTips) {
+                                    tips.add(new TranslatableMessage(TRY_TO_REPLACE, " ", facts.getFullNameMessage(componentBindingIndex), ", ", BY_A_COMPONENT_WITH_BLAH_5, " ", potentialProjectLicense, " ", THAT, " ", project.getRedistribution()));
+                                }
+                            }
+                            break;
+                        case MOSTLY_UNCOMPATIBLE:
+                            // The analyzed component is incompatible with the 
+                            // potential project license (taking into account the 
+                            // type of link and the project distribution that has 
+                            // been specified) in most cases. But there are a few 
+                            // cases where it is compatible. Therefore it can be 
+                            // used after verifying the specific case. Anyway, 
+                            // components with this kind of compatibilities induce 
+                            // a high risk in the overall project.
+                            riskImpact += ((TOTAL_COMPATIBILITY - compatibility.getCompatibilityValue()) * facts.getWeightValue(componentBindingIndex));
+                            if (collectingMessages) {
+                                rootCauses.add(new TranslatableMessage(potentialProjectLicense, " ", COULD_NOT_BE_USED_BLAH_2, " ", facts.getFullNameMessage(componentBindingIndex), ", ", WHOSE_LICENSE_IS_BLAH_2, " ", potentialProjectLicense, " ", THAT, " ", project.getRedistribution(), ", ", EXCEPT_UNDER_BLAH));
+                                warnings.add(new TranslatableMessage(CARRY_OUT_A_DEEP_BLAH_2, " ", facts.getFullNameMessage(componentBindingIndex), " ", IS_COMPATIBLE_WITH_BLAH, " ", potentialProjectLicense, " ", BEFORE_CHOOSING_BLAH));
+                                if (collectingTips) {
+                                    tips.add(new TranslatableMessage(TRY_TO_REPLACE, " ", facts.getFullNameMessage(componentBindingIndex), ", ", BY_A_COMPONENT_WITH_BLAH_5, " ", potentialProjectLicense, " ", THAT, " ", project.getRedistribution()));
+                                }
+                            }
+                            break;
+                        default:
+                            logger.warn("default case reached in switch ???");
+                            break;
+                    }
                 }
             }
 
             if (canBeProjectLicense) {
                 // All components are compatible with the potential project 
                 // licenses being analysed.
-                goodThings.add(spdxIdI18N.getString(potentialProjectLicense.toString()) + " " + ownI18N.getString(COULD_BE_USED_AS_BLAH) + " " + spdxIdI18N.getString(potentialProjectLicense.toString()) + " " + ownI18N.getString(THAT) + " " + redistributionsI18N.getString(project.getRedistribution().toString()));
+                if (collectingMessages) {
+                    goodThings.add(new TranslatableMessage(potentialProjectLicense, " ", COULD_BE_USED_AS_BLAH, " ", potentialProjectLicense, " ", THAT, " ", project.getRedistribution()));
+                }
             } else {
                 // riskExposure is updated here because in order to be used as
                 // a project license, all component bindings of the project have
@@ -240,20 +324,46 @@ public class RiskAnalyserLimitedSetOfPotentialProjectLicenses extends AbstractRi
         riskImpact /= maxImpact;
 
         if (riskExposure > NO_RISK) {
-            if (riskExposure == TOTAL_RISK) {
-                rootCauses.add(ownI18N.getString(NONE_OF_THE_BLAH));
-            }
-            tips.add(ownI18N.getString(GENERAL_TIP_1));
-            tips.add(ownI18N.getString(GENERAL_TIP_2));
-            tips.add(ownI18N.getString(GENERAL_TIP_3));
-            tips.add(ownI18N.getString(GENERAL_TIP_4));
-            tips.add(ownI18N.getString(GENERAL_TIP_5));
-            tips.add(ownI18N.getString(GENERAL_TIP_6));
-            tips.add(ownI18N.getString(GENERAL_TIP_7));
-            if (project.getLicenses().size() > ONE) {
-                tips.add(ownI18N.getString(GENERAL_TIP_8));
+            if (collectingMessages) {
+                if (riskExposure == TOTAL_RISK) {
+                    rootCauses.add(new TranslatableMessage(NONE_OF_THE_BLAH));
+                }
+                if (collectingTips) {
+                    tips.add(new TranslatableMessage(GENERAL_TIP_1));
+                    tips.add(new TranslatableMessage(GENERAL_TIP_2));
+                    tips.add(new TranslatableMessage(GENERAL_TIP_3));
+                    tips.add(new TranslatableMessage(GENERAL_TIP_4));
+                    tips.add(new TranslatableMessage(GENERAL_TIP_5));
+                    tips.add(new TranslatableMessage(GENERAL_TIP_6));
+                    tips.add(new TranslatableMessage(GENERAL_TIP_7));
+                    if (project.getLicenses().size() > ONE) {
+                        tips.add(new TranslatableMessage(GENERAL_TIP_8));
+                    }
+                }
             }
         }
+        return new RiskAnalysisResult(handledRiskType, riskExposure, riskImpact, languageConfig.getLanguage(), rootCauses.freeze(), warnings.freeze(), goodThings.freeze(), tips.freeze());
+    }
+
+    /**
+     * This method gets, as a bitmask, the set of potential project licenses
+     * that are not ruled out by the specified component binding. That is,
+     * those project licenses for which the compatibility of the component
+     * binding is other than UNCOMPATIBLE, UNKNOWN or UNSUPPORTED.
+     *
+     * @param licensesCompatibilities the base of knowledge to be queried.
+     * @param componentLicense the license of the component binding.
+     * @param link the link of the component binding.
+     * @param redistribution how the project is going to be redistributed.
+     * @return a bitmask containing the potential project licenses that are
+     * not ruled out by the specified component binding.
+     */
+    private long getFeasibleProjectLicensesMask(LicensesCompatibilityFactory licensesCompatibilities, SupportedLicenses componentLicense, SupportedLinks link, SupportedRedistributions redistribution) {
+        long mask = NO_BITS;
+        for (SupportedCompatibilities compatibility : FEASIBLE_COMPATIBILITIES) {
+            mask |= licensesCompatibilities.getProjectLicensesMask(componentLicense, link, redistribution, compatibility);
+        }
+        return mask;
     }
 
     @Override
@@ -263,58 +373,56 @@ public class RiskAnalyserLimitedSetOfPotentialProjectLicenses extends AbstractRi
             throw new IllegalArgumentException("languajeEvent cannot be null");
         }
         languageConfig.setLanguage(languageChangeEvent.getNewLanguage());
-        // reload resource bundles
-        spdxIdI18N = Translations.SUPPORTED_LICENSES_SPDX_ID.getResourceBundle(languageConfig.getLanguage().getLocale());
-        redistributionsI18N = Translations.SUPPORTED_REDISTRIBUTIONS.getResourceBundle(languageConfig.getLanguage().getLocale());
-        ownI18N = Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES.getResourceBundle(languageConfig.getLanguage().getLocale());
         fireLanguageChangeEvent();
     }
 
-    private static final boolean CAN_BE_PROJECT_LICENSE = true;
+    private static final SupportedCompatibilities[] FEASIBLE_COMPATIBILITIES = {SupportedCompatibilities.COMPATIBLE, SupportedCompatibilities.FORCED_COMPATIBLE, SupportedCompatibilities.MOSTLY_COMPATIBLE, SupportedCompatibilities.MOSTLY_UNCOMPATIBLE};
     private static final float TOTAL_COMPATIBILITY = 1.0f;
     private static final float TOTAL_RISK = 1.0f;
     private static final float NO_RISK = 0.0f;
     private static final float DEFAULT_TOTAL_IMPACT = 0.0f;
     private static final int ZERO = 0;
     private static final int ONE = 1;
+    private static final long ONE_BIT = 1L;
+    private static final long NO_BITS = 0L;
 
     // i18N Keys
-    private static final String BEWARE_THAT_BLAH = "BEWARE_THAT_BLAH";
-    private static final String AS_A_PROJECT_LICENSE_BLAH = "AS_A_PROJECT_LICENSE_BLAH";
-    private static final String TO_INCLUDE_THIS_BLAH = "TO_INCLUDE_THIS_BLAH";
-    private static final String THAT = "THAT";
-    private static final String TRY_TO_REPLACE = "TRY_TO_REPLACE";
-    private static final String BY_A_COMPONENT_WITH_BLAH = "BY_A_COMPONENT_WITH_BLAH";
-    private static final String COULD_NOT_BE_USED_BLAH = "COULD_NOT_BE_USED_BLAH";
-    private static final String THAT_IS_INCOMPATIBLE_BLAH = "THAT_IS_INCOMPATIBLE_BLAH";
-    private static final String BY_A_COMPONENT_WITH_BLAH_2 = "BY_A_COMPONENT_WITH_BLAH_2";
-    private static final String THAT_IS_NOT_KNOWN_BLAH = "THAT_IS_NOT_KNOWN_BLAH";
-    private static final String BY_A_COMPONENT_WITH_BLAH_3 = "BY_A_COMPONENT_WITH_BLAH_3";
-    private static final String ALTHOUGH = "ALTHOUGH";
-    private static final String BY_A_COMPONENT_WITH_BLAH_4 = "BY_A_COMPONENT_WITH_BLAH_4";
-    private static final String OR_NOT = "OR_NOT";
-    private static final String WHOSE_LICENSE_BLAH = "WHOSE_LICENSE_BLAH";
-    private static final String WE_APOLOGIZE_BLAH = "WE_APOLOGIZE_BLAH";
-    private static final String IS_HANDLED_AS_BLAH = "IS_HANDLED_AS_BLAH";
-    private static final String COULD_NOT_BE_USED_BLAH_2 = "COULD_NOT_BE_USED_BLAH_2";
-    private static final String WHOSE_LICENSE_IS_BLAH = "WHOSE_LICENSE_IS_BLAH";
-    private static final String EXCEPT_UNDER_BLAH = "EXCEPT_UNDER_BLAH";
-    private static final String CARRY_OUT_A_DEEP_BLAH = "CARRY_OUT_A_DEEP_BLAH";
-    private static final String IS_INCOMPATIBLE_WITH_BLAH = "IS_INCOMPATIBLE_WITH_BLAH";
-    private static final String BEFORE_CHOOSING_BLAH = "BEFORE_CHOOSING_BLAH";
-    private static final String BY_A_COMPONENT_WITH_BLAH_5 = "BY_A_COMPONENT_WITH_BLAH_5";
-    private static final String WHOSE_LICENSE_IS_BLAH_2 = "WHOSE_LICENSE_IS_BLAH_2";
-    private static final String CARRY_OUT_A_DEEP_BLAH_2 = "CARRY_OUT_A_DEEP_BLAH_2";
-    private static final String IS_COMPATIBLE_WITH_BLAH = "IS_COMPATIBLE_WITH_BLAH";
-    private static final String COULD_BE_USED_AS_BLAH = "COULD_BE_USED_AS_BLAH";
-    private static final String NONE_OF_THE_BLAH = "NONE_OF_THE_BLAH";
-    private static final String GENERAL_TIP_1 = "GENERAL_TIP_1";
-    private static final String GENERAL_TIP_2 = "GENERAL_TIP_2";
-    private static final String GENERAL_TIP_3 = "GENERAL_TIP_3";
-    private static final String GENERAL_TIP_4 = "GENERAL_TIP_4";
-    private static final String GENERAL_TIP_5 = "GENERAL_TIP_5";
-    private static final String GENERAL_TIP_6 = "GENERAL_TIP_6";
-    private static final String GENERAL_TIP_7 = "GENERAL_TIP_7";
-    private static final String GENERAL_TIP_8 = "GENERAL_TIP_8";
+    private static final TranslationKey BEWARE_THAT_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "BEWARE_THAT_BLAH");
+    private static final TranslationKey AS_A_PROJECT_LICENSE_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "AS_A_PROJECT_LICENSE_BLAH");
+    private static final TranslationKey TO_INCLUDE_THIS_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "TO_INCLUDE_THIS_BLAH");
+    private static final TranslationKey THAT = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "THAT");
+    private static final TranslationKey TRY_TO_REPLACE = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "TRY_TO_REPLACE");
+    private static final TranslationKey BY_A_COMPONENT_WITH_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "BY_A_COMPONENT_WITH_BLAH");
+    private static final TranslationKey COULD_NOT_BE_USED_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "COULD_NOT_BE_USED_BLAH");
+    private static final TranslationKey THAT_IS_INCOMPATIBLE_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "THAT_IS_INCOMPATIBLE_BLAH");
+    private static final TranslationKey BY_A_COMPONENT_WITH_BLAH_2 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "BY_A_COMPONENT_WITH_BLAH_2");
+    private static final TranslationKey THAT_IS_NOT_KNOWN_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "THAT_IS_NOT_KNOWN_BLAH");
+    private static final TranslationKey BY_A_COMPONENT_WITH_BLAH_3 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "BY_A_COMPONENT_WITH_BLAH_3");
+    private static final TranslationKey ALTHOUGH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "ALTHOUGH");
+    private static final TranslationKey BY_A_COMPONENT_WITH_BLAH_4 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "BY_A_COMPONENT_WITH_BLAH_4");
+    private static final TranslationKey OR_NOT = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "OR_NOT");
+    private static final TranslationKey WHOSE_LICENSE_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "WHOSE_LICENSE_BLAH");
+    private static final TranslationKey WE_APOLOGIZE_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "WE_APOLOGIZE_BLAH");
+    private static final TranslationKey IS_HANDLED_AS_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "IS_HANDLED_AS_BLAH");
+    private static final TranslationKey COULD_NOT_BE_USED_BLAH_2 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "COULD_NOT_BE_USED_BLAH_2");
+    private static final TranslationKey WHOSE_LICENSE_IS_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "WHOSE_LICENSE_IS_BLAH");
+    private static final TranslationKey EXCEPT_UNDER_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "EXCEPT_UNDER_BLAH");
+    private static final TranslationKey CARRY_OUT_A_DEEP_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "CARRY_OUT_A_DEEP_BLAH");
+    private static final TranslationKey IS_INCOMPATIBLE_WITH_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "IS_INCOMPATIBLE_WITH_BLAH");
+    private static final TranslationKey BEFORE_CHOOSING_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "BEFORE_CHOOSING_BLAH");
+    private static final TranslationKey BY_A_COMPONENT_WITH_BLAH_5 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "BY_A_COMPONENT_WITH_BLAH_5");
+    private static final TranslationKey WHOSE_LICENSE_IS_BLAH_2 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "WHOSE_LICENSE_IS_BLAH_2");
+    private static final TranslationKey CARRY_OUT_A_DEEP_BLAH_2 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "CARRY_OUT_A_DEEP_BLAH_2");
+    private static final TranslationKey IS_COMPATIBLE_WITH_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "IS_COMPATIBLE_WITH_BLAH");
+    private static final TranslationKey COULD_BE_USED_AS_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "COULD_BE_USED_AS_BLAH");
+    private static final TranslationKey NONE_OF_THE_BLAH = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "NONE_OF_THE_BLAH");
+    private static final TranslationKey GENERAL_TIP_1 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "GENERAL_TIP_1");
+    private static final TranslationKey GENERAL_TIP_2 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "GENERAL_TIP_2");
+    private static final TranslationKey GENERAL_TIP_3 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "GENERAL_TIP_3");
+    private static final TranslationKey GENERAL_TIP_4 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "GENERAL_TIP_4");
+    private static final TranslationKey GENERAL_TIP_5 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "GENERAL_TIP_5");
+    private static final TranslationKey GENERAL_TIP_6 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "GENERAL_TIP_6");
+    private static final TranslationKey GENERAL_TIP_7 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "GENERAL_TIP_7");
+    private static final TranslationKey GENERAL_TIP_8 = new TranslationKey(Translations.RISK_ANALYSER_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, "GENERAL_TIP_8");
 
 }
@@ -24,12 +24,17 @@ package com.manolodominguez.openlrae.analysis.riskanalysers;
 
 import com.manolodominguez.openlrae.bok.basevalues.SupportedObsolescences;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
-import com.manolodominguez.openlrae.bok.licenseproperties.LicensesObsolescencesFactory;
 import com.manolodominguez.openlrae.arquitecture.Project;
-import com.manolodominguez.openlrae.arquitecture.ComponentBinding;
 import com.manolodominguez.openlrae.i18n.LanguageChangeEvent;
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
+import com.manolodominguez.openlrae.i18n.TranslationKey;
 import com.manolodominguez.openlrae.i18n.Translations;
-import java.util.ResourceBundle;
+import com.manolodominguez.openlrae.analysis.MessageBuffer;
+import com.manolodominguez.openlrae.analysis.ComponentBindingContribution;
+import com.manolodominguez.openlrae.analysis.ComponentBindingsFacts;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisContext;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisResult;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisTally;
 import org.slf4j.LoggerFactory;
 
 /**
@@ -61,9 +66,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
  */
-public class RiskAnalyserObsoleteComponentsLicenses extends AbstractRiskAnalyser {
-
-    private ResourceBundle obsolescencesI18N;
+public class RiskAnalyserObsoleteComponentsLicenses extends AbstractIncrementalRiskAnalyser {
 
     /**
      * This is the constructor of the class. It creates a new instance of
@@ -75,71 +78,127 @@ public class RiskAnalyserObsoleteComponentsLicenses extends AbstractRiskAnalyser
         // Project is ckecked at superclass
         super(project, SupportedRisks.HAVING_OBSOLETE_COMPONENTS_LICENSES);
         logger = LoggerFactory.getLogger(RiskAnalyserObsoleteComponentsLicenses.class);
-        obsolescencesI18N = Translations.SUPPORTED_OBSOLESCENCES.getResourceBundle(languageConfig.getLanguage().getLocale());
-        ownI18N = Translations.RISK_ANALYSER_OBSOLETE_COMPONENT_LICENSES.getResourceBundle(languageConfig.getLanguage().getLocale());
     }
 
     /**
-     * This method analyses the complete bill of components looking for risk of
-     * using obsolete component licenses.
+     * This is the constructor of the class. It creates a new instance of
+     * RiskAnalyserObsoleteComponentsLicenses that is not bound to any project,
+     * so the same instance can analyse any number of projects, even
+     * concurrently, through getRiskAnalisysResult(RiskAnalysisContext).
+     */
+    public RiskAnalyserObsoleteComponentsLicenses() {
+        super(SupportedRisks.HAVING_OBSOLETE_COMPONENTS_LICENSES);
+        logger = LoggerFactory.getLogger(RiskAnalyserObsoleteComponentsLicenses.class);
+    }
+
+    /**
+     * This method computes the contribution of a component binding to the risk
+     * of using obsolete component licenses.
+     *
+     * @param facts The facts of the component bindings.
+     * @param componentBindingIndex The index of the component binding in the
+     * facts.
+     * @param context The context of the run: the project to be analysed and
+     * the licenses knowledge base to be used.
+     * @return the contribution of the component binding.
      */
     @Override
-    public void runAnalyser() {
-        SupportedObsolescences obsolescence;
-        LicensesObsolescencesFactory licensesObsolescences = LicensesObsolescencesFactory.getInstance();
-        int totalCases = this.project.getBillOfComponentBindings().size();
-        for (ComponentBinding componentBinding : this.project.getBillOfComponentBindings()) {
-            obsolescence = licensesObsolescences.getObsolescenceOf(componentBinding.getComponent().getLicense());
-            switch (obsolescence) {
-                case UPDATED:
-                    // The analyzed component is using the latest version of its
-                    // license. Therefore there is not obsolescence risk in this
-                    // case. 
-                    goodThings.add(componentBinding.getFullName() + ", " + ownI18N.getString(IS_USING_THE_LICENSE) + " " + obsolescencesI18N.getString(obsolescence.toString()));
-                    break;
-                case NEAR_UPDATED:
-                    // The analyzed component is not using the latest version of
-                    // its license, but a license version closer to the latest
-                    // one. Therefore there is obsolescence risk in this case. 
-                    riskImpact += (obsolescence.getObsolescenceValue() * componentBinding.getWeight().getWeightValue());
-                    riskExposure += componentBinding.getWeight().getWeightValue();
-                    rootCauses.add(componentBinding.getFullName() + ", " + ownI18N.getString(IS_USING_THE_LICENSE) + " " + obsolescencesI18N.getString(obsolescence.toString()));
-                    tips.add(ownI18N.getString(TRY_TO_REPLACE) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(BY_ANOTHER_COMPONENT_BLAH));
-                    break;
-                case NEAR_OUTDATED:
-                    // The analyzed component is not using the latest version of
-                    // its license, but a license version far from the latest
-                    // one. Therefore there is obsolescence risk in this case. 
-                    riskImpact += (obsolescence.getObsolescenceValue() * componentBinding.getWeight().getWeightValue());
-                    riskExposure += componentBinding.getWeight().getWeightValue();
-                    rootCauses.add(componentBinding.getFullName() + " " + ownI18N.getString(IS_USING_THE_LICENSE) + " " + obsolescencesI18N.getString(obsolescence.toString()));
-                    tips.add(ownI18N.getString(TRY_TO_REPLACE) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(BY_ANOTHER_COMPONENT_BLAH));
-                    break;
-                case OUTDATED:
-                    // The analyzed component is not using the latest version of
-                    // its license, but the first version of it. Therefore there 
-                    // is obsolescence risk in this case. 
-                    riskImpact += (obsolescence.getObsolescenceValue() * componentBinding.getWeight().getWeightValue());
-                    riskExposure += componentBinding.getWeight().getWeightValue();
-                    rootCauses.add(componentBinding.getFullName() + " " + ownI18N.getString(IS_USING_THE_LICENSE) + " " + obsolescencesI18N.getString(obsolescence.toString()));
-                    tips.add(ownI18N.getString(TRY_TO_REPLACE) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(BY_ANOTHER_COMPONENT_BLAH));
-                    break;
-                default:
-                    logger.warn("default case reached in switch ???");
-                    break;
-            }
+    protected ComponentBindingContribution getContributionOf(ComponentBindingsFacts facts, int componentBindingIndex, RiskAnalysisContext context) {
+        float riskExposure = DEFAULT_EXPOSURE_LEVEL;
+        float riskImpact = DEFAULT_IMPACT_LEVEL;
+        MessageBuffer rootCauses = createMessages(context);
+        MessageBuffer warnings = createMessages(context);
+        MessageBuffer goodThings = createMessages(context);
+        MessageBuffer tips = createTips(context);
+        boolean collectingMessages = context.isCollectingMessages();
+        boolean collectingTips = context.isCollectingTips();
+        SupportedObsolescences obsolescence = facts.getObsolescence(componentBindingIndex);
+        float obsolescenceValue = facts.getObsolescenceValue(componentBindingIndex);
+        switch (obsolescence) {
+            case UPDATED:
+                // The analyzed component is using the latest version of its
+                // license. Therefore there is not obsolescence risk in this
+                // case. 
+                if (collectingMessages) {
+                    goodThings.add(new TranslatableMessage(facts.getFullNameMessage(componentBindingIndex), ", ", IS_USING_THE_LICENSE, " ", obsolescence));
+                }
+                break;
+            case NEAR_UPDATED:
+                // The analyzed component is not using the latest version of
+                // its license, but a license version closer to the latest
+                // one. Therefore there is obsolescence risk in this case. 
+                riskImpact += (obsolescenceValue * facts.getWeightValue(componentBindingIndex));
+                riskExposure += facts.getWeightValue(componentBindingIndex);
+                if (collectingMessages) {
+                    rootCauses.add(new TranslatableMessage(facts.getFullNameMessage(componentBindingIndex), ", ", IS_USING_THE_LICENSE, " ", obsolescence));
+                    if (collectingTips) {
+                        tips.add(new TranslatableMessage(TRY_TO_REPLACE, " ", facts.getFullNameMessage(componentBindingIndex), ", ", BY_ANOTHER_COMPONENT_BLAH));
+                    }
+                }
+                break;
+            case NEAR_OUTDATED:
+                // The analyzed component is not using the latest version of
+                // its license, but a license version far from the latest
+                // one. Therefore there is obsolescence risk in this case. 
+                riskImpact += (obsolescenceValue * facts.getWeightValue(componentBindingIndex));
+                riskExposure += facts.getWeightValue(componentBindingIndex);
+                if (collectingMessages) {
+                    rootCauses.add(new TranslatableMessage(facts.getFullNameMessage(componentBindingIndex), " ", IS_USING_THE_LICENSE, " ", obsolescence));
+                    if (collectingTips) {
+                        tips.add(new TranslatableMessage(TRY_TO_REPLACE, " ", facts.getFullNameMessage(componentBindingIndex), ", ", BY_ANOTHER_COMPONENT_BLAH));
+                    }
+                }
+                break;
+            case OUTDATED:
+                // The analyzed component is not using the latest version of
+                // its license, but the first version of it. Therefore there 
+                // is obsolescence risk in this case. 
+                riskImpact += (obsolescenceValue * facts.getWeightValue(componentBindingIndex));
+                riskExposure += facts.getWeightValue(componentBindingIndex);
+                if (collectingMessages) {
+                    rootCauses.add(new TranslatableMessage(facts.getFullNameMessage(componentBindingIndex), " ", IS_USING_THE_LICENSE, " ", obsolescence));
+                    if (collectingTips) {
+                        tips.add(new TranslatableMessage(TRY_TO_REPLACE, " ", facts.getFullNameMessage(componentBindingIndex), ", ", BY_ANOTHER_COMPONENT_BLAH));
+                    }
+                }
+                break;
+            default:
+                logger.warn("default case reached in switch ???");
+                break;
         }
-        riskExposure /= (float) totalCases;
-        riskImpact /= (float) totalCases;
+        return new ComponentBindingContribution(facts, componentBindingIndex, riskExposure, riskImpact, NO_MAX_IMPACT, rootCauses.freeze(), warnings.freeze(), goodThings.freeze(), tips.freeze());
+    }
+
+    /**
+     * This method computes the risk of using obsolete component licenses from the
+     * running sums of the contributions of the whole bill of components.
+     *
+     * @param tally The tally of the project of the context.
+     * @param context The context of the run: the project to be analysed and
+     * the licenses knowledge base to be used.
+     * @return the result of running the risk analysis.
+     */
+    @Override
+    protected RiskAnalysisResult getResultOf(RiskAnalysisTally tally, RiskAnalysisContext context) {
+        Project project = context.getProject();
+        MessageBuffer tips = createTips(context);
+        tips.addAll(tally.getTips());
+        boolean collectingTips = context.isCollectingTips();
+        int totalCases = tally.getNumberOfComponentBindings();
+        float riskExposure = toRatio(tally.getRiskExposure() / (float) totalCases);
+        float riskImpact = toRatio(tally.getRiskImpact() / (float) totalCases);
         if (riskExposure > NO_RISK) {
-            tips.add(ownI18N.getString(GENERAL_TIP_1));
-            tips.add(ownI18N.getString(GENERAL_TIP_2));
-            tips.add(ownI18N.getString(GENERAL_TIP_3));
-            tips.add(ownI18N.getString(GENERAL_TIP_4));
-            if (project.getLicenses().size() > ONE) {
-                tips.add(ownI18N.getString(GENERAL_TIP_5));
+            if (collectingTips) {
+                tips.add(new TranslatableMessage(GENERAL_TIP_1));
+                tips.add(new TranslatableMessage(GENERAL_TIP_2));
+                tips.add(new TranslatableMessage(GENERAL_TIP_3));
+                tips.add(new TranslatableMessage(GENERAL_TIP_4));
+                if (project.getLicenses().size() > ONE) {
+                    tips.add(new TranslatableMessage(GENERAL_TIP_5));
+                }
             }
         }
+        return new RiskAnalysisResult(handledRiskType, riskExposure, riskImpact, languageConfig.getLanguage(), tally.getRootCauses(), tally.getWarnings(), tally.getGoodThings(), tips.freeze());
     }
 
     @Override
@@ -149,23 +208,21 @@ public class RiskAnalyserObsoleteComponentsLicenses extends AbstractRiskAnalyser
             throw new IllegalArgumentException("languajeEvent cannot be null");
         }
         languageConfig.setLanguage(languageChangeEvent.getNewLanguage());
-        // reload resource bundles
-        obsolescencesI18N = Translations.SUPPORTED_OBSOLESCENCES.getResourceBundle(languageConfig.getLanguage().getLocale());
-        ownI18N = Translations.RISK_ANALYSER_OBSOLETE_COMPONENT_LICENSES.getResourceBundle(languageConfig.getLanguage().getLocale());
         fireLanguageChangeEvent();
     }
 
     private static final float NO_RISK = 0.0f;
+    private static final float NO_MAX_IMPACT = 0.0f;
     private static final int ONE = 1;
 
     // i18N Keys
-    private static final String IS_USING_THE_LICENSE = "IS_USING_THE_LICENSE";
-    private static final String TRY_TO_REPLACE = "TRY_TO_REPLACE";
-    private static final String BY_ANOTHER_COMPONENT_BLAH = "BY_ANOTHER_COMPONENT_BLAH";
-    private static final String GENERAL_TIP_1 = "GENERAL_TIP_1";
-    private static final String GENERAL_TIP_2 = "GENERAL_TIP_2";
-    private static final String GENERAL_TIP_3 = "GENERAL_TIP_3";
-    private static final String GENERAL_TIP_4 = "GENERAL_TIP_4";
-    private static final String GENERAL_TIP_5 = "GENERAL_TIP_5";
+    private static final TranslationKey IS_USING_THE_LICENSE = new TranslationKey(Translations.RISK_ANALYSER_OBSOLETE_COMPONENT_LICENSES, "IS_USING_THE_LICENSE");
+    private static final TranslationKey TRY_TO_REPLACE = new TranslationKey(Translations.RISK_ANALYSER_OBSOLETE_COMPONENT_LICENSES, "TRY_TO_REPLACE");
+    private static final TranslationKey BY_ANOTHER_COMPONENT_BLAH = new TranslationKey(Translations.RISK_ANALYSER_OBSOLETE_COMPONENT_LICENSES, "BY_ANOTHER_COMPONENT_BLAH");
+    private static final TranslationKey GENERAL_TIP_1 = new TranslationKey(Translations.RISK_ANALYSER_OBSOLETE_COMPONENT_LICENSES, "GENERAL_TIP_1");
+    private static final TranslationKey GENERAL_TIP_2 = new TranslationKey(Translations.RISK_ANALYSER_OBSOLETE_COMPONENT_LICENSES, "GENERAL_TIP_2");
+    private static final TranslationKey GENERAL_TIP_3 = new TranslationKey(Translations.RISK_ANALYSER_OBSOLETE_COMPONENT_LICENSES, "GENERAL_TIP_3");
+    private static final TranslationKey GENERAL_TIP_4 = new TranslationKey(Translations.RISK_ANALYSER_OBSOLETE_COMPONENT_LICENSES, "GENERAL_TIP_4");
+    private static final TranslationKey GENERAL_TIP_5 = new TranslationKey(Translations.RISK_ANALYSER_OBSOLETE_COMPONENT_LICENSES, "GENERAL_TIP_5");
 
 }
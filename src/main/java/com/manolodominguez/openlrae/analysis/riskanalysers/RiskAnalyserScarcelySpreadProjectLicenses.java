@@ -26,10 +26,14 @@ import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
 import com.manolodominguez.openlrae.arquitecture.Project;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedSpreadings;
-import com.manolodominguez.openlrae.bok.licenseproperties.LicensesSpreadingFactory;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesProfiles;
 import com.manolodominguez.openlrae.i18n.LanguageChangeEvent;
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
+import com.manolodominguez.openlrae.i18n.TranslationKey;
 import com.manolodominguez.openlrae.i18n.Translations;
-import java.util.ResourceBundle;
+import com.manolodominguez.openlrae.analysis.MessageBuffer;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisContext;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisResult;
 import org.slf4j.LoggerFactory;
 
 /**
@@ -60,9 +64,6 @@ import org.slf4j.LoggerFactory;
  */
 public class RiskAnalyserScarcelySpreadProjectLicenses extends AbstractRiskAnalyser {
 
-    private ResourceBundle spdxIdI18N;
-    private ResourceBundle spreadingsI18N;
-
     /**
      * This is the constructor of the class. It creates a new instance of
      * RiskAnalyserScarcelySpreadProjectLicenses.
@@ -73,53 +74,91 @@ public class RiskAnalyserScarcelySpreadProjectLicenses extends AbstractRiskAnaly
         // Project is ckecked at superclass
         super(project, SupportedRisks.HAVING_SCARCELY_SPREAD_PROJECT_LICENSES);
         logger = LoggerFactory.getLogger(RiskAnalyserScarcelySpreadProjectLicenses.class);
-        spdxIdI18N = Translations.SUPPORTED_LICENSES_SPDX_ID.getResourceBundle(languageConfig.getLanguage().getLocale());
-        spreadingsI18N = Translations.SUPPORTED_SPREADINGS.getResourceBundle(languageConfig.getLanguage().getLocale());
-        ownI18N = Translations.RISK_ANALYSER_SCARCELY_SPREAD_PROJECT_LICENSES.getResourceBundle(languageConfig.getLanguage().getLocale());
+    }
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * RiskAnalyserScarcelySpreadProjectLicenses that is not bound to any
+     * project, so the same instance can analyse any number of projects, even
+     * concurrently, through getRiskAnalisysResult(RiskAnalysisContext).
+     */
+    public RiskAnalyserScarcelySpreadProjectLicenses() {
+        super(SupportedRisks.HAVING_SCARCELY_SPREAD_PROJECT_LICENSES);
+        logger = LoggerFactory.getLogger(RiskAnalyserScarcelySpreadProjectLicenses.class);
     }
 
     /**
      * This method analyses the project and its components looking for risk of
      * using components whose license are poorly spread.
+     *
+     * @param context The context of the run: the project to be analysed and
+     * the licenses knowledge base to be used.
+     * @return the result of running the risk analysis.
      */
     @Override
-    public void runAnalyser() {
+    public RiskAnalysisResult runAnalyser(RiskAnalysisContext context) {
+        Project project = context.getProject();
+        float riskExposure = DEFAULT_EXPOSURE_LEVEL;
+        float riskImpact = DEFAULT_IMPACT_LEVEL;
+        MessageBuffer rootCauses = createMessages(context);
+        MessageBuffer warnings = createMessages(context);
+        MessageBuffer goodThings = createMessages(context);
+        MessageBuffer tips = createTips(context);
+        boolean collectingMessages = context.isCollectingMessages();
+        boolean collectingTips = context.isCollectingTips();
         SupportedSpreadings spreading;
-        LicensesSpreadingFactory licensesSpreading = LicensesSpreadingFactory.getInstance();
-        int totalCases = this.project.getLicenses().size();
-        for (SupportedLicenses projectLicense : this.project.getLicenses()) {
-            spreading = licensesSpreading.getSpreadingOf(projectLicense);
+        float spreadingValue;
+        LicensesProfiles licensesProfiles = context.getLicensesKnowledgeBase().getLicensesProfiles();
+        int totalCases = project.getLicenses().size();
+        for (SupportedLicenses projectLicense : project.getLicenses()) {
+            context.checkNotCancelled();
+            spreading = licensesProfiles.getSpreadingOf(projectLicense);
+            spreadingValue = licensesProfiles.getSpreadingValueOf(projectLicense);
             switch (spreading) {
                 case HIGHLY_WIDESPREAD:
                     // This project licenses is highly spread. Therefore there 
                     // is not risk of being scarcely spread in this case. 
-                    goodThings.add(project.getFullName() + ", " + ownI18N.getString(IS_RELEASED_UNDER_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(THAT) + " " + spreadingsI18N.getString(spreading.toString()));
+                    if (collectingMessages) {
+                        goodThings.add(new TranslatableMessage(project.getFullNameMessage(), ", ", IS_RELEASED_UNDER_BLAH, " ", projectLicense, " ", THAT, " ", spreading));
+                    }
                     break;
                 case NEAR_HIGHLY_WIDESPREAD:
                     // The analyzed license is not highly spread but is 
                     // closer to highly spread than to poorly spread. Therefore 
                     // there is risk of being scarcely spread in this case. 
-                    riskImpact += spreading.getSpreadingValue();
+                    riskImpact += spreadingValue;
                     riskExposure++;
-                    rootCauses.add(project.getFullName() + ", " + ownI18N.getString(IS_RELEASED_UNDER_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(THAT) + " " + spreadingsI18N.getString(spreading.toString()));
-                    tips.add(ownI18N.getString(TRY_TO_REPLACE_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(BY_A_MORE_BLAH));
+                    if (collectingMessages) {
+                        rootCauses.add(new TranslatableMessage(project.getFullNameMessage(), ", ", IS_RELEASED_UNDER_BLAH, " ", projectLicense, " ", THAT, " ", spreading));
+                        if (collectingTips) {
+                            tips.add(new TranslatableMessage(TRY_TO_REPLACE_BLAH, " ", projectLicense, " ", BY_A_MORE_BLAH));
+                        }
+                    }
                     break;
                 case NEAR_LITTLE_WIDESPREAD:
                     // The analyzed license is not highly spread but is 
                     // closer to poorly spread than to highly spread. Therefore 
                     // there is risk of being scarcely spread in this case. 
-                    riskImpact += spreading.getSpreadingValue();
+                    riskImpact += spreadingValue;
                     riskExposure++;
-                    rootCauses.add(project.getFullName() + ", " + ownI18N.getString(IS_RELEASED_UNDER_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(THAT) + " " + spreadingsI18N.getString(spreading.toString()));
-                    tips.add(ownI18N.getString(TRY_TO_REPLACE_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(BY_A_MORE_BLAH));
+                    if (collectingMessages) {
+                        rootCauses.add(new TranslatableMessage(project.getFullNameMessage(), ", ", IS_RELEASED_UNDER_BLAH, " ", projectLicense, " ", THAT, " ", spreading));
+                        if (collectingTips) {
+                            tips.add(new TranslatableMessage(TRY_TO_REPLACE_BLAH, " ", projectLicense, " ", BY_A_MORE_BLAH));
+                        }
+                    }
                     break;
                 case LITTLE_WIDESPREAD:
                     // This project license is poorly spread. Therefore there 
                     // is risk of being scarcely spread in this case. 
-                    riskImpact += spreading.getSpreadingValue();
+                    riskImpact += spreadingValue;
                     riskExposure++;
-                    rootCauses.add(project.getFullName() + ", " + ownI18N.getString(IS_RELEASED_UNDER_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(THAT) + " " + spreadingsI18N.getString(spreading.toString()));
-                    tips.add(ownI18N.getString(TRY_TO_REPLACE_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(BY_A_MORE_BLAH));
+                    if (collectingMessages) {
+                        rootCauses.add(new TranslatableMessage(project.getFullNameMessage(), ", ", IS_RELEASED_UNDER_BLAH, " ", projectLicense, " ", THAT, " ", spreading));
+                        if (collectingTips) {
+                            tips.add(new TranslatableMessage(TRY_TO_REPLACE_BLAH, " ", projectLicense, " ", BY_A_MORE_BLAH));
+                        }
+                    }
                     break;
                 default:
                     logger.warn("default case reached in switch ???");
@@ -129,14 +168,28 @@ public class RiskAnalyserScarcelySpreadProjectLicenses extends AbstractRiskAnaly
         riskExposure /= (float) totalCases;
         riskImpact /= (float) totalCases;
         if (riskExposure > NO_RISK) {
-            tips.add(ownI18N.getString(GENERAL_TIP_1));
-            tips.add(ownI18N.getString(GENERAL_TIP_2));
-            tips.add(ownI18N.getString(GENERAL_TIP_3));
-            tips.add(ownI18N.getString(GENERAL_TIP_4));
-            if (project.getLicenses().size() > ONE) {
-                tips.add(ownI18N.getString(GENERAL_TIP_5));
+            if (collectingTips) {
+                tips.add(new TranslatableMessage(GENERAL_TIP_1));
+                tips.add(new TranslatableMessage(GENERAL_TIP_2));
+                tips.add(new TranslatableMessage(GENERAL_TIP_3));
+                tips.add(new TranslatableMessage(GENERAL_TIP_4));
+                if (project.getLicenses().size() > ONE) {
+                    tips.add(new TranslatableMessage(GENERAL_TIP_5));
+                }
             }
         }
+        return new RiskAnalysisResult(handledRiskType, riskExposure, riskImpact, languageConfig.getLanguage(), rootCauses.freeze(), warnings.freeze(), goodThings.freeze(), tips.freeze());
+    }
+
+    /**
+     * This method gets the estimated cost of running this risk analyser. It
+     * is low because only the project licenses are analysed.
+     *
+     * @return the estimated cost of running this risk analyser.
+     */
+    @Override
+    public SupportedAnalysisCosts getAnalysisCost() {
+        return SupportedAnalysisCosts.LOW;
     }
 
     @Override
@@ -146,10 +199,6 @@ public class RiskAnalyserScarcelySpreadProjectLicenses extends AbstractRiskAnaly
             throw new IllegalArgumentException("languajeEvent cannot be null");
         }
         languageConfig.setLanguage(languageChangeEvent.getNewLanguage());
-        // reload resource bundles
-        spdxIdI18N = Translations.SUPPORTED_LICENSES_SPDX_ID.getResourceBundle(languageConfig.getLanguage().getLocale());
-        spreadingsI18N = Translations.SUPPORTED_SPREADINGS.getResourceBundle(languageConfig.getLanguage().getLocale());
-        ownI18N = Translations.RISK_ANALYSER_SCARCELY_SPREAD_PROJECT_LICENSES.getResourceBundle(languageConfig.getLanguage().getLocale());
         fireLanguageChangeEvent();
     }
 
@@ -157,14 +206,14 @@ public class RiskAnalyserScarcelySpreadProjectLicenses extends AbstractRiskAnaly
     private static final int ONE = 1;
 
     // i18N Keys
-    private static final String IS_RELEASED_UNDER_BLAH = "IS_RELEASED_UNDER_BLAH";
-    private static final String THAT = "THAT";
-    private static final String TRY_TO_REPLACE_BLAH = "TRY_TO_REPLACE_BLAH";
-    private static final String BY_A_MORE_BLAH = "BY_A_MORE_BLAH";
-    private static final String GENERAL_TIP_1 = "GENERAL_TIP_1";
-    private static final String GENERAL_TIP_2 = "GENERAL_TIP_2";
-    private static final String GENERAL_TIP_3 = "GENERAL_TIP_3";
-    private static final String GENERAL_TIP_4 = "GENERAL_TIP_4";
-    private static final String GENERAL_TIP_5 = "GENERAL_TIP_5";
+    private static final TranslationKey IS_RELEASED_UNDER_BLAH = new TranslationKey(Translations.RISK_ANALYSER_SCARCELY_SPREAD_PROJECT_LICENSES, "IS_RELEASED_UNDER_BLAH");
+    private static final TranslationKey THAT = new TranslationKey(Translations.RISK_ANALYSER_SCARCELY_SPREAD_PROJECT_LICENSES, "THAT");
+    private static final TranslationKey TRY_TO_REPLACE_BLAH = new TranslationKey(Translations.RISK_ANALYSER_SCARCELY_SPREAD_PROJECT_LICENSES, "TRY_TO_REPLACE_BLAH");
+    private static final TranslationKey BY_A_MORE_BLAH = new TranslationKey(Translations.RISK_ANALYSER_SCARCELY_SPREAD_PROJECT_LICENSES, "BY_A_MORE_BLAH");
+    private static final TranslationKey GENERAL_TIP_1 = new TranslationKey(Translations.RISK_ANALYSER_SCARCELY_SPREAD_PROJECT_LICENSES, "GENERAL_TIP_1");
+    private static final TranslationKey GENERAL_TIP_2 = new TranslationKey(Translations.RISK_ANALYSER_SCARCELY_SPREAD_PROJECT_LICENSES, "GENERAL_TIP_2");
+    private static final TranslationKey GENERAL_TIP_3 = new TranslationKey(Translations.RISK_ANALYSER_SCARCELY_SPREAD_PROJECT_LICENSES, "GENERAL_TIP_3");
+    private static final TranslationKey GENERAL_TIP_4 = new TranslationKey(Translations.RISK_ANALYSER_SCARCELY_SPREAD_PROJECT_LICENSES, "GENERAL_TIP_4");
+    private static final TranslationKey GENERAL_TIP_5 = new TranslationKey(Translations.RISK_ANALYSER_SCARCELY_SPREAD_PROJECT_LICENSES, "GENERAL_TIP_5");
 
 }
@@ -24,12 +24,17 @@ package com.manolodominguez.openlrae.analysis.riskanalysers;
 
 import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedTrends;
-import com.manolodominguez.openlrae.bok.licenseproperties.LicensesTrendFactory;
 import com.manolodominguez.openlrae.arquitecture.Project;
-import com.manolodominguez.openlrae.arquitecture.ComponentBinding;
 import com.manolodominguez.openlrae.i18n.LanguageChangeEvent;
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
+import com.manolodominguez.openlrae.i18n.TranslationKey;
 import com.manolodominguez.openlrae.i18n.Translations;
-import java.util.ResourceBundle;
+import com.manolodominguez.openlrae.analysis.MessageBuffer;
+import com.manolodominguez.openlrae.analysis.ComponentBindingContribution;
+import com.manolodominguez.openlrae.analysis.ComponentBindingsFacts;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisContext;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisResult;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisTally;
 import org.slf4j.LoggerFactory;
 
 /**
@@ -61,9 +66,7 @@ import org.slf4j.LoggerFactory;
  *
  * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
  */
-public class RiskAnalyserUnfashionableComponentsLicenses extends AbstractRiskAnalyser {
-
-    private ResourceBundle trendsI18N;
+public class RiskAnalyserUnfashionableComponentsLicenses extends AbstractIncrementalRiskAnalyser {
 
     /**
      * This is the constructor of the class. It creates a new instance of
@@ -75,77 +78,131 @@ public class RiskAnalyserUnfashionableComponentsLicenses extends AbstractRiskAna
         // Project is ckecked at superclass
         super(project, SupportedRisks.HAVING_UNFASHIONABLE_COMPONENTS_LICENSES);
         logger = LoggerFactory.getLogger(RiskAnalyserUnfashionableComponentsLicenses.class);
-        trendsI18N = Translations.SUPPORTED_TRENDS.getResourceBundle(languageConfig.getLanguage().getLocale());
-        ownI18N = Translations.RISK_ANALYSER_UNFASHIONABLE_COMPONENTS_LICENSES.getResourceBundle(languageConfig.getLanguage().getLocale());
     }
 
     /**
-     * This method analyses the bill of components looking for risk of using
-     * components with unfashionable licenses.
+     * This is the constructor of the class. It creates a new instance of
+     * RiskAnalyserUnfashionableComponentsLicenses that is not bound to any
+     * project, so the same instance can analyse any number of projects, even
+     * concurrently, through getRiskAnalisysResult(RiskAnalysisContext).
      */
-    @Override
-    public void runAnalyser() {
-        SupportedTrends trend;
-        LicensesTrendFactory licensesTrends = LicensesTrendFactory.getInstance();
-        int totalCases = this.project.getBillOfComponentBindings().size();
+    public RiskAnalyserUnfashionableComponentsLicenses() {
+        super(SupportedRisks.HAVING_UNFASHIONABLE_COMPONENTS_LICENSES);
+        logger = LoggerFactory.getLogger(RiskAnalyserUnfashionableComponentsLicenses.class);
+    }
 
-        for (ComponentBinding componentBinding : this.project.getBillOfComponentBindings()) {
-            trend = licensesTrends.getTrendOf(componentBinding.getComponent().getLicense());
-            switch (trend) {
-                case TRENDY:
-                    // The analyzed component is using a license that is trendy
-                    // (is being used more and more in third party projects). 
-                    // Therefore there is not unfashionable license risk in this
-                    // case. 
-                    goodThings.add(componentBinding.getFullName() + " " + ownI18N.getString(USES_A_LICENSE_THAT) + " " + trendsI18N.getString(trend.toString()) + ".");
-                    break;
-                case NEAR_TRENDY:
-                    // The analyzed component is using a license that is not 
-                    // completely trendy (is being used more and more in third 
-                    // party projects but slowly). Therefore there is 
-                    // unfashionable license risk in this case. 
-                    riskImpact += (trend.getTrendValue() * componentBinding.getWeight().getWeightValue());
-                    riskExposure += componentBinding.getWeight().getWeightValue();
-                    rootCauses.add(componentBinding.getFullName() + ", " + ownI18N.getString(USES_A_LICENSE_THAT) + " " + trendsI18N.getString(trend.toString()) + ".");
-                    tips.add(ownI18N.getString(TRY_TO_REPLACE) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(BY_ANOTHER_BLAH));
-                    break;
-                case NEAR_UNFASHIONABLE:
-                    // The analyzed component is using a license that is not 
-                    // trendy (is being used less and less in third party 
-                    // projects but slowly). Therefore there is unfashionable 
-                    // license risk in this case. 
-                    riskImpact += (trend.getTrendValue() * componentBinding.getWeight().getWeightValue());
-                    riskExposure += componentBinding.getWeight().getWeightValue();
-                    rootCauses.add(componentBinding.getFullName() + ", " + ownI18N.getString(USES_A_LICENSE_THAT) + " " + trendsI18N.getString(trend.toString()) + ".");
-                    tips.add(ownI18N.getString(TRY_TO_REPLACE) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(BY_ANOTHER_BLAH));
-                    break;
-                case UNFASHIONABLE:
-                    // The analyzed component is using a license that is not 
-                    // trendy at all (is poorly used or is being used less and 
-                    // less in third party projects but very fast). Therefore 
-                    // there is unfashionable license risk in this case. 
-                    riskImpact += (trend.getTrendValue() * componentBinding.getWeight().getWeightValue());
-                    riskExposure += componentBinding.getWeight().getWeightValue();
-                    rootCauses.add(componentBinding.getFullName() + ", " + ownI18N.getString(USES_A_LICENSE_THAT) + " " + trendsI18N.getString(trend.toString()) + ".");
-                    tips.add(ownI18N.getString(TRY_TO_REPLACE) + " " + componentBinding.getFullName() + ", " + ownI18N.getString(BY_ANOTHER_BLAH));
-                    break;
-                default:
-                    logger.warn("default case reached in switch ???");
-                    break;
-            }
+    /**
+     * This method computes the contribution of a component binding to the risk
+     * of using components with unfashionable licenses.
+     *
+     * @param facts The facts of the component bindings.
+     * @param componentBindingIndex The index of the component binding in the
+     * facts.
+     * @param context The context of the run: the project to be analysed and
+     * the licenses knowledge base to be used.
+     * @return the contribution of the component binding.
+     */
+    @Override
+    protected ComponentBindingContribution getContributionOf(ComponentBindingsFacts facts, int componentBindingIndex, RiskAnalysisContext context) {
+        float riskExposure = DEFAULT_EXPOSURE_LEVEL;
+        float riskImpact = DEFAULT_IMPACT_LEVEL;
+        MessageBuffer rootCauses = createMessages(context);
+        MessageBuffer warnings = createMessages(context);
+        MessageBuffer goodThings = createMessages(context);
+        MessageBuffer tips = createTips(context);
+        boolean collectingMessages = context.isCollectingMessages();
+        boolean collectingTips = context.isCollectingTips();
+        SupportedTrends trend = facts.getTrend(componentBindingIndex);
+        float trendValue = facts.getTrendValue(componentBindingIndex);
+        switch (trend) {
+            case TRENDY:
+                // The analyzed component is using a license that is trendy
+                // (is being used more and more in third party projects). 
+                // Therefore there is not unfashionable license risk in this
+                // case. 
+                if (collectingMessages) {
+                    goodThings.add(new TranslatableMessage(facts.getFullNameMessage(componentBindingIndex), " ", USES_A_LICENSE_THAT, " ", trend, "."));
+                }
+                break;
+            case NEAR_TRENDY:
+                // The analyzed component is using a license that is not 
+                // completely trendy (is being used more and more in third 
+                // party projects but slowly). Therefore there is 
+                // unfashionable license risk in this case. 
+                riskImpact += (trendValue * facts.getWeightValue(componentBindingIndex));
+                riskExposure += facts.getWeightValue(componentBindingIndex);
+                if (collectingMessages) {
+                    rootCauses.add(new TranslatableMessage(facts.getFullNameMessage(componentBindingIndex), ", ", USES_A_LICENSE_THAT, " ", trend, "."));
+                    if (collectingTips) {
+                        tips.add(new TranslatableMessage(TRY_TO_REPLACE, " ", facts.getFullNameMessage(componentBindingIndex), ", ", BY_ANOTHER_BLAH));
+                    }
+                }
+                break;
+            case NEAR_UNFASHIONABLE:
+                // The analyzed component is using a license that is not 
+                // trendy (is being used less and less in third party 
+                // projects but slowly). Therefore there is unfashionable 
+                // license risk in this case. 
+                riskImpact += (trendValue * facts.getWeightValue(componentBindingIndex));
+                riskExposure += facts.getWeightValue(componentBindingIndex);
+                if (collectingMessages) {
+                    rootCauses.add(new TranslatableMessage(facts.getFullNameMessage(componentBindingIndex), ", ", USES_A_LICENSE_THAT, " ", trend, "."));
+                    if (collectingTips) {
+                        tips.add(new TranslatableMessage(TRY_TO_REPLACE, " ", facts.getFullNameMessage(componentBindingIndex), ", ", BY_ANOTHER_BLAH));
+                    }
+                }
+                break;
+            case UNFASHIONABLE:
+                // The analyzed component is using a license that is not 
+                // trendy at all (is poorly used or is being used less and 
+                // less in third party projects but very fast). Therefore 
+                // there is unfashionable license risk in this case. 
+                riskImpact += (trendValue * facts.getWeightValue(componentBindingIndex));
+                riskExposure += facts.getWeightValue(componentBindingIndex);
+                if (collectingMessages) {
+                    rootCauses.add(new TranslatableMessage(facts.getFullNameMessage(componentBindingIndex), ", ", USES_A_LICENSE_THAT, " ", trend, "."));
+                    if (collectingTips) {
+                        tips.add(new TranslatableMessage(TRY_TO_REPLACE, " ", facts.getFullNameMessage(componentBindingIndex), ", ", BY_ANOTHER_BLAH));
+                    }
+                }
+                break;
+            default:
+                logger.warn("default case reached in switch ???");
+                break;
         }
+        return new ComponentBindingContribution(facts, componentBindingIndex, riskExposure, riskImpact, NO_MAX_IMPACT, rootCauses.freeze(), warnings.freeze(), goodThings.freeze(), tips.freeze());
+    }
 
-        riskExposure /= (float) totalCases;
-        riskImpact /= (float) totalCases;
+    /**
+     * This method computes the risk of using components with unfashionable licenses from the
+     * running sums of the contributions of the whole bill of components.
+     *
+     * @param tally The tally of the project of the context.
+     * @param context The context of the run: the project to be analysed and
+     * the licenses knowledge base to be used.
+     * @return the result of running the risk analysis.
+     */
+    @Override
+    protected RiskAnalysisResult getResultOf(RiskAnalysisTally tally, RiskAnalysisContext context) {
+        Project project = context.getProject();
+        MessageBuffer tips = createTips(context);
+        tips.addAll(tally.getTips());
+        boolean collectingTips = context.isCollectingTips();
+        int totalCases = tally.getNumberOfComponentBindings();
+        float riskExposure = toRatio(tally.getRiskExposure() / (float) totalCases);
+        float riskImpact = toRatio(tally.getRiskImpact() / (float) totalCases);
         if (riskExposure > NO_RISK) {
-            tips.add(ownI18N.getString(GENERAL_TIP_1));
-            tips.add(ownI18N.getString(GENERAL_TIP_2));
-            tips.add(ownI18N.getString(GENERAL_TIP_3));
-            tips.add(ownI18N.getString(GENERAL_TIP_4));
-            if (project.getLicenses().size() > ONE) {
-                tips.add(ownI18N.getString(GENERAL_TIP_5));
+            if (collectingTips) {
+                tips.add(new TranslatableMessage(GENERAL_TIP_1));
+                tips.add(new TranslatableMessage(GENERAL_TIP_2));
+                tips.add(new TranslatableMessage(GENERAL_TIP_3));
+                tips.add(new TranslatableMessage(GENERAL_TIP_4));
+                if (project.getLicenses().size() > ONE) {
+                    tips.add(new TranslatableMessage(GENERAL_TIP_5));
+                }
             }
         }
+        return new RiskAnalysisResult(handledRiskType, riskExposure, riskImpact, languageConfig.getLanguage(), tally.getRootCauses(), tally.getWarnings(), tally.getGoodThings(), tips.freeze());
     }
 
     @Override
@@ -155,23 +212,21 @@ public class RiskAnalyserUnfashionableComponentsLicenses extends AbstractRiskAna
             throw new IllegalArgumentException("languajeEvent cannot be null");
         }
         languageConfig.setLanguage(languageChangeEvent.getNewLanguage());
-        // reload resource bundles
-        trendsI18N = Translations.SUPPORTED_TRENDS.getResourceBundle(languageConfig.getLanguage().getLocale());
-        ownI18N = Translations.RISK_ANALYSER_UNFASHIONABLE_COMPONENTS_LICENSES.getResourceBundle(languageConfig.getLanguage().getLocale());
         fireLanguageChangeEvent();
     }
 
     private static final float NO_RISK = 0.0f;
+    private static final float NO_MAX_IMPACT = 0.0f;
     private static final int ONE = 1;
 
     // i18N Keys
-    private static final String USES_A_LICENSE_THAT = "USES_A_LICENSE_THAT";
-    private static final String TRY_TO_REPLACE = "TRY_TO_REPLACE";
-    private static final String BY_ANOTHER_BLAH = "BY_ANOTHER_BLAH";
-    private static final String GENERAL_TIP_1 = "GENERAL_TIP_1";
-    private static final String GENERAL_TIP_2 = "GENERAL_TIP_2";
-    private static final String GENERAL_TIP_3 = "GENERAL_TIP_3";
-    private static final String GENERAL_TIP_4 = "GENERAL_TIP_4";
-    private static final String GENERAL_TIP_5 = "GENERAL_TIP_5";
+    private static final TranslationKey USES_A_LICENSE_THAT = new TranslationKey(Translations.RISK_ANALYSER_UNFASHIONABLE_COMPONENTS_LICENSES, "USES_A_LICENSE_THAT");
+    private static final TranslationKey TRY_TO_REPLACE = new TranslationKey(Translations.RISK_ANALYSER_UNFASHIONABLE_COMPONENTS_LICENSES, "TRY_TO_REPLACE");
+    private static final TranslationKey BY_ANOTHER_BLAH = new TranslationKey(Translations.RISK_ANALYSER_UNFASHIONABLE_COMPONENTS_LICENSES, "BY_ANOTHER_BLAH");
+    private static final TranslationKey GENERAL_TIP_1 = new TranslationKey(Translations.RISK_ANALYSER_UNFASHIONABLE_COMPONENTS_LICENSES, "GENERAL_TIP_1");
+    private static final TranslationKey GENERAL_TIP_2 = new TranslationKey(Translations.RISK_ANALYSER_UNFASHIONABLE_COMPONENTS_LICENSES, "GENERAL_TIP_2");
+    private static final TranslationKey GENERAL_TIP_3 = new TranslationKey(Translations.RISK_ANALYSER_UNFASHIONABLE_COMPONENTS_LICENSES, "GENERAL_TIP_3");
+    private static final TranslationKey GENERAL_TIP_4 = new TranslationKey(Translations.RISK_ANALYSER_UNFASHIONABLE_COMPONENTS_LICENSES, "GENERAL_TIP_4");
+    private static final TranslationKey GENERAL_TIP_5 = new TranslationKey(Translations.RISK_ANALYSER_UNFASHIONABLE_COMPONENTS_LICENSES, "GENERAL_TIP_5");
 
 }
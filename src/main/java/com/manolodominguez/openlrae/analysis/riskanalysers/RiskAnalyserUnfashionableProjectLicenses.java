@@ -26,10 +26,14 @@ import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
 import com.manolodominguez.openlrae.arquitecture.Project;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedTrends;
-import com.manolodominguez.openlrae.bok.licenseproperties.LicensesTrendFactory;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesProfiles;
 import com.manolodominguez.openlrae.i18n.LanguageChangeEvent;
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
+import com.manolodominguez.openlrae.i18n.TranslationKey;
 import com.manolodominguez.openlrae.i18n.Translations;
-import java.util.ResourceBundle;
+import com.manolodominguez.openlrae.analysis.MessageBuffer;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisContext;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisResult;
 import org.slf4j.LoggerFactory;
 
 /**
@@ -59,9 +63,6 @@ import org.slf4j.LoggerFactory;
  */
 public class RiskAnalyserUnfashionableProjectLicenses extends AbstractRiskAnalyser {
 
-    private ResourceBundle spdxIdI18N;
-    private ResourceBundle trendsI18N;
-
     /**
      * This is the constructor of the class. It creates a new instance of
      * RiskAnalyserUnfashionableProjectLicenses.
@@ -72,53 +73,91 @@ public class RiskAnalyserUnfashionableProjectLicenses extends AbstractRiskAnalys
         // Project is ckecked at superclass
         super(project, SupportedRisks.HAVING_UNFASHIONABLE_PROJECT_LICENSES);
         logger = LoggerFactory.getLogger(RiskAnalyserUnfashionableProjectLicenses.class);
-        spdxIdI18N = Translations.SUPPORTED_LICENSES_SPDX_ID.getResourceBundle(languageConfig.getLanguage().getLocale());
-        trendsI18N = Translations.SUPPORTED_TRENDS.getResourceBundle(languageConfig.getLanguage().getLocale());
-        ownI18N = Translations.RISK_ANALYSER_UNFASHIONABLE_PROJECT_LICENSES.getResourceBundle(languageConfig.getLanguage().getLocale());
+    }
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * RiskAnalyserUnfashionableProjectLicenses that is not bound to any project,
+     * so the same instance can analyse any number of projects, even
+     * concurrently, through getRiskAnalisysResult(RiskAnalysisContext).
+     */
+    public RiskAnalyserUnfashionableProjectLicenses() {
+        super(SupportedRisks.HAVING_UNFASHIONABLE_PROJECT_LICENSES);
+        logger = LoggerFactory.getLogger(RiskAnalyserUnfashionableProjectLicenses.class);
     }
 
     /**
      * This method analyse the project licenses looking for risk of using
      * unfashionable project licenses.
+     *
+     * @param context The context of the run: the project to be analysed and
+     * the licenses knowledge base to be used.
+     * @return the result of running the risk analysis.
      */
     @Override
-    public void runAnalyser() {
+    public RiskAnalysisResult runAnalyser(RiskAnalysisContext context) {
+        Project project = context.getProject();
+        float riskExposure = DEFAULT_EXPOSURE_LEVEL;
+        float riskImpact = DEFAULT_IMPACT_LEVEL;
+        MessageBuffer rootCauses = createMessages(context);
+        MessageBuffer warnings = createMessages(context);
+        MessageBuffer goodThings = createMessages(context);
+        MessageBuffer tips = createTips(context);
+        boolean collectingMessages = context.isCollectingMessages();
+        boolean collectingTips = context.isCollectingTips();
         SupportedTrends trend;
-        LicensesTrendFactory licensesTrends = LicensesTrendFactory.getInstance();
-        int totalCases = this.project.getLicenses().size();
-        for (SupportedLicenses projectLicense : this.project.getLicenses()) {
-            trend = licensesTrends.getTrendOf(projectLicense);
+        float trendValue;
+        LicensesProfiles licensesProfiles = context.getLicensesKnowledgeBase().getLicensesProfiles();
+        int totalCases = project.getLicenses().size();
+        for (SupportedLicenses projectLicense : project.getLicenses()) {
+            context.checkNotCancelled();
+            trend = licensesProfiles.getTrendOf(projectLicense);
+            trendValue = licensesProfiles.getTrendValueOf(projectLicense);
             switch (trend) {
                 case TRENDY:
                     // This project licenses is trendy. Therefore there is not 
                     // risk of being unfashionable in this case. 
-                    goodThings.add(project.getFullName() + ", " + ownI18N.getString(IS_RELEASED_UNDER_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(THAT) + " " + trendsI18N.getString(trend.toString()));
+                    if (collectingMessages) {
+                        goodThings.add(new TranslatableMessage(project.getFullNameMessage(), ", ", IS_RELEASED_UNDER_BLAH, " ", projectLicense, " ", THAT, " ", trend));
+                    }
                     break;
                 case NEAR_TRENDY:
                     // The analyzed license is not completely trendy but is 
                     // closer to trendy than to unfashionable. Therefore there 
                     // is risk of being unfashioable in this case. 
-                    riskImpact += trend.getTrendValue();
+                    riskImpact += trendValue;
                     riskExposure++;
-                    rootCauses.add(project.getFullName() + ", " + ownI18N.getString(IS_RELEASED_UNDER_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(THAT) + " " + trendsI18N.getString(trend.toString()) + ".");
-                    tips.add(ownI18N.getString(TRY_TO_REPLACE_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(BY_A_TRENDIER_BLAH));
+                    if (collectingMessages) {
+                        rootCauses.add(new TranslatableMessage(project.getFullNameMessage(), ", ", IS_RELEASED_UNDER_BLAH, " ", projectLicense, " ", THAT, " ", trend, "."));
+                        if (collectingTips) {
+                            tips.add(new TranslatableMessage(TRY_TO_REPLACE_BLAH, " ", projectLicense, " ", BY_A_TRENDIER_BLAH));
+                        }
+                    }
                     break;
                 case NEAR_UNFASHIONABLE:
                     // The analyzed license is not completely trendy but is 
                     // closer to unfashionable than to trendy. Therefore there 
                     // is risk of being unfashioable in this case. 
-                    riskImpact += trend.getTrendValue();
+                    riskImpact += trendValue;
                     riskExposure++;
-                    rootCauses.add(project.getFullName() + ", " + ownI18N.getString(IS_RELEASED_UNDER_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(THAT) + " " + trendsI18N.getString(trend.toString()) + ".");
-                    tips.add(ownI18N.getString(TRY_TO_REPLACE_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(BY_A_TRENDIER_BLAH));
+                    if (collectingMessages) {
+                        rootCauses.add(new TranslatableMessage(project.getFullNameMessage(), ", ", IS_RELEASED_UNDER_BLAH, " ", projectLicense, " ", THAT, " ", trend, "."));
+                        if (collectingTips) {
+                            tips.add(new TranslatableMessage(TRY_TO_REPLACE_BLAH, " ", projectLicense, " ", BY_A_TRENDIER_BLAH));
+                        }
+                    }
                     break;
                 case UNFASHIONABLE:
                     // This project license is trendy. Therefore there is risk 
                     // of being unfashionable in this case. 
-                    riskImpact += trend.getTrendValue();
+                    riskImpact += trendValue;
                     riskExposure++;
-                    rootCauses.add(project.getFullName() + ", " + ownI18N.getString(IS_RELEASED_UNDER_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(THAT) + " " + trendsI18N.getString(trend.toString()) + ".");
-                    tips.add(ownI18N.getString(TRY_TO_REPLACE_BLAH) + " " + spdxIdI18N.getString(projectLicense.toString()) + " " + ownI18N.getString(BY_A_TRENDIER_BLAH));
+                    if (collectingMessages) {
+                        rootCauses.add(new TranslatableMessage(project.getFullNameMessage(), ", ", IS_RELEASED_UNDER_BLAH, " ", projectLicense, " ", THAT, " ", trend, "."));
+                        if (collectingTips) {
+                            tips.add(new TranslatableMessage(TRY_TO_REPLACE_BLAH, " ", projectLicense, " ", BY_A_TRENDIER_BLAH));
+                        }
+                    }
                     break;
                 default:
                     logger.warn("default case reached in switch ???");
@@ -128,14 +167,28 @@ public class RiskAnalyserUnfashionableProjectLicenses extends AbstractRiskAnalys
         riskExposure /= (float) totalCases;
         riskImpact /= (float) totalCases;
         if (riskExposure > NO_RISK) {
-            tips.add(ownI18N.getString(GENERAL_TIP_1));
-            tips.add(ownI18N.getString(GENERAL_TIP_2));
-            tips.add(ownI18N.getString(GENERAL_TIP_3));
-            tips.add(ownI18N.getString(GENERAL_TIP_4));
-            if (project.getLicenses().size() > ONE) {
-                tips.add(ownI18N.getString(GENERAL_TIP_5));
+            if (collectingTips) {
+                tips.add(new TranslatableMessage(GENERAL_TIP_1));
+                tips.add(new TranslatableMessage(GENERAL_TIP_2));
+                tips.add(new TranslatableMessage(GENERAL_TIP_3));
+                tips.add(new TranslatableMessage(GENERAL_TIP_4));
+                if (project.getLicenses().size() > ONE) {
+                    tips.add(new TranslatableMessage(GENERAL_TIP_5));
+                }
             }
         }
+        return new RiskAnalysisResult(handledRiskType, riskExposure, riskImpact, languageConfig.getLanguage(), rootCauses.freeze(), warnings.freeze(), goodThings.freeze(), tips.freeze());
+    }
+
+    /**
+     * This method gets the estimated cost of running this risk analyser. It
+     * is low because only the project licenses are analysed.
+     *
+     * @return the estimated cost of running this risk analyser.
+     */
+    @Override
+    public SupportedAnalysisCosts getAnalysisCost() {
+        return SupportedAnalysisCosts.LOW;
     }
 
     @Override
@@ -145,10 +198,6 @@ public class RiskAnalyserUnfashionableProjectLicenses extends AbstractRiskAnalys
             throw new IllegalArgumentException("languajeEvent cannot be null");
         }
         languageConfig.setLanguage(languageChangeEvent.getNewLanguage());
-        // reload resource bundles
-        spdxIdI18N = Translations.SUPPORTED_LICENSES_SPDX_ID.getResourceBundle(languageConfig.getLanguage().getLocale());
-        trendsI18N = Translations.SUPPORTED_TRENDS.getResourceBundle(languageConfig.getLanguage().getLocale());
-        ownI18N = Translations.RISK_ANALYSER_UNFASHIONABLE_PROJECT_LICENSES.getResourceBundle(languageConfig.getLanguage().getLocale());
         fireLanguageChangeEvent();
     }
 
@@ -156,14 +205,14 @@ public class RiskAnalyserUnfashionableProjectLicenses extends AbstractRiskAnalys
     private static final int ONE = 1;
 
     // i18N Keys
-    private static final String IS_RELEASED_UNDER_BLAH = "IS_RELEASED_UNDER_BLAH";
-    private static final String THAT = "THAT";
-    private static final String TRY_TO_REPLACE_BLAH = "TRY_TO_REPLACE_BLAH";
-    private static final String BY_A_TRENDIER_BLAH = "BY_A_TRENDIER_BLAH";
-    private static final String GENERAL_TIP_1 = "GENERAL_TIP_1";
-    private static final String GENERAL_TIP_2 = "GENERAL_TIP_2";
-    private static final String GENERAL_TIP_3 = "GENERAL_TIP_3";
-    private static final String GENERAL_TIP_4 = "GENERAL_TIP_4";
-    private static final String GENERAL_TIP_5 = "GENERAL_TIP_5";
+    private static final TranslationKey IS_RELEASED_UNDER_BLAH = new TranslationKey(Translations.RISK_ANALYSER_UNFASHIONABLE_PROJECT_LICENSES, "IS_RELEASED_UNDER_BLAH");
+    private static final TranslationKey THAT = new TranslationKey(Translations.RISK_ANALYSER_UNFASHIONABLE_PROJECT_LICENSES, "THAT");
+    private static final TranslationKey TRY_TO_REPLACE_BLAH = new TranslationKey(Translations.RISK_ANALYSER_UNFASHIONABLE_PROJECT_LICENSES, "TRY_TO_REPLACE_BLAH");
+    private static final TranslationKey BY_A_TRENDIER_BLAH = new TranslationKey(Translations.RISK_ANALYSER_UNFASHIONABLE_PROJECT_LICENSES, "BY_A_TRENDIER_BLAH");
+    private static final TranslationKey GENERAL_TIP_1 = new TranslationKey(Translations.RISK_ANALYSER_UNFASHIONABLE_PROJECT_LICENSES, "GENERAL_TIP_1");
+    private static final TranslationKey GENERAL_TIP_2 = new TranslationKey(Translations.RISK_ANALYSER_UNFASHIONABLE_PROJECT_LICENSES, "GENERAL_TIP_2");
+    private static final TranslationKey GENERAL_TIP_3 = new TranslationKey(Translations.RISK_ANALYSER_UNFASHIONABLE_PROJECT_LICENSES, "GENERAL_TIP_3");
+    private static final TranslationKey GENERAL_TIP_4 = new TranslationKey(Translations.RISK_ANALYSER_UNFASHIONABLE_PROJECT_LICENSES, "GENERAL_TIP_4");
+    private static final TranslationKey GENERAL_TIP_5 = new TranslationKey(Translations.RISK_ANALYSER_UNFASHIONABLE_PROJECT_LICENSES, "GENERAL_TIP_5");
 
 }
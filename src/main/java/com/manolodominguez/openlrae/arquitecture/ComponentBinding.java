@@ -28,8 +28,10 @@ import com.manolodominguez.openlrae.i18n.ILanguageChangeListener;
 import com.manolodominguez.openlrae.i18n.LanguageChangeEvent;
 import com.manolodominguez.openlrae.i18n.LanguageConfig;
 import com.manolodominguez.openlrae.i18n.SupportedLanguages;
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
+import com.manolodominguez.openlrae.i18n.TranslationTable;
 import com.manolodominguez.openlrae.i18n.Translations;
-import java.util.ResourceBundle;
+import com.manolodominguez.openlrae.i18n.TranslationsRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -52,8 +54,9 @@ public class ComponentBinding implements ILanguageChangeListener {
     private SupportedComponentWeights weight;
     private SupportedLinks link;
     private LanguageConfig languageConfig;
-    private ResourceBundle spdxIdI18N;
-    private ResourceBundle linksI18N;
+    private TranslationTable spdxIdI18N;
+    private TranslationTable linksI18N;
+    private final TranslatableMessage fullNameMessage;
 
     /**
      * This is the constuctor of the class. It creates a new instance of
@@ -83,8 +86,9 @@ public class ComponentBinding implements ILanguageChangeListener {
         this.link = link;
         this.weight = weight;
         languageConfig = new LanguageConfig();
-        spdxIdI18N = Translations.SUPPORTED_LICENSES_SPDX_ID.getResourceBundle(languageConfig.getLanguage().getLocale());
-        linksI18N = Translations.SUPPORTED_LINKS.getResourceBundle(languageConfig.getLanguage().getLocale());
+        spdxIdI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.SUPPORTED_LICENSES_SPDX_ID);
+        linksI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.SUPPORTED_LINKS);
+        fullNameMessage = new TranslatableMessage(component.getName(), "-", component.getVersion(), " (", component.getLicense(), "), ", link);
     }
 
     /**
@@ -137,6 +141,30 @@ public class ComponentBinding implements ILanguageChangeListener {
         return component.getName() + " ("+spdxIdI18N.getString(component.getLicense().toString()) + "), " + linksI18N.getString(link.toString());
     }
 
+    /**
+     * This method gets the name, version and license of the component as a
+     * message that is translated only when it is read. It is the same text
+     * getFullName() returns.
+     *
+     * @return the name, version and license of the component, as a
+     * translatable message.
+     */
+    public TranslatableMessage getFullNameMessage() {
+        return fullNameMessage;
+    }
+
+    /**
+     * This method gets the name and license of the component as a message
+     * that is translated only when it is read. It is the same text
+     * getFullNameForDummyComponent() returns.
+     *
+     * @return the name and license of the component, as a translatable
+     * message.
+     */
+    public TranslatableMessage getFullNameMessageForDummyComponent() {
+        return new TranslatableMessage(component.getName(), " (", component.getLicense(), "), ", link);
+    }
+
     /**
      * This method gets the language currently configured.
      *
@@ -153,8 +181,8 @@ public class ComponentBinding implements ILanguageChangeListener {
             throw new IllegalArgumentException("languajeEvent cannot be null");
         }
         languageConfig.setLanguage(languageChangeEvent.getNewLanguage());
-        // Reload resource bundles
-        spdxIdI18N = Translations.SUPPORTED_LICENSES_SPDX_ID.getResourceBundle(languageConfig.getLanguage().getLocale());
-        linksI18N = Translations.SUPPORTED_LINKS.getResourceBundle(languageConfig.getLanguage().getLocale());
+        // Pick the shared translation tables of the new language
+        spdxIdI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.SUPPORTED_LICENSES_SPDX_ID);
+        linksI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.SUPPORTED_LINKS);
     }
 }
@@ -0,0 +1,44 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.arquitecture;
+
+import java.util.EventListener;
+
+/**
+ * This interface has to be implemented by classes that has to receive events in
+ * case of changes in a project, for instance to update a risk analysis
+ * incrementally instead of running it again from scratch.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public interface IProjectChangeListener extends EventListener {
+
+    /**
+     * This method, once implemented, should receive a ProjectChangeEvent from
+     * a project that has changed.
+     *
+     * @param projectChangeEvent a ProjectChangeEvent from a project that has
+     * changed. This object contains also the kind of change.
+     */
+    public void onProjectChange(ProjectChangeEvent projectChangeEvent);
+}
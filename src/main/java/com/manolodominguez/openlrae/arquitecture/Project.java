@@ -32,12 +32,20 @@ import com.manolodominguez.openlrae.i18n.LanguageChangeEvent;
 import com.manolodominguez.openlrae.resourceslocators.FilesPaths;
 import com.manolodominguez.openlrae.i18n.LanguageConfig;
 import com.manolodominguez.openlrae.i18n.SupportedLanguages;
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
+import com.manolodominguez.openlrae.i18n.TranslationKey;
+import com.manolodominguez.openlrae.i18n.TranslationTable;
 import com.manolodominguez.openlrae.i18n.Translations;
+import com.manolodominguez.openlrae.i18n.TranslationsRegistry;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.ResourceBundle;
 import java.util.concurrent.CopyOnWriteArrayList;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -67,9 +75,11 @@ public class Project implements ILanguageChangeEventEmitter, ILanguageChangeList
     private SupportedRedistributions redistribution;
     private List<ComponentBinding> billOfComponentBindings;
     private LanguageConfig languageConfig;
-    protected ResourceBundle ownI18N;
-    private ResourceBundle spdxIdI18N;
-    private ResourceBundle redistributionsI18N;
+    protected TranslationTable ownI18N;
+    private TranslationTable spdxIdI18N;
+    private TranslationTable redistributionsI18N;
+    private final List<IProjectChangeListener> projectChangeListeners = new CopyOnWriteArrayList<>();
+    private volatile TranslatableMessage fullNameMessage;
 
     /**
      * This is the constuctor of the class.It creates a new instance of Project.
@@ -140,9 +150,9 @@ public class Project implements ILanguageChangeEventEmitter, ILanguageChangeList
         billOfComponentBindings = new CopyOnWriteArrayList<>();
         billOfComponentBindings.add(firstComponentBinding);
         languageConfig = new LanguageConfig();
-        ownI18N = Translations.PROJECT.getResourceBundle(languageConfig.getLanguage().getLocale());
-        spdxIdI18N = Translations.SUPPORTED_LICENSES_SPDX_ID.getResourceBundle(languageConfig.getLanguage().getLocale());
-        redistributionsI18N = Translations.SUPPORTED_REDISTRIBUTIONS.getResourceBundle(languageConfig.getLanguage().getLocale());
+        ownI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.PROJECT);
+        spdxIdI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.SUPPORTED_LICENSES_SPDX_ID);
+        redistributionsI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.SUPPORTED_REDISTRIBUTIONS);
     }
 
     /**
@@ -173,9 +183,9 @@ public class Project implements ILanguageChangeEventEmitter, ILanguageChangeList
             throw new IllegalArgumentException("projectDefinitionAsJSONString is not a JSON string");
         }
         languageConfig = new LanguageConfig();
-        ownI18N = Translations.PROJECT.getResourceBundle(languageConfig.getLanguage().getLocale());
-        spdxIdI18N = Translations.SUPPORTED_LICENSES_SPDX_ID.getResourceBundle(languageConfig.getLanguage().getLocale());
-        redistributionsI18N = Translations.SUPPORTED_REDISTRIBUTIONS.getResourceBundle(languageConfig.getLanguage().getLocale());
+        ownI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.PROJECT);
+        spdxIdI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.SUPPORTED_LICENSES_SPDX_ID);
+        redistributionsI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.SUPPORTED_REDISTRIBUTIONS);
     }
 
     /**
@@ -211,9 +221,9 @@ public class Project implements ILanguageChangeEventEmitter, ILanguageChangeList
             throw new IllegalArgumentException("projectDefinition file does not exist");
         }
         languageConfig = new LanguageConfig();
-        ownI18N = Translations.PROJECT.getResourceBundle(languageConfig.getLanguage().getLocale());
-        spdxIdI18N = Translations.SUPPORTED_LICENSES_SPDX_ID.getResourceBundle(languageConfig.getLanguage().getLocale());
-        redistributionsI18N = Translations.SUPPORTED_REDISTRIBUTIONS.getResourceBundle(languageConfig.getLanguage().getLocale());
+        ownI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.PROJECT);
+        spdxIdI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.SUPPORTED_LICENSES_SPDX_ID);
+        redistributionsI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.SUPPORTED_REDISTRIBUTIONS);
     }
 
     /**
@@ -231,9 +241,8 @@ public class Project implements ILanguageChangeEventEmitter, ILanguageChangeList
             throw new IllegalArgumentException("projectDefinition cannot be null");
         }
         try {
-            JSONObject rawSchema = new JSONObject(new JSONTokener(getClass().getResourceAsStream(FilesPaths.PROJECT_SCHEMA.getFilePath())));
-            Schema sch = SchemaLoader.load(rawSchema);
-            sch.validate(projectDefinition); // throws a ValidationException if this object is invalid
+            // The schema is loaded once and shared by every project.
+            ProjectSchemaHolder.PROJECT_SCHEMA.validate(projectDefinition); // throws a ValidationException if this object is invalid
             return true;
         } catch (ValidationException ex) {
             return false;
@@ -314,6 +323,72 @@ public class Project implements ILanguageChangeEventEmitter, ILanguageChangeList
         }
         billOfComponentBindings.add(componentBinding);
         componentBinding.onLanguageChange(new LanguageChangeEvent(this, languageConfig.getLanguage()));
+        fireProjectChangeEvent(SupportedProjectChanges.COMPONENT_BINDING_ADDED, componentBinding);
+    }
+
+    /**
+     * This method removes a component binding from the bill of component
+     * bindings of the project. A project has to have at least one component
+     * binding, so the last one cannot be removed.
+     *
+     * @param componentBinding the component binding to be removed.
+     * @return true, if the component binding was in the bill of component
+     * bindings and has been removed. Otherwise, false.
+     */
+    public boolean removeComponentBinding(ComponentBinding componentBinding) {
+        if (componentBinding == null) {
+            logger.error("componentBinding cannot be null");
+            throw new IllegalArgumentException("componentBinding cannot be null");
+        }
+        if (!billOfComponentBindings.contains(componentBinding)) {
+            return false;
+        }
+        if (billOfComponentBindings.size() == ONE) {
+            logger.error("The last component binding of a project cannot be removed");
+            throw new IllegalStateException("The last component binding of a project cannot be removed");
+        }
+        billOfComponentBindings.remove(componentBinding);
+        fireProjectChangeEvent(SupportedProjectChanges.COMPONENT_BINDING_REMOVED, componentBinding);
+        return true;
+    }
+
+    /**
+     * This method adds a listener that will be notified of every component
+     * binding added or removed and every license added from now on. Changes
+     * made directly on the list returned by getBillOfComponentBindings() are
+     * not notified.
+     *
+     * @param projectChangeListener the listener to be notified.
+     */
+    public void addProjectChangeListener(IProjectChangeListener projectChangeListener) {
+        if (projectChangeListener == null) {
+            logger.error("projectChangeListener cannot be null");
+            throw new IllegalArgumentException("projectChangeListener cannot be null");
+        }
+        projectChangeListeners.add(projectChangeListener);
+    }
+
+    /**
+     * This method removes a listener, that will not be notified of changes in
+     * the project any longer.
+     *
+     * @param projectChangeListener the listener to be removed.
+     */
+    public void removeProjectChangeListener(IProjectChangeListener projectChangeListener) {
+        if (projectChangeListener == null) {
+            logger.error("projectChangeListener cannot be null");
+            throw new IllegalArgumentException("projectChangeListener cannot be null");
+        }
+        projectChangeListeners.remove(projectChangeListener);
+    }
+
+    private void fireProjectChangeEvent(SupportedProjectChanges change, ComponentBinding componentBinding) {
+        if (!projectChangeListeners.isEmpty()) {
+            ProjectChangeEvent projectChangeEvent = new ProjectChangeEvent(this, change, componentBinding);
+            for (IProjectChangeListener projectChangeListener : projectChangeListeners) {
+                projectChangeListener.onProjectChange(projectChangeEvent);
+            }
+        }
     }
 
     /**
@@ -341,6 +416,40 @@ public class Project implements ILanguageChangeEventEmitter, ILanguageChangeList
         return fullName;
     }
 
+    /**
+     * This method gets the name, version and licenses of the project as a
+     * message that is translated only when it is read. It is the same text
+     * getFullName() returns. The message is kept until a license is added to
+     * the project, so messages got before keep the licenses the project had
+     * then.
+     *
+     * @return the name, version and licenses of the project, as a
+     * translatable message.
+     */
+    public TranslatableMessage getFullNameMessage() {
+        TranslatableMessage message = fullNameMessage;
+        if (message == null) {
+            List<Object> terms = new ArrayList<>();
+            terms.add(name);
+            terms.add("-");
+            terms.add(version);
+            terms.add(" (");
+            for (SupportedLicenses projectLicense : licenses) {
+                if (terms.size() > FULL_NAME_PREFIX_TERMS) {
+                    terms.add(", ");
+                }
+                terms.add(projectLicense);
+            }
+            terms.add("), ");
+            terms.add(THAT_KEY);
+            terms.add(" ");
+            terms.add(redistribution);
+            message = new TranslatableMessage(terms.toArray());
+            fullNameMessage = message;
+        }
+        return message;
+    }
+
     /**
      * This method gets the version of the project.
      *
@@ -364,6 +473,8 @@ public class Project implements ILanguageChangeEventEmitter, ILanguageChangeList
             throw new IllegalArgumentException("additionalLicense cannot be null");
         }
         licenses.add(additionalLicense);
+        fullNameMessage = null;
+        fireProjectChangeEvent(SupportedProjectChanges.LICENSE_ADDED, null);
     }
 
     /**
@@ -402,6 +513,59 @@ public class Project implements ILanguageChangeEventEmitter, ILanguageChangeList
         return billOfComponentBindings;
     }
 
+    /**
+     * This method gets a canonical fingerprint of the project: a SHA-256 hash
+     * of its name, version, licenses and redistribution, and of the multiset
+     * of its component bindings (license, link, weight, name and version of
+     * each one). The order of the component bindings does not matter, so two
+     * projects with the same definition have the same fingerprint, even if
+     * they list their components in a different order.
+     *
+     * @return the fingerprint of the project, as an hexadecimal string.
+     */
+    public String getFingerprint() {
+        List<String> canonicalComponentBindings = new ArrayList<>();
+        for (ComponentBinding componentBinding : billOfComponentBindings) {
+            StringBuilder canonicalComponentBinding = new StringBuilder();
+            appendCanonicalField(canonicalComponentBinding, componentBinding.getComponent().getLicense().toString());
+            appendCanonicalField(canonicalComponentBinding, componentBinding.getLinkType().toString());
+            appendCanonicalField(canonicalComponentBinding, componentBinding.getWeight().toString());
+            appendCanonicalField(canonicalComponentBinding, componentBinding.getComponent().getName());
+            appendCanonicalField(canonicalComponentBinding, componentBinding.getComponent().getVersion());
+            canonicalComponentBindings.add(canonicalComponentBinding.toString());
+        }
+        Collections.sort(canonicalComponentBindings);
+        StringBuilder canonicalProject = new StringBuilder();
+        appendCanonicalField(canonicalProject, name);
+        appendCanonicalField(canonicalProject, version);
+        appendCanonicalField(canonicalProject, redistribution.toString());
+        appendCanonicalField(canonicalProject, String.valueOf(licenses.size()));
+        for (SupportedLicenses projectLicense : licenses) {
+            appendCanonicalField(canonicalProject, projectLicense.toString());
+        }
+        appendCanonicalField(canonicalProject, String.valueOf(canonicalComponentBindings.size()));
+        for (String canonicalComponentBinding : canonicalComponentBindings) {
+            canonicalProject.append(canonicalComponentBinding);
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance(FINGERPRINT_ALGORITHM).digest(canonicalProject.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder fingerprint = new StringBuilder();
+            for (byte hashByte : hash) {
+                fingerprint.append(String.format(HEX_BYTE_FORMAT, hashByte));
+            }
+            return fingerprint.toString();
+        } catch (NoSuchAlgorithmException ex) {
+            logger.error(FINGERPRINT_ALGORITHM + " is not available");
+            throw new IllegalStateException(FINGERPRINT_ALGORITHM + " is not available", ex);
+        }
+    }
+
+    private void appendCanonicalField(StringBuilder canonicalForm, String field) {
+        // Each field is prefixed by its length, so no separator can be faked
+        // by the content of a field.
+        canonicalForm.append(field.length()).append(FIELD_LENGTH_SEPARATOR).append(field);
+    }
+
     @Override
     public void fireLanguageChangeEvent() {
         for (ComponentBinding componentBinding : billOfComponentBindings) {
@@ -416,16 +580,28 @@ public class Project implements ILanguageChangeEventEmitter, ILanguageChangeList
             throw new IllegalArgumentException("languajeEvent cannot be null");
         }
         languageConfig.setLanguage(languageChangeEvent.getNewLanguage());
-        // reload resource bundles
-        ownI18N = Translations.PROJECT.getResourceBundle(languageConfig.getLanguage().getLocale());
-        spdxIdI18N = Translations.SUPPORTED_LICENSES_SPDX_ID.getResourceBundle(languageConfig.getLanguage().getLocale());
-        redistributionsI18N = Translations.SUPPORTED_REDISTRIBUTIONS.getResourceBundle(languageConfig.getLanguage().getLocale());
+        // pick the shared translation tables of the new language
+        ownI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.PROJECT);
+        spdxIdI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.SUPPORTED_LICENSES_SPDX_ID);
+        redistributionsI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.SUPPORTED_REDISTRIBUTIONS);
         fireLanguageChangeEvent();
     }
 
     private static final int ZERO = 0;
+    private static final int ONE = 1;
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+    private static final String HEX_BYTE_FORMAT = "%02x";
+    private static final char FIELD_LENGTH_SEPARATOR = ':';
+
+    private static final int FULL_NAME_PREFIX_TERMS = 4;
 
     // i18N Keys
     private static final String THAT = "THAT";
+    private static final TranslationKey THAT_KEY = new TranslationKey(Translations.PROJECT, THAT);
+
+    private static final class ProjectSchemaHolder {
+
+        private static final Schema PROJECT_SCHEMA = SchemaLoader.load(new JSONObject(new JSONTokener(Project.class.getResourceAsStream(FilesPaths.PROJECT_SCHEMA.getFilePath()))));
+    }
 
 }
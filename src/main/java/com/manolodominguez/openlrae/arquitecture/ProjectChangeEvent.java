@@ -0,0 +1,97 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.arquitecture;
+
+import java.util.EventObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements a event used to notify a change in a project to its
+ * project change listeners.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+@SuppressWarnings("serial")
+public class ProjectChangeEvent extends EventObject {
+
+    private transient Logger logger = LoggerFactory.getLogger(ProjectChangeEvent.class);
+    private SupportedProjectChanges change;
+    private transient ComponentBinding componentBinding;
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * ProjectChangeEvent.
+     *
+     * @param source The project that has changed.
+     * @param change The kind of change.
+     * @param componentBinding The component binding that has been added or
+     * removed. Null for changes other than these ones.
+     */
+    public ProjectChangeEvent(Project source, SupportedProjectChanges change, ComponentBinding componentBinding) {
+        super(source);
+        if (source == null) {
+            logger.error("source cannot be null");
+            throw new IllegalArgumentException("source cannot be null");
+        }
+        if (change == null) {
+            logger.error("change cannot be null");
+            throw new IllegalArgumentException("change cannot be null");
+        }
+        if ((change != SupportedProjectChanges.LICENSE_ADDED) && (componentBinding == null)) {
+            logger.error("componentBinding cannot be null when a component binding is added or removed");
+            throw new IllegalArgumentException("componentBinding cannot be null when a component binding is added or removed");
+        }
+        this.change = change;
+        this.componentBinding = componentBinding;
+    }
+
+    /**
+     * This method gets the project that has changed.
+     *
+     * @return the project that has changed.
+     */
+    public Project getProject() {
+        return (Project) getSource();
+    }
+
+    /**
+     * This method gets the kind of change.
+     *
+     * @return the kind of change.
+     */
+    public SupportedProjectChanges getChange() {
+        return change;
+    }
+
+    /**
+     * This method gets the component binding that has been added or removed.
+     *
+     * @return the component binding that has been added or removed. Null for
+     * changes other than these ones.
+     */
+    public ComponentBinding getComponentBinding() {
+        return componentBinding;
+    }
+
+}
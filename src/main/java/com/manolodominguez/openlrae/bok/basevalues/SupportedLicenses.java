@@ -124,7 +124,7 @@ public enum SupportedLicenses {
      * @return TRUE, if the component can be applied only to components.
      * Otherwise, returns FALSE.
      */
-    private boolean isOnlyForComponents() {
+    public boolean isOnlyForComponents() {
         return onlyForComponents;
     }
 
@@ -22,16 +22,19 @@
  */
 package com.manolodominguez.openlrae.bok.licenseproperties;
 
+import com.manolodominguez.openlrae.arquitecture.ComponentBinding;
 import com.manolodominguez.openlrae.bok.licenseproperties.licensecompatibilities.LicenseCompatibilityEntry;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedCompatibilities;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedRedistributions;
-import com.manolodominguez.openlrae.bok.licenseproperties.licensecompatibilities.DynamicAndNone;
-import com.manolodominguez.openlrae.bok.licenseproperties.licensecompatibilities.DynamicAndSofwarePackageOrSaaS;
-import com.manolodominguez.openlrae.bok.licenseproperties.licensecompatibilities.StaticAndNone;
-import com.manolodominguez.openlrae.bok.licenseproperties.licensecompatibilities.StaticAndSofwarePackageOrSaaS;
+import com.manolodominguez.openlrae.bok.licenseproperties.licensecompatibilities.PrecompiledCompatibilities;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,46 +48,76 @@ public final class LicensesCompatibilityFactory {
 
     private Logger logger = LoggerFactory.getLogger(LicensesCompatibilityFactory.class);
 
-    private static LicensesCompatibilityFactory instance;
-    private final CopyOnWriteArrayList<LicenseCompatibilityEntry> licensesCompatibilities;
+    private final List<LicenseCompatibilityEntry> licensesCompatibilities;
+    private final List<LicensesCompatibilityPolicy> policies;
+    private final AtomicReferenceArray<LicensesCompatibilitySlice> slices;
+    private final AtomicReference<LicensesCompatibilityGraph> graph = new AtomicReference<>();
 
     /**
      * This is the constructor of the class. It creates a new instance of
-     * LicensesCompatibilityFactory.
+     * LicensesCompatibilityFactory with the built-in base of knowledge. The
+     * base of knowledge is split in (link, redistribution) slices that are
+     * loaded the first time they are queried.
      *
      */
-    private LicensesCompatibilityFactory() {
-        licensesCompatibilities = new CopyOnWriteArrayList<>();
-        licensesCompatibilities.addAll(StaticAndNone.getInstance().getCompatibilities());
-        licensesCompatibilities.addAll(DynamicAndNone.getInstance().getCompatibilities());
-        licensesCompatibilities.addAll(StaticAndSofwarePackageOrSaaS.getInstance().getCompatibilities());
-        licensesCompatibilities.addAll(DynamicAndSofwarePackageOrSaaS.getInstance().getCompatibilities());
+    LicensesCompatibilityFactory() {
+        licensesCompatibilities = null;
+        policies = new CopyOnWriteArrayList<>();
+        slices = new AtomicReferenceArray<>(SupportedRedistributions.values().length * SupportedLinks.values().length);
     }
 
     /**
-     * This method returns an instance of this class. This class implements the
-     * singleton pattern. This means that only a single instance of this class
-     * can be created. This method creates the first instance or returns it if
-     * it is already created.
+     * This is the constructor of the class. It creates a new instance of
+     * LicensesCompatibilityFactory whose base of knowledge is made of the
+     * specified compatibility entries, instead of the built-in ones.
+     *
+     * @param licensesCompatibilities The compatibility entries of the base of
+     * knowledge. Combinations not included are UNSUPPORTED.
+     */
+    LicensesCompatibilityFactory(List<LicenseCompatibilityEntry> licensesCompatibilities) {
+        if (licensesCompatibilities == null) {
+            logger.error("licensesCompatibilities cannot be null");
+            throw new IllegalArgumentException("licensesCompatibilities cannot be null");
+        }
+        this.licensesCompatibilities = new CopyOnWriteArrayList<>(licensesCompatibilities);
+        policies = new CopyOnWriteArrayList<>();
+        slices = new AtomicReferenceArray<>(SupportedRedistributions.values().length * SupportedLinks.values().length);
+    }
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * LicensesCompatibilityFactory with the same base of knowledge and
+     * policies than the specified one, plus a new policy on top of them.
+     *
+     * @param base The factory whose base of knowledge and policies are used.
+     * @param policy The policy to be applied on top of the base factory.
+     */
+    private LicensesCompatibilityFactory(LicensesCompatibilityFactory base, LicensesCompatibilityPolicy policy) {
+        this.licensesCompatibilities = base.licensesCompatibilities;
+        this.policies = new CopyOnWriteArrayList<>(base.policies);
+        this.policies.add(policy);
+        slices = new AtomicReferenceArray<>(SupportedRedistributions.values().length * SupportedLinks.values().length);
+    }
+
+    /**
+     * This method returns the instance of this class that belongs to the
+     * licenses knowledge base currently in use (see LicensesKnowledgeBase). It
+     * is the same instance until a new knowledge base is put in use, so
+     * callers should get it once and use it for the whole analysis.
      *
      * @return An instance of LicensesCompatibilityFactory.
      */
     public static LicensesCompatibilityFactory getInstance() {
-        LicensesCompatibilityFactory localInstance = LicensesCompatibilityFactory.instance;
-        if (localInstance == null) {
-            synchronized (LicensesCompatibilityFactory.class) {
-                localInstance = LicensesCompatibilityFactory.instance;
-                if (localInstance == null) {
-                    LicensesCompatibilityFactory.instance = localInstance = new LicensesCompatibilityFactory();
-                }
-            }
-        }
-        return localInstance;
+        return LicensesKnowledgeBase.getCurrent().getLicensesCompatibilityFactory();
     }
 
     /**
-     * This method gets the compatibility of a component (with a license) if it
-     * is included in a project having its own license.
+     * This method gets the entry of the base of knowledge that solves the
+     * compatibility of a component (with a license) if it is included in a
+     * project having its own license. It is a single probe in a table indexed
+     * by the ordinals of the arguments, so callers that need the compatibility
+     * and the specific warning of the same combination should use this method
+     * once instead of querying them separately.
      *
      * @param componentLicense The license of the component whose compatiblity
      * is to be queried.
@@ -92,11 +125,10 @@ public final class LicensesCompatibilityFactory {
      * going to be included.
      * @param link The way the component is included in the project.
      * @param redistribution How the project is going to be redistributed.
-     * @return The compatibility between the license of the component and the
-     * license of the project taking into account the overall context defined by
-     * the rest of parameters.
+     * @return The entry of the base of knowledge for the specified combination
+     * or null if the combination is not supported by OpenLRAE yet.
      */
-    public SupportedCompatibilities getCompatibilityOf(SupportedLicenses componentLicense, SupportedLicenses projectLicense, SupportedLinks link, SupportedRedistributions redistribution) {
+    public LicenseCompatibilityEntry lookup(SupportedLicenses componentLicense, SupportedLicenses projectLicense, SupportedLinks link, SupportedRedistributions redistribution) {
         if (componentLicense == null) {
             logger.error("componentLicense cannot be null");
             throw new IllegalArgumentException("componentLicense cannot be null");
@@ -113,13 +145,28 @@ public final class LicensesCompatibilityFactory {
             logger.error("redistribution cannot be null");
             throw new IllegalArgumentException("redistribution cannot be null");
         }
-        for (LicenseCompatibilityEntry licenseCompatibilityEntry : this.licensesCompatibilities) {
-            if ((licenseCompatibilityEntry.getComponentLicense() == componentLicense)
-                    && (licenseCompatibilityEntry.getProjectLicense() == projectLicense)
-                    && (licenseCompatibilityEntry.getRedistribution() == redistribution)
-                    && (licenseCompatibilityEntry.getLink() == link)) {
-                return licenseCompatibilityEntry.getCompatibility();
-            }
+        return getSlice(link, redistribution).lookup(componentLicense, projectLicense);
+    }
+
+    /**
+     * This method gets the compatibility of a component (with a license) if it
+     * is included in a project having its own license.
+     *
+     * @param componentLicense The license of the component whose compatiblity
+     * is to be queried.
+     * @param projectLicense The license of the project where the component is
+     * going to be included.
+     * @param link The way the component is included in the project.
+     * @param redistribution How the project is going to be redistributed.
+     * @return The compatibility between the license of the component and the
+     * license of the project taking into account the overall context defined by
+     * the rest of parameters.
+     */
+    public SupportedCompatibilities getCompatibilityOf(SupportedLicenses componentLicense, SupportedLicenses projectLicense, SupportedLinks link, SupportedRedistributions redistribution) {
+        // Arguments are checked in lookup(...)
+        LicenseCompatibilityEntry licenseCompatibilityEntry = lookup(componentLicense, projectLicense, link, redistribution);
+        if (licenseCompatibilityEntry != null) {
+            return licenseCompatibilityEntry.getCompatibility();
         }
         return SupportedCompatibilities.UNSUPPORTED;
     }
@@ -138,29 +185,10 @@ public final class LicensesCompatibilityFactory {
      * warning. Otherwise, FALSE.
      */
     public boolean hasASpecificWarning(SupportedLicenses componentLicense, SupportedLicenses projectLicense, SupportedLinks link, SupportedRedistributions redistribution) {
-        if (componentLicense == null) {
-            logger.error("componentLicense cannot be null");
-            throw new IllegalArgumentException("componentLicense cannot be null");
-        }
-        if (projectLicense == null) {
-            logger.error("projectLicense cannot be null");
-            throw new IllegalArgumentException("projectLicense cannot be null");
-        }
-        if (link == null) {
-            logger.error("link cannot be null");
-            throw new IllegalArgumentException("link cannot be null");
-        }
-        if (redistribution == null) {
-            logger.error("redistribution cannot be null");
-            throw new IllegalArgumentException("redistribution cannot be null");
-        }
-        for (LicenseCompatibilityEntry licenseCompatibilityEntry : this.licensesCompatibilities) {
-            if ((licenseCompatibilityEntry.getComponentLicense() == componentLicense)
-                    && (licenseCompatibilityEntry.getProjectLicense() == projectLicense)
-                    && (licenseCompatibilityEntry.getRedistribution() == redistribution)
-                    && (licenseCompatibilityEntry.getLink() == link)) {
-                return licenseCompatibilityEntry.hasSpecificWarning();
-            }
+        // Arguments are checked in lookup(...)
+        LicenseCompatibilityEntry licenseCompatibilityEntry = lookup(componentLicense, projectLicense, link, redistribution);
+        if (licenseCompatibilityEntry != null) {
+            return licenseCompatibilityEntry.hasSpecificWarning();
         }
         return false;
     }
@@ -181,14 +209,105 @@ public final class LicensesCompatibilityFactory {
      * IllegalStateException exception is thrown.
      */
     public String getSpecificWarningKey(SupportedLicenses componentLicense, SupportedLicenses projectLicense, SupportedLinks link, SupportedRedistributions redistribution) {
+        // Arguments are checked in lookup(...)
+        LicenseCompatibilityEntry licenseCompatibilityEntry = lookup(componentLicense, projectLicense, link, redistribution);
+        if (licenseCompatibilityEntry != null) {
+            return licenseCompatibilityEntry.getSpecificWarningKey();
+        }
+        logger.error("You have tried to get the specific warning of a compatibility combination that does not have one.");
+        throw new IllegalStateException("You have tried to get the specific warning of a compatibility combination that does not have one.");
+    }
+
+    /**
+     * This method gets, at once, the compatibility of each component binding
+     * of a bill of component bindings with each license of a set of project
+     * licenses. Arguments are checked once and each (link, redistribution)
+     * slice is resolved once, instead of doing it for each query as
+     * getCompatibilityOf(...) does. The result can be shared by all risk
+     * analysers of a run.
+     *
+     * @param componentBindings The bill of component bindings of the project.
+     * @param projectLicenses The licenses of the project.
+     * @param redistribution How the project is going to be redistributed.
+     * @return the compatibility verdicts, having a row per component binding
+     * and a column per project license, in the same order they are specified.
+     */
+    public LicensesCompatibilityVerdicts getCompatibilitiesOf(List<ComponentBinding> componentBindings, List<SupportedLicenses> projectLicenses, SupportedRedistributions redistribution) {
+        if (componentBindings == null) {
+            logger.error("componentBindings cannot be null");
+            throw new IllegalArgumentException("componentBindings cannot be null");
+        }
+        if (projectLicenses == null) {
+            logger.error("projectLicenses cannot be null");
+            throw new IllegalArgumentException("projectLicenses cannot be null");
+        }
+        if (redistribution == null) {
+            logger.error("redistribution cannot be null");
+            throw new IllegalArgumentException("redistribution cannot be null");
+        }
+        // Snapshots, so rows and columns match the arrays being filled.
+        ComponentBinding[] bindings = componentBindings.toArray(new ComponentBinding[0]);
+        SupportedLicenses[] licenses = projectLicenses.toArray(new SupportedLicenses[0]);
+        for (SupportedLicenses projectLicense : licenses) {
+            if (projectLicense == null) {
+                logger.error("projectLicenses cannot contain null licenses");
+                throw new IllegalArgumentException("projectLicenses cannot contain null licenses");
+            }
+        }
+        LicensesCompatibilitySlice[] linkSlices = new LicensesCompatibilitySlice[SupportedLinks.values().length];
+        byte[] compatibilities = new byte[bindings.length * licenses.length];
+        BitSet specificWarnings = new BitSet(compatibilities.length);
+        String[] specificWarningKeys = new String[compatibilities.length];
+        int cell = 0;
+        for (ComponentBinding componentBinding : bindings) {
+            if (componentBinding == null) {
+                logger.error("componentBindings cannot contain null bindings");
+                throw new IllegalArgumentException("componentBindings cannot contain null bindings");
+            }
+            LicensesCompatibilitySlice slice = linkSlices[componentBinding.getLinkType().ordinal()];
+            if (slice == null) {
+                slice = getSlice(componentBinding.getLinkType(), redistribution);
+                linkSlices[componentBinding.getLinkType().ordinal()] = slice;
+            }
+            for (SupportedLicenses projectLicense : licenses) {
+                LicenseCompatibilityEntry licenseCompatibilityEntry = slice.lookup(componentBinding.getComponent().getLicense(), projectLicense);
+                if (licenseCompatibilityEntry == null) {
+                    compatibilities[cell] = (byte) SupportedCompatibilities.UNSUPPORTED.ordinal();
+                } else {
+                    compatibilities[cell] = (byte) licenseCompatibilityEntry.getCompatibility().ordinal();
+                    if (licenseCompatibilityEntry.hasSpecificWarning()) {
+                        specificWarnings.set(cell);
+                        specificWarningKeys[cell] = licenseCompatibilityEntry.getSpecificWarningKey();
+                    }
+                }
+                cell++;
+            }
+        }
+        return new LicensesCompatibilityVerdicts(bindings.length, licenses.length, compatibilities, specificWarnings, specificWarningKeys);
+    }
+
+    /**
+     * This method gets, as a bitmask, the set of project licenses that would
+     * get the specified compatibility value with a component under the
+     * specified license, included in the project in the specified way and
+     * redistributed as specified. Bit number N of the mask represents the
+     * project license whose ordinal is N. So the set of project licenses that
+     * are feasible for a whole bill of components can be computed with a few
+     * bitwise operations, instead of querying each combination.
+     *
+     * @param componentLicense The license of the component.
+     * @param link The way the component is included in the project.
+     * @param redistribution How the project is going to be redistributed.
+     * @param compatibility The compatibility value the project licenses have
+     * to get.
+     * @return a bitmask containing the project licenses that would get the
+     * specified compatibility value.
+     */
+    public long getProjectLicensesMask(SupportedLicenses componentLicense, SupportedLinks link, SupportedRedistributions redistribution, SupportedCompatibilities compatibility) {
         if (componentLicense == null) {
             logger.error("componentLicense cannot be null");
             throw new IllegalArgumentException("componentLicense cannot be null");
         }
-        if (projectLicense == null) {
-            logger.error("projectLicense cannot be null");
-            throw new IllegalArgumentException("projectLicense cannot be null");
-        }
         if (link == null) {
             logger.error("link cannot be null");
             throw new IllegalArgumentException("link cannot be null");
@@ -197,36 +316,181 @@ public final class LicensesCompatibilityFactory {
             logger.error("redistribution cannot be null");
             throw new IllegalArgumentException("redistribution cannot be null");
         }
-        for (LicenseCompatibilityEntry licenseCompatibilityEntry : this.licensesCompatibilities) {
-            if ((licenseCompatibilityEntry.getComponentLicense() == componentLicense)
-                    && (licenseCompatibilityEntry.getProjectLicense() == projectLicense)
-                    && (licenseCompatibilityEntry.getRedistribution() == redistribution)
-                    && (licenseCompatibilityEntry.getLink() == link)) {
-                return licenseCompatibilityEntry.getSpecificWarningKey();
+        if (compatibility == null) {
+            logger.error("compatibility cannot be null");
+            throw new IllegalArgumentException("compatibility cannot be null");
+        }
+        return getSlice(link, redistribution).getProjectLicensesMask(componentLicense, compatibility);
+    }
+
+    /**
+     * This method gets, as a bitmask, the set of all licenses that can be used
+     * as project licenses. Bit number N of the mask represents the project
+     * license whose ordinal is N.
+     *
+     * @return a bitmask containing all licenses that can be used as project
+     * licenses.
+     */
+    public long getAllProjectLicensesMask() {
+        long mask = NO_BITS;
+        for (SupportedLicenses projectLicense : SupportedLicenses.getLicensesForProjects()) {
+            mask |= (ONE_BIT << projectLicense.ordinal());
+        }
+        return mask;
+    }
+
+    /**
+     * This method creates a new LicensesCompatibilityFactory that applies the
+     * specified policy on top of the base of knowledge and the policies of this
+     * one. This factory is not modified. Overrides are merged into the lookup
+     * tables of the new factory when each slice is loaded, so stacking
+     * policies does not make queries slower.
+     *
+     * @param policy The policy to be applied.
+     * @return a new LicensesCompatibilityFactory that applies the specified
+     * policy.
+     */
+    public LicensesCompatibilityFactory withPolicy(LicensesCompatibilityPolicy policy) {
+        if (policy == null) {
+            logger.error("policy cannot be null");
+            throw new IllegalArgumentException("policy cannot be null");
+        }
+        return new LicensesCompatibilityFactory(this, policy);
+    }
+
+    /**
+     * This method gets the policies applied by this factory, in the order
+     * they are stacked. The last one has the highest priority.
+     *
+     * @return the policies applied by this factory.
+     */
+    public List<LicensesCompatibilityPolicy> getPolicies() {
+        return new CopyOnWriteArrayList<>(this.policies);
+    }
+
+    /**
+     * This method gets the slices of the base of knowledge that have been
+     * loaded so far. It is a diagnostic method to know which parts of the base
+     * of knowledge are being used.
+     *
+     * @return the slices of the base of knowledge that have been loaded so far.
+     */
+    public List<LicensesCompatibilitySlice> getLoadedSlices() {
+        CopyOnWriteArrayList<LicensesCompatibilitySlice> loadedSlices = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < slices.length(); i++) {
+            if (slices.get(i) != null) {
+                loadedSlices.add(slices.get(i));
             }
         }
-        logger.error("You have tried to get the specific warning of a compatibility combination that does not have one.");
-        throw new IllegalStateException("You have tried to get the specific warning of a compatibility combination that does not have one.");
+        return loadedSlices;
     }
 
     /**
      * This method gets the number of different combinations (componentLicense,
      * projectLicense, link, redistribution) contained in the base of knowledge
-     * of this factory.
+     * of this factory. All slices are loaded to compute it.
      *
      * @return the number of different combinations (componentLicense,
      * projectLicense, link, redistribution) contained in the base of knowledge
      * of this factory
      */
     public int getNumberOfSupportedCombinations() {
-        return this.licensesCompatibilities.size();
+        int numberOfSupportedCombinations = 0;
+        for (SupportedRedistributions redistribution : SupportedRedistributions.values()) {
+            for (SupportedLinks link : SupportedLinks.values()) {
+                numberOfSupportedCombinations += getSlice(link, redistribution).getNumberOfSupportedCombinations();
+            }
+        }
+        return numberOfSupportedCombinations;
     }
 
     public float getLicensesCoverage() {
         int numberOfSupportedComponentLicenses = SupportedLicenses.getLicensesForComponents().length;
         int numberOfSupportedProjectLicenses = SupportedLicenses.getLicensesForProjects().length;
         int potentialCombinations = numberOfSupportedComponentLicenses * numberOfSupportedProjectLicenses * SupportedLinks.values().length * SupportedRedistributions.values().length;
-        return ((float) licensesCompatibilities.size() / (float) potentialCombinations);
+        return ((float) getNumberOfSupportedCombinations() / (float) potentialCombinations);
+    }
+
+    /**
+     * This method gets the ratio of combinations (componentLicense,
+     * projectLicense) contained in the base of knowledge of this factory for
+     * the specified link and redistribution, over all the potential ones. Only
+     * the corresponding slice is loaded to compute it.
+     *
+     * @param link The link used to bind components to projects.
+     * @param redistribution The redistribution of the project.
+     * @return the ratio of supported combinations for the specified link and
+     * redistribution, in the range [0.0, 1.0].
+     */
+    public float getLicensesCoverage(SupportedLinks link, SupportedRedistributions redistribution) {
+        int numberOfSupportedComponentLicenses = SupportedLicenses.getLicensesForComponents().length;
+        int numberOfSupportedProjectLicenses = SupportedLicenses.getLicensesForProjects().length;
+        int potentialCombinations = numberOfSupportedComponentLicenses * numberOfSupportedProjectLicenses;
+        return ((float) getSlice(link, redistribution).getNumberOfSupportedCombinations() / (float) potentialCombinations);
+    }
+
+    /**
+     * This method gets the compatibility graph of the base of knowledge of this
+     * factory. It is built, loading all slices, the first time it is queried.
+     *
+     * @return the compatibility graph of the base of knowledge of this
+     * factory.
+     */
+    public LicensesCompatibilityGraph getCompatibilityGraph() {
+        LicensesCompatibilityGraph compatibilityGraph = graph.get();
+        if (compatibilityGraph == null) {
+            // Lock-free, as slices: the first graph published is the one used.
+            compatibilityGraph = new LicensesCompatibilityGraph(this);
+            if (!graph.compareAndSet(null, compatibilityGraph)) {
+                compatibilityGraph = graph.get();
+            }
+        }
+        return compatibilityGraph;
+    }
+
+    /**
+     * This method gets the slice of the base of knowledge of this factory that
+     * contains every compatibility for the specified link and redistribution,
+     * indexed by project and component license. It is loaded if it was not
+     * loaded yet.
+     *
+     * @param link The link used to bind components to projects.
+     * @param redistribution The redistribution of the project.
+     * @return the slice for the specified link and redistribution.
+     */
+    public LicensesCompatibilitySlice getSlice(SupportedLinks link, SupportedRedistributions redistribution) {
+        if (link == null) {
+            logger.error("link cannot be null");
+            throw new IllegalArgumentException("link cannot be null");
+        }
+        if (redistribution == null) {
+            logger.error("redistribution cannot be null");
+            throw new IllegalArgumentException("redistribution cannot be null");
+        }
+        int index = (redistribution.ordinal() * SupportedLinks.values().length) + link.ordinal();
+        LicensesCompatibilitySlice slice = slices.get(index);
+        if (slice == null) {
+            // Lock-free: if several threads load the same slice at the same 
+            // time, all of them use the one that was published first.
+            // Slices are first-wins, so overrides of the policies go first,
+            // the ones of the last policy on top.
+            List<LicenseCompatibilityEntry> sliceCompatibilities = new ArrayList<>();
+            for (int i = policies.size() - 1; i >= 0; i--) {
+                sliceCompatibilities.addAll(policies.get(i).getOverrides(link, redistribution));
+            }
+            if (licensesCompatibilities == null) {
+                sliceCompatibilities.addAll(PrecompiledCompatibilities.getInstance().getCompatibilities(link, redistribution));
+            } else {
+                sliceCompatibilities.addAll(licensesCompatibilities);
+            }
+            slice = new LicensesCompatibilitySlice(link, redistribution, sliceCompatibilities);
+            if (!slices.compareAndSet(index, null, slice)) {
+                slice = slices.get(index);
+            }
+        }
+        return slice;
     }
 
+    private static final long ONE_BIT = 1L;
+    private static final long NO_BITS = 0L;
 }
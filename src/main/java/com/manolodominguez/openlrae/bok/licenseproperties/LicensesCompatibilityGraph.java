@@ -0,0 +1,315 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.bok.licenseproperties;
+
+import com.manolodominguez.openlrae.arquitecture.ComponentBinding;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedCompatibilities;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRedistributions;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements a graph view of the licenses compatibility base of
+ * knowledge of a LicensesCompatibilityFactory. Licenses are the nodes and, for
+ * each (link, redistribution), there is an edge from a component license to
+ * every project license it is COMPATIBLE or FORCED_COMPATIBLE with. Both the
+ * edges and their transitive closure (computed with Warshall's algorithm) are
+ * stored as bit matrices: a bitmask per license where bit number N represents
+ * the license whose ordinal is N. So questions about the project licenses that
+ * keep a whole bill of components compatible, or about relicensing paths, are
+ * solved with a few bitwise operations instead of running risk analysers.
+ * Instances are immutable.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public final class LicensesCompatibilityGraph {
+
+    private Logger logger = LoggerFactory.getLogger(LicensesCompatibilityGraph.class);
+
+    private final long[][] edges;
+    private final long[][] closures;
+    private final long allProjectLicensesMask;
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * LicensesCompatibilityGraph from the base of knowledge of the specified
+     * factory. All its slices are loaded.
+     *
+     * @param licensesCompatibilityFactory The factory the graph is built from.
+     */
+    public LicensesCompatibilityGraph(LicensesCompatibilityFactory licensesCompatibilityFactory) {
+        if (licensesCompatibilityFactory == null) {
+            logger.error("licensesCompatibilityFactory cannot be null");
+            throw new IllegalArgumentException("licensesCompatibilityFactory cannot be null");
+        }
+        int numberOfLicenses = SupportedLicenses.values().length;
+        edges = new long[SupportedRedistributions.values().length * SupportedLinks.values().length][numberOfLicenses];
+        closures = new long[edges.length][];
+        allProjectLicensesMask = licensesCompatibilityFactory.getAllProjectLicensesMask();
+        for (SupportedRedistributions redistribution : SupportedRedistributions.values()) {
+            for (SupportedLinks link : SupportedLinks.values()) {
+                int index = getIndex(link, redistribution);
+                for (SupportedLicenses license : SupportedLicenses.values()) {
+                    for (SupportedCompatibilities compatibility : EDGE_COMPATIBILITIES) {
+                        edges[index][license.ordinal()] |= licensesCompatibilityFactory.getProjectLicensesMask(license, link, redistribution, compatibility);
+                    }
+                }
+                // Warshall's algorithm over bit rows: if i reaches k, i also
+                // reaches everything k reaches.
+                long[] closure = Arrays.copyOf(edges[index], numberOfLicenses);
+                for (int k = 0; k < numberOfLicenses; k++) {
+                    long kBit = ONE_BIT << k;
+                    for (int i = 0; i < numberOfLicenses; i++) {
+                        if ((closure[i] & kBit) != NO_BITS) {
+                            closure[i] |= closure[k];
+                        }
+                    }
+                }
+                closures[index] = closure;
+            }
+        }
+    }
+
+    /**
+     * This method gets, as a bitmask, the set of project licenses a component
+     * under the specified license is directly compatible with, when included
+     * in the project in the specified way and redistributed as specified.
+     *
+     * @param componentLicense The license of the component.
+     * @param link The way the component is included in the project.
+     * @param redistribution How the project is going to be redistributed.
+     * @return a bitmask containing the project licenses the component license
+     * is directly compatible with.
+     */
+    public long getCompatibleProjectLicensesMask(SupportedLicenses componentLicense, SupportedLinks link, SupportedRedistributions redistribution) {
+        checkArguments(componentLicense, link, redistribution);
+        return edges[getIndex(link, redistribution)][componentLicense.ordinal()];
+    }
+
+    /**
+     * This method gets, as a bitmask, the set of licenses that can be reached
+     * from the specified one by following one or more compatibility edges for
+     * the specified link and redistribution. That is, the licenses a work
+     * under the specified license could end up being distributed under, being
+     * included as a component in successive projects.
+     *
+     * @param license The license the paths start from.
+     * @param link The way each component is included in each project.
+     * @param redistribution How each project is going to be redistributed.
+     * @return a bitmask containing the licenses that can be reached from the
+     * specified one.
+     */
+    public long getReachableLicensesMask(SupportedLicenses license, SupportedLinks link, SupportedRedistributions redistribution) {
+        checkArguments(license, link, redistribution);
+        return closures[getIndex(link, redistribution)][license.ordinal()];
+    }
+
+    /**
+     * This method checks whether a license can be reached from another one by
+     * following one or more compatibility edges for the specified link and
+     * redistribution.
+     *
+     * @param fromLicense The license the path starts from.
+     * @param toLicense The license the path ends in.
+     * @param link The way each component is included in each project.
+     * @param redistribution How each project is going to be redistributed.
+     * @return true, if toLicense can be reached from fromLicense. Otherwise,
+     * false.
+     */
+    public boolean isReachable(SupportedLicenses fromLicense, SupportedLicenses toLicense, SupportedLinks link, SupportedRedistributions redistribution) {
+        if (toLicense == null) {
+            logger.error("toLicense cannot be null");
+            throw new IllegalArgumentException("toLicense cannot be null");
+        }
+        return (getReachableLicensesMask(fromLicense, link, redistribution) & (ONE_BIT << toLicense.ordinal())) != NO_BITS;
+    }
+
+    /**
+     * This method gets one of the shortest relicensing paths from a license to
+     * another one, following compatibility edges for the specified link and
+     * redistribution.
+     *
+     * @param fromLicense The license the path starts from.
+     * @param toLicense The license the path ends in.
+     * @param link The way each component is included in each project.
+     * @param redistribution How each project is going to be redistributed.
+     * @return the licenses of the path, both ends included, or an empty list
+     * if toLicense cannot be reached from fromLicense.
+     */
+    public List<SupportedLicenses> getRelicensingPath(SupportedLicenses fromLicense, SupportedLicenses toLicense, SupportedLinks link, SupportedRedistributions redistribution) {
+        CopyOnWriteArrayList<SupportedLicenses> path = new CopyOnWriteArrayList<>();
+        if (!isReachable(fromLicense, toLicense, link, redistribution)) {
+            return path;
+        }
+        long[] licensesEdges = edges[getIndex(link, redistribution)];
+        int[] previous = new int[SupportedLicenses.values().length];
+        Arrays.fill(previous, NO_LICENSE);
+        // fromLicense is not marked as visited, so paths from a license to
+        // itself can be found too.
+        long visited = NO_BITS;
+        ArrayDeque<Integer> pending = new ArrayDeque<>();
+        pending.add(fromLicense.ordinal());
+        // Breadth-first search, so the first time toLicense is found the
+        // path is one of the shortest ones.
+        while (!pending.isEmpty() && (previous[toLicense.ordinal()] == NO_LICENSE)) {
+            int current = pending.poll();
+            long next = licensesEdges[current] & ~visited;
+            while (next != NO_BITS) {
+                int license = Long.numberOfTrailingZeros(next);
+                next &= next - ONE_BIT;
+                visited |= ONE_BIT << license;
+                previous[license] = current;
+                pending.add(license);
+            }
+        }
+        int license = toLicense.ordinal();
+        path.add(LICENSES[license]);
+        do {
+            license = previous[license];
+            path.add(0, LICENSES[license]);
+        } while (license != fromLicense.ordinal());
+        return path;
+    }
+
+    /**
+     * This method gets, as a bitmask, the set of project licenses every
+     * component binding of the specified bill of components is directly
+     * compatible with, when the project is redistributed as specified.
+     *
+     * @param componentBindings The bill of component bindings.
+     * @param redistribution How the project is going to be redistributed.
+     * @return a bitmask containing the project licenses that keep every
+     * component binding compatible.
+     */
+    public long getCompatibleProjectLicensesMask(List<ComponentBinding> componentBindings, SupportedRedistributions redistribution) {
+        if (componentBindings == null) {
+            logger.error("componentBindings cannot be null");
+            throw new IllegalArgumentException("componentBindings cannot be null");
+        }
+        if (redistribution == null) {
+            logger.error("redistribution cannot be null");
+            throw new IllegalArgumentException("redistribution cannot be null");
+        }
+        long mask = allProjectLicensesMask;
+        for (ComponentBinding componentBinding : componentBindings) {
+            mask &= edges[getIndex(componentBinding.getLinkType(), redistribution)][componentBinding.getComponent().getLicense().ordinal()];
+        }
+        return mask;
+    }
+
+    /**
+     * This method gets, as a bitmask, the set of project licenses every
+     * component binding of the specified bill of components would be directly
+     * compatible with, if the specified component binding were included in
+     * the project using a different link. The bill of components is not
+     * modified.
+     *
+     * @param componentBindings The bill of component bindings.
+     * @param redistribution How the project is going to be redistributed.
+     * @param relinkedComponentBinding The component binding whose link would
+     * change. It has to be part of the bill of component bindings.
+     * @param link The new way the relinked component would be included in the
+     * project.
+     * @return a bitmask containing the project licenses that would keep every
+     * component binding compatible.
+     */
+    public long getCompatibleProjectLicensesMask(List<ComponentBinding> componentBindings, SupportedRedistributions redistribution, ComponentBinding relinkedComponentBinding, SupportedLinks link) {
+        if (componentBindings == null) {
+            logger.error("componentBindings cannot be null");
+            throw new IllegalArgumentException("componentBindings cannot be null");
+        }
+        if (redistribution == null) {
+            logger.error("redistribution cannot be null");
+            throw new IllegalArgumentException("redistribution cannot be null");
+        }
+        if (relinkedComponentBinding == null) {
+            logger.error("relinkedComponentBinding cannot be null");
+            throw new IllegalArgumentException("relinkedComponentBinding cannot be null");
+        }
+        if (link == null) {
+            logger.error("link cannot be null");
+            throw new IllegalArgumentException("link cannot be null");
+        }
+        if (!componentBindings.contains(relinkedComponentBinding)) {
+            logger.error("relinkedComponentBinding has to be part of componentBindings");
+            throw new IllegalArgumentException("relinkedComponentBinding has to be part of componentBindings");
+        }
+        long mask = allProjectLicensesMask;
+        for (ComponentBinding componentBinding : componentBindings) {
+            if (componentBinding == relinkedComponentBinding) {
+                mask &= edges[getIndex(link, redistribution)][componentBinding.getComponent().getLicense().ordinal()];
+            } else {
+                mask &= edges[getIndex(componentBinding.getLinkType(), redistribution)][componentBinding.getComponent().getLicense().ordinal()];
+            }
+        }
+        return mask;
+    }
+
+    /**
+     * This method converts a bitmask of licenses into a list of licenses. Bit
+     * number N of the mask represents the license whose ordinal is N.
+     *
+     * @param mask The bitmask of licenses.
+     * @return the licenses contained in the bitmask, in ordinal order.
+     */
+    public static List<SupportedLicenses> getLicensesOf(long mask) {
+        CopyOnWriteArrayList<SupportedLicenses> licenses = new CopyOnWriteArrayList<>();
+        for (SupportedLicenses license : LICENSES) {
+            if ((mask & (ONE_BIT << license.ordinal())) != NO_BITS) {
+                licenses.add(license);
+            }
+        }
+        return licenses;
+    }
+
+    private void checkArguments(SupportedLicenses license, SupportedLinks link, SupportedRedistributions redistribution) {
+        if (license == null) {
+            logger.error("license cannot be null");
+            throw new IllegalArgumentException("license cannot be null");
+        }
+        if (link == null) {
+            logger.error("link cannot be null");
+            throw new IllegalArgumentException("link cannot be null");
+        }
+        if (redistribution == null) {
+            logger.error("redistribution cannot be null");
+            throw new IllegalArgumentException("redistribution cannot be null");
+        }
+    }
+
+    private int getIndex(SupportedLinks link, SupportedRedistributions redistribution) {
+        return (redistribution.ordinal() * SupportedLinks.values().length) + link.ordinal();
+    }
+
+    private static final SupportedCompatibilities[] EDGE_COMPATIBILITIES = {SupportedCompatibilities.COMPATIBLE, SupportedCompatibilities.FORCED_COMPATIBLE};
+    private static final SupportedLicenses[] LICENSES = SupportedLicenses.values();
+    private static final long ONE_BIT = 1L;
+    private static final long NO_BITS = 0L;
+    private static final int NO_LICENSE = -1;
+}
@@ -0,0 +1,218 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.bok.licenseproperties;
+
+import com.manolodominguez.openlrae.bok.basevalues.SupportedCompatibilities;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRedistributions;
+import com.manolodominguez.openlrae.bok.licenseproperties.licensecompatibilities.LicenseCompatibilityEntry;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements an exporter of the whole licenses compatibility matrix
+ * of a LicensesCompatibilityFactory. The matrix is read slice by slice,
+ * directly from the indexed tables of the factory, so each export is a single
+ * pass over (redistribution, link, project license, component license) cells.
+ * It can be exported as CSV, as JSON (following the layout of the
+ * "compatibilities" section of a licenses knowledge base) or as a compact
+ * table having a character per cell.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public final class LicensesCompatibilityMatrix {
+
+    private Logger logger = LoggerFactory.getLogger(LicensesCompatibilityMatrix.class);
+
+    private final LicensesCompatibilityFactory licensesCompatibilityFactory;
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * LicensesCompatibilityMatrix for the specified factory.
+     *
+     * @param licensesCompatibilityFactory The factory whose compatibility
+     * matrix is exported.
+     */
+    public LicensesCompatibilityMatrix(LicensesCompatibilityFactory licensesCompatibilityFactory) {
+        if (licensesCompatibilityFactory == null) {
+            logger.error("licensesCompatibilityFactory cannot be null");
+            throw new IllegalArgumentException("licensesCompatibilityFactory cannot be null");
+        }
+        this.licensesCompatibilityFactory = licensesCompatibilityFactory;
+    }
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * LicensesCompatibilityMatrix for the licenses knowledge base currently in
+     * use.
+     */
+    public LicensesCompatibilityMatrix() {
+        this(LicensesCompatibilityFactory.getInstance());
+    }
+
+    /**
+     * This method exports the supported combinations of the matrix as CSV. The
+     * first line is a header; then there is a line per supported combination.
+     * Combinations that are not included are UNSUPPORTED.
+     *
+     * @return the supported combinations of the matrix as CSV.
+     */
+    public String getMatrixAsCSVString() {
+        StringBuilder csv = new StringBuilder();
+        csv.append(COMPONENT_LICENSE).append(CSV_SEPARATOR);
+        csv.append(PROJECT_LICENSE).append(CSV_SEPARATOR);
+        csv.append(LINK).append(CSV_SEPARATOR);
+        csv.append(REDISTRIBUTION).append(CSV_SEPARATOR);
+        csv.append(COMPATIBILITY).append(CSV_SEPARATOR);
+        csv.append(SPECIFIC_WARNING_KEY).append(NEW_LINE);
+        LicenseCompatibilityEntry licenseCompatibilityEntry;
+        for (SupportedRedistributions redistribution : SupportedRedistributions.values()) {
+            for (SupportedLinks link : SupportedLinks.values()) {
+                LicensesCompatibilitySlice slice = licensesCompatibilityFactory.getSlice(link, redistribution);
+                for (SupportedLicenses projectLicense : SupportedLicenses.getLicensesForProjects()) {
+                    for (SupportedLicenses componentLicense : SupportedLicenses.getLicensesForComponents()) {
+                        licenseCompatibilityEntry = slice.lookup(componentLicense, projectLicense);
+                        if (licenseCompatibilityEntry != null) {
+                            csv.append(componentLicense.toString()).append(CSV_SEPARATOR);
+                            csv.append(projectLicense.toString()).append(CSV_SEPARATOR);
+                            csv.append(link.toString()).append(CSV_SEPARATOR);
+                            csv.append(redistribution.toString()).append(CSV_SEPARATOR);
+                            csv.append(licenseCompatibilityEntry.getCompatibility().toString()).append(CSV_SEPARATOR);
+                            if (licenseCompatibilityEntry.hasSpecificWarning()) {
+                                csv.append(licenseCompatibilityEntry.getSpecificWarningKey());
+                            }
+                            csv.append(NEW_LINE);
+                        }
+                    }
+                }
+            }
+        }
+        return csv.toString();
+    }
+
+    /**
+     * This method exports the supported combinations of the matrix as a JSON
+     * array, having the same layout than the "compatibilities" section of a
+     * licenses knowledge base. Combinations that are not included are
+     * UNSUPPORTED.
+     *
+     * @return the supported combinations of the matrix as a JSON array.
+     */
+    public JSONArray getMatrixAsJSONArray() {
+        JSONArray compatibilities = new JSONArray();
+        LicenseCompatibilityEntry licenseCompatibilityEntry;
+        for (SupportedRedistributions redistribution : SupportedRedistributions.values()) {
+            for (SupportedLinks link : SupportedLinks.values()) {
+                LicensesCompatibilitySlice slice = licensesCompatibilityFactory.getSlice(link, redistribution);
+                for (SupportedLicenses projectLicense : SupportedLicenses.getLicensesForProjects()) {
+                    for (SupportedLicenses componentLicense : SupportedLicenses.getLicensesForComponents()) {
+                        licenseCompatibilityEntry = slice.lookup(componentLicense, projectLicense);
+                        if (licenseCompatibilityEntry != null) {
+                            JSONObject compatibility = new JSONObject();
+                            compatibility.put(COMPONENT_LICENSE, componentLicense.toString());
+                            compatibility.put(PROJECT_LICENSE, projectLicense.toString());
+                            compatibility.put(LINK, link.toString());
+                            compatibility.put(REDISTRIBUTION, redistribution.toString());
+                            compatibility.put(COMPATIBILITY, licenseCompatibilityEntry.getCompatibility().toString());
+                            if (licenseCompatibilityEntry.hasSpecificWarning()) {
+                                compatibility.put(SPECIFIC_WARNING_KEY, licenseCompatibilityEntry.getSpecificWarningKey());
+                            }
+                            compatibilities.put(compatibility);
+                        }
+                    }
+                }
+            }
+        }
+        return compatibilities;
+    }
+
+    /**
+     * This method exports the supported combinations of the matrix as a
+     * beautified (well indented) JSON string.
+     *
+     * @return the supported combinations of the matrix as a beautified (well
+     * indented) JSON string.
+     */
+    public String getMatrixAsBeautifiedJSONString() {
+        return getMatrixAsJSONArray().toString(INDENTION_SPACES);
+    }
+
+    /**
+     * This method exports the supported combinations of the matrix as a
+     * compact JSON string.
+     *
+     * @return the supported combinations of the matrix as a compact JSON
+     * string.
+     */
+    public String getMatrixAsCompactJSONString() {
+        return getMatrixAsJSONArray().toString();
+    }
+
+    /**
+     * This method exports the whole matrix as a compact table. There is a
+     * block per (link, redistribution) slice, having a row per project
+     * license. Each row has a character per component license (in the order
+     * of SupportedLicenses.getLicensesForComponents()) that is the ordinal of
+     * its compatibility in SupportedCompatibilities. Combinations that are not
+     * included are shown as UNSUPPORTED.
+     *
+     * @return the whole matrix as a compact table.
+     */
+    public String getMatrixAsCompactTable() {
+        StringBuilder table = new StringBuilder();
+        LicenseCompatibilityEntry licenseCompatibilityEntry;
+        for (SupportedRedistributions redistribution : SupportedRedistributions.values()) {
+            for (SupportedLinks link : SupportedLinks.values()) {
+                LicensesCompatibilitySlice slice = licensesCompatibilityFactory.getSlice(link, redistribution);
+                table.append(TABLE_BLOCK_MARK).append(link.toString()).append(TABLE_SEPARATOR).append(redistribution.toString()).append(NEW_LINE);
+                for (SupportedLicenses projectLicense : SupportedLicenses.getLicensesForProjects()) {
+                    for (SupportedLicenses componentLicense : SupportedLicenses.getLicensesForComponents()) {
+                        licenseCompatibilityEntry = slice.lookup(componentLicense, projectLicense);
+                        if (licenseCompatibilityEntry != null) {
+                            table.append(licenseCompatibilityEntry.getCompatibility().ordinal());
+                        } else {
+                            table.append(SupportedCompatibilities.UNSUPPORTED.ordinal());
+                        }
+                    }
+                    table.append(TABLE_SEPARATOR).append(projectLicense.toString()).append(NEW_LINE);
+                }
+            }
+        }
+        return table.toString();
+    }
+
+    private static final String COMPONENT_LICENSE = "componentlicense";
+    private static final String PROJECT_LICENSE = "projectlicense";
+    private static final String LINK = "link";
+    private static final String REDISTRIBUTION = "redistribution";
+    private static final String COMPATIBILITY = "compatibility";
+    private static final String SPECIFIC_WARNING_KEY = "specificwarningkey";
+    private static final String CSV_SEPARATOR = ",";
+    private static final String NEW_LINE = "\n";
+    private static final String TABLE_BLOCK_MARK = "# ";
+    private static final String TABLE_SEPARATOR = " ";
+    private static final int INDENTION_SPACES = 2;
+}
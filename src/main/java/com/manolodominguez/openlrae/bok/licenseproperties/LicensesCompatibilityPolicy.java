@@ -0,0 +1,188 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.bok.licenseproperties;
+
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRedistributions;
+import com.manolodominguez.openlrae.bok.licenseproperties.licensecompatibilities.LicenseCompatibilityEntry;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements an organization policy on licenses compatibilities.
+ * It is a sparse set of compatibility entries that override the ones of the
+ * base of knowledge, for instance, to handle some MOSTLY_COMPATIBLE
+ * combinations as UNCOMPATIBLE. Policies are applied to a
+ * LicensesCompatibilityFactory, and several policies can be stacked; the
+ * overrides are merged into the lookup tables of the factory when they are
+ * loaded, so queries do not cost more whatever the number of policies.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public final class LicensesCompatibilityPolicy {
+
+    private Logger logger = LoggerFactory.getLogger(LicensesCompatibilityPolicy.class);
+
+    private final String name;
+    private final CopyOnWriteArrayList<LicenseCompatibilityEntry> overrides;
+    private final String fingerprint;
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * LicensesCompatibilityPolicy.
+     *
+     * @param name The name of the policy.
+     * @param overrides The compatibility entries that override the ones of the
+     * base of knowledge. If a combination is overridden twice, the last one
+     * wins.
+     */
+    public LicensesCompatibilityPolicy(String name, List<LicenseCompatibilityEntry> overrides) {
+        if (name == null) {
+            logger.error("name cannot be null");
+            throw new IllegalArgumentException("name cannot be null");
+        }
+        if (name.isEmpty()) {
+            logger.error("name cannot be blank");
+            throw new IllegalArgumentException("name cannot be blank");
+        }
+        if (overrides == null) {
+            logger.error("overrides cannot be null");
+            throw new IllegalArgumentException("overrides cannot be null");
+        }
+        for (LicenseCompatibilityEntry override : overrides) {
+            if (override == null) {
+                logger.error("overrides cannot contain null entries");
+                throw new IllegalArgumentException("overrides cannot contain null entries");
+            }
+        }
+        this.name = name;
+        this.overrides = new CopyOnWriteArrayList<>(overrides);
+        this.fingerprint = computeFingerprint();
+    }
+
+    /**
+     * This method gets the name of the policy.
+     *
+     * @return the name of the policy.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * This method gets a fingerprint of the content of the policy: a SHA-256
+     * hash of its overrides (licenses, compatibility, link, redistribution and
+     * specific warning key of each one), in the order they are applied. Two
+     * policies with the same overrides have the same fingerprint, whatever
+     * their names, and two policies with different overrides have different
+     * fingerprints, even if they have the same name.
+     *
+     * @return the fingerprint of the policy, as an hexadecimal string.
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    private String computeFingerprint() {
+        StringBuilder canonicalPolicy = new StringBuilder();
+        appendCanonicalField(canonicalPolicy, String.valueOf(overrides.size()));
+        for (LicenseCompatibilityEntry override : overrides) {
+            appendCanonicalField(canonicalPolicy, override.getComponentLicense().toString());
+            appendCanonicalField(canonicalPolicy, override.getProjectLicense().toString());
+            appendCanonicalField(canonicalPolicy, override.getCompatibility().toString());
+            appendCanonicalField(canonicalPolicy, override.getLink().toString());
+            appendCanonicalField(canonicalPolicy, override.getRedistribution().toString());
+            if (override.hasSpecificWarning()) {
+                appendCanonicalField(canonicalPolicy, override.getSpecificWarningKey());
+            } else {
+                canonicalPolicy.append(NO_SPECIFIC_WARNING);
+            }
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance(FINGERPRINT_ALGORITHM).digest(canonicalPolicy.toString().getBytes(StandardCharsets.UTF_8));
+            StringBuilder hexFingerprint = new StringBuilder();
+            for (byte hashByte : hash) {
+                hexFingerprint.append(String.format(HEX_BYTE_FORMAT, hashByte));
+            }
+            return hexFingerprint.toString();
+        } catch (NoSuchAlgorithmException ex) {
+            logger.error(FINGERPRINT_ALGORITHM + " is not available");
+            throw new IllegalStateException(FINGERPRINT_ALGORITHM + " is not available", ex);
+        }
+    }
+
+    private void appendCanonicalField(StringBuilder canonicalForm, String field) {
+        // Each field is prefixed by its length, so no separator can be faked
+        // by the content of a field.
+        canonicalForm.append(field.length()).append(FIELD_LENGTH_SEPARATOR).append(field);
+    }
+
+    /**
+     * This method gets the compatibility entries that this policy overrides.
+     *
+     * @return the compatibility entries that this policy overrides.
+     */
+    public List<LicenseCompatibilityEntry> getOverrides() {
+        return new CopyOnWriteArrayList<>(this.overrides);
+    }
+
+    /**
+     * This method gets the compatibility entries that this policy overrides
+     * for components linked in the specified way to a project that is
+     * redistributed in the specified way. They are returned in reverse order,
+     * so the last override of a combination comes first.
+     *
+     * @param link The way components are included in the project.
+     * @param redistribution How the project is going to be redistributed.
+     * @return the compatibility entries that this policy overrides for the
+     * specified link and redistribution, the last ones first.
+     */
+    public List<LicenseCompatibilityEntry> getOverrides(SupportedLinks link, SupportedRedistributions redistribution) {
+        if (link == null) {
+            logger.error("link cannot be null");
+            throw new IllegalArgumentException("link cannot be null");
+        }
+        if (redistribution == null) {
+            logger.error("redistribution cannot be null");
+            throw new IllegalArgumentException("redistribution cannot be null");
+        }
+        CopyOnWriteArrayList<LicenseCompatibilityEntry> sliceOverrides = new CopyOnWriteArrayList<>();
+        for (int i = overrides.size() - 1; i >= 0; i--) {
+            if ((overrides.get(i).getLink() == link) && (overrides.get(i).getRedistribution() == redistribution)) {
+                sliceOverrides.add(overrides.get(i));
+            }
+        }
+        return sliceOverrides;
+    }
+
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+    private static final String HEX_BYTE_FORMAT = "%02x";
+    private static final char FIELD_LENGTH_SEPARATOR = ':';
+    // Fields are prefixed by their length, so it cannot be taken for a field.
+    private static final char NO_SPECIFIC_WARNING = '-';
+}
@@ -0,0 +1,202 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.bok.licenseproperties;
+
+import com.manolodominguez.openlrae.bok.basevalues.SupportedCompatibilities;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRedistributions;
+import com.manolodominguez.openlrae.bok.licenseproperties.licensecompatibilities.LicenseCompatibilityEntry;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements the part of the base of knowledge about licenses
+ * compatibilities that applies to a given link and a given redistribution.
+ * LicensesCompatibilityFactory loads a slice only when it is queried for the
+ * first time, so a project that is redistributed in a single way does not pay
+ * for the rest of the base of knowledge.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public final class LicensesCompatibilitySlice {
+
+    private Logger logger = LoggerFactory.getLogger(LicensesCompatibilitySlice.class);
+
+    private final SupportedLinks link;
+    private final SupportedRedistributions redistribution;
+    private final List<LicenseCompatibilityEntry> licensesCompatibilities;
+    private final LicenseCompatibilityEntry[][] licensesCompatibilitiesTable;
+    private final long[][] projectLicensesMasks;
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * LicensesCompatibilitySlice from the specified compatibility entries.
+     * Entries related to other links or redistributions are ignored. If a
+     * combination is defined twice, the first one wins.
+     *
+     * @param link The way components are included in the project.
+     * @param redistribution How the project is going to be redistributed.
+     * @param compatibilities The compatibility entries this slice is built
+     * from.
+     */
+    public LicensesCompatibilitySlice(SupportedLinks link, SupportedRedistributions redistribution, List<LicenseCompatibilityEntry> compatibilities) {
+        if (link == null) {
+            logger.error("link cannot be null");
+            throw new IllegalArgumentException("link cannot be null");
+        }
+        if (redistribution == null) {
+            logger.error("redistribution cannot be null");
+            throw new IllegalArgumentException("redistribution cannot be null");
+        }
+        if (compatibilities == null) {
+            logger.error("compatibilities cannot be null");
+            throw new IllegalArgumentException("compatibilities cannot be null");
+        }
+        if (SupportedLicenses.values().length > Long.SIZE) {
+            logger.error("Project licenses masks cannot hold more than 64 licenses");
+            throw new IllegalStateException("Project licenses masks cannot hold more than 64 licenses");
+        }
+        this.link = link;
+        this.redistribution = redistribution;
+        // Dense table indexed by the ordinals of project license and component
+        // license. Each cell stores the entry that solves that combination, or
+        // null if it is not in the base of knowledge.
+        this.licensesCompatibilitiesTable = new LicenseCompatibilityEntry[SupportedLicenses.values().length][SupportedLicenses.values().length];
+        List<LicenseCompatibilityEntry> sliceCompatibilities = new ArrayList<>();
+        for (LicenseCompatibilityEntry licenseCompatibilityEntry : compatibilities) {
+            if ((licenseCompatibilityEntry.getLink() == link) && (licenseCompatibilityEntry.getRedistribution() == redistribution)) {
+                LicenseCompatibilityEntry[] cells = licensesCompatibilitiesTable[licenseCompatibilityEntry.getProjectLicense().ordinal()];
+                if (cells[licenseCompatibilityEntry.getComponentLicense().ordinal()] == null) {
+                    cells[licenseCompatibilityEntry.getComponentLicense().ordinal()] = licenseCompatibilityEntry;
+                    sliceCompatibilities.add(licenseCompatibilityEntry);
+                }
+            }
+        }
+        this.licensesCompatibilities = Collections.unmodifiableList(sliceCompatibilities);
+        // For each component license and compatibility value, a bitmask of the
+        // project licenses (one bit per ordinal) that get that compatibility.
+        // Combinations out of the base of knowledge are UNSUPPORTED.
+        this.projectLicensesMasks = new long[SupportedLicenses.values().length][SupportedCompatibilities.values().length];
+        for (SupportedLicenses projectLicense : SupportedLicenses.getLicensesForProjects()) {
+            for (SupportedLicenses componentLicense : SupportedLicenses.values()) {
+                LicenseCompatibilityEntry licenseCompatibilityEntry = licensesCompatibilitiesTable[projectLicense.ordinal()][componentLicense.ordinal()];
+                SupportedCompatibilities compatibility = SupportedCompatibilities.UNSUPPORTED;
+                if (licenseCompatibilityEntry != null) {
+                    compatibility = licenseCompatibilityEntry.getCompatibility();
+                }
+                projectLicensesMasks[componentLicense.ordinal()][compatibility.ordinal()] |= (ONE_BIT << projectLicense.ordinal());
+            }
+        }
+    }
+
+    /**
+     * This method gets the link this slice applies to.
+     *
+     * @return the link this slice applies to.
+     */
+    public SupportedLinks getLink() {
+        return link;
+    }
+
+    /**
+     * This method gets the redistribution this slice applies to.
+     *
+     * @return the redistribution this slice applies to.
+     */
+    public SupportedRedistributions getRedistribution() {
+        return redistribution;
+    }
+
+    /**
+     * This method gets the entry of this slice that solves the compatibility
+     * of a component (with a license) if it is included in a project having
+     * its own license.
+     *
+     * @param componentLicense The license of the component.
+     * @param projectLicense The license of the project.
+     * @return The entry that solves the specified combination or null if the
+     * combination is not supported by OpenLRAE yet.
+     */
+    public LicenseCompatibilityEntry lookup(SupportedLicenses componentLicense, SupportedLicenses projectLicense) {
+        if (componentLicense == null) {
+            logger.error("componentLicense cannot be null");
+            throw new IllegalArgumentException("componentLicense cannot be null");
+        }
+        if (projectLicense == null) {
+            logger.error("projectLicense cannot be null");
+            throw new IllegalArgumentException("projectLicense cannot be null");
+        }
+        return licensesCompatibilitiesTable[projectLicense.ordinal()][componentLicense.ordinal()];
+    }
+
+    /**
+     * This method gets, as a bitmask, the set of project licenses that would
+     * get the specified compatibility value with a component under the
+     * specified license. Bit number N of the mask represents the project
+     * license whose ordinal is N.
+     *
+     * @param componentLicense The license of the component.
+     * @param compatibility The compatibility value the project licenses have
+     * to get.
+     * @return a bitmask containing the project licenses that would get the
+     * specified compatibility value.
+     */
+    public long getProjectLicensesMask(SupportedLicenses componentLicense, SupportedCompatibilities compatibility) {
+        if (componentLicense == null) {
+            logger.error("componentLicense cannot be null");
+            throw new IllegalArgumentException("componentLicense cannot be null");
+        }
+        if (compatibility == null) {
+            logger.error("compatibility cannot be null");
+            throw new IllegalArgumentException("compatibility cannot be null");
+        }
+        return projectLicensesMasks[componentLicense.ordinal()][compatibility.ordinal()];
+    }
+
+    /**
+     * This method gets the compatibility entries of this slice.
+     *
+     * @return the compatibility entries of this slice.
+     */
+    public List<LicenseCompatibilityEntry> getCompatibilities() {
+        return new CopyOnWriteArrayList<>(this.licensesCompatibilities);
+    }
+
+    /**
+     * This method gets the number of different combinations (componentLicense,
+     * projectLicense) contained in this slice.
+     *
+     * @return the number of different combinations (componentLicense,
+     * projectLicense) contained in this slice.
+     */
+    public int getNumberOfSupportedCombinations() {
+        return this.licensesCompatibilities.size();
+    }
+
+    private static final long ONE_BIT = 1L;
+}
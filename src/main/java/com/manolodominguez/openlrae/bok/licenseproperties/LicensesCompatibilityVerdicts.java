@@ -0,0 +1,177 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.bok.licenseproperties;
+
+import com.manolodominguez.openlrae.bok.basevalues.SupportedCompatibilities;
+import java.util.BitSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements the result of querying, at once, the compatibility of
+ * a whole bill of component bindings with a set of project licenses. Verdicts
+ * are stored in a packed byte array of compatibility ordinals, having a row per
+ * component binding and a column per project license, in the same order they
+ * were queried. A parallel bitset marks the verdicts having a specific
+ * warning. Instances are immutable, so they can be shared by all risk
+ * analysers of a run.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public final class LicensesCompatibilityVerdicts {
+
+    private Logger logger = LoggerFactory.getLogger(LicensesCompatibilityVerdicts.class);
+
+    private final int numberOfComponentBindings;
+    private final int numberOfProjectLicenses;
+    private final byte[] compatibilities;
+    private final BitSet specificWarnings;
+    private final String[] specificWarningKeys;
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * LicensesCompatibilityVerdicts. It is created by
+     * LicensesCompatibilityFactory.
+     *
+     * @param numberOfComponentBindings The number of component bindings
+     * (rows).
+     * @param numberOfProjectLicenses The number of project licenses (columns).
+     * @param compatibilities The compatibility ordinals, row by row.
+     * @param specificWarnings The verdicts having a specific warning.
+     * @param specificWarningKeys The specific warning keys of the verdicts
+     * having one, or null.
+     */
+    LicensesCompatibilityVerdicts(int numberOfComponentBindings, int numberOfProjectLicenses, byte[] compatibilities, BitSet specificWarnings, String[] specificWarningKeys) {
+        this.numberOfComponentBindings = numberOfComponentBindings;
+        this.numberOfProjectLicenses = numberOfProjectLicenses;
+        this.compatibilities = compatibilities;
+        this.specificWarnings = specificWarnings;
+        this.specificWarningKeys = specificWarningKeys;
+    }
+
+    /**
+     * This method gets the number of component bindings (rows) of these
+     * verdicts.
+     *
+     * @return the number of component bindings of these verdicts.
+     */
+    public int getNumberOfComponentBindings() {
+        return numberOfComponentBindings;
+    }
+
+    /**
+     * This method gets the number of project licenses (columns) of these
+     * verdicts.
+     *
+     * @return the number of project licenses of these verdicts.
+     */
+    public int getNumberOfProjectLicenses() {
+        return numberOfProjectLicenses;
+    }
+
+    /**
+     * This method gets the compatibility of the specified component binding
+     * with the specified project license.
+     *
+     * @param componentBindingIndex the position of the component binding in
+     * the queried bill of component bindings.
+     * @param projectLicenseIndex the position of the project license in the
+     * queried project licenses.
+     * @return the compatibility of the specified component binding with the
+     * specified project license.
+     */
+    public SupportedCompatibilities getCompatibility(int componentBindingIndex, int projectLicenseIndex) {
+        return COMPATIBILITIES[compatibilities[getCell(componentBindingIndex, projectLicenseIndex)]];
+    }
+
+    /**
+     * This method gets whether the verdict of the specified component binding
+     * and project license has a specific warning or not.
+     *
+     * @param componentBindingIndex the position of the component binding in
+     * the queried bill of component bindings.
+     * @param projectLicenseIndex the position of the project license in the
+     * queried project licenses.
+     * @return TRUE, if the verdict has a specific warning. Otherwise, FALSE.
+     */
+    public boolean hasSpecificWarning(int componentBindingIndex, int projectLicenseIndex) {
+        return specificWarnings.get(getCell(componentBindingIndex, projectLicenseIndex));
+    }
+
+    /**
+     * This method gets the specific warning key of the verdict of the specified
+     * component binding and project license.
+     *
+     * @param componentBindingIndex the position of the component binding in
+     * the queried bill of component bindings.
+     * @param projectLicenseIndex the position of the project license in the
+     * queried project licenses.
+     * @return the specific warning key of the verdict. If the verdict does not
+     * have a specific warning, an IllegalStateException exception is thrown.
+     */
+    public String getSpecificWarningKey(int componentBindingIndex, int projectLicenseIndex) {
+        int cell = getCell(componentBindingIndex, projectLicenseIndex);
+        if (!specificWarnings.get(cell)) {
+            logger.error("You have tried to get the specific warning of a verdict that does not have one.");
+            throw new IllegalStateException("You have tried to get the specific warning of a verdict that does not have one.");
+        }
+        return specificWarningKeys[cell];
+    }
+
+    /**
+     * This method gets a copy of the packed compatibility ordinals, having a
+     * row per component binding and a column per project license.
+     *
+     * @return a copy of the packed compatibility ordinals.
+     */
+    public byte[] getCompatibilities() {
+        return compatibilities.clone();
+    }
+
+    /**
+     * This method gets a copy of the bitset that marks the verdicts having a
+     * specific warning. Bit number (componentBindingIndex *
+     * numberOfProjectLicenses + projectLicenseIndex) is set if the
+     * corresponding verdict has a specific warning.
+     *
+     * @return a copy of the bitset that marks the verdicts having a specific
+     * warning.
+     */
+    public BitSet getSpecificWarnings() {
+        return (BitSet) specificWarnings.clone();
+    }
+
+    private int getCell(int componentBindingIndex, int projectLicenseIndex) {
+        if ((componentBindingIndex < 0) || (componentBindingIndex >= numberOfComponentBindings)) {
+            logger.error("componentBindingIndex is out of range");
+            throw new IllegalArgumentException("componentBindingIndex is out of range");
+        }
+        if ((projectLicenseIndex < 0) || (projectLicenseIndex >= numberOfProjectLicenses)) {
+            logger.error("projectLicenseIndex is out of range");
+            throw new IllegalArgumentException("projectLicenseIndex is out of range");
+        }
+        return (componentBindingIndex * numberOfProjectLicenses) + projectLicenseIndex;
+    }
+
+    private static final SupportedCompatibilities[] COMPATIBILITIES = SupportedCompatibilities.values();
+}
@@ -0,0 +1,486 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.bok.licenseproperties;
+
+import com.manolodominguez.openlrae.bok.basevalues.SupportedCompatibilities;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedObsolescences;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRedistributions;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedSpreadings;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedTrends;
+import com.manolodominguez.openlrae.bok.licenseproperties.licensecompatibilities.LicenseCompatibilityEntry;
+import com.manolodominguez.openlrae.resourceslocators.FilesPaths;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+import org.everit.json.schema.Schema;
+import org.everit.json.schema.ValidationException;
+import org.everit.json.schema.loader.SchemaLoader;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements an immutable snapshot of the whole licenses knowledge
+ * base: compatibilities, obsolescences, trends and spreadings. The built-in
+ * knowledge base is used by default, but a versioned knowledge base can be
+ * loaded from a JSON file and put in use at any moment, without restarting.
+ * The snapshot in use is swapped atomically; analyses that are running keep
+ * reading the snapshot they got, and new analyses get the new one. Reading
+ * the snapshot in use does not take any lock. Each snapshot has a fingerprint
+ * of its content, so snapshots with the same version but different knowledge
+ * can be told apart.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public final class LicensesKnowledgeBase {
+
+    private static final Logger logger = LoggerFactory.getLogger(LicensesKnowledgeBase.class);
+
+    private static final AtomicReference<LicensesKnowledgeBase> current = new AtomicReference<>();
+    private static LicensesKnowledgeBase builtIn;
+    private final String version;
+    private final String fingerprint;
+    private final LicensesCompatibilityFactory licensesCompatibilityFactory;
+    private final LicensesObsolescencesFactory licensesObsolescencesFactory;
+    private final LicensesTrendFactory licensesTrendFactory;
+    private final LicensesSpreadingFactory licensesSpreadingFactory;
+    private final LicensesProfiles licensesProfiles;
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * LicensesKnowledgeBase containing the built-in knowledge base.
+     */
+    private LicensesKnowledgeBase() {
+        this.version = BUILT_IN_VERSION;
+        this.fingerprint = computeFingerprint(getCanonicalField(BUILT_IN_VERSION));
+        this.licensesCompatibilityFactory = new LicensesCompatibilityFactory();
+        this.licensesObsolescencesFactory = new LicensesObsolescencesFactory();
+        this.licensesTrendFactory = new LicensesTrendFactory();
+        this.licensesSpreadingFactory = new LicensesSpreadingFactory();
+        this.licensesProfiles = new LicensesProfiles(this.licensesObsolescencesFactory, this.licensesTrendFactory, this.licensesSpreadingFactory);
+    }
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * LicensesKnowledgeBase from the specified parts.
+     *
+     * @param version the version of the knowledge base.
+     * @param fingerprint the fingerprint of the content of the knowledge base.
+     * @param licensesCompatibilityFactory the licenses compatibility factory.
+     * @param licensesObsolescencesFactory the licenses obsolescences factory.
+     * @param licensesTrendFactory the licenses trend factory.
+     * @param licensesSpreadingFactory the licenses spreading factory.
+     */
+    private LicensesKnowledgeBase(String version, String fingerprint, LicensesCompatibilityFactory licensesCompatibilityFactory, LicensesObsolescencesFactory licensesObsolescencesFactory, LicensesTrendFactory licensesTrendFactory, LicensesSpreadingFactory licensesSpreadingFactory) {
+        this.version = version;
+        this.fingerprint = fingerprint;
+        this.licensesCompatibilityFactory = licensesCompatibilityFactory;
+        this.licensesObsolescencesFactory = licensesObsolescencesFactory;
+        this.licensesTrendFactory = licensesTrendFactory;
+        this.licensesSpreadingFactory = licensesSpreadingFactory;
+        this.licensesProfiles = new LicensesProfiles(this.licensesObsolescencesFactory, this.licensesTrendFactory, this.licensesSpreadingFactory);
+    }
+
+    /**
+     * This is the constuctor of the class. It creates a new instance of
+     * LicensesKnowledgeBase from a JSON knowledge base definition. Sections
+     * that are not included in the definition are taken from the built-in
+     * knowledge base. It is not put in use until setCurrent(...) is called.
+     *
+     * @param knowledgeBaseAsJSONString a JSON knowledge base definition as a
+     * String.
+     */
+    public LicensesKnowledgeBase(String knowledgeBaseAsJSONString) {
+        if (knowledgeBaseAsJSONString == null) {
+            logger.error("knowledgeBaseAsJSONString cannot be null");
+            throw new IllegalArgumentException("knowledgeBaseAsJSONString cannot be null");
+        }
+        if (knowledgeBaseAsJSONString.isEmpty()) {
+            logger.error("knowledgeBaseAsJSONString cannot be blank");
+            throw new IllegalArgumentException("knowledgeBaseAsJSONString cannot be blank");
+        }
+        JSONObject knowledgeBase;
+        try {
+            knowledgeBase = new JSONObject(knowledgeBaseAsJSONString);
+        } catch (JSONException e) {
+            logger.error("knowledgeBaseAsJSONString is not a JSON String");
+            throw new IllegalArgumentException("knowledgeBaseAsJSONString is not a JSON string");
+        }
+        if (!isValidJSONKnowledgeBase(knowledgeBase)) {
+            logger.error("knowledgeBaseAsJSONString does not follow OpenLRAE JSON schema rules.");
+            throw new IllegalArgumentException("Knowledge base definition does not follow OpenLRAE JSON schema rules.");
+        }
+        this.version = knowledgeBase.getString(VERSION);
+        this.fingerprint = computeFingerprint(getCanonicalJSON(knowledgeBase));
+        this.licensesCompatibilityFactory = getLicensesCompatibilityFactoryFromJSON(knowledgeBase);
+        this.licensesObsolescencesFactory = new LicensesObsolescencesFactory(getOverridesFromJSON(knowledgeBase, OBSOLESCENCES, SupportedObsolescences.class));
+        this.licensesTrendFactory = new LicensesTrendFactory(getOverridesFromJSON(knowledgeBase, TRENDS, SupportedTrends.class));
+        this.licensesSpreadingFactory = new LicensesSpreadingFactory(getOverridesFromJSON(knowledgeBase, SPREADINGS, SupportedSpreadings.class));
+        this.licensesProfiles = new LicensesProfiles(this.licensesObsolescencesFactory, this.licensesTrendFactory, this.licensesSpreadingFactory);
+    }
+
+    /**
+     * This is the constuctor of the class. It creates a new instance of
+     * LicensesKnowledgeBase from a JSON knowledge base definition. Sections
+     * that are not included in the definition are taken from the built-in
+     * knowledge base. It is not put in use until setCurrent(...) is called.
+     *
+     * @param knowledgeBaseURL a URL containing a JSON knowledge base
+     * definition.
+     */
+    public LicensesKnowledgeBase(URL knowledgeBaseURL) {
+        if (knowledgeBaseURL == null) {
+            logger.error("knowledgeBase URL cannot be null");
+            throw new IllegalArgumentException("knowledgeBase URL cannot be null");
+        }
+        JSONObject knowledgeBase;
+        try (InputStream knowledgeBaseStream = knowledgeBaseURL.openStream()) {
+            knowledgeBase = new JSONObject(new JSONTokener(knowledgeBaseStream));
+        } catch (IOException ex) {
+            logger.error("knowledgeBase file does not exist");
+            throw new IllegalArgumentException("knowledgeBase file does not exist");
+        } catch (JSONException ex) {
+            logger.error("knowledgeBase is not a JSON File");
+            throw new IllegalArgumentException("knowledgeBase is not a JSON File");
+        }
+        if (!isValidJSONKnowledgeBase(knowledgeBase)) {
+            logger.error("knowledgeBase does not follow OpenLRAE JSON schema rules.");
+            throw new IllegalArgumentException("Knowledge base definition does not follow OpenLRAE JSON schema rules.");
+        }
+        this.version = knowledgeBase.getString(VERSION);
+        this.fingerprint = computeFingerprint(getCanonicalJSON(knowledgeBase));
+        this.licensesCompatibilityFactory = getLicensesCompatibilityFactoryFromJSON(knowledgeBase);
+        this.licensesObsolescencesFactory = new LicensesObsolescencesFactory(getOverridesFromJSON(knowledgeBase, OBSOLESCENCES, SupportedObsolescences.class));
+        this.licensesTrendFactory = new LicensesTrendFactory(getOverridesFromJSON(knowledgeBase, TRENDS, SupportedTrends.class));
+        this.licensesSpreadingFactory = new LicensesSpreadingFactory(getOverridesFromJSON(knowledgeBase, SPREADINGS, SupportedSpreadings.class));
+        this.licensesProfiles = new LicensesProfiles(this.licensesObsolescencesFactory, this.licensesTrendFactory, this.licensesSpreadingFactory);
+    }
+
+    /**
+     * This method returns the built-in knowledge base. It is created the first
+     * time it is requested.
+     *
+     * @return the built-in knowledge base.
+     */
+    public static LicensesKnowledgeBase getBuiltIn() {
+        LicensesKnowledgeBase localInstance = LicensesKnowledgeBase.builtIn;
+        if (localInstance == null) {
+            synchronized (LicensesKnowledgeBase.class) {
+                localInstance = LicensesKnowledgeBase.builtIn;
+                if (localInstance == null) {
+                    LicensesKnowledgeBase.builtIn = localInstance = new LicensesKnowledgeBase();
+                }
+            }
+        }
+        return localInstance;
+    }
+
+    /**
+     * This method returns the knowledge base currently in use. If none has been
+     * put in use, the built-in one is used.
+     *
+     * @return the knowledge base currently in use.
+     */
+    public static LicensesKnowledgeBase getCurrent() {
+        LicensesKnowledgeBase localInstance = current.get();
+        if (localInstance == null) {
+            current.compareAndSet(null, getBuiltIn());
+            localInstance = current.get();
+        }
+        return localInstance;
+    }
+
+    /**
+     * This method puts the specified knowledge base in use, atomically. Analyses
+     * that are already running keep using the knowledge base they got.
+     *
+     * @param knowledgeBase the knowledge base to be put in use.
+     * @return the knowledge base that was in use until now.
+     */
+    public static LicensesKnowledgeBase setCurrent(LicensesKnowledgeBase knowledgeBase) {
+        if (knowledgeBase == null) {
+            logger.error("knowledgeBase cannot be null");
+            throw new IllegalArgumentException("knowledgeBase cannot be null");
+        }
+        LicensesKnowledgeBase previous = current.getAndSet(knowledgeBase);
+        if (previous == null) {
+            previous = getBuiltIn();
+        }
+        return previous;
+    }
+
+    /**
+     * This method creates a new knowledge base that applies the specified
+     * licenses compatibility policy on top of this one. This knowledge base is
+     * not modified and the new one is not put in use until setCurrent(...) is
+     * called. The name and the fingerprint of the policy are appended to the
+     * version, so results obtained with and without the policy, or with
+     * policies having the same name but different overrides, can be told
+     * apart. The fingerprint of the new knowledge base depends on the
+     * fingerprints of both this knowledge base and the policy.
+     *
+     * @param policy the licenses compatibility policy to be applied.
+     * @return a new knowledge base that applies the specified policy.
+     */
+    public LicensesKnowledgeBase withCompatibilityPolicy(LicensesCompatibilityPolicy policy) {
+        if (policy == null) {
+            logger.error("policy cannot be null");
+            throw new IllegalArgumentException("policy cannot be null");
+        }
+        String policyVersion = version + POLICY_SEPARATOR + policy.getName() + POLICY_FINGERPRINT_SEPARATOR + policy.getFingerprint();
+        String policyFingerprint = computeFingerprint(getCanonicalField(fingerprint) + getCanonicalField(policy.getFingerprint()));
+        return new LicensesKnowledgeBase(policyVersion, policyFingerprint, licensesCompatibilityFactory.withPolicy(policy), licensesObsolescencesFactory, licensesTrendFactory, licensesSpreadingFactory);
+    }
+
+    /**
+     * This method gets the version of this knowledge base.
+     *
+     * @return the version of this knowledge base.
+     */
+    public String getVersion() {
+        return version;
+    }
+
+    /**
+     * This method gets a fingerprint of the content of this knowledge base: a
+     * SHA-256 hash of the canonical form of its JSON definition (keys sorted,
+     * so their order in the file does not matter), of the built-in knowledge
+     * base or of the knowledge base and policy it was derived from. Unlike the
+     * version, which is free text, it changes whenever the knowledge changes,
+     * so it can be used to key results computed with this knowledge base.
+     *
+     * @return the fingerprint of this knowledge base, as an hexadecimal string.
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * This method gets the licenses compatibility factory of this knowledge
+     * base.
+     *
+     * @return the licenses compatibility factory of this knowledge base.
+     */
+    public LicensesCompatibilityFactory getLicensesCompatibilityFactory() {
+        return licensesCompatibilityFactory;
+    }
+
+    /**
+     * This method gets the licenses obsolescences factory of this knowledge
+     * base.
+     *
+     * @return the licenses obsolescences factory of this knowledge base.
+     */
+    public LicensesObsolescencesFactory getLicensesObsolescencesFactory() {
+        return licensesObsolescencesFactory;
+    }
+
+    /**
+     * This method gets the licenses trend factory of this knowledge base.
+     *
+     * @return the licenses trend factory of this knowledge base.
+     */
+    public LicensesTrendFactory getLicensesTrendFactory() {
+        return licensesTrendFactory;
+    }
+
+    /**
+     * This method gets the licenses spreading factory of this knowledge base.
+     *
+     * @return the licenses spreading factory of this knowledge base.
+     */
+    public LicensesSpreadingFactory getLicensesSpreadingFactory() {
+        return licensesSpreadingFactory;
+    }
+
+    /**
+     * This method gets the licenses profiles of this knowledge base, built
+     * from its obsolescences, trend and spreading factories.
+     *
+     * @return the licenses profiles of this knowledge base.
+     */
+    public LicensesProfiles getLicensesProfiles() {
+        return licensesProfiles;
+    }
+
+    /**
+     * This method check whether the JSON knowledge base definition can be
+     * validated against the OpenLRAE JSON Schema for knowledge bases.
+     *
+     * @param knowledgeBase a JSON knowledge base definition.
+     * @return TRUE, if the JSON knowledge base definition can be ckecked as a
+     * valid one. Otherwise, returns FALSE.
+     */
+    private boolean isValidJSONKnowledgeBase(JSONObject knowledgeBase) {
+        try {
+            KnowledgeBaseSchemaHolder.KNOWLEDGE_BASE_SCHEMA.validate(knowledgeBase); // throws a ValidationException if this object is invalid
+            return true;
+        } catch (ValidationException ex) {
+            return false;
+        }
+    }
+
+    private static String getCanonicalJSON(JSONObject knowledgeBase) {
+        StringBuilder canonicalForm = new StringBuilder();
+        appendCanonicalJSON(canonicalForm, knowledgeBase);
+        return canonicalForm.toString();
+    }
+
+    private static void appendCanonicalJSON(StringBuilder canonicalForm, Object value) {
+        if (value instanceof JSONObject) {
+            JSONObject object = (JSONObject) value;
+            List<String> keys = new ArrayList<>(object.keySet());
+            Collections.sort(keys);
+            canonicalForm.append(CANONICAL_OBJECT).append(getCanonicalField(String.valueOf(keys.size())));
+            for (String key : keys) {
+                canonicalForm.append(getCanonicalField(key));
+                appendCanonicalJSON(canonicalForm, object.get(key));
+            }
+        } else if (value instanceof JSONArray) {
+            JSONArray array = (JSONArray) value;
+            canonicalForm.append(CANONICAL_ARRAY).append(getCanonicalField(String.valueOf(array.length())));
+            for (int i = 0; i < array.length(); i++) {
+                appendCanonicalJSON(canonicalForm, array.get(i));
+            }
+        } else {
+            // Strings are quoted, so they are not taken for numbers or
+            // booleans.
+            canonicalForm.append(getCanonicalField(JSONObject.valueToString(value)));
+        }
+    }
+
+    private static String getCanonicalField(String field) {
+        // Each field is prefixed by its length, so no separator can be faked
+        // by the content of a field.
+        return field.length() + FIELD_LENGTH_SEPARATOR + field;
+    }
+
+    private static String computeFingerprint(String canonicalForm) {
+        try {
+            byte[] hash = MessageDigest.getInstance(FINGERPRINT_ALGORITHM).digest(canonicalForm.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hexFingerprint = new StringBuilder();
+            for (byte hashByte : hash) {
+                hexFingerprint.append(String.format(HEX_BYTE_FORMAT, hashByte));
+            }
+            return hexFingerprint.toString();
+        } catch (NoSuchAlgorithmException ex) {
+            logger.error(FINGERPRINT_ALGORITHM + " is not available");
+            throw new IllegalStateException(FINGERPRINT_ALGORITHM + " is not available", ex);
+        }
+    }
+
+    /**
+     * This method creates the licenses compatibility factory defined in the
+     * validated JSON knowledge base definition, or the built-in one if it does
+     * not define compatibilities.
+     *
+     * @param validatedKnowledgeBase a validated JSON knowledge base definition.
+     * @return the licenses compatibility factory.
+     */
+    private LicensesCompatibilityFactory getLicensesCompatibilityFactoryFromJSON(JSONObject validatedKnowledgeBase) {
+        if (!validatedKnowledgeBase.has(COMPATIBILITIES)) {
+            return getBuiltIn().getLicensesCompatibilityFactory();
+        }
+        JSONArray compatibilities = validatedKnowledgeBase.getJSONArray(COMPATIBILITIES);
+        List<LicenseCompatibilityEntry> licensesCompatibilities = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < compatibilities.length(); i++) {
+            JSONObject compatibility = compatibilities.getJSONObject(i);
+            String specificWarningKey = null;
+            if (compatibility.has(SPECIFIC_WARNING_KEY)) {
+                specificWarningKey = compatibility.getString(SPECIFIC_WARNING_KEY);
+            }
+            licensesCompatibilities.add(new LicenseCompatibilityEntry(SupportedLicenses.valueOf(compatibility.getString(COMPONENT_LICENSE)), SupportedLicenses.valueOf(compatibility.getString(PROJECT_LICENSE)), SupportedCompatibilities.valueOf(compatibility.getString(COMPATIBILITY)), SupportedLinks.valueOf(compatibility.getString(LINK)), SupportedRedistributions.valueOf(compatibility.getString(REDISTRIBUTION)), specificWarningKey));
+        }
+        return new LicensesCompatibilityFactory(licensesCompatibilities);
+    }
+
+    /**
+     * This method gets the per license values defined in the specified section
+     * of the validated JSON knowledge base definition.
+     *
+     * @param validatedKnowledgeBase a validated JSON knowledge base definition.
+     * @param section the name of the section.
+     * @param valuesClass the enum of the values of the section.
+     * @return the per license values defined in the section. It is empty if
+     * the section does not exist.
+     */
+    private <T extends Enum<T>> EnumMap<SupportedLicenses, T> getOverridesFromJSON(JSONObject validatedKnowledgeBase, String section, Class<T> valuesClass) {
+        EnumMap<SupportedLicenses, T> overrides = new EnumMap<>(SupportedLicenses.class);
+        if (validatedKnowledgeBase.has(section)) {
+            JSONObject values = validatedKnowledgeBase.getJSONObject(section);
+            for (String license : values.keySet()) {
+                overrides.put(SupportedLicenses.valueOf(license), Enum.valueOf(valuesClass, values.getString(license)));
+            }
+        }
+        return overrides;
+    }
+
+    private static final class KnowledgeBaseSchemaHolder {
+
+        // The schema is loaded once and shared by every knowledge base.
+        private static final Schema KNOWLEDGE_BASE_SCHEMA = loadKnowledgeBaseSchema();
+
+        private static Schema loadKnowledgeBaseSchema() {
+            try (InputStream schemaStream = LicensesKnowledgeBase.class.getResourceAsStream(FilesPaths.KNOWLEDGE_BASE_SCHEMA.getFilePath())) {
+                return SchemaLoader.load(new JSONObject(new JSONTokener(schemaStream)));
+            } catch (IOException ex) {
+                logger.error("knowledge base schema cannot be read");
+                throw new IllegalStateException("knowledge base schema cannot be read", ex);
+            }
+        }
+    }
+
+    private static final String BUILT_IN_VERSION = "built-in";
+    private static final String POLICY_SEPARATOR = "+";
+    private static final String POLICY_FINGERPRINT_SEPARATOR = "@";
+    private static final String FINGERPRINT_ALGORITHM = "SHA-256";
+    private static final String HEX_BYTE_FORMAT = "%02x";
+    private static final String FIELD_LENGTH_SEPARATOR = ":";
+    private static final char CANONICAL_OBJECT = '{';
+    private static final char CANONICAL_ARRAY = '[';
+    private static final String VERSION = "version";
+    private static final String COMPATIBILITIES = "compatibilities";
+    private static final String OBSOLESCENCES = "obsolescences";
+    private static final String TRENDS = "trends";
+    private static final String SPREADINGS = "spreadings";
+    private static final String COMPONENT_LICENSE = "componentlicense";
+    private static final String PROJECT_LICENSE = "projectlicense";
+    private static final String LINK = "link";
+    private static final String REDISTRIBUTION = "redistribution";
+    private static final String COMPATIBILITY = "compatibility";
+    private static final String SPECIFIC_WARNING_KEY = "specificwarningkey";
+}
@@ -25,6 +25,7 @@ package com.manolodominguez.openlrae.bok.licenseproperties;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedObsolescences;
 import java.util.EnumMap;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,14 +39,13 @@ public final class LicensesObsolescencesFactory {
 
     private Logger logger = LoggerFactory.getLogger(LicensesObsolescencesFactory.class);
 
-    private static LicensesObsolescencesFactory instance;
     private final EnumMap<SupportedLicenses, SupportedObsolescences> licensesObsolescenses;
 
     /**
      * This is the constructor of the class. It creates a new instance of
      * LicensesObsolescencesFactory.
      */
-    private LicensesObsolescencesFactory() {
+    LicensesObsolescencesFactory() {
 
         // Generating values related to the obsolescence of each supported licenses ID. 
         // How old is a given license in relation to the versions line of this
@@ -86,24 +86,32 @@ public final class LicensesObsolescencesFactory {
     }
 
     /**
-     * This method returns an instance of this class. This class implements the
-     * singleton pattern. This means that only a single instance of this class
-     * can be created. This method creates the first instance or returns it if
-     * it is already created.
+     * This is the constructor of the class. It creates a new instance of
+     * LicensesObsolescencesFactory with the built-in values, overridden by the specified
+     * ones.
+     *
+     * @param overrides Values that override the built-in ones. Licenses not
+     * included keep their built-in values.
+     */
+    LicensesObsolescencesFactory(Map<SupportedLicenses, SupportedObsolescences> overrides) {
+        this();
+        if (overrides == null) {
+            logger.error("overrides cannot be null");
+            throw new IllegalArgumentException("overrides cannot be null");
+        }
+        this.licensesObsolescenses.putAll(overrides);
+    }
+
+    /**
+     * This method returns the instance of this class that belongs to the
+     * licenses knowledge base currently in use (see LicensesKnowledgeBase). It
+     * is the same instance until a new knowledge base is put in use, so
+     * callers should get it once and use it for the whole analysis.
      *
      * @return An instance of LicensesObsolescencesFactory.
      */
     public static LicensesObsolescencesFactory getInstance() {
-        LicensesObsolescencesFactory localInstance = LicensesObsolescencesFactory.instance;
-        if (localInstance == null) {
-            synchronized (LicensesObsolescencesFactory.class) {
-                localInstance = LicensesObsolescencesFactory.instance;
-                if (localInstance == null) {
-                    LicensesObsolescencesFactory.instance = localInstance = new LicensesObsolescencesFactory();
-                }
-            }
-        }
-        return localInstance;
+        return LicensesKnowledgeBase.getCurrent().getLicensesObsolescencesFactory();
     }
 
     /**
@@ -0,0 +1,201 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.bok.licenseproperties;
+
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedObsolescences;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedSpreadings;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedTrends;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements a table of license profiles: the obsolescence, trend
+ * and spreading of every supported license, gathered from the corresponding
+ * factories of a licenses knowledge base. It is stored as parallel arrays
+ * indexed by SupportedLicenses.ordinal(), holding the ordinal of each property
+ * and its value as a primitive float, so risk analysers based on license
+ * properties read all of them from a single place. Instances are immutable.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public final class LicensesProfiles {
+
+    private Logger logger = LoggerFactory.getLogger(LicensesProfiles.class);
+
+    private final byte[] obsolescences;
+    private final float[] obsolescenceValues;
+    private final byte[] trends;
+    private final float[] trendValues;
+    private final byte[] spreadings;
+    private final float[] spreadingValues;
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * LicensesProfiles from the specified factories.
+     *
+     * @param licensesObsolescencesFactory The factory the obsolescence of each
+     * license is taken from.
+     * @param licensesTrendFactory The factory the trend of each license is
+     * taken from.
+     * @param licensesSpreadingFactory The factory the spreading of each
+     * license is taken from.
+     */
+    LicensesProfiles(LicensesObsolescencesFactory licensesObsolescencesFactory, LicensesTrendFactory licensesTrendFactory, LicensesSpreadingFactory licensesSpreadingFactory) {
+        if (licensesObsolescencesFactory == null) {
+            logger.error("licensesObsolescencesFactory cannot be null");
+            throw new IllegalArgumentException("licensesObsolescencesFactory cannot be null");
+        }
+        if (licensesTrendFactory == null) {
+            logger.error("licensesTrendFactory cannot be null");
+            throw new IllegalArgumentException("licensesTrendFactory cannot be null");
+        }
+        if (licensesSpreadingFactory == null) {
+            logger.error("licensesSpreadingFactory cannot be null");
+            throw new IllegalArgumentException("licensesSpreadingFactory cannot be null");
+        }
+        int numberOfLicenses = SupportedLicenses.values().length;
+        obsolescences = new byte[numberOfLicenses];
+        obsolescenceValues = new float[numberOfLicenses];
+        trends = new byte[numberOfLicenses];
+        trendValues = new float[numberOfLicenses];
+        spreadings = new byte[numberOfLicenses];
+        spreadingValues = new float[numberOfLicenses];
+        for (SupportedLicenses license : SupportedLicenses.values()) {
+            SupportedObsolescences obsolescence = licensesObsolescencesFactory.getObsolescenceOf(license);
+            SupportedTrends trend = licensesTrendFactory.getTrendOf(license);
+            SupportedSpreadings spreading = licensesSpreadingFactory.getSpreadingOf(license);
+            if ((obsolescence == null) || (trend == null) || (spreading == null)) {
+                logger.error("every license must have an obsolescence, a trend and a spreading");
+                throw new IllegalArgumentException("every license must have an obsolescence, a trend and a spreading");
+            }
+            obsolescences[license.ordinal()] = (byte) obsolescence.ordinal();
+            obsolescenceValues[license.ordinal()] = obsolescence.getObsolescenceValue();
+            trends[license.ordinal()] = (byte) trend.ordinal();
+            trendValues[license.ordinal()] = trend.getTrendValue();
+            spreadings[license.ordinal()] = (byte) spreading.ordinal();
+            spreadingValues[license.ordinal()] = spreading.getSpreadingValue();
+        }
+    }
+
+    /**
+     * This method returns the instance of this class that belongs to the
+     * licenses knowledge base currently in use (see LicensesKnowledgeBase). It
+     * is the same instance until a new knowledge base is put in use, so
+     * callers should get it once and use it for the whole analysis.
+     *
+     * @return An instance of LicensesProfiles.
+     */
+    public static LicensesProfiles getInstance() {
+        return LicensesKnowledgeBase.getCurrent().getLicensesProfiles();
+    }
+
+    /**
+     * This method gets the obsolescence of the specified license.
+     *
+     * @param license The license whose obsolescence is going to be queried.
+     * @return the obsolescence of the specified license.
+     */
+    public SupportedObsolescences getObsolescenceOf(SupportedLicenses license) {
+        if (license == null) {
+            logger.error("license cannot be null");
+            throw new IllegalArgumentException("license cannot be null");
+        }
+        return OBSOLESCENCES[obsolescences[license.ordinal()]];
+    }
+
+    /**
+     * This method gets the obsolescence value of the specified license.
+     *
+     * @param license The license whose obsolescence value is going to be
+     * queried.
+     * @return the obsolescence value of the specified license.
+     */
+    public float getObsolescenceValueOf(SupportedLicenses license) {
+        if (license == null) {
+            logger.error("license cannot be null");
+            throw new IllegalArgumentException("license cannot be null");
+        }
+        return obsolescenceValues[license.ordinal()];
+    }
+
+    /**
+     * This method gets the trend of the specified license.
+     *
+     * @param license The license whose trend is going to be queried.
+     * @return the trend of the specified license.
+     */
+    public SupportedTrends getTrendOf(SupportedLicenses license) {
+        if (license == null) {
+            logger.error("license cannot be null");
+            throw new IllegalArgumentException("license cannot be null");
+        }
+        return TRENDS[trends[license.ordinal()]];
+    }
+
+    /**
+     * This method gets the trend value of the specified license.
+     *
+     * @param license The license whose trend value is going to be queried.
+     * @return the trend value of the specified license.
+     */
+    public float getTrendValueOf(SupportedLicenses license) {
+        if (license == null) {
+            logger.error("license cannot be null");
+            throw new IllegalArgumentException("license cannot be null");
+        }
+        return trendValues[license.ordinal()];
+    }
+
+    /**
+     * This method gets the spreading of the specified license.
+     *
+     * @param license The license whose spreading is going to be queried.
+     * @return the spreading of the specified license.
+     */
+    public SupportedSpreadings getSpreadingOf(SupportedLicenses license) {
+        if (license == null) {
+            logger.error("license cannot be null");
+            throw new IllegalArgumentException("license cannot be null");
+        }
+        return SPREADINGS[spreadings[license.ordinal()]];
+    }
+
+    /**
+     * This method gets the spreading value of the specified license.
+     *
+     * @param license The license whose spreading value is going to be queried.
+     * @return the spreading value of the specified license.
+     */
+    public float getSpreadingValueOf(SupportedLicenses license) {
+        if (license == null) {
+            logger.error("license cannot be null");
+            throw new IllegalArgumentException("license cannot be null");
+        }
+        return spreadingValues[license.ordinal()];
+    }
+
+    private static final SupportedObsolescences[] OBSOLESCENCES = SupportedObsolescences.values();
+    private static final SupportedTrends[] TRENDS = SupportedTrends.values();
+    private static final SupportedSpreadings[] SPREADINGS = SupportedSpreadings.values();
+}
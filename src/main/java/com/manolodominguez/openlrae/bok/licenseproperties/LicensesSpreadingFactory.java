@@ -25,6 +25,7 @@ package com.manolodominguez.openlrae.bok.licenseproperties;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedSpreadings;
 import java.util.EnumMap;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,14 +39,13 @@ public final class LicensesSpreadingFactory {
 
     private Logger logger = LoggerFactory.getLogger(LicensesSpreadingFactory.class);
 
-    private static LicensesSpreadingFactory instance;
     private final EnumMap<SupportedLicenses, SupportedSpreadings> licensesSpreadings;
 
     /**
      * This is the constructor of the class. It creates a new instance of
      * LicensesSpreadingFactory.
      */
-    private LicensesSpreadingFactory() {
+    LicensesSpreadingFactory() {
         // Generating values related to the spread each license ID in the 
         // overall set of existing projecs. Are there many existing projects 
         // that use this license?
@@ -85,24 +85,32 @@ public final class LicensesSpreadingFactory {
     }
 
     /**
-     * This method returns an instance of this class. This class implements the
-     * singleton pattern. This means that only a single instance of this class
-     * can be created. This method creates the first instance or returns it if
-     * it is already created.
+     * This is the constructor of the class. It creates a new instance of
+     * LicensesSpreadingFactory with the built-in values, overridden by the specified
+     * ones.
+     *
+     * @param overrides Values that override the built-in ones. Licenses not
+     * included keep their built-in values.
+     */
+    LicensesSpreadingFactory(Map<SupportedLicenses, SupportedSpreadings> overrides) {
+        this();
+        if (overrides == null) {
+            logger.error("overrides cannot be null");
+            throw new IllegalArgumentException("overrides cannot be null");
+        }
+        this.licensesSpreadings.putAll(overrides);
+    }
+
+    /**
+     * This method returns the instance of this class that belongs to the
+     * licenses knowledge base currently in use (see LicensesKnowledgeBase). It
+     * is the same instance until a new knowledge base is put in use, so
+     * callers should get it once and use it for the whole analysis.
      *
      * @return An instance of LicensesSpreadingFactory.
      */
     public static LicensesSpreadingFactory getInstance() {
-        LicensesSpreadingFactory localInstance = LicensesSpreadingFactory.instance;
-        if (localInstance == null) {
-            synchronized (LicensesSpreadingFactory.class) {
-                localInstance = LicensesSpreadingFactory.instance;
-                if (localInstance == null) {
-                    LicensesSpreadingFactory.instance = localInstance = new LicensesSpreadingFactory();
-                }
-            }
-        }
-        return localInstance;
+        return LicensesKnowledgeBase.getCurrent().getLicensesSpreadingFactory();
     }
 
     /**
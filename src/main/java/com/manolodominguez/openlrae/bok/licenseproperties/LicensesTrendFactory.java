@@ -25,6 +25,7 @@ package com.manolodominguez.openlrae.bok.licenseproperties;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedTrends;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
 import java.util.EnumMap;
+import java.util.Map;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,14 +39,13 @@ public final class LicensesTrendFactory {
 
     private Logger logger = LoggerFactory.getLogger(LicensesTrendFactory.class);
 
-    private static LicensesTrendFactory instance;
     private final EnumMap<SupportedLicenses, SupportedTrends> licensesTrends;
 
     /**
      * This is the constructor of the class. It creates a new instance of
      * LicensesTrendFactory.
      */
-    private LicensesTrendFactory() {
+    LicensesTrendFactory() {
         // Generating trend values for each supported licenses ID. Is this 
         // license being used more and more on the time?
         this.licensesTrends = new EnumMap<>(SupportedLicenses.class);
@@ -84,24 +84,32 @@ public final class LicensesTrendFactory {
     }
 
     /**
-     * This method returns an instance of this class. This class implements the
-     * singleton pattern. This means that only a single instance of this class
-     * can be created. This method creates the first instance or returns it if
-     * it is already created.
+     * This is the constructor of the class. It creates a new instance of
+     * LicensesTrendFactory with the built-in values, overridden by the specified
+     * ones.
+     *
+     * @param overrides Values that override the built-in ones. Licenses not
+     * included keep their built-in values.
+     */
+    LicensesTrendFactory(Map<SupportedLicenses, SupportedTrends> overrides) {
+        this();
+        if (overrides == null) {
+            logger.error("overrides cannot be null");
+            throw new IllegalArgumentException("overrides cannot be null");
+        }
+        this.licensesTrends.putAll(overrides);
+    }
+
+    /**
+     * This method returns the instance of this class that belongs to the
+     * licenses knowledge base currently in use (see LicensesKnowledgeBase). It
+     * is the same instance until a new knowledge base is put in use, so
+     * callers should get it once and use it for the whole analysis.
      *
      * @return An instance of LicensesTrendFactory.
      */
     public static LicensesTrendFactory getInstance() {
-        LicensesTrendFactory localInstance = LicensesTrendFactory.instance;
-        if (localInstance == null) {
-            synchronized (LicensesTrendFactory.class) {
-                localInstance = LicensesTrendFactory.instance;
-                if (localInstance == null) {
-                    LicensesTrendFactory.instance = localInstance = new LicensesTrendFactory();
-                }
-            }
-        }
-        return localInstance;
+        return LicensesKnowledgeBase.getCurrent().getLicensesTrendFactory();
     }
 
     /**
@@ -83,13 +83,9 @@ public class LicenseCompatibilityEntry {
             logger.error("projectLicense cannot be null");
             throw new IllegalArgumentException("projectLicense cannot be null");
         }
-        boolean validProjectLicense = false;
-        for (SupportedLicenses licenseForProject : SupportedLicenses.getLicensesForProjects()) {
-            if (projectLicense == licenseForProject) {
-                validProjectLicense = true;
-            }
-        }
-        if (!validProjectLicense) {
+        // Same check as looking for it in getLicensesForProjects(), without 
+        // allocating a new array for each entry of the base of knowledge.
+        if (projectLicense.isOnlyForComponents()) {
             logger.error("A project cannot use the speciefied firstLicense");
             throw new IllegalArgumentException("A project cannot use the speciefied firstLicense");
         }
@@ -0,0 +1,413 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.bok.licenseproperties.licensecompatibilities;
+
+import com.manolodominguez.openlrae.bok.basevalues.SupportedCompatibilities;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRedistributions;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements a subfactory that loads the whole base of knowledge
+ * about licenses compatibilities from a compact binary resource, instead of
+ * running the constructors of StaticAndNone, DynamicAndNone,
+ * StaticAndSofwarePackageOrSaaS and DynamicAndSofwarePackageOrSaaS. Those
+ * subfactories are still the place where the knowledge is written and
+ * reviewed; the binary resource is compiled from them at build time (see the
+ * main method of this class) and is read at runtime with a single read. If
+ * the binary resource is not available or it does not match the enums of this
+ * version of OpenLRAE, the base of knowledge is built from the subfactories,
+ * as usual. In both cases, compatibility entries are created per (link,
+ * redistribution) slice, only when the slice is requested.
+ *
+ * The binary resource contains a header, the names of the values of the enums
+ * it was compiled against, a table of specific warning keys, one byte per
+ * (redistribution, link, project license, component license) cell storing the
+ * compatibility of that cell (or 0 if the cell is not in the base of
+ * knowledge) and, finally, the list of cells having a specific warning key.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public final class PrecompiledCompatibilities implements InterfaceLicenseCompatibilitiesSubfactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(PrecompiledCompatibilities.class);
+
+    private static PrecompiledCompatibilities instance;
+    private final byte[] cells;
+    private final String[] cellsWarningKeys;
+
+    /**
+     * This is the constuctor of the class. It creates a new instance of
+     * PrecompiledCompatibilities. The binary resource is read, if possible, but
+     * compatibility entries are only created when a given (link,
+     * redistribution) slice is requested.
+     */
+    private PrecompiledCompatibilities() {
+        byte[] loadedCells = new byte[getNumberOfCells()];
+        String[] loadedCellsWarningKeys = new String[loadedCells.length];
+        boolean loaded = false;
+        try (InputStream inputStream = PrecompiledCompatibilities.class.getResourceAsStream(RESOURCE_PATH)) {
+            if (inputStream != null) {
+                parse(inputStream, loadedCells, loadedCellsWarningKeys);
+                loaded = true;
+            } else {
+                logger.warn("Precompiled base of knowledge not found. Building it from subfactories");
+            }
+        } catch (IOException ex) {
+            logger.warn("Precompiled base of knowledge cannot be used. Building it from subfactories", ex);
+        }
+        if (loaded) {
+            this.cells = loadedCells;
+            this.cellsWarningKeys = loadedCellsWarningKeys;
+        } else {
+            this.cells = null;
+            this.cellsWarningKeys = null;
+        }
+    }
+
+    /**
+     * This method implements the singleton patter to return the existing
+     * instance of PrecompiledCompatibilities or, if it does is instantiated
+     * yet, it creates the first instance.
+     *
+     * @return an instance of PrecompiledCompatibilities (new, or the existing
+     * one).
+     */
+    public static PrecompiledCompatibilities getInstance() {
+        PrecompiledCompatibilities localInstance = PrecompiledCompatibilities.instance;
+        if (localInstance == null) {
+            synchronized (PrecompiledCompatibilities.class) {
+                localInstance = PrecompiledCompatibilities.instance;
+                if (localInstance == null) {
+                    PrecompiledCompatibilities.instance = localInstance = new PrecompiledCompatibilities();
+                }
+            }
+        }
+        return localInstance;
+    }
+
+    /**
+     * This method get the whole set of compatiblity entries of the base of
+     * knowledge.
+     *
+     * @return the whole set of compatiblity entries of the base of knowledge.
+     */
+    @Override
+    public List<LicenseCompatibilityEntry> getCompatibilities() {
+        List<LicenseCompatibilityEntry> compatibilities = new ArrayList<>();
+        for (SupportedRedistributions redistribution : SupportedRedistributions.values()) {
+            for (SupportedLinks link : SupportedLinks.values()) {
+                compatibilities.addAll(getCompatibilities(link, redistribution));
+            }
+        }
+        return new CopyOnWriteArrayList<>(compatibilities);
+    }
+
+    /**
+     * This method get the set of compatiblity entries of the base of knowledge
+     * related to components linked in the specified way to a project that is
+     * redistributed in the specified way. Only the subfactory or the part of
+     * the binary resource related to them is used.
+     *
+     * @param link The way components are included in the project.
+     * @param redistribution How the project is going to be redistributed.
+     * @return the set of compatiblity entries related to components linked in
+     * the specified way to a project that is redistributed in the specified
+     * way.
+     */
+    public List<LicenseCompatibilityEntry> getCompatibilities(SupportedLinks link, SupportedRedistributions redistribution) {
+        if (link == null) {
+            logger.error("link cannot be null");
+            throw new IllegalArgumentException("link cannot be null");
+        }
+        if (redistribution == null) {
+            logger.error("redistribution cannot be null");
+            throw new IllegalArgumentException("redistribution cannot be null");
+        }
+        if (this.cells == null) {
+            return getSubfactory(link, redistribution).getCompatibilities();
+        }
+        List<LicenseCompatibilityEntry> compatibilities = new ArrayList<>();
+        try {
+            decode(this.cells, this.cellsWarningKeys, link, redistribution, compatibilities);
+        } catch (IOException ex) {
+            // It has been parsed successfully in the constructor, so this
+            // should never happen.
+            logger.error("Precompiled base of knowledge is malformed", ex);
+            throw new IllegalStateException("Precompiled base of knowledge is malformed", ex);
+        }
+        return new CopyOnWriteArrayList<>(compatibilities);
+    }
+
+    /**
+     * This method checks whether the base of knowledge has been loaded from
+     * the binary resource or it has been built from the subfactories.
+     *
+     * @return true, if the base of knowledge has been loaded from the binary
+     * resource. Otherwise, false.
+     */
+    public boolean isPrecompiled() {
+        return this.cells != null;
+    }
+
+    /**
+     * This method gets the base of knowledge as it is defined in the
+     * subfactories, that are the source the binary resource is compiled from.
+     *
+     * @return the whole set of compatiblity entries defined in the
+     * subfactories.
+     */
+    public static List<LicenseCompatibilityEntry> getCompatibilitiesFromSubfactories() {
+        List<LicenseCompatibilityEntry> compatibilities = new ArrayList<>();
+        for (SupportedRedistributions redistribution : SupportedRedistributions.values()) {
+            for (SupportedLinks link : SupportedLinks.values()) {
+                compatibilities.addAll(getSubfactory(link, redistribution).getCompatibilities());
+            }
+        }
+        return compatibilities;
+    }
+
+    /**
+     * This method writes the specified compatibility entries to the specified
+     * output stream, using the binary format that can be read by
+     * read(...). If a combination is defined more than once, only the first
+     * one is written.
+     *
+     * @param compatibilities the compatibility entries to be written.
+     * @param outputStream the output stream where the entries are written. It
+     * is not closed by this method.
+     * @throws IOException if the entries cannot be written.
+     */
+    public static void write(List<LicenseCompatibilityEntry> compatibilities, OutputStream outputStream) throws IOException {
+        if (compatibilities == null) {
+            logger.error("compatibilities cannot be null");
+            throw new IllegalArgumentException("compatibilities cannot be null");
+        }
+        if (outputStream == null) {
+            logger.error("outputStream cannot be null");
+            throw new IllegalArgumentException("outputStream cannot be null");
+        }
+        byte[] cells = new byte[getNumberOfCells()];
+        String[] cellsWarningKeys = new String[cells.length];
+        List<String> warningKeys = new ArrayList<>();
+        for (LicenseCompatibilityEntry compatibility : compatibilities) {
+            int cell = getCell(compatibility.getRedistribution(), compatibility.getLink(), compatibility.getProjectLicense(), compatibility.getComponentLicense());
+            if (cells[cell] == ABSENT_CELL) {
+                cells[cell] = (byte) (compatibility.getCompatibility().ordinal() + ONE);
+                if (compatibility.hasSpecificWarning()) {
+                    cellsWarningKeys[cell] = compatibility.getSpecificWarningKey();
+                    if (!warningKeys.contains(compatibility.getSpecificWarningKey())) {
+                        warningKeys.add(compatibility.getSpecificWarningKey());
+                    }
+                }
+            }
+        }
+        DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+        dataOutputStream.writeInt(MAGIC_NUMBER);
+        dataOutputStream.writeShort(FORMAT_VERSION);
+        writeNames(dataOutputStream, SupportedRedistributions.values());
+        writeNames(dataOutputStream, SupportedLinks.values());
+        writeNames(dataOutputStream, SupportedLicenses.values());
+        writeNames(dataOutputStream, SupportedCompatibilities.values());
+        dataOutputStream.writeInt(warningKeys.size());
+        for (String warningKey : warningKeys) {
+            dataOutputStream.writeUTF(warningKey);
+        }
+        dataOutputStream.write(cells);
+        int numberOfCellsWithWarning = 0;
+        for (String cellWarningKey : cellsWarningKeys) {
+            if (cellWarningKey != null) {
+                numberOfCellsWithWarning++;
+            }
+        }
+        dataOutputStream.writeInt(numberOfCellsWithWarning);
+        for (int cell = 0; cell < cellsWarningKeys.length; cell++) {
+            if (cellsWarningKeys[cell] != null) {
+                dataOutputStream.writeInt(cell);
+                dataOutputStream.writeInt(warningKeys.indexOf(cellsWarningKeys[cell]));
+            }
+        }
+        dataOutputStream.flush();
+    }
+
+    /**
+     * This method reads the compatibility entries written by write(...) from
+     * the specified input stream. The whole stream is read at once.
+     *
+     * @param inputStream the input stream the entries are read from. It is not
+     * closed by this method.
+     * @return the compatibility entries read from the input stream.
+     * @throws IOException if the entries cannot be read, if the content of the
+     * input stream is malformed or if it has been compiled against enums that
+     * do not match the ones of this version of OpenLRAE.
+     */
+    public static List<LicenseCompatibilityEntry> read(InputStream inputStream) throws IOException {
+        if (inputStream == null) {
+            logger.error("inputStream cannot be null");
+            throw new IllegalArgumentException("inputStream cannot be null");
+        }
+        byte[] cells = new byte[getNumberOfCells()];
+        String[] cellsWarningKeys = new String[cells.length];
+        parse(inputStream, cells, cellsWarningKeys);
+        List<LicenseCompatibilityEntry> entries = new ArrayList<>();
+        for (SupportedRedistributions redistribution : SupportedRedistributions.values()) {
+            for (SupportedLinks link : SupportedLinks.values()) {
+                decode(cells, cellsWarningKeys, link, redistribution, entries);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * This method compiles the base of knowledge defined in the subfactories
+     * into the binary resource that is loaded at runtime. It is run at build
+     * time.
+     *
+     * @param args a single argument containing the directory where the
+     * classpath resources are generated (usually, target/classes).
+     * @throws IOException if the binary resource cannot be written.
+     */
+    public static void main(String[] args) throws IOException {
+        if ((args == null) || (args.length != ONE)) {
+            logger.error("The output directory has to be specified as the only argument");
+            throw new IllegalArgumentException("The output directory has to be specified as the only argument");
+        }
+        File outputFile = new File(args[0], RESOURCE_PATH.substring(ONE));
+        File outputDirectory = outputFile.getParentFile();
+        if (!outputDirectory.isDirectory() && !outputDirectory.mkdirs()) {
+            throw new IOException("Cannot create " + outputDirectory);
+        }
+        try (OutputStream outputStream = new FileOutputStream(outputFile)) {
+            write(getCompatibilitiesFromSubfactories(), outputStream);
+        }
+        logger.info("Precompiled base of knowledge written to " + outputFile);
+    }
+
+    private static void parse(InputStream inputStream, byte[] cells, String[] cellsWarningKeys) throws IOException {
+        DataInputStream dataInputStream = new DataInputStream(new ByteArrayInputStream(inputStream.readAllBytes()));
+        if (dataInputStream.readInt() != MAGIC_NUMBER) {
+            throw new IOException("Not a precompiled base of knowledge");
+        }
+        if (dataInputStream.readShort() != FORMAT_VERSION) {
+            throw new IOException("Unsupported precompiled base of knowledge version");
+        }
+        checkNames(dataInputStream, SupportedRedistributions.values());
+        checkNames(dataInputStream, SupportedLinks.values());
+        checkNames(dataInputStream, SupportedLicenses.values());
+        checkNames(dataInputStream, SupportedCompatibilities.values());
+        String[] warningKeys = new String[dataInputStream.readInt()];
+        for (int i = 0; i < warningKeys.length; i++) {
+            warningKeys[i] = dataInputStream.readUTF();
+        }
+        dataInputStream.readFully(cells);
+        for (byte cell : cells) {
+            if ((cell < ABSENT_CELL) || (cell > SupportedCompatibilities.values().length)) {
+                throw new IOException("Malformed precompiled base of knowledge");
+            }
+        }
+        int numberOfCellsWithWarning = dataInputStream.readInt();
+        for (int i = 0; i < numberOfCellsWithWarning; i++) {
+            int cell = dataInputStream.readInt();
+            int warningKey = dataInputStream.readInt();
+            if ((cell < 0) || (cell >= cells.length) || (warningKey < 0) || (warningKey >= warningKeys.length)) {
+                throw new IOException("Malformed precompiled base of knowledge");
+            }
+            cellsWarningKeys[cell] = warningKeys[warningKey];
+        }
+    }
+
+    private static void decode(byte[] cells, String[] cellsWarningKeys, SupportedLinks link, SupportedRedistributions redistribution, List<LicenseCompatibilityEntry> entries) throws IOException {
+        SupportedCompatibilities[] compatibilities = SupportedCompatibilities.values();
+        for (SupportedLicenses projectLicense : SupportedLicenses.values()) {
+            for (SupportedLicenses componentLicense : SupportedLicenses.values()) {
+                int cell = getCell(redistribution, link, projectLicense, componentLicense);
+                if (cells[cell] != ABSENT_CELL) {
+                    try {
+                        entries.add(new LicenseCompatibilityEntry(componentLicense, projectLicense, compatibilities[cells[cell] - ONE], link, redistribution, cellsWarningKeys[cell]));
+                    } catch (IllegalArgumentException ex) {
+                        throw new IOException("Malformed precompiled base of knowledge", ex);
+                    }
+                }
+            }
+        }
+    }
+
+    private static InterfaceLicenseCompatibilitiesSubfactory getSubfactory(SupportedLinks link, SupportedRedistributions redistribution) {
+        if (redistribution == SupportedRedistributions.NONE) {
+            if (link == SupportedLinks.STATIC) {
+                return StaticAndNone.getInstance();
+            }
+            return DynamicAndNone.getInstance();
+        }
+        if (link == SupportedLinks.STATIC) {
+            return StaticAndSofwarePackageOrSaaS.getInstance();
+        }
+        return DynamicAndSofwarePackageOrSaaS.getInstance();
+    }
+
+    private static int getNumberOfCells() {
+        return SupportedRedistributions.values().length * SupportedLinks.values().length * SupportedLicenses.values().length * SupportedLicenses.values().length;
+    }
+
+    private static int getCell(SupportedRedistributions redistribution, SupportedLinks link, SupportedLicenses projectLicense, SupportedLicenses componentLicense) {
+        int numberOfLicenses = SupportedLicenses.values().length;
+        return ((((redistribution.ordinal() * SupportedLinks.values().length) + link.ordinal()) * numberOfLicenses) + projectLicense.ordinal()) * numberOfLicenses + componentLicense.ordinal();
+    }
+
+    private static void writeNames(DataOutputStream dataOutputStream, Enum<?>[] values) throws IOException {
+        dataOutputStream.writeInt(values.length);
+        for (Enum<?> value : values) {
+            dataOutputStream.writeUTF(value.name());
+        }
+    }
+
+    private static void checkNames(DataInputStream dataInputStream, Enum<?>[] values) throws IOException {
+        if (dataInputStream.readInt() != values.length) {
+            throw new IOException("Precompiled base of knowledge does not match this version of OpenLRAE");
+        }
+        for (Enum<?> value : values) {
+            if (!value.name().equals(dataInputStream.readUTF())) {
+                throw new IOException("Precompiled base of knowledge does not match this version of OpenLRAE");
+            }
+        }
+    }
+
+    private static final String RESOURCE_PATH = "/com/manolodominguez/openlrae/bok/licensescompatibilities.bin";
+    private static final int MAGIC_NUMBER = 0x4F4C4B42;
+    private static final short FORMAT_VERSION = 1;
+    private static final byte ABSENT_CELL = 0;
+    private static final int ONE = 1;
+}
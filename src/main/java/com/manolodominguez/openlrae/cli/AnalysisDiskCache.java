@@ -0,0 +1,261 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.cli;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements an on-disk cache of analysis reports, so running
+ * again the analysis of a project file that has not changed does not analyse
+ * it again. Reports are stored in a directory, each one in a file named after
+ * a hash of everything the report depends on. Files are written atomically,
+ * so a report is either completely written or not written at all, even if
+ * several analyses share the directory. The size of the directory is bounded:
+ * when it is exceeded, the least recently used reports are removed. Errors
+ * accessing the directory are logged and never make the analysis fail; the
+ * report is simply not cached.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public class AnalysisDiskCache {
+
+    private static final org.slf4j.Logger logger = LoggerFactory.getLogger(AnalysisDiskCache.class);
+    private final Path directory;
+    private final long maxSize;
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * AnalysisDiskCache. The directory is created when the first report is
+     * stored, if needed.
+     *
+     * @param directory the directory where reports are stored.
+     * @param maxSize the maximum size, in bytes, of the reports stored in the
+     * directory. It has to be greater than zero.
+     */
+    public AnalysisDiskCache(File directory, long maxSize) {
+        if (directory == null) {
+            logger.error("directory cannot be null");
+            throw new IllegalArgumentException("directory cannot be null");
+        }
+        if (maxSize <= 0) {
+            logger.error("maxSize has to be greater than zero");
+            throw new IllegalArgumentException("maxSize has to be greater than zero");
+        }
+        this.directory = directory.toPath();
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * This method computes the key a report is stored under: a SHA-256 hash of
+     * the content of the project file and of the versions the report depends
+     * on.
+     *
+     * @param projectDefinition the content of the project file.
+     * @param versions the OpenLRAE version, the licenses knowledge base
+     * version and whatever else the report depends on, such as its language.
+     * @return the key, as an hexadecimal string.
+     */
+    public String getKey(byte[] projectDefinition, String... versions) {
+        if (projectDefinition == null) {
+            logger.error("projectDefinition cannot be null");
+            throw new IllegalArgumentException("projectDefinition cannot be null");
+        }
+        if (versions == null) {
+            logger.error("versions cannot be null");
+            throw new IllegalArgumentException("versions cannot be null");
+        }
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance(KEY_ALGORITHM);
+            for (String version : versions) {
+                if (version == null) {
+                    logger.error("versions cannot contain null values");
+                    throw new IllegalArgumentException("versions cannot contain null values");
+                }
+                // Each version is prefixed by its length, so no separator can
+                // be faked by the content of a version.
+                messageDigest.update((version.length() + FIELD_LENGTH_SEPARATOR + version).getBytes(StandardCharsets.UTF_8));
+            }
+            messageDigest.update(projectDefinition);
+            StringBuilder key = new StringBuilder();
+            for (byte hashByte : messageDigest.digest()) {
+                key.append(String.format(HEX_BYTE_FORMAT, hashByte));
+            }
+            return key.toString();
+        } catch (NoSuchAlgorithmException ex) {
+            logger.error(KEY_ALGORITHM + " is not available");
+            throw new IllegalStateException(KEY_ALGORITHM + " is not available", ex);
+        }
+    }
+
+    /**
+     * This method gets the report stored under the specified key, if any.
+     *
+     * @param key the key computed by getKey(...).
+     * @return the report, or null if there is no report stored under the key
+     * or it cannot be read.
+     */
+    public String get(String key) {
+        Path entry = getEntry(key);
+        if (!Files.isRegularFile(entry)) {
+            return null;
+        }
+        try {
+            String report = new String(Files.readAllBytes(entry), StandardCharsets.UTF_8);
+            // The last modification time tracks the last use of the report.
+            Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            return report;
+        } catch (IOException ex) {
+            logger.warn("The cached report " + entry + " cannot be read", ex);
+            return null;
+        }
+    }
+
+    /**
+     * This method stores a report under the specified key, replacing the
+     * previous one, if any. Then, the least recently used reports are removed
+     * if the directory exceeds its maximum size.
+     *
+     * @param key the key computed by getKey(...).
+     * @param report the report to be stored.
+     */
+    public void put(String key, String report) {
+        Path entry = getEntry(key);
+        if (report == null) {
+            logger.error("report cannot be null");
+            throw new IllegalArgumentException("report cannot be null");
+        }
+        Path temporaryEntry = null;
+        try {
+            Files.createDirectories(directory);
+            temporaryEntry = Files.createTempFile(directory, key, TEMPORARY_ENTRY_EXTENSION);
+            Files.write(temporaryEntry, report.getBytes(StandardCharsets.UTF_8));
+            try {
+                Files.move(temporaryEntry, entry, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException ex) {
+                Files.move(temporaryEntry, entry, StandardCopyOption.REPLACE_EXISTING);
+            }
+            evictLeastRecentlyUsed();
+        } catch (IOException ex) {
+            logger.warn("The report cannot be cached in " + directory, ex);
+        } finally {
+            deleteQuietly(temporaryEntry);
+        }
+    }
+
+    /**
+     * This method gets the directory where reports are stored.
+     *
+     * @return the directory where reports are stored.
+     */
+    public File getDirectory() {
+        return directory.toFile();
+    }
+
+    /**
+     * This method gets the maximum size, in bytes, of the reports stored in
+     * the directory.
+     *
+     * @return the maximum size of the reports stored in the directory.
+     */
+    public long getMaxSize() {
+        return maxSize;
+    }
+
+    private Path getEntry(String key) {
+        if (key == null) {
+            logger.error("key cannot be null");
+            throw new IllegalArgumentException("key cannot be null");
+        }
+        // Only keys computed by getKey(...) are accepted, so no entry can be
+        // outside the directory.
+        if (!key.matches(KEY_PATTERN)) {
+            logger.error("key is not a valid key");
+            throw new IllegalArgumentException("key is not a valid key");
+        }
+        return directory.resolve(key + ENTRY_EXTENSION);
+    }
+
+    private void evictLeastRecentlyUsed() throws IOException {
+        List<Path> entries = new ArrayList<>();
+        long size = 0;
+        try (DirectoryStream<Path> directoryStream = Files.newDirectoryStream(directory, ENTRIES_GLOB)) {
+            for (Path entry : directoryStream) {
+                entries.add(entry);
+                size += Files.size(entry);
+            }
+        }
+        if (size > maxSize) {
+            entries.sort(Comparator.comparingLong(this::getLastModifiedTime));
+            for (Path entry : entries) {
+                if (size <= maxSize) {
+                    break;
+                }
+                long entrySize = Files.size(entry);
+                if (Files.deleteIfExists(entry)) {
+                    size -= entrySize;
+                }
+            }
+        }
+    }
+
+    private long getLastModifiedTime(Path entry) {
+        try {
+            return Files.getLastModifiedTime(entry).toMillis();
+        } catch (IOException ex) {
+            // Unreadable entries are the first ones to be evicted.
+            return 0L;
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path != null) {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException ex) {
+                logger.warn("The temporary file " + path + " cannot be deleted", ex);
+            }
+        }
+    }
+
+    private static final String KEY_ALGORITHM = "SHA-256";
+    private static final String KEY_PATTERN = "[0-9a-f]+";
+    private static final String HEX_BYTE_FORMAT = "%02x";
+    private static final String FIELD_LENGTH_SEPARATOR = ":";
+    private static final String ENTRY_EXTENSION = ".json";
+    private static final String ENTRIES_GLOB = "*" + ENTRY_EXTENSION;
+    private static final String TEMPORARY_ENTRY_EXTENSION = ".tmp";
+}
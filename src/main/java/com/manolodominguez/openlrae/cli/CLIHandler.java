@@ -47,8 +47,14 @@ import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedSpreadings;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedTrends;
 import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilityFactory;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilityMatrix;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilitySlice;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesKnowledgeBase;
+import com.manolodominguez.openlrae.bok.licenseproperties.licensecompatibilities.LicenseCompatibilityEntry;
 import com.manolodominguez.openlrae.i18n.LanguageConfig;
+import com.manolodominguez.openlrae.i18n.TranslationTable;
 import com.manolodominguez.openlrae.i18n.Translations;
+import com.manolodominguez.openlrae.i18n.TranslationsRegistry;
 import com.manolodominguez.openlrae.reporting.SupportedVerbosityLevel;
 import com.manolodominguez.openlrae.resourceslocators.FilesPaths;
 import java.io.BufferedReader;
@@ -59,8 +65,10 @@ import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
-import java.util.ResourceBundle;
 import org.json.JSONException;
 import org.slf4j.LoggerFactory;
 
@@ -73,16 +81,16 @@ public class CLIHandler {
 
     private static final org.slf4j.Logger logger = LoggerFactory.getLogger(CLIHandler.class);
     private LanguageConfig languageConfig = new LanguageConfig();
-    private ResourceBundle ownI18N;
-    private ResourceBundle compatibilityI18N;
-    private ResourceBundle weightsI18N;
-    private ResourceBundle spdxIdI18N;
-    private ResourceBundle linksI18N;
-    private ResourceBundle obsolescencesI18N;
-    private ResourceBundle redistributionsI18N;
-    private ResourceBundle risksI18N;
-    private ResourceBundle spreadingsI18N;
-    private ResourceBundle trendsI18N;
+    private TranslationTable ownI18N;
+    private TranslationTable compatibilityI18N;
+    private TranslationTable weightsI18N;
+    private TranslationTable spdxIdI18N;
+    private TranslationTable linksI18N;
+    private TranslationTable obsolescencesI18N;
+    private TranslationTable redistributionsI18N;
+    private TranslationTable risksI18N;
+    private TranslationTable spreadingsI18N;
+    private TranslationTable trendsI18N;
 
     /**
      * This method is the constructor of the class. It creates a new instance of
@@ -92,16 +100,16 @@ public class CLIHandler {
         // Everything of this class is going to be printed in console. Therefore
         // the default system local is used as main option.
         languageConfig.setLanguage(Locale.getDefault());
-        ownI18N = Translations.CLI_HANDLER.getResourceBundle(languageConfig.getLanguage().getLocale());
-        compatibilityI18N = Translations.SUPPORTED_COMPATIBILITIES.getResourceBundle(languageConfig.getLanguage().getLocale());
-        weightsI18N = Translations.SUPPORTED_COMPONENTS_WEIGHTS.getResourceBundle(languageConfig.getLanguage().getLocale());
-        spdxIdI18N = Translations.SUPPORTED_LICENSES_SPDX_ID.getResourceBundle(languageConfig.getLanguage().getLocale());
-        linksI18N = Translations.SUPPORTED_LINKS.getResourceBundle(languageConfig.getLanguage().getLocale());
-        obsolescencesI18N = Translations.SUPPORTED_OBSOLESCENCES.getResourceBundle(languageConfig.getLanguage().getLocale());
-        redistributionsI18N = Translations.SUPPORTED_REDISTRIBUTIONS.getResourceBundle(languageConfig.getLanguage().getLocale());
-        risksI18N = Translations.SUPPORTED_RISKS.getResourceBundle(languageConfig.getLanguage().getLocale());
-        spreadingsI18N = Translations.SUPPORTED_SPREADINGS.getResourceBundle(languageConfig.getLanguage().getLocale());
-        trendsI18N = Translations.SUPPORTED_TRENDS.getResourceBundle(languageConfig.getLanguage().getLocale());
+        ownI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.CLI_HANDLER);
+        compatibilityI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.SUPPORTED_COMPATIBILITIES);
+        weightsI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.SUPPORTED_COMPONENTS_WEIGHTS);
+        spdxIdI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.SUPPORTED_LICENSES_SPDX_ID);
+        linksI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.SUPPORTED_LINKS);
+        obsolescencesI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.SUPPORTED_OBSOLESCENCES);
+        redistributionsI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.SUPPORTED_REDISTRIBUTIONS);
+        risksI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.SUPPORTED_RISKS);
+        spreadingsI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.SUPPORTED_SPREADINGS);
+        trendsI18N = TranslationsRegistry.getInstance().getTable(languageConfig.getLanguage(), Translations.SUPPORTED_TRENDS);
     }
 
     /**
@@ -115,6 +123,24 @@ public class CLIHandler {
      * definitions.
      */
     public void runAnalysis(String fileName) {
+        runAnalysis(fileName, null);
+    }
+
+    /**
+     * This method run a complete risk analysis of the project definition
+     * contained in the specified file, as runAnalysis(String) does, but
+     * reusing the report stored in the specified cache directory if the
+     * project file, the OpenLRAE version, the licenses knowledge base version
+     * and the language have not changed since it was generated. Otherwise, the
+     * new report is stored in the cache directory for later runs.
+     *
+     * @param fileName the name of a JSON file that contains a project
+     * definition as described by the OpenLRAE JSON schema for projects
+     * definitions.
+     * @param cacheDirectoryName the name of the directory where reports are
+     * cached. It is created if needed. Null to disable the cache.
+     */
+    public void runAnalysis(String fileName, String cacheDirectoryName) {
         if (fileName == null) {
             logger.error("fileName cannot be null");
             throw new IllegalArgumentException("fileName cannot be null");
@@ -123,6 +149,10 @@ public class CLIHandler {
             logger.error("fileName cannot be blank");
             throw new IllegalArgumentException("fileName cannot be blank");
         }
+        if ((cacheDirectoryName != null) && cacheDirectoryName.isEmpty()) {
+            logger.error("cacheDirectoryName cannot be blank");
+            throw new IllegalArgumentException("cacheDirectoryName cannot be blank");
+        }
         File file = new File(fileName);
         if (!file.exists()) {
             writeToConsole(ownI18N.getString(NOT_FOUND_1) + " " + fileName + " " + ownI18N.getString(NOT_FOUND_2));
@@ -134,7 +164,19 @@ public class CLIHandler {
                     writeToConsole(ownI18N.getString(NOT_READABLE_1) + " " + fileName + " " + ownI18N.getString(NOT_READABLE_2));
                 } else {
                     try {
-
+                        AnalysisDiskCache analysisDiskCache = null;
+                        String cacheKey = null;
+                        if (cacheDirectoryName != null) {
+                            analysisDiskCache = new AnalysisDiskCache(new File(cacheDirectoryName), CACHE_MAX_SIZE);
+                            LicensesKnowledgeBase licensesKnowledgeBase = LicensesKnowledgeBase.getCurrent();
+                            cacheKey = analysisDiskCache.getKey(Files.readAllBytes(file.toPath()), new VersionLoader().getVersion(), licensesKnowledgeBase.getVersion(), licensesKnowledgeBase.getFingerprint(), languageConfig.getLanguage().toString());
+                            String cachedReport = analysisDiskCache.get(cacheKey);
+                            if (cachedReport != null) {
+                                writeToConsole("");
+                                writeToConsole(cachedReport);
+                                return;
+                            }
+                        }
                         Project project = new Project(file.toURI().toURL());
                         // Define desired risk analysers we want to use for this project
                         RiskAnalyserLimitedSetOfPotentialProjectLicenses riskAnalyser1 = new RiskAnalyserLimitedSetOfPotentialProjectLicenses(project);
@@ -167,10 +209,16 @@ public class CLIHandler {
                         RiskAnalysisResult[] resultSet = riskAnalysisEngine.analyse();
 
                         // Print analysis report. As a JSON string in this case.
+                        String report = ReportsFactory.getInstance(SupportedVerbosityLevel.DETAILED).getReportAsBeautifiedJSONString(project, resultSet);
                         writeToConsole("");
-                        writeToConsole(ReportsFactory.getInstance(SupportedVerbosityLevel.DETAILED).getReportAsBeautifiedJSONString(project, resultSet));
+                        writeToConsole(report);
+                        if (analysisDiskCache != null) {
+                            analysisDiskCache.put(cacheKey, report);
+                        }
                     } catch (MalformedURLException | JSONException | IllegalArgumentException ex) {
                         writeToConsole(ownI18N.getString(NOT_A_VALID_JSON_1) + " " + fileName + ". " + ownI18N.getString(NOT_A_VALID_JSON_2));
+                    } catch (IOException ex) {
+                        writeToConsole(ownI18N.getString(NOT_READABLE_1) + " " + fileName + " " + ownI18N.getString(NOT_READABLE_2));
                     }
                 }
             }
@@ -319,43 +367,52 @@ public class CLIHandler {
             writeToConsole("\t- " + trendsI18N.getString(trend.toString()));
         }
         writeToConsole("");
-        writeToConsole("=== " + ownI18N.getString(SUPPORTED_COMPATIBILITY_COMBINATIONS));
-        writeToConsole("=== " + ownI18N.getString(HEADER));
-        writeToConsole("");
+        // Supported and unsupported combinations are classified in a single 
+        // pass over the indexed slices of the base of knowledge.
         LicensesCompatibilityFactory compatibilities = LicensesCompatibilityFactory.getInstance();
-        int i = ZERO;
+        List<String> supportedCombinations = new ArrayList<>();
+        List<String> unsupportedCombinations = new ArrayList<>();
+        String combination;
         for (SupportedRedistributions redistribution : SupportedRedistributions.values()) {
             for (SupportedLinks link : SupportedLinks.values()) {
+                LicensesCompatibilitySlice slice = compatibilities.getSlice(link, redistribution);
                 for (SupportedLicenses projectLicense : SupportedLicenses.getLicensesForProjects()) {
                     for (SupportedLicenses componentLicense : SupportedLicenses.getLicensesForComponents()) {
-                        if (compatibilities.getCompatibilityOf(componentLicense, projectLicense, link, redistribution) != SupportedCompatibilities.UNSUPPORTED) {
-                            i++;
-                            writeToConsole(i + "- " + ownI18N.getString(COMPONENT) + ": " + spdxIdI18N.getString(componentLicense.toString()) + " (" + linksI18N.getString(link.toString()) + ") --> " + ownI18N.getString(PROJECT) + ": " + spdxIdI18N.getString(projectLicense.toString()) + " (" + redistributionsI18N.getString(redistribution.toString()) + ")");
+                        combination = ownI18N.getString(COMPONENT) + ": " + spdxIdI18N.getString(componentLicense.toString()) + " (" + linksI18N.getString(link.toString()) + ") --> " + ownI18N.getString(PROJECT) + ": " + spdxIdI18N.getString(projectLicense.toString()) + " (" + redistributionsI18N.getString(redistribution.toString()) + ")";
+                        LicenseCompatibilityEntry licenseCompatibilityEntry = slice.lookup(componentLicense, projectLicense);
+                        if ((licenseCompatibilityEntry != null) && (licenseCompatibilityEntry.getCompatibility() != SupportedCompatibilities.UNSUPPORTED)) {
+                            supportedCombinations.add(combination);
+                        } else {
+                            unsupportedCombinations.add(combination);
                         }
                     }
                 }
             }
         }
+        writeToConsole("=== " + ownI18N.getString(SUPPORTED_COMPATIBILITY_COMBINATIONS));
+        writeToConsole("=== " + ownI18N.getString(HEADER));
+        writeToConsole("");
+        for (int i = ZERO; i < supportedCombinations.size(); i++) {
+            writeToConsole((i + 1) + "- " + supportedCombinations.get(i));
+        }
         writeToConsole("");
         writeToConsole("=== " + ownI18N.getString(UNSUPPORTED_COMPATIBILITY_COMBINATIONS));
         writeToConsole("=== " + ownI18N.getString(HEADER));
         writeToConsole("");
-        int j = ZERO;
-        for (SupportedRedistributions redistribution : SupportedRedistributions.values()) {
-            for (SupportedLinks link : SupportedLinks.values()) {
-                for (SupportedLicenses projectLicense : SupportedLicenses.getLicensesForProjects()) {
-                    for (SupportedLicenses componentLicense : SupportedLicenses.values()) {
-                        if (compatibilities.getCompatibilityOf(componentLicense, projectLicense, link, redistribution) == SupportedCompatibilities.UNSUPPORTED) {
-                            j++;
-                            writeToConsole(j + "- " + ownI18N.getString(COMPONENT) + ": " + spdxIdI18N.getString(componentLicense.toString()) + " (" + linksI18N.getString(link.toString()) + ") --> " + ownI18N.getString(PROJECT) + ": " + spdxIdI18N.getString(projectLicense.toString()) + " (" + redistributionsI18N.getString(redistribution.toString()) + ")");
-                        }
-                    }
-                }
-            }
+        for (int j = ZERO; j < unsupportedCombinations.size(); j++) {
+            writeToConsole((j + 1) + "- " + unsupportedCombinations.get(j));
         }
         writeToConsole("");
     }
 
+    /**
+     * This print in console the whole licenses compatibility matrix of the
+     * licenses knowledge base in use, as CSV.
+     */
+    public void showCompatibilityMatrix() {
+        writeToConsole(new LicensesCompatibilityMatrix().getMatrixAsCSVString());
+    }
+
     /**
      * This print in console the current OpenLRAE verion.
      */
@@ -392,6 +449,9 @@ public class CLIHandler {
         writeToConsole("java -jar " + openLRAEBynaryName + " -i");
         writeToConsole("\t" + ownI18N.getString(SHOW_OPTION_6));
         writeToConsole("");
+        writeToConsole("java -jar " + openLRAEBynaryName + " -m");
+        writeToConsole("\t" + ownI18N.getString(SHOW_OPTION_14));
+        writeToConsole("");
         writeToConsole("java -jar " + openLRAEBynaryName + " -e");
         writeToConsole("\t" + ownI18N.getString(SHOW_OPTION_7));
         writeToConsole("\t" + ownI18N.getString(SHOW_OPTION_8));
@@ -402,6 +462,10 @@ public class CLIHandler {
         writeToConsole("\t" + ownI18N.getString(SHOW_OPTION_12));
         writeToConsole("\t" + ownI18N.getString(SHOW_OPTION_13));
         writeToConsole("");
+        writeToConsole("java -jar " + openLRAEBynaryName + " -a " + ownI18N.getString(SHOW_OPTION_9) + " -c " + ownI18N.getString(SHOW_OPTION_15));
+        writeToConsole("\t" + ownI18N.getString(SHOW_OPTION_16) + " \"" + ownI18N.getString(SHOW_OPTION_15) + "\" ");
+        writeToConsole("\t" + ownI18N.getString(SHOW_OPTION_17));
+        writeToConsole("");
     }
 
     /**
@@ -442,6 +506,7 @@ public class CLIHandler {
     }
 
     private static final int ZERO = 0;
+    private static final long CACHE_MAX_SIZE = 64L * 1024L * 1024L;
 
     // i18N Keys
     private static final String NOT_FOUND_1 = "NOT_FOUND_1";
@@ -468,6 +533,10 @@ public class CLIHandler {
     private static final String SHOW_OPTION_11 = "SHOW_OPTION_11";
     private static final String SHOW_OPTION_12 = "SHOW_OPTION_12";
     private static final String SHOW_OPTION_13 = "SHOW_OPTION_13";
+    private static final String SHOW_OPTION_14 = "SHOW_OPTION_14";
+    private static final String SHOW_OPTION_15 = "SHOW_OPTION_15";
+    private static final String SHOW_OPTION_16 = "SHOW_OPTION_16";
+    private static final String SHOW_OPTION_17 = "SHOW_OPTION_17";
     private static final String SCHEMA_NOT_FOUND = "SCHEMA_NOT_FOUND";
     private static final String SCHEMA_UNREADABLE = "SCHEMA_UNREADABLE";
     private static final String SUPPORTED_FEATURES = "SUPPORTED_FEATURES";
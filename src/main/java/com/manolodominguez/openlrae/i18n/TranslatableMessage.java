@@ -0,0 +1,211 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.i18n;
+
+import com.manolodominguez.openlrae.bok.basevalues.SupportedCompatibilities;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedComponentWeights;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedObsolescences;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRedistributions;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedSpreadings;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedTrends;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements a message that is not translated until it is read. It
+ * is a sequence of terms that are translated one by one and joined, in the
+ * requested language, only when the message is translated. A term can be:
+ *
+ * - A string or a number, that is used as is.
+ *
+ * - A translation key, that is translated.
+ *
+ * - A license, link, obsolescence, trend, spreading, redistribution,
+ * compatibility, component weight or risk, that is translated as OpenLRAE
+ * does everywhere else. Licenses are translated to their SPDX identifier.
+ *
+ * - Another translatable message, that is translated in the same language.
+ *
+ * Building a message only keeps references to its terms, so messages that are
+ * never read cost almost nothing. It is immutable, so it can be shared and
+ * translated concurrently.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public final class TranslatableMessage {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslatableMessage.class);
+
+    private final Object[] terms;
+    private int hashCode;
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * TranslatableMessage.
+     *
+     * @param terms The terms of the message, in the order they have to be
+     * joined.
+     */
+    public TranslatableMessage(Object... terms) {
+        if (terms == null) {
+            logger.error("terms cannot be null");
+            throw new IllegalArgumentException("terms cannot be null");
+        }
+        for (Object term : terms) {
+            if (term == null) {
+                logger.error("terms cannot contain null values");
+                throw new IllegalArgumentException("terms cannot contain null values");
+            }
+            if (!(term instanceof String) && !(term instanceof Number) && !(term instanceof TranslationKey) && !(term instanceof TranslatableMessage) && (getTranslationsOf(term) == null)) {
+                logger.error("terms cannot contain values of type " + term.getClass().getName());
+                throw new IllegalArgumentException("terms cannot contain values of type " + term.getClass().getName());
+            }
+        }
+        this.terms = terms.clone();
+    }
+
+    /**
+     * This method gets the terms of the message.
+     *
+     * @return the terms of the message, as an unmodifiable list.
+     */
+    public List<Object> getTerms() {
+        return Collections.unmodifiableList(Arrays.asList(terms));
+    }
+
+    /**
+     * This method translates the message to the specified language.
+     *
+     * @param language The language the message has to be translated to.
+     * @return the message, translated.
+     */
+    public String translate(SupportedLanguages language) {
+        if (language == null) {
+            logger.error("language cannot be null");
+            throw new IllegalArgumentException("language cannot be null");
+        }
+        if ((terms.length == ONE) && (terms[0] instanceof String)) {
+            return (String) terms[0];
+        }
+        StringBuilder translation = new StringBuilder();
+        appendTranslation(translation, language);
+        return translation.toString();
+    }
+
+    private void appendTranslation(StringBuilder translation, SupportedLanguages language) {
+        for (Object term : terms) {
+            if (term instanceof String) {
+                translation.append((String) term);
+            } else if (term instanceof Number) {
+                translation.append(term);
+            } else if (term instanceof TranslationKey) {
+                translation.append(((TranslationKey) term).translate(language));
+            } else if (term instanceof TranslatableMessage) {
+                ((TranslatableMessage) term).appendTranslation(translation, language);
+            } else {
+                translation.append(TranslationsRegistry.getInstance().getTable(language, getTranslationsOf(term)).getString(term.toString()));
+            }
+        }
+    }
+
+    private static Translations getTranslationsOf(Object term) {
+        if (term instanceof SupportedLicenses) {
+            return Translations.SUPPORTED_LICENSES_SPDX_ID;
+        }
+        if (term instanceof SupportedLinks) {
+            return Translations.SUPPORTED_LINKS;
+        }
+        if (term instanceof SupportedObsolescences) {
+            return Translations.SUPPORTED_OBSOLESCENCES;
+        }
+        if (term instanceof SupportedTrends) {
+            return Translations.SUPPORTED_TRENDS;
+        }
+        if (term instanceof SupportedSpreadings) {
+            return Translations.SUPPORTED_SPREADINGS;
+        }
+        if (term instanceof SupportedRedistributions) {
+            return Translations.SUPPORTED_REDISTRIBUTIONS;
+        }
+        if (term instanceof SupportedCompatibilities) {
+            return Translations.SUPPORTED_COMPATIBILITIES;
+        }
+        if (term instanceof SupportedComponentWeights) {
+            return Translations.SUPPORTED_COMPONENTS_WEIGHTS;
+        }
+        if (term instanceof SupportedRisks) {
+            return Translations.SUPPORTED_RISKS;
+        }
+        return null;
+    }
+
+    /**
+     * This method checks whether this message and the specified object are
+     * equal, that is, whether the latter is a translatable message with the
+     * same terms.
+     *
+     * @param object The object to be compared with this message.
+     * @return true, if both are equal. Otherwise, false.
+     */
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof TranslatableMessage)) {
+            return false;
+        }
+        TranslatableMessage translatableMessage = (TranslatableMessage) object;
+        return (hashCode() == translatableMessage.hashCode()) && Arrays.equals(terms, translatableMessage.terms);
+    }
+
+    @Override
+    public int hashCode() {
+        // Computed once and kept, as String does. Concurrent callers could
+        // compute it at the same time, but all of them get the same value.
+        int result = hashCode;
+        if (result == 0) {
+            result = Arrays.hashCode(terms);
+            hashCode = result;
+        }
+        return result;
+    }
+
+    /**
+     * This method translates the message to the default language.
+     *
+     * @return the message, translated to the default language.
+     */
+    @Override
+    public String toString() {
+        return translate(SupportedLanguages.DEFAULT_LANGUAGE);
+    }
+
+    private static final int ONE = 1;
+}
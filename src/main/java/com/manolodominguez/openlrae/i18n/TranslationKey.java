@@ -0,0 +1,128 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.i18n;
+
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements a reference to a key of one of the translations of
+ * OpenLRAE. It is the way messages refer to a translatable text without
+ * translating it, so it can be translated later to whatever language is
+ * needed. It is immutable, so keys can be declared as constants and shared.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public final class TranslationKey {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslationKey.class);
+
+    private final Translations translations;
+    private final String key;
+    private final int keyOrdinal;
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * TranslationKey.
+     *
+     * @param translations The translations the key belongs to.
+     * @param key The key. It has to exist in the default language of the
+     * translations.
+     */
+    public TranslationKey(Translations translations, String key) {
+        if (translations == null) {
+            logger.error("translations cannot be null");
+            throw new IllegalArgumentException("translations cannot be null");
+        }
+        if (key == null) {
+            logger.error("key cannot be null");
+            throw new IllegalArgumentException("key cannot be null");
+        }
+        TranslationTable defaultTable = TranslationsRegistry.getInstance().getTable(SupportedLanguages.DEFAULT_LANGUAGE, translations);
+        if (!defaultTable.containsKey(key)) {
+            logger.error("key does not exist in translations");
+            throw new IllegalArgumentException("key does not exist in translations");
+        }
+        this.translations = translations;
+        this.key = key;
+        // The ordinal of a key is the same in every language.
+        this.keyOrdinal = defaultTable.getKeyOrdinal(key);
+    }
+
+    /**
+     * This method gets the translations the key belongs to.
+     *
+     * @return the translations the key belongs to.
+     */
+    public Translations getTranslations() {
+        return translations;
+    }
+
+    /**
+     * This method gets the key.
+     *
+     * @return the key.
+     */
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * This method translates the key to the specified language.
+     *
+     * @param language The language the key has to be translated to.
+     * @return the translation of the key.
+     */
+    public String translate(SupportedLanguages language) {
+        if (language == null) {
+            logger.error("language cannot be null");
+            throw new IllegalArgumentException("language cannot be null");
+        }
+        return TranslationsRegistry.getInstance().getTable(language, translations).getString(keyOrdinal);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+        if (this == object) {
+            return true;
+        }
+        if (!(object instanceof TranslationKey)) {
+            return false;
+        }
+        TranslationKey translationKey = (TranslationKey) object;
+        return (translations == translationKey.translations) && key.equals(translationKey.key);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(translations, key);
+    }
+
+    @Override
+    public String toString() {
+        return translations + KEY_SEPARATOR + key;
+    }
+
+    private static final String KEY_SEPARATOR = ".";
+}
@@ -0,0 +1,160 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.i18n;
+
+import java.util.Map;
+import java.util.MissingResourceException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements the texts of one of the translations of OpenLRAE in a
+ * given language. Texts are kept in an array indexed by the ordinal of their
+ * keys, that is the same for every language, so they can be read without
+ * looking up a resource bundle. It is immutable, so it can be shared and read
+ * concurrently. Instances are created by TranslationsRegistry.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public final class TranslationTable {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslationTable.class);
+
+    private final Translations translations;
+    private final SupportedLanguages language;
+    private final Map<String, Integer> keyOrdinals;
+    private final String[] texts;
+
+    /**
+     * This is the constructor of the class. It creates a new instance of
+     * TranslationTable.
+     *
+     * @param translations The translations the table belongs to.
+     * @param language The language of the texts.
+     * @param keyOrdinals The ordinal of each key of the translations.
+     * @param texts The texts, indexed by the ordinal of their keys. A text is
+     * null if the key is not translated to the language.
+     */
+    TranslationTable(Translations translations, SupportedLanguages language, Map<String, Integer> keyOrdinals, String[] texts) {
+        this.translations = translations;
+        this.language = language;
+        this.keyOrdinals = keyOrdinals;
+        this.texts = texts;
+    }
+
+    /**
+     * This method gets the translations the table belongs to.
+     *
+     * @return the translations the table belongs to.
+     */
+    public Translations getTranslations() {
+        return translations;
+    }
+
+    /**
+     * This method gets the language of the texts of the table.
+     *
+     * @return the language of the texts of the table.
+     */
+    public SupportedLanguages getLanguage() {
+        return language;
+    }
+
+    /**
+     * This method checks whether the specified key is translated to the
+     * language of the table.
+     *
+     * @param key The key.
+     * @return true, if the key is translated to the language of the table.
+     * Otherwise, false.
+     */
+    public boolean containsKey(String key) {
+        if (key == null) {
+            logger.error("key cannot be null");
+            throw new IllegalArgumentException("key cannot be null");
+        }
+        Integer keyOrdinal = keyOrdinals.get(key);
+        return (keyOrdinal != null) && (texts[keyOrdinal] != null);
+    }
+
+    /**
+     * This method gets the ordinal of the specified key, that is the same in
+     * the tables of every language of the translations.
+     *
+     * @param key The key.
+     * @return the ordinal of the key, or NOT_FOUND if the key does not exist in
+     * any language of the translations.
+     */
+    public int getKeyOrdinal(String key) {
+        if (key == null) {
+            logger.error("key cannot be null");
+            throw new IllegalArgumentException("key cannot be null");
+        }
+        Integer keyOrdinal = keyOrdinals.get(key);
+        if (keyOrdinal == null) {
+            return NOT_FOUND;
+        }
+        return keyOrdinal;
+    }
+
+    /**
+     * This method gets the text of the specified key.
+     *
+     * @param key The key.
+     * @return the text of the key, in the language of the table.
+     * @throws MissingResourceException if the key is not translated to the
+     * language of the table, as a resource bundle does.
+     */
+    public String getString(String key) {
+        int keyOrdinal = getKeyOrdinal(key);
+        if (keyOrdinal == NOT_FOUND) {
+            throw new MissingResourceException("Can't find resource for key " + key, translations.name(), key);
+        }
+        return getString(keyOrdinal);
+    }
+
+    /**
+     * This method gets the text of the key having the specified ordinal.
+     *
+     * @param keyOrdinal The ordinal of the key.
+     * @return the text of the key, in the language of the table.
+     * @throws MissingResourceException if the key is not translated to the
+     * language of the table, as a resource bundle does.
+     */
+    public String getString(int keyOrdinal) {
+        if ((keyOrdinal < 0) || (keyOrdinal >= texts.length)) {
+            logger.error("keyOrdinal is out of range");
+            throw new IllegalArgumentException("keyOrdinal is out of range");
+        }
+        String text = texts[keyOrdinal];
+        if (text == null) {
+            throw new MissingResourceException("Can't find resource for key ordinal " + keyOrdinal, translations.name(), String.valueOf(keyOrdinal));
+        }
+        return text;
+    }
+
+    /**
+     * Value returned when a key does not exist.
+     */
+    public static final int NOT_FOUND = -1;
+}
@@ -0,0 +1,125 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.i18n;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.TreeSet;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * This class implements a registry of every translation of OpenLRAE in every
+ * supported language. Each resource bundle is loaded only once, when the
+ * registry is created, into an immutable translation table, so objects that
+ * need translations hold a reference to the shared tables instead of looking
+ * up resource bundles themselves, whenever they are created or the language
+ * changes.
+ *
+ * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
+ */
+public final class TranslationsRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(TranslationsRegistry.class);
+
+    private static TranslationsRegistry instance;
+    private final TranslationTable[][] tables;
+
+    /**
+     * This is the constuctor of the class. It creates a new instance of
+     * TranslationsRegistry, loading every resource bundle of every supported
+     * language.
+     */
+    private TranslationsRegistry() {
+        SupportedLanguages[] languages = SupportedLanguages.values();
+        Translations[] allTranslations = Translations.values();
+        tables = new TranslationTable[languages.length][allTranslations.length];
+        for (Translations translations : allTranslations) {
+            ResourceBundle[] resourceBundles = new ResourceBundle[languages.length];
+            TreeSet<String> keys = new TreeSet<>();
+            for (SupportedLanguages language : languages) {
+                resourceBundles[language.ordinal()] = translations.getResourceBundle(language.getLocale());
+                keys.addAll(resourceBundles[language.ordinal()].keySet());
+            }
+            // Keys are sorted, so ordinals do not depend on the order bundles
+            // keep them.
+            Map<String, Integer> keyOrdinals = new HashMap<>();
+            for (String key : keys) {
+                keyOrdinals.put(key, keyOrdinals.size());
+            }
+            keyOrdinals = Collections.unmodifiableMap(keyOrdinals);
+            for (SupportedLanguages language : languages) {
+                ResourceBundle resourceBundle = resourceBundles[language.ordinal()];
+                String[] texts = new String[keyOrdinals.size()];
+                for (Map.Entry<String, Integer> keyOrdinal : keyOrdinals.entrySet()) {
+                    if (resourceBundle.containsKey(keyOrdinal.getKey())) {
+                        texts[keyOrdinal.getValue()] = resourceBundle.getString(keyOrdinal.getKey());
+                    }
+                }
+                tables[language.ordinal()][translations.ordinal()] = new TranslationTable(translations, language, keyOrdinals, texts);
+            }
+        }
+    }
+
+    /**
+     * This method implements the singleton patter to return the existing
+     * instance of TranslationsRegistry or, if it does is instantiated yet, it
+     * creates the first instance.
+     *
+     * @return an instance of TranslationsRegistry (new, or the existing one).
+     */
+    public static TranslationsRegistry getInstance() {
+        TranslationsRegistry localInstance = TranslationsRegistry.instance;
+        if (localInstance == null) {
+            synchronized (TranslationsRegistry.class) {
+                localInstance = TranslationsRegistry.instance;
+                if (localInstance == null) {
+                    TranslationsRegistry.instance = localInstance = new TranslationsRegistry();
+                }
+            }
+        }
+        return localInstance;
+    }
+
+    /**
+     * This method gets the translation table of the specified translations in
+     * the specified language.
+     *
+     * @param language The language of the translation table.
+     * @param translations The translations.
+     * @return the translation table, that is shared by every caller.
+     */
+    public TranslationTable getTable(SupportedLanguages language, Translations translations) {
+        if (language == null) {
+            logger.error("language cannot be null");
+            throw new IllegalArgumentException("language cannot be null");
+        }
+        if (translations == null) {
+            logger.error("translations cannot be null");
+            throw new IllegalArgumentException("translations cannot be null");
+        }
+        return tables[language.ordinal()][translations.ordinal()];
+    }
+}
@@ -42,12 +42,17 @@ public class OpenLRAE {
     public static void main(String[] args) {
         String arg0;
         String arg1;
+        String arg2;
+        String arg3;
         if (args.length == 1) {
             arg0 = args[0].substring(0, Math.min(args[0].length(), ARG0_MAX_LENGTH));
             switch (arg0) {
                 case "-i":
                     new CLIHandler().showInfo();
                     break;
+                case "-m":
+                    new CLIHandler().showCompatibilityMatrix();
+                    break;
                 case "-s":
                     new CLIHandler().showSchema();
                     break;
@@ -71,7 +76,19 @@ public class OpenLRAE {
                     new CLIHandler().showOptions();
                 }
             } else {
-                new CLIHandler().showOptions();
+                if (args.length == 4) {
+                    arg0 = args[0].substring(0, Math.min(args[0].length(), ARG0_MAX_LENGTH));
+                    arg1 = args[1].substring(0, Math.min(args[1].length(), ARG1_MAX_LENGTH));
+                    arg2 = args[2].substring(0, Math.min(args[2].length(), ARG0_MAX_LENGTH));
+                    arg3 = args[3].substring(0, Math.min(args[3].length(), ARG1_MAX_LENGTH));
+                    if (arg0.equals("-a") && arg2.equals("-c")) {
+                        new CLIHandler().runAnalysis(arg1, arg3);
+                    } else {
+                        new CLIHandler().showOptions();
+                    }
+                } else {
+                    new CLIHandler().showOptions();
+                }
             }
         }
     }
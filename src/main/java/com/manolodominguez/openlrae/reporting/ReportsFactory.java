@@ -22,8 +22,12 @@
  */
 package com.manolodominguez.openlrae.reporting;
 
+import com.manolodominguez.openlrae.analysis.CountedMessage;
 import com.manolodominguez.openlrae.analysis.RiskAnalysisResult;
 import com.manolodominguez.openlrae.arquitecture.Project;
+import com.manolodominguez.openlrae.i18n.SupportedLanguages;
+import java.util.ArrayList;
+import java.util.List;
 import org.json.JSONArray;
 import org.json.JSONObject;
 import org.slf4j.Logger;
@@ -31,7 +35,10 @@ import org.slf4j.LoggerFactory;
 
 /**
  * This class implements a factory to generate different reports formats from a
- * project definition and a set of risk analysis results.
+ * project definition and a set of risk analysis results. Optionally, equal
+ * messages of a result can be reported only once, followed by the number of
+ * times they were reported, which shrinks reports of projects where the same
+ * root cause, warning, good thing or tip is found again and again.
  *
  * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
  */
@@ -41,6 +48,7 @@ public class ReportsFactory {
 
     private static ReportsFactory instance;
     private SupportedVerbosityLevel verbosity;
+    private boolean deduplicatingMessages;
 
     /**
      * This method is the constructor of the class. It creates a new instance of
@@ -49,13 +57,16 @@ public class ReportsFactory {
      * @author Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com
      * @param verbosity the verbosity level to wich the instance of
      * ReportsFactory is configured.
+     * @param deduplicatingMessages true, if equal messages have to be reported
+     * only once, with their number of occurrences. Otherwise, false.
      */
-    private ReportsFactory(SupportedVerbosityLevel verbosity) {
+    private ReportsFactory(SupportedVerbosityLevel verbosity, boolean deduplicatingMessages) {
         if (verbosity == null) {
             logger.error("verbosity cannot be null");
             throw new IllegalArgumentException("verbosity cannot be null");
         }
         this.verbosity = verbosity;
+        this.deduplicatingMessages = deduplicatingMessages;
     }
 
     /**
@@ -73,17 +84,47 @@ public class ReportsFactory {
         this.verbosity = verbosity;
     }
 
+    /**
+     * This method sets whether equal messages of a result have to be reported
+     * only once, with their number of occurrences, or every time they were
+     * reported.
+     *
+     * @param deduplicatingMessages true, if equal messages have to be reported
+     * only once, with their number of occurrences. Otherwise, false.
+     */
+    private void setDeduplicatingMessages(boolean deduplicatingMessages) {
+        this.deduplicatingMessages = deduplicatingMessages;
+    }
+
     /**
      * This method returns an instance of this class.This class implements the
      * singleton pattern. This means that only a single instance of this class
      * can be created. This method creates the first instance or returns it if
-     * it is already created.
+     * it is already created. Every message is reported as many times as it was
+     * reported by the risk analysers.
      *
      * @param verbosity the verbosity level to wich the instance of
      * ReportsFactory is configured.
      * @return An instance of ReportsFactory.
      */
     public static ReportsFactory getInstance(SupportedVerbosityLevel verbosity) {
+        return getInstance(verbosity, DEFAULT_DEDUPLICATING_MESSAGES);
+    }
+
+    /**
+     * This method returns an instance of this class.This class implements the
+     * singleton pattern. This means that only a single instance of this class
+     * can be created. This method creates the first instance or returns it if
+     * it is already created.
+     *
+     * @param verbosity the verbosity level to wich the instance of
+     * ReportsFactory is configured.
+     * @param deduplicatingMessages true, if equal messages of a result have to
+     * be reported only once, followed by their number of occurrences when
+     * they were reported more than once. Otherwise, false.
+     * @return An instance of ReportsFactory.
+     */
+    public static ReportsFactory getInstance(SupportedVerbosityLevel verbosity, boolean deduplicatingMessages) {
         if (verbosity == null) {
             throw new IllegalArgumentException("verbosity cannot be null");
         }
@@ -92,11 +133,12 @@ public class ReportsFactory {
             synchronized (ReportsFactory.class) {
                 localInstance = ReportsFactory.instance;
                 if (localInstance == null) {
-                    ReportsFactory.instance = localInstance = new ReportsFactory(verbosity);
+                    ReportsFactory.instance = localInstance = new ReportsFactory(verbosity, deduplicatingMessages);
                 }
             }
         }
         localInstance.setVerbosity(verbosity);
+        localInstance.setDeduplicatingMessages(deduplicatingMessages);
         return localInstance;
     }
 
@@ -187,18 +229,18 @@ public class ReportsFactory {
             analysis.put("riskexposure", riskAnalysisResult.getRiskExposure());
             analysis.put("riskimpact", riskAnalysisResult.getRiskImpact());
             if ((verbosity == SupportedVerbosityLevel.RICH) || (verbosity == SupportedVerbosityLevel.DETAILED)) {
-                for (String rootCause : riskAnalysisResult.getRootCauses()) {
+                for (String rootCause : (deduplicatingMessages ? getDeduplicatedMessages(riskAnalysisResult.getDistinctRootCauseMessages(), riskAnalysisResult.getLanguage()) : riskAnalysisResult.getRootCauses())) {
                     rootcauses.put(rootCause);
                 }
-                for (String warning : riskAnalysisResult.getWarnings()) {
+                for (String warning : (deduplicatingMessages ? getDeduplicatedMessages(riskAnalysisResult.getDistinctWarningMessages(), riskAnalysisResult.getLanguage()) : riskAnalysisResult.getWarnings())) {
                     warnings.put(warning);
                 }
-                for (String goodThing : riskAnalysisResult.getGoodThings()) {
+                for (String goodThing : (deduplicatingMessages ? getDeduplicatedMessages(riskAnalysisResult.getDistinctGoodThingMessages(), riskAnalysisResult.getLanguage()) : riskAnalysisResult.getGoodThings())) {
                     goodthings.put(goodThing);
                 }
             }
             if (verbosity == SupportedVerbosityLevel.DETAILED) {
-                for (String tip : riskAnalysisResult.getTips()) {
+                for (String tip : (deduplicatingMessages ? getDeduplicatedMessages(riskAnalysisResult.getDistinctTipMessages(), riskAnalysisResult.getLanguage()) : riskAnalysisResult.getTips())) {
                     tips.put(tip);
                 }
             }
@@ -236,21 +278,21 @@ public class ReportsFactory {
             stringBuilder.append(addTab(2)).append("*** riskimpact: ").append(riskAnalysisResult.getRiskImpact()).append("\n");
             if ((verbosity == SupportedVerbosityLevel.RICH) || (verbosity == SupportedVerbosityLevel.DETAILED)) {
                 stringBuilder.append(addTab(2)).append("*** rootcauses\n");
-                for (String rootCause : riskAnalysisResult.getRootCauses()) {
+                for (String rootCause : (deduplicatingMessages ? getDeduplicatedMessages(riskAnalysisResult.getDistinctRootCauseMessages(), riskAnalysisResult.getLanguage()) : riskAnalysisResult.getRootCauses())) {
                     stringBuilder.append(addTab(3)).append("=> ").append(rootCause).append("\n");
                 }
                 stringBuilder.append(addTab(2)).append("*** warnings\n");
-                for (String warning : riskAnalysisResult.getWarnings()) {
+                for (String warning : (deduplicatingMessages ? getDeduplicatedMessages(riskAnalysisResult.getDistinctWarningMessages(), riskAnalysisResult.getLanguage()) : riskAnalysisResult.getWarnings())) {
                     stringBuilder.append(addTab(3)).append("=> ").append(warning).append("\n");
                 }
                 stringBuilder.append(addTab(2)).append("*** goodthings\n");
-                for (String goodThing : riskAnalysisResult.getGoodThings()) {
+                for (String goodThing : (deduplicatingMessages ? getDeduplicatedMessages(riskAnalysisResult.getDistinctGoodThingMessages(), riskAnalysisResult.getLanguage()) : riskAnalysisResult.getGoodThings())) {
                     stringBuilder.append(addTab(3)).append("=> ").append(goodThing).append("\n");
                 }
             }
             if (verbosity == SupportedVerbosityLevel.DETAILED) {
                 stringBuilder.append(addTab(2)).append("*** tips\n");
-                for (String tip : riskAnalysisResult.getTips()) {
+                for (String tip : (deduplicatingMessages ? getDeduplicatedMessages(riskAnalysisResult.getDistinctTipMessages(), riskAnalysisResult.getLanguage()) : riskAnalysisResult.getTips())) {
                     stringBuilder.append(addTab(3)).append("=> ").append(tip).append("\n");
                 }
             }
@@ -258,6 +300,18 @@ public class ReportsFactory {
         return stringBuilder.toString();
     }
 
+    private List<String> getDeduplicatedMessages(List<CountedMessage> distinctMessages, SupportedLanguages language) {
+        List<String> reportedMessages = new ArrayList<>(distinctMessages.size());
+        for (CountedMessage distinctMessage : distinctMessages) {
+            if (distinctMessage.getOccurrences() > ONE) {
+                reportedMessages.add(distinctMessage.getMessage().translate(language) + " (x" + distinctMessage.getOccurrences() + ")");
+            } else {
+                reportedMessages.add(distinctMessage.getMessage().translate(language));
+            }
+        }
+        return reportedMessages;
+    }
+
     private String addTab(int indentLevel) {
         StringBuilder stringBuilder = new StringBuilder();
         for (int indentions = MIN_INDENT_LEVEL; indentions < indentLevel; indentions++) {
@@ -271,5 +325,7 @@ public class ReportsFactory {
     private static final int INDENTION_SPACES = 2;
     private static final int MIN_INDENT_LEVEL = 0;
     private static final int MIN_SPACES = 0;
+    private static final int ONE = 1;
     private static final SupportedVerbosityLevel DEFAULT_VERBOSITY_LEVEL = SupportedVerbosityLevel.DETAILED;
+    private static final boolean DEFAULT_DEDUPLICATING_MESSAGES = false;
 }
@@ -37,7 +37,8 @@ public enum FilesPaths {
     PROJECT_SCHEMA("/com/manolodominguez/openlrae/json/OpenLRAEJSONSchemaForProjects.json"),
     REPORT_SCHEMA("/com/manolodominguez/openlrae/json/OpenLRAEJSONSchemaForReports.json"),
     PROJECT_EXAMPLE("/com/manolodominguez/openlrae/json/ExampleProject.json"),
-    INVALID_PROJECT_EXAMPLE("/com/manolodominguez/openlrae/json/InvalidExampleProject.json");
+    INVALID_PROJECT_EXAMPLE("/com/manolodominguez/openlrae/json/InvalidExampleProject.json"),
+    KNOWLEDGE_BASE_SCHEMA("/com/manolodominguez/openlrae/json/OpenLRAEJSONSchemaForKnowledgeBases.json");
 
     private Logger logger = LoggerFactory.getLogger(FilesPaths.class);
 
@@ -0,0 +1,126 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.analysis;
+
+import com.manolodominguez.openlrae.arquitecture.Project;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesKnowledgeBase;
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
+import com.manolodominguez.openlrae.resourceslocators.FilesPaths;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class ComponentBindingContributionTest {
+
+    public ComponentBindingContributionTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of constructor, of class ComponentBindingContribution.
+     */
+    @Test
+    void testConstructor() {
+        System.out.println("Constructor");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        ComponentBindingsFacts facts = new ComponentBindingsFacts(project, LicensesKnowledgeBase.getCurrent());
+        List<TranslatableMessage> rootCauses = new ArrayList<>(Arrays.asList(new TranslatableMessage("rootCause")));
+        ComponentBindingContribution instance = new ComponentBindingContribution(facts, 1, 0.5f, 0.25f, 1.0f, rootCauses, new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        assertEquals(project.getBillOfComponentBindings().get(1), instance.getComponentBinding()); // We're comparing objects references here
+        assertEquals(facts.getLicense(1), instance.getLicense());
+        assertEquals(facts.getWeightValue(1), instance.getWeightValue());
+        assertSame(facts.getFullNameMessage(1), instance.getFullNameMessage());
+        assertEquals(0.5f, instance.getRiskExposure());
+        assertEquals(0.25f, instance.getRiskImpact());
+        assertEquals(1.0f, instance.getMaxImpact());
+        // The contribution is immutable
+        rootCauses.add(new TranslatableMessage("anotherRootCause"));
+        assertEquals(1, instance.getRootCauses().size());
+        assertThrows(UnsupportedOperationException.class, () -> {
+            instance.getRootCauses().add(new TranslatableMessage("anotherRootCause"));
+        });
+        assertTrue(instance.getWarnings().isEmpty());
+        assertTrue(instance.getGoodThings().isEmpty());
+        assertTrue(instance.getTips().isEmpty());
+    }
+
+    /**
+     * Test of constructor, of class ComponentBindingContribution.
+     */
+    @Test
+    void testConstructorWhenArgumentsAreInvalid() {
+        System.out.println("Constructor");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        ComponentBindingsFacts facts = new ComponentBindingsFacts(project, LicensesKnowledgeBase.getCurrent());
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ComponentBindingContribution(null, 0, 0.0f, 0.0f, 0.0f, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ComponentBindingContribution(facts, -1, 0.0f, 0.0f, 0.0f, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ComponentBindingContribution(facts, facts.getNumberOfComponentBindings(), 0.0f, 0.0f, 0.0f, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ComponentBindingContribution(facts, 0, 0.0f, 0.0f, 0.0f, null, new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ComponentBindingContribution(facts, 0, 0.0f, 0.0f, 0.0f, new ArrayList<>(), null, new ArrayList<>(), new ArrayList<>());
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ComponentBindingContribution(facts, 0, 0.0f, 0.0f, 0.0f, new ArrayList<>(), new ArrayList<>(), null, new ArrayList<>());
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ComponentBindingContribution(facts, 0, 0.0f, 0.0f, 0.0f, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), null);
+        });
+    }
+
+}
@@ -0,0 +1,128 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.analysis;
+
+import com.manolodominguez.openlrae.arquitecture.ComponentBinding;
+import com.manolodominguez.openlrae.arquitecture.Project;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedCompatibilities;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilityFactory;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesKnowledgeBase;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesProfiles;
+import com.manolodominguez.openlrae.resourceslocators.FilesPaths;
+import java.net.URL;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class ComponentBindingsFactsTest {
+
+    public ComponentBindingsFactsTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of constructor, of class ComponentBindingsFacts.
+     */
+    @Test
+    void testConstructor() {
+        System.out.println("Constructor");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ComponentBindingsFacts(null, LicensesKnowledgeBase.getCurrent());
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ComponentBindingsFacts(project, null);
+        });
+    }
+
+    /**
+     * Test of the facts of each component binding, of class
+     * ComponentBindingsFacts.
+     */
+    @Test
+    void testFacts() {
+        System.out.println("facts");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        LicensesKnowledgeBase licensesKnowledgeBase = LicensesKnowledgeBase.getCurrent();
+        LicensesCompatibilityFactory licensesCompatibilities = licensesKnowledgeBase.getLicensesCompatibilityFactory();
+        LicensesProfiles licensesProfiles = licensesKnowledgeBase.getLicensesProfiles();
+        ComponentBindingsFacts instance = new ComponentBindingsFacts(project, licensesKnowledgeBase);
+        assertEquals(project.getBillOfComponentBindings().size(), instance.getNumberOfComponentBindings());
+        assertEquals(project.getLicenses().size(), instance.getNumberOfProjectLicenses());
+        assertEquals(project.getLicenses(), instance.getProjectLicenses());
+        float totalWeight = 0.0f;
+        int componentBindingIndex = 0;
+        for (ComponentBinding componentBinding : project.getBillOfComponentBindings()) {
+            SupportedLicenses license = componentBinding.getComponent().getLicense();
+            assertSame(componentBinding, instance.getComponentBindings().get(componentBindingIndex));
+            assertEquals(license, instance.getLicense(componentBindingIndex));
+            assertEquals(componentBinding.getLinkType(), instance.getLink(componentBindingIndex));
+            assertEquals(componentBinding.getWeight().getWeightValue(), instance.getWeightValue(componentBindingIndex));
+            assertEquals(componentBinding.getFullNameMessage(), instance.getFullNameMessage(componentBindingIndex));
+            assertEquals(licensesCompatibilities.getProjectLicensesMask(license, componentBinding.getLinkType(), project.getRedistribution(), SupportedCompatibilities.COMPATIBLE), instance.getCompatibleProjectLicensesMask(componentBindingIndex));
+            assertEquals(licensesProfiles.getObsolescenceOf(license), instance.getObsolescence(componentBindingIndex));
+            assertEquals(licensesProfiles.getObsolescenceValueOf(license), instance.getObsolescenceValue(componentBindingIndex));
+            assertEquals(licensesProfiles.getTrendOf(license), instance.getTrend(componentBindingIndex));
+            assertEquals(licensesProfiles.getTrendValueOf(license), instance.getTrendValue(componentBindingIndex));
+            assertEquals(licensesProfiles.getSpreadingOf(license), instance.getSpreading(componentBindingIndex));
+            assertEquals(licensesProfiles.getSpreadingValueOf(license), instance.getSpreadingValue(componentBindingIndex));
+            int projectLicenseIndex = 0;
+            for (SupportedLicenses projectLicense : project.getLicenses()) {
+                assertEquals(licensesCompatibilities.getCompatibilityOf(license, projectLicense, componentBinding.getLinkType(), project.getRedistribution()), instance.getCompatibility(componentBindingIndex, projectLicenseIndex));
+                projectLicenseIndex++;
+            }
+            totalWeight += componentBinding.getWeight().getWeightValue();
+            componentBindingIndex++;
+        }
+        assertEquals(totalWeight, instance.getTotalWeight());
+        assertEquals(instance.getNumberOfComponentBindings(), instance.getVerdicts().getNumberOfComponentBindings());
+        assertThrows(UnsupportedOperationException.class, () -> {
+            instance.getComponentBindings().clear();
+        });
+    }
+}
@@ -0,0 +1,111 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.analysis;
+
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class CountedMessageTest {
+
+    public CountedMessageTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of constructor, of class CountedMessage.
+     */
+    @Test
+    void testConstructor() {
+        System.out.println("Constructor");
+        TranslatableMessage message = new TranslatableMessage("A message");
+        CountedMessage instance = new CountedMessage(message, 3);
+        assertSame(message, instance.getMessage());
+        assertEquals(3, instance.getOccurrences());
+    }
+
+    /**
+     * Test of constructor, of class CountedMessage.
+     */
+    @Test
+    void testConstructorWhenMessageIsNull() {
+        System.out.println("Constructor");
+        assertThrows(IllegalArgumentException.class, () -> {
+            new CountedMessage(null, 1);
+        });
+    }
+
+    /**
+     * Test of constructor, of class CountedMessage.
+     */
+    @Test
+    void testConstructorWhenOccurrencesIsNotPositive() {
+        System.out.println("Constructor");
+        TranslatableMessage message = new TranslatableMessage("A message");
+        assertThrows(IllegalArgumentException.class, () -> {
+            new CountedMessage(message, 0);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new CountedMessage(message, -1);
+        });
+    }
+
+    /**
+     * Test of equals and hashCode methods, of class CountedMessage.
+     */
+    @Test
+    void testEquals() {
+        System.out.println("equals");
+        CountedMessage instance = new CountedMessage(new TranslatableMessage("A message"), 2);
+        CountedMessage equalInstance = new CountedMessage(new TranslatableMessage("A message"), 2);
+        assertEquals(instance, equalInstance);
+        assertEquals(instance.hashCode(), equalInstance.hashCode());
+        assertNotEquals(instance, new CountedMessage(new TranslatableMessage("A message"), 1));
+        assertNotEquals(instance, new CountedMessage(new TranslatableMessage("Another message"), 2));
+        assertNotEquals(instance, "A message");
+    }
+
+}
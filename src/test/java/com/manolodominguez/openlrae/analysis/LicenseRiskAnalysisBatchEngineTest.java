@@ -0,0 +1,247 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.analysis;
+
+import com.manolodominguez.openlrae.analysis.riskanalysers.RiskAnalyserObsoleteComponentsLicenses;
+import com.manolodominguez.openlrae.analysis.riskanalysers.RiskAnalyserUnfashionableComponentsLicenses;
+import com.manolodominguez.openlrae.arquitecture.Project;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
+import com.manolodominguez.openlrae.i18n.SupportedLanguages;
+import com.manolodominguez.openlrae.resourceslocators.FilesPaths;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class LicenseRiskAnalysisBatchEngineTest {
+
+    public LicenseRiskAnalysisBatchEngineTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of constructor, of class LicenseRiskAnalysisBatchEngine.
+     */
+    @Test
+    void testConstructor() {
+        System.out.println("Constructor");
+        LicenseRiskAnalysisBatchEngine instance = new LicenseRiskAnalysisBatchEngine(new RiskAnalyserObsoleteComponentsLicenses());
+        assertEquals(Runtime.getRuntime().availableProcessors(), instance.getNumberOfWorkers());
+        assertEquals(1, instance.getRisksAnalysers().size());
+        instance = new LicenseRiskAnalysisBatchEngine(new RiskAnalyserObsoleteComponentsLicenses(), 3);
+        assertEquals(3, instance.getNumberOfWorkers());
+        assertThrows(IllegalArgumentException.class, () -> {
+            new LicenseRiskAnalysisBatchEngine(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new LicenseRiskAnalysisBatchEngine(new RiskAnalyserObsoleteComponentsLicenses(), 0);
+        });
+    }
+
+    /**
+     * Test of addRiskAnalyser method, of class LicenseRiskAnalysisBatchEngine.
+     */
+    @Test
+    void testAddRiskAnalyser() {
+        System.out.println("addRiskAnalyser");
+        LicenseRiskAnalysisBatchEngine instance = new LicenseRiskAnalysisBatchEngine(new RiskAnalyserObsoleteComponentsLicenses());
+        instance.setLanguage(new Locale("es"));
+        RiskAnalyserUnfashionableComponentsLicenses riskAnalyser = new RiskAnalyserUnfashionableComponentsLicenses();
+        instance.addRiskAnalyser(riskAnalyser);
+        assertEquals(2, instance.getRisksAnalysers().size());
+        assertEquals(SupportedLanguages.SPANISH, riskAnalyser.getLanguage());
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.addRiskAnalyser(null);
+        });
+    }
+
+    /**
+     * Test of analyse method, of class LicenseRiskAnalysisBatchEngine.
+     */
+    @Test
+    void testAnalyse() {
+        System.out.println("analyse");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        URL invalidProjectURL = getClass().getResource(FilesPaths.INVALID_PROJECT_EXAMPLE.getFilePath());
+        List<URL> projectDefinitionURLs = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            projectDefinitionURLs.add(projectURL);
+        }
+        projectDefinitionURLs.add(invalidProjectURL);
+        LicenseRiskAnalysisEngine engine = new LicenseRiskAnalysisEngine(new RiskAnalyserObsoleteComponentsLicenses(new Project(projectURL)));
+        engine.addRiskAnalyser(new RiskAnalyserUnfashionableComponentsLicenses(new Project(projectURL)));
+        RiskAnalysisResult[] expectedResultSet = engine.analyse();
+        LicenseRiskAnalysisBatchEngine instance = new LicenseRiskAnalysisBatchEngine(new RiskAnalyserObsoleteComponentsLicenses(), 4);
+        instance.addRiskAnalyser(new RiskAnalyserUnfashionableComponentsLicenses());
+        List<RiskAnalysisResult[]> analysed = new ArrayList<>();
+        List<URL> failed = new ArrayList<>();
+        int analysedProjects = instance.analyse(projectDefinitionURLs.iterator(), new IRiskAnalysisBatchSink() {
+            @Override
+            public void onProjectAnalysed(URL projectDefinitionURL, Project project, RiskAnalysisResult[] resultSet) {
+                analysed.add(resultSet);
+            }
+
+            @Override
+            public void onProjectFailed(URL projectDefinitionURL, RuntimeException cause) {
+                failed.add(projectDefinitionURL);
+            }
+        });
+        assertEquals(20, analysedProjects);
+        assertEquals(20, analysed.size());
+        assertEquals(1, failed.size());
+        assertEquals(invalidProjectURL, failed.get(0));
+        for (RiskAnalysisResult[] resultSet : analysed) {
+            assertEquals(2, resultSet.length);
+            assertEquals(SupportedRisks.HAVING_OBSOLETE_COMPONENTS_LICENSES, resultSet[0].getRiskType());
+            assertEquals(SupportedRisks.HAVING_UNFASHIONABLE_COMPONENTS_LICENSES, resultSet[1].getRiskType());
+            for (int i = 0; i < resultSet.length; i++) {
+                assertEquals(expectedResultSet[i].getRiskExposure(), resultSet[i].getRiskExposure());
+                assertEquals(expectedResultSet[i].getRiskImpact(), resultSet[i].getRiskImpact());
+                assertEquals(expectedResultSet[i].getRootCauses(), resultSet[i].getRootCauses());
+            }
+        }
+    }
+
+    /**
+     * Test of analyse method, of class LicenseRiskAnalysisBatchEngine.
+     */
+    @Test
+    void testAnalyseReadsSourceOnDemand() {
+        System.out.println("analyse");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        AtomicInteger readProjects = new AtomicInteger();
+        AtomicInteger maxUnfinishedProjects = new AtomicInteger();
+        AtomicInteger finishedProjects = new AtomicInteger();
+        Iterator<URL> projectDefinitionURLs = new Iterator<URL>() {
+            @Override
+            public boolean hasNext() {
+                return readProjects.get() < 30;
+            }
+
+            @Override
+            public URL next() {
+                int unfinishedProjects = readProjects.incrementAndGet() - finishedProjects.get();
+                maxUnfinishedProjects.accumulateAndGet(unfinishedProjects, Math::max);
+                return projectURL;
+            }
+        };
+        LicenseRiskAnalysisBatchEngine instance = new LicenseRiskAnalysisBatchEngine(new RiskAnalyserObsoleteComponentsLicenses(), 2);
+        int analysedProjects = instance.analyse(projectDefinitionURLs, new IRiskAnalysisBatchSink() {
+            @Override
+            public void onProjectAnalysed(URL projectDefinitionURL, Project project, RiskAnalysisResult[] resultSet) {
+                finishedProjects.incrementAndGet();
+            }
+
+            @Override
+            public void onProjectFailed(URL projectDefinitionURL, RuntimeException cause) {
+                finishedProjects.incrementAndGet();
+            }
+        });
+        assertEquals(30, analysedProjects);
+        assertEquals(30, finishedProjects.get());
+        // Two workers, two pending projects per worker and the one being read
+        assertTrue(maxUnfinishedProjects.get() <= 5);
+    }
+
+    /**
+     * Test of analyse method, of class LicenseRiskAnalysisBatchEngine.
+     */
+    @Test
+    void testAnalyseInSpanish() {
+        System.out.println("analyse");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        List<URL> projectDefinitionURLs = new ArrayList<>();
+        projectDefinitionURLs.add(projectURL);
+        LicenseRiskAnalysisBatchEngine instance = new LicenseRiskAnalysisBatchEngine(new RiskAnalyserObsoleteComponentsLicenses(), 1);
+        instance.setLanguage(new Locale("es"));
+        assertEquals(SupportedLanguages.SPANISH, instance.getLanguage());
+        List<Project> analysed = new ArrayList<>();
+        instance.analyse(projectDefinitionURLs.iterator(), new IRiskAnalysisBatchSink() {
+            @Override
+            public void onProjectAnalysed(URL projectDefinitionURL, Project project, RiskAnalysisResult[] resultSet) {
+                analysed.add(project);
+            }
+
+            @Override
+            public void onProjectFailed(URL projectDefinitionURL, RuntimeException cause) {
+            }
+        });
+        assertEquals(SupportedLanguages.SPANISH, analysed.get(0).getLanguage());
+        instance.setDefaultLanguage();
+        assertEquals(SupportedLanguages.DEFAULT_LANGUAGE, instance.getLanguage());
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.setLanguage(null);
+        });
+    }
+
+    /**
+     * Test of analyse method, of class LicenseRiskAnalysisBatchEngine.
+     */
+    @Test
+    void testAnalyseWhenArgumentsAreNull() {
+        System.out.println("analyse");
+        LicenseRiskAnalysisBatchEngine instance = new LicenseRiskAnalysisBatchEngine(new RiskAnalyserObsoleteComponentsLicenses());
+        List<URL> projectDefinitionURLs = new ArrayList<>();
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.analyse(null, new IRiskAnalysisBatchSink() {
+                @Override
+                public void onProjectAnalysed(URL projectDefinitionURL, Project project, RiskAnalysisResult[] resultSet) {
+                }
+
+                @Override
+                public void onProjectFailed(URL projectDefinitionURL, RuntimeException cause) {
+                }
+            });
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.analyse(projectDefinitionURLs.iterator(), null);
+        });
+    }
+}
@@ -24,19 +24,42 @@ package com.manolodominguez.openlrae.analysis;
 
 import com.manolodominguez.openlrae.analysis.riskanalysers.AbstractRiskAnalyser;
 import com.manolodominguez.openlrae.analysis.riskanalysers.RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses;
+import com.manolodominguez.openlrae.analysis.riskanalysers.RiskAnalyserComponentsLicensesMisalignedFromProjectLicenses;
 import com.manolodominguez.openlrae.analysis.riskanalysers.RiskAnalyserHeterogeneousComponentsLicenses;
 import com.manolodominguez.openlrae.analysis.riskanalysers.RiskAnalyserObsoleteComponentsLicenses;
+import com.manolodominguez.openlrae.analysis.riskanalysers.RiskAnalyserObsoleteProjectLicenses;
 import com.manolodominguez.openlrae.analysis.riskanalysers.RiskAnalyserLimitedSetOfPotentialComponentsLicenses;
 import com.manolodominguez.openlrae.analysis.riskanalysers.RiskAnalyserLimitedSetOfPotentialProjectLicenses;
 import com.manolodominguez.openlrae.analysis.riskanalysers.RiskAnalyserScarcelySpreadComponentsLicenses;
 import com.manolodominguez.openlrae.analysis.riskanalysers.RiskAnalyserUnfashionableComponentsLicenses;
+import com.manolodominguez.openlrae.arquitecture.Component;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedComponentWeights;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
 import com.manolodominguez.openlrae.arquitecture.ComponentBinding;
 import com.manolodominguez.openlrae.arquitecture.Project;
 import com.manolodominguez.openlrae.i18n.SupportedLanguages;
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
 import com.manolodominguez.openlrae.reporting.ReportsFactory;
+import com.manolodominguez.openlrae.reporting.SupportedVerbosityLevel;
 import com.manolodominguez.openlrae.resourceslocators.FilesPaths;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesKnowledgeBase;
 import java.net.URL;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.everit.json.schema.Schema;
 import org.everit.json.schema.ValidationException;
 import org.everit.json.schema.loader.SchemaLoader;
@@ -86,6 +109,391 @@ class LicenseRiskAnalysisEngineTest {
         });
     }
 
+    /**
+     * Test of analyseInParallel method, of class LicenseRiskAnalysisEngine.
+     */
+    @Test
+    void testAnalyseInParallel() {
+        System.out.println("analyseInParallel");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        LicenseRiskAnalysisEngine sequentialInstance = new LicenseRiskAnalysisEngine(new RiskAnalyserLimitedSetOfPotentialProjectLicenses(project));
+        sequentialInstance.addRiskAnalyser(new RiskAnalyserObsoleteComponentsLicenses(project));
+        sequentialInstance.addRiskAnalyser(new RiskAnalyserUnfashionableComponentsLicenses(project));
+        sequentialInstance.addRiskAnalyser(new RiskAnalyserScarcelySpreadComponentsLicenses(project));
+        sequentialInstance.addRiskAnalyser(new RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses(project));
+        sequentialInstance.addRiskAnalyser(new RiskAnalyserLimitedSetOfPotentialComponentsLicenses(project));
+        sequentialInstance.addRiskAnalyser(new RiskAnalyserHeterogeneousComponentsLicenses(project));
+        LicenseRiskAnalysisEngine instance = new LicenseRiskAnalysisEngine(new RiskAnalyserLimitedSetOfPotentialProjectLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserObsoleteComponentsLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserUnfashionableComponentsLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserScarcelySpreadComponentsLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserLimitedSetOfPotentialComponentsLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserHeterogeneousComponentsLicenses(project));
+        RiskAnalysisResult[] expectedResultSet = sequentialInstance.analyse();
+        RiskAnalysisResult[] resultSet = instance.analyseInParallel();
+        // Results keep the order of the risk analysers
+        assertEquals(expectedResultSet.length, resultSet.length);
+        for (int i = 0; i < resultSet.length; i++) {
+            assertEquals(instance.getRisksAnalysers().get(i).getHandledRiskType(), resultSet[i].getRiskType());
+            assertEquals(expectedResultSet[i].getRiskType(), resultSet[i].getRiskType());
+            assertEquals(expectedResultSet[i].getRiskExposure(), resultSet[i].getRiskExposure());
+            assertEquals(expectedResultSet[i].getRiskImpact(), resultSet[i].getRiskImpact());
+            assertEquals(expectedResultSet[i].getRootCauses(), resultSet[i].getRootCauses());
+            assertEquals(expectedResultSet[i].getWarnings(), resultSet[i].getWarnings());
+            assertEquals(expectedResultSet[i].getGoodThings(), resultSet[i].getGoodThings());
+            assertEquals(expectedResultSet[i].getTips(), resultSet[i].getTips());
+        }
+    }
+
+    /**
+     * Test of analyse method, of class LicenseRiskAnalysisEngine.
+     */
+    @Test
+    void testAnalyseWithExecutor() {
+        System.out.println("analyse");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        LicenseRiskAnalysisEngine instance = new LicenseRiskAnalysisEngine(new RiskAnalyserObsoleteComponentsLicenses(project));
+        // A single risk analyser
+        assertEquals(1, instance.analyse(Runnable::run).length);
+        instance = new LicenseRiskAnalysisEngine(new RiskAnalyserObsoleteComponentsLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserUnfashionableComponentsLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserScarcelySpreadComponentsLicenses(project));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            RiskAnalysisResult[] resultSet = instance.analyse(executor);
+            assertEquals(3, resultSet.length);
+            assertEquals(SupportedRisks.HAVING_OBSOLETE_COMPONENTS_LICENSES, resultSet[0].getRiskType());
+            assertEquals(SupportedRisks.HAVING_UNFASHIONABLE_COMPONENTS_LICENSES, resultSet[1].getRiskType());
+            assertEquals(SupportedRisks.HAVING_SCARCELY_SPREAD_COMPONENTS_LICENSES, resultSet[2].getRiskType());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Test of analyse method, of class LicenseRiskAnalysisEngine.
+     */
+    @Test
+    void testAnalyseWhenExecutorIsNull() {
+        System.out.println("analyse");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        LicenseRiskAnalysisEngine instance = new LicenseRiskAnalysisEngine(new RiskAnalyserObsoleteComponentsLicenses(project));
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.analyse(null);
+        });
+    }
+
+    /**
+     * Test of analyse method, of class LicenseRiskAnalysisEngine.
+     */
+    @Test
+    void testAnalyseIsNotCumulative() {
+        System.out.println("analyse");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        LicenseRiskAnalysisEngine instance = new LicenseRiskAnalysisEngine(new RiskAnalyserObsoleteComponentsLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserUnfashionableComponentsLicenses(project));
+        // Each run returns only its own results
+        assertEquals(2, instance.analyse().length);
+        assertEquals(2, instance.analyse().length);
+        assertEquals(2, instance.analyse(Runnable::run).length);
+        assertEquals(2, instance.analyseInParallel().length);
+    }
+
+    /**
+     * Test of run method, of class LicenseRiskAnalysisEngine.
+     */
+    @Test
+    void testRun() {
+        System.out.println("run");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        LicenseRiskAnalysisEngine instance = new LicenseRiskAnalysisEngine(new RiskAnalyserObsoleteComponentsLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserUnfashionableComponentsLicenses(project));
+        RiskAnalysisRun firstRun = instance.run();
+        RiskAnalysisRun secondRun = instance.run(Runnable::run);
+        assertEquals(2, firstRun.getNumberOfResults());
+        assertEquals(2, secondRun.getNumberOfResults());
+        assertEquals(SupportedRisks.HAVING_OBSOLETE_COMPONENTS_LICENSES, secondRun.getResults()[0].getRiskType());
+        assertEquals(SupportedRisks.HAVING_UNFASHIONABLE_COMPONENTS_LICENSES, secondRun.getResults()[1].getRiskType());
+        assertFalse(firstRun.getEndTime().isBefore(firstRun.getStartTime()));
+        assertFalse(secondRun.getStartTime().isBefore(firstRun.getEndTime()));
+        // The history is disabled by default
+        assertEquals(0, instance.getRunHistorySize());
+        assertTrue(instance.getRunHistory().isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.run(null);
+        });
+    }
+
+    /**
+     * Test of run method, of class LicenseRiskAnalysisEngine, when risk
+     * analysers run in parallel.
+     */
+    @Test
+    void testRunInParallelComputesFactsOnce() {
+        System.out.println("run");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        AtomicInteger numberOfFactsComputations = new AtomicInteger();
+        // The facts about the component bindings are the only ones reading the
+        // full name message of a component binding, once per computation.
+        project.addComponentBinding(new ComponentBinding(new Component("CountingComponent", "1.0", SupportedLicenses.GPL_2_0_ONLY), SupportedLinks.DYNAMIC, SupportedComponentWeights.HIGH) {
+            @Override
+            public TranslatableMessage getFullNameMessage() {
+                numberOfFactsComputations.incrementAndGet();
+                return super.getFullNameMessage();
+            }
+        });
+        LicenseRiskAnalysisEngine instance = new LicenseRiskAnalysisEngine(new RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserComponentsLicensesMisalignedFromProjectLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserHeterogeneousComponentsLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserLimitedSetOfPotentialComponentsLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserLimitedSetOfPotentialProjectLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserObsoleteComponentsLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserScarcelySpreadComponentsLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserUnfashionableComponentsLicenses(project));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int i = 1; i <= 10; i++) {
+                assertEquals(8, instance.run(executor).getNumberOfResults());
+                // Once per run, however many risk analysers use them
+                assertEquals(i, numberOfFactsComputations.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Test of run method, of class LicenseRiskAnalysisEngine, when no message
+     * is reported.
+     */
+    @Test
+    void testRunDoesNotBuildMessagesAtEssentialVerbosity() {
+        System.out.println("run");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        AtomicInteger numberOfProjectNamesInMessages = new AtomicInteger();
+        // Only messages built by risk analysers read the full name message of
+        // the project.
+        Project project = new Project(projectURL) {
+            @Override
+            public TranslatableMessage getFullNameMessage() {
+                numberOfProjectNamesInMessages.incrementAndGet();
+                return super.getFullNameMessage();
+            }
+        };
+        LicenseRiskAnalysisEngine instance = new LicenseRiskAnalysisEngine(new RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserComponentsLicensesMisalignedFromProjectLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserHeterogeneousComponentsLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserLimitedSetOfPotentialComponentsLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserLimitedSetOfPotentialProjectLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserObsoleteComponentsLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserObsoleteProjectLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserScarcelySpreadComponentsLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserUnfashionableComponentsLicenses(project));
+        instance.setVerbosity(SupportedVerbosityLevel.ESSENTIAL);
+        RiskAnalysisRun essentialRun = instance.run();
+        assertEquals(9, essentialRun.getNumberOfResults());
+        assertEquals(0, numberOfProjectNamesInMessages.get());
+        instance.setVerbosity(SupportedVerbosityLevel.DETAILED);
+        RiskAnalysisRun detailedRun = instance.run();
+        assertTrue(numberOfProjectNamesInMessages.get() > 0);
+        // Skipping messages does not change the risks
+        for (int i = 0; i < essentialRun.getNumberOfResults(); i++) {
+            assertEquals(detailedRun.getResults()[i].getRiskType(), essentialRun.getResults()[i].getRiskType());
+            assertEquals(detailedRun.getResults()[i].getRiskExposure(), essentialRun.getResults()[i].getRiskExposure());
+            assertEquals(detailedRun.getResults()[i].getRiskImpact(), essentialRun.getResults()[i].getRiskImpact());
+        }
+    }
+
+    /**
+     * Test of getRunHistory method, of class LicenseRiskAnalysisEngine.
+     */
+    @Test
+    void testGetRunHistory() {
+        System.out.println("getRunHistory");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        LicenseRiskAnalysisEngine instance = new LicenseRiskAnalysisEngine(new RiskAnalyserObsoleteComponentsLicenses(project));
+        instance.setRunHistorySize(3);
+        assertEquals(3, instance.getRunHistorySize());
+        RiskAnalysisRun[] runs = new RiskAnalysisRun[5];
+        for (int i = 0; i < runs.length; i++) {
+            runs[i] = instance.run();
+        }
+        // Only the last three runs are kept, from the oldest to the newest
+        List<RiskAnalysisRun> runHistory = instance.getRunHistory();
+        assertEquals(3, runHistory.size());
+        assertSame(runs[2], runHistory.get(0));
+        assertSame(runs[3], runHistory.get(1));
+        assertSame(runs[4], runHistory.get(2));
+        // The returned history is a copy
+        instance.run();
+        assertSame(runs[2], runHistory.get(0));
+        assertSame(runs[3], instance.getRunHistory().get(0));
+        // Shrinking keeps the newest runs
+        instance.setRunHistorySize(2);
+        runHistory = instance.getRunHistory();
+        assertEquals(2, runHistory.size());
+        assertSame(runs[4], runHistory.get(0));
+        // Growing keeps all of them
+        instance.setRunHistorySize(4);
+        assertEquals(2, instance.getRunHistory().size());
+        instance.analyse();
+        assertEquals(3, instance.getRunHistory().size());
+        instance.clearRunHistory();
+        assertTrue(instance.getRunHistory().isEmpty());
+        assertEquals(4, instance.getRunHistorySize());
+        instance.setRunHistorySize(0);
+        instance.run();
+        assertTrue(instance.getRunHistory().isEmpty());
+    }
+
+    /**
+     * Test of setRunHistorySize method, of class LicenseRiskAnalysisEngine.
+     */
+    @Test
+    void testSetRunHistorySizeWhenNegative() {
+        System.out.println("setRunHistorySize");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        LicenseRiskAnalysisEngine instance = new LicenseRiskAnalysisEngine(new RiskAnalyserObsoleteComponentsLicenses(project));
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.setRunHistorySize(-1);
+        });
+    }
+
+    /**
+     * Test of analyseAsync method, of class LicenseRiskAnalysisEngine.
+     */
+    @Test
+    void testAnalyseAsync() {
+        System.out.println("analyseAsync");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        LicenseRiskAnalysisEngine instance = new LicenseRiskAnalysisEngine(new RiskAnalyserObsoleteComponentsLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserUnfashionableComponentsLicenses(project));
+        instance.setRunHistorySize(1);
+        RiskAnalysisResult[] expectedResultSet = instance.analyse();
+        RiskAnalysisRun run = instance.analyseAsync().join();
+        assertFalse(run.isPartial());
+        assertEquals(expectedResultSet.length, run.getNumberOfResults());
+        for (int i = 0; i < expectedResultSet.length; i++) {
+            assertEquals(expectedResultSet[i].getRiskType(), run.getResults()[i].getRiskType());
+            assertEquals(expectedResultSet[i].getRiskExposure(), run.getResults()[i].getRiskExposure());
+            assertEquals(expectedResultSet[i].getRiskImpact(), run.getResults()[i].getRiskImpact());
+        }
+        assertSame(run, instance.getRunHistory().get(0));
+        run = instance.analyseAsync(Runnable::run, 1, TimeUnit.MINUTES).join();
+        assertFalse(run.isPartial());
+        assertEquals(2, run.getNumberOfResults());
+    }
+
+    /**
+     * Test of analyseAsync method, of class LicenseRiskAnalysisEngine.
+     */
+    @Test
+    void testAnalyseAsyncWhenRiskAnalyserTimesOut() {
+        System.out.println("analyseAsync");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        CountDownLatch stopped = new CountDownLatch(1);
+        LicenseRiskAnalysisEngine instance = new LicenseRiskAnalysisEngine(new RiskAnalyserObsoleteComponentsLicenses(project));
+        instance.addRiskAnalyser(getEndlessRiskAnalyser(project, stopped));
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            RiskAnalysisRun run = instance.analyseAsync(executor, 200, TimeUnit.MILLISECONDS).join();
+            assertTrue(run.isPartial());
+            assertEquals(1, run.getNumberOfResults());
+            assertEquals(SupportedRisks.HAVING_OBSOLETE_COMPONENTS_LICENSES, run.getResults()[0].getRiskType());
+            assertEquals(1, run.getUnfinishedRiskTypes().size());
+            assertEquals(SupportedRisks.HAVING_UNFASHIONABLE_COMPONENTS_LICENSES, run.getUnfinishedRiskTypes().get(0));
+            // The risk analyser that timed out has been asked to stop
+            assertTrue(stopped.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            fail("Interrupted while waiting for the risk analyser to stop");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Test of analyseAsync method, of class LicenseRiskAnalysisEngine.
+     */
+    @Test
+    void testAnalyseAsyncWhenCancelled() {
+        System.out.println("analyseAsync");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        CountDownLatch stopped = new CountDownLatch(1);
+        LicenseRiskAnalysisEngine instance = new LicenseRiskAnalysisEngine(getEndlessRiskAnalyser(project, stopped));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            CompletableFuture<RiskAnalysisRun> futureRun = instance.analyseAsync(executor);
+            assertFalse(futureRun.isDone());
+            assertTrue(futureRun.cancel(true));
+            assertThrows(CancellationException.class, () -> {
+                futureRun.join();
+            });
+            // The risk analyser that was running has been asked to stop
+            assertTrue(stopped.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            fail("Interrupted while waiting for the risk analyser to stop");
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Test of analyseAsync method, of class LicenseRiskAnalysisEngine.
+     */
+    @Test
+    void testAnalyseAsyncWhenArgumentsAreInvalid() {
+        System.out.println("analyseAsync");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        LicenseRiskAnalysisEngine instance = new LicenseRiskAnalysisEngine(new RiskAnalyserObsoleteComponentsLicenses(project));
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.analyseAsync(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.analyseAsync(Runnable::run, -1, TimeUnit.SECONDS);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.analyseAsync(Runnable::run, 1, null);
+        });
+        // A risk analyser that is not bound to a project makes the run fail
+        LicenseRiskAnalysisEngine unboundInstance = new LicenseRiskAnalysisEngine(new RiskAnalyserObsoleteComponentsLicenses());
+        CompletableFuture<RiskAnalysisRun> futureRun = unboundInstance.analyseAsync(Runnable::run);
+        CompletionException exception = assertThrows(CompletionException.class, () -> {
+            futureRun.join();
+        });
+        assertTrue(exception.getCause() instanceof IllegalStateException);
+    }
+
+    private AbstractRiskAnalyser getEndlessRiskAnalyser(Project project, CountDownLatch stopped) {
+        // A risk analyser that only finishes when asked to stop
+        return new RiskAnalyserUnfashionableComponentsLicenses(project) {
+            @Override
+            public RiskAnalysisResult runAnalyser(RiskAnalysisContext context) {
+                try {
+                    while (true) {
+                        context.checkNotCancelled();
+                        Thread.yield();
+                    }
+                } catch (CancellationException e) {
+                    stopped.countDown();
+                    throw e;
+                }
+            }
+        };
+    }
+
     /**
      * Test of addRiskAnalyser method, of class LicenseRiskAnalysisEngine.
      */
@@ -338,4 +746,412 @@ class LicenseRiskAnalysisEngineTest {
         }
     }
 
+    /**
+     * Test of setResultsCache method, of class LicenseRiskAnalysisEngine.
+     */
+    @Test
+    void testSetResultsCache() {
+        System.out.println("setResultsCache");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        LicenseRiskAnalysisEngine instance = new LicenseRiskAnalysisEngine(new RiskAnalyserObsoleteComponentsLicenses(project));
+        instance.addRiskAnalyser(new RiskAnalyserUnfashionableComponentsLicenses(project));
+        assertNull(instance.getResultsCache());
+        RiskAnalysisResultsCache resultsCache = new RiskAnalysisResultsCache(10, Duration.ofMinutes(5));
+        instance.setResultsCache(resultsCache);
+        assertSame(resultsCache, instance.getResultsCache());
+        RiskAnalysisResult[] firstResults = instance.analyse();
+        RiskAnalysisResult[] secondResults = instance.analyse(Runnable::run);
+        assertSame(firstResults[0], secondResults[0]);
+        assertSame(firstResults[1], secondResults[1]);
+        assertEquals(1, resultsCache.getHits());
+        assertEquals(1, resultsCache.getMisses());
+        // The same definition, in another project, is served from the cache
+        LicenseRiskAnalysisEngine anotherEngine = new LicenseRiskAnalysisEngine(new RiskAnalyserObsoleteComponentsLicenses(new Project(projectURL)));
+        anotherEngine.addRiskAnalyser(new RiskAnalyserUnfashionableComponentsLicenses(anotherEngine.getRisksAnalysers().get(0).getProject()));
+        anotherEngine.setResultsCache(resultsCache);
+        assertSame(firstResults[0], anotherEngine.analyse()[0]);
+        assertEquals(2, resultsCache.getHits());
+        // But not once the project or the language changes
+        project.addComponentBinding(new ComponentBinding(new Component("AddedComponent", "1.0", SupportedLicenses.GPL_2_0_ONLY), SupportedLinks.DYNAMIC, SupportedComponentWeights.HIGH));
+        assertNotSame(firstResults[0], instance.analyse()[0]);
+        instance.setLanguage(new Locale("es"));
+        instance.analyse();
+        assertEquals(2, resultsCache.getHits());
+        assertEquals(3, resultsCache.getMisses());
+        // Disabled again
+        instance.setResultsCache(null);
+        instance.analyse();
+        assertEquals(3, resultsCache.getMisses());
+    }
+
+    /**
+     * Test of setResultsCache method, of class LicenseRiskAnalysisEngine, when
+     * the knowledge base in use changes but keeps its version.
+     */
+    @Test
+    void testSetResultsCacheWhenKnowledgeBaseChanges() {
+        System.out.println("setResultsCache");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        LicenseRiskAnalysisEngine instance = new LicenseRiskAnalysisEngine(new RiskAnalyserObsoleteComponentsLicenses(project));
+        RiskAnalysisResultsCache resultsCache = new RiskAnalysisResultsCache(10, Duration.ofMinutes(5));
+        instance.setResultsCache(resultsCache);
+        try {
+            LicensesKnowledgeBase.setCurrent(new LicensesKnowledgeBase("{\"version\": \"same\", \"obsolescences\": {\"GPL_2_0_ONLY\": \"OUTDATED\"}}"));
+            RiskAnalysisResult[] firstResults = instance.analyse();
+            // An edited knowledge base with the same version
+            LicensesKnowledgeBase.setCurrent(new LicensesKnowledgeBase("{\"version\": \"same\", \"obsolescences\": {\"GPL_2_0_ONLY\": \"UPDATED\"}}"));
+            assertNotSame(firstResults[0], instance.analyse()[0]);
+            assertEquals(0, resultsCache.getHits());
+            assertEquals(2, resultsCache.getMisses());
+            // The same content again, with its keys in another order
+            LicensesKnowledgeBase.setCurrent(new LicensesKnowledgeBase("{\"obsolescences\": {\"GPL_2_0_ONLY\": \"OUTDATED\"}, \"version\": \"same\"}"));
+            assertSame(firstResults[0], instance.analyse()[0]);
+            assertEquals(1, resultsCache.getHits());
+        } finally {
+            LicensesKnowledgeBase.setCurrent(LicensesKnowledgeBase.getBuiltIn());
+        }
+    }
+
+    /**
+     * Test of setVerbosity method, of class LicenseRiskAnalysisEngine.
+     */
+    @Test
+    void testSetVerbosity() {
+        System.out.println("setVerbosity");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        LicenseRiskAnalysisEngine instance = getEngineWithEveryRiskAnalyser(project);
+        assertEquals(SupportedVerbosityLevel.DETAILED, instance.getVerbosity());
+        RiskAnalysisResult[] detailedResults = instance.analyse();
+        instance.setVerbosity(SupportedVerbosityLevel.RICH);
+        assertEquals(SupportedVerbosityLevel.RICH, instance.getVerbosity());
+        RiskAnalysisResult[] richResults = instance.analyse();
+        instance.setVerbosity(SupportedVerbosityLevel.ESSENTIAL);
+        RiskAnalysisResult[] essentialResults = instance.analyseInParallel();
+        for (int i = 0; i < detailedResults.length; i++) {
+            // Risk values do not depend on the verbosity...
+            assertEquals(detailedResults[i].getRiskValue(), richResults[i].getRiskValue());
+            assertEquals(detailedResults[i].getRiskValue(), essentialResults[i].getRiskValue());
+            // ...but collected messages do
+            assertEquals(detailedResults[i].getRootCauses(), richResults[i].getRootCauses());
+            assertEquals(detailedResults[i].getWarnings(), richResults[i].getWarnings());
+            assertEquals(detailedResults[i].getGoodThings(), richResults[i].getGoodThings());
+            assertTrue(richResults[i].getTips().isEmpty());
+            assertTrue(essentialResults[i].getRootCauses().isEmpty());
+            assertTrue(essentialResults[i].getWarnings().isEmpty());
+            assertTrue(essentialResults[i].getGoodThings().isEmpty());
+            assertTrue(essentialResults[i].getTips().isEmpty());
+        }
+        // Reports of the same verbosity are the same
+        ReportsFactory reportsFactory = ReportsFactory.getInstance(SupportedVerbosityLevel.ESSENTIAL);
+        assertEquals(reportsFactory.getReportAsPlainText(project, detailedResults), reportsFactory.getReportAsPlainText(project, essentialResults));
+        // Results of a verbosity are not served from the cache for another one
+        RiskAnalysisResultsCache resultsCache = new RiskAnalysisResultsCache(10, Duration.ofMinutes(5));
+        instance.setResultsCache(resultsCache);
+        instance.analyse();
+        instance.setVerbosity(SupportedVerbosityLevel.DETAILED);
+        assertFalse(instance.analyse()[0].getTips().isEmpty());
+        assertEquals(0, resultsCache.getHits());
+        assertEquals(2, resultsCache.getMisses());
+    }
+
+    /**
+     * Test of setVerbosity method, of class LicenseRiskAnalysisEngine.
+     */
+    @Test
+    void testSetVerbosityWhenVerbosityIsNull() {
+        System.out.println("setVerbosity");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        LicenseRiskAnalysisEngine instance = new LicenseRiskAnalysisEngine(new RiskAnalyserObsoleteComponentsLicenses(project));
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.setVerbosity(null);
+        });
+    }
+
+    /**
+     * Test of refresh method, of class LicenseRiskAnalysisEngine.
+     */
+    @Test
+    void testRefresh() {
+        System.out.println("refresh");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        LicenseRiskAnalysisEngine instance = getEngineWithEveryRiskAnalyser(project);
+        assertSameResults(instance.run(), instance.refresh());
+        // A component binding added
+        ComponentBinding componentBinding = new ComponentBinding(new Component("AddedComponent", "1.0", SupportedLicenses.GPL_2_0_ONLY), SupportedLinks.DYNAMIC, SupportedComponentWeights.HIGH);
+        project.addComponentBinding(componentBinding);
+        assertSameResults(instance.run(), instance.refresh());
+        // A component binding removed
+        project.removeComponentBinding(project.getBillOfComponentBindings().get(0));
+        assertSameResults(instance.run(), instance.refresh());
+        project.removeComponentBinding(componentBinding);
+        assertSameResults(instance.run(), instance.refresh());
+        // A license added
+        project.addLicense(SupportedLicenses.MIT);
+        assertSameResults(instance.run(), instance.refresh());
+        // Changes not notified, made directly on the bill of component bindings
+        project.getBillOfComponentBindings().add(componentBinding);
+        assertSameResults(instance.run(), instance.refresh());
+    }
+
+    /**
+     * Test of refresh method, of class LicenseRiskAnalysisEngine, when the same
+     * component binding is added several times.
+     */
+    @Test
+    void testRefreshKeepsMessagesOrder() {
+        System.out.println("refresh");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        LicenseRiskAnalysisEngine instance = getEngineWithEveryRiskAnalyser(project);
+        assertSameResults(instance.run(), instance.refresh());
+        ComponentBinding firstComponentBinding = new ComponentBinding(new Component("FirstComponent", "1.0", SupportedLicenses.GPL_2_0_ONLY), SupportedLinks.DYNAMIC, SupportedComponentWeights.HIGH);
+        ComponentBinding secondComponentBinding = new ComponentBinding(new Component("SecondComponent", "1.0", SupportedLicenses.MIT), SupportedLinks.STATIC, SupportedComponentWeights.LOW);
+        project.addComponentBinding(firstComponentBinding);
+        project.addComponentBinding(secondComponentBinding);
+        project.addComponentBinding(firstComponentBinding);
+        // Messages are in the order of the bill of components
+        assertSameResults(instance.run(), instance.refresh());
+        // The first occurrence is removed, as the bill of components does
+        project.removeComponentBinding(firstComponentBinding);
+        assertSameResults(instance.run(), instance.refresh());
+        project.addComponentBinding(firstComponentBinding);
+        assertSameResults(instance.run(), instance.refresh());
+        project.removeComponentBinding(project.getBillOfComponentBindings().get(0));
+        assertSameResults(instance.run(), instance.refresh());
+    }
+
+    /**
+     * Test of stopRefreshing method, of class LicenseRiskAnalysisEngine.
+     */
+    @Test
+    void testStopRefreshing() {
+        System.out.println("stopRefreshing");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        LicenseRiskAnalysisEngine instance = getEngineWithEveryRiskAnalyser(project);
+        // Nothing is kept before the first refresh
+        project.addLicense(SupportedLicenses.MIT);
+        assertEquals(0, instance.getNumberOfPendingProjectChanges());
+        assertSameResults(instance.run(), instance.refresh());
+        ComponentBinding componentBinding = new ComponentBinding(new Component("AddedComponent", "1.0", SupportedLicenses.GPL_2_0_ONLY), SupportedLinks.DYNAMIC, SupportedComponentWeights.HIGH);
+        project.addComponentBinding(componentBinding);
+        assertEquals(1, instance.getNumberOfPendingProjectChanges());
+        instance.stopRefreshing();
+        assertEquals(0, instance.getNumberOfPendingProjectChanges());
+        // The project is not listened to any longer
+        project.removeComponentBinding(componentBinding);
+        assertEquals(0, instance.getNumberOfPendingProjectChanges());
+        // Refreshing again starts from scratch
+        assertSameResults(instance.run(), instance.refresh());
+        project.addComponentBinding(componentBinding);
+        assertEquals(1, instance.getNumberOfPendingProjectChanges());
+        assertSameResults(instance.run(), instance.refresh());
+        assertEquals(0, instance.getNumberOfPendingProjectChanges());
+    }
+
+    /**
+     * Test of refresh method, of class LicenseRiskAnalysisEngine, when there
+     * are more project changes than those kept between refreshes.
+     */
+    @Test
+    void testRefreshWhenPendingProjectChangesOverflow() {
+        System.out.println("refresh");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        LicenseRiskAnalysisEngine instance = getEngineWithEveryRiskAnalyser(project);
+        assertSameResults(instance.run(), instance.refresh());
+        ComponentBinding componentBinding = new ComponentBinding(new Component("AddedComponent", "1.0", SupportedLicenses.GPL_2_0_ONLY), SupportedLinks.DYNAMIC, SupportedComponentWeights.HIGH);
+        for (int i = 0; i <= LicenseRiskAnalysisEngine.MAX_PENDING_PROJECT_CHANGES; i++) {
+            if ((i % 2) == 0) {
+                project.addComponentBinding(componentBinding);
+            } else {
+                project.removeComponentBinding(componentBinding);
+            }
+        }
+        assertEquals(LicenseRiskAnalysisEngine.MAX_PENDING_PROJECT_CHANGES, instance.getNumberOfPendingProjectChanges());
+        assertSameResults(instance.run(), instance.refresh());
+        assertEquals(0, instance.getNumberOfPendingProjectChanges());
+    }
+
+    /**
+     * Test of refresh method, of class LicenseRiskAnalysisEngine.
+     */
+    @Test
+    void testRefreshWhenNothingHasChanged() {
+        System.out.println("refresh");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        LicenseRiskAnalysisEngine instance = new LicenseRiskAnalysisEngine(new RiskAnalyserLimitedSetOfPotentialProjectLicenses(project));
+        instance.setRunHistorySize(2);
+        RiskAnalysisRun firstRun = instance.refresh();
+        RiskAnalysisRun secondRun = instance.refresh();
+        // The result of a risk analyser that is not incremental is reused
+        assertSame(firstRun.getResults()[0], secondRun.getResults()[0]);
+        assertEquals(2, instance.getRunHistory().size());
+        // But not when the language changes
+        instance.setLanguage(new Locale("es"));
+        assertNotSame(secondRun.getResults()[0], instance.refresh().getResults()[0]);
+        // Nor when the verbosity changes
+        RiskAnalysisRun thirdRun = instance.refresh();
+        instance.setVerbosity(SupportedVerbosityLevel.RICH);
+        RiskAnalysisRun fourthRun = instance.refresh();
+        assertNotSame(thirdRun.getResults()[0], fourthRun.getResults()[0]);
+        assertTrue(fourthRun.getResults()[0].getTips().isEmpty());
+    }
+
+    /**
+     * Test of refresh method, of class LicenseRiskAnalysisEngine.
+     */
+    @Test
+    void testRefreshWhenRiskAnalyserIsNotBound() {
+        System.out.println("refresh");
+        LicenseRiskAnalysisEngine instance = new LicenseRiskAnalysisEngine(new RiskAnalyserObsoleteComponentsLicenses());
+        assertThrows(IllegalStateException.class, () -> {
+            instance.refresh();
+        });
+    }
+
+    /**
+     * Test of gate method, of class LicenseRiskAnalysisEngine.
+     */
+    @Test
+    void testGate() {
+        System.out.println("gate");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        LicenseRiskAnalysisEngine instance = getEngineWithEveryRiskAnalyser(project);
+        instance.addRiskAnalyser(new RiskAnalyserObsoleteProjectLicenses(project));
+        instance.setRunHistorySize(1);
+        Map<SupportedRisks, Float> riskThresholds = new EnumMap<>(SupportedRisks.class);
+        for (AbstractRiskAnalyser riskAnalyser : instance.getRisksAnalysers()) {
+            riskThresholds.put(riskAnalyser.getHandledRiskType(), 1.0f);
+        }
+        RiskAnalysisGateResult gateResult = instance.gate(riskThresholds);
+        // Nothing can exceed the maximum threshold
+        assertTrue(gateResult.isPassed());
+        assertNull(gateResult.getFailedRiskType());
+        assertFalse(gateResult.getRun().isPartial());
+        assertEquals(instance.getRisksAnalysers().size(), gateResult.getRun().getNumberOfResults());
+        // The cheapest risk analysers are run first
+        RiskAnalysisResult[] results = gateResult.getRun().getResults();
+        assertEquals(SupportedRisks.HAVING_OBSOLETE_PROJECT_LICENSES, results[0].getRiskType());
+        assertEquals(SupportedRisks.HAVING_A_LIMITED_SET_OF_POTENTIAL_COMPONENTS_LICENSES, results[results.length - 2].getRiskType());
+        assertEquals(SupportedRisks.HAVING_A_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, results[results.length - 1].getRiskType());
+        // Gate runs are not kept in the run history
+        assertTrue(instance.getRunHistory().isEmpty());
+        // Only gated risk analysers are run
+        riskThresholds.clear();
+        riskThresholds.put(SupportedRisks.HAVING_OBSOLETE_COMPONENTS_LICENSES, 1.0f);
+        gateResult = instance.gate(riskThresholds);
+        assertTrue(gateResult.isPassed());
+        assertEquals(1, gateResult.getRun().getNumberOfResults());
+        assertEquals(SupportedRisks.HAVING_OBSOLETE_COMPONENTS_LICENSES, gateResult.getRun().getResults()[0].getRiskType());
+    }
+
+    /**
+     * Test of gate method, of class LicenseRiskAnalysisEngine.
+     */
+    @Test
+    void testGateWhenThresholdIsExceeded() {
+        System.out.println("gate");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        LicenseRiskAnalysisEngine instance = getEngineWithEveryRiskAnalyser(project);
+        Map<SupportedRisks, Float> riskThresholds = new EnumMap<>(SupportedRisks.class);
+        for (AbstractRiskAnalyser riskAnalyser : instance.getRisksAnalysers()) {
+            riskThresholds.put(riskAnalyser.getHandledRiskType(), 0.0f);
+        }
+        RiskAnalysisGateResult gateResult = instance.gate(riskThresholds);
+        // The example project has some risk
+        assertFalse(gateResult.isPassed());
+        RiskAnalysisResult[] results = gateResult.getRun().getResults();
+        RiskAnalysisResult failedResult = results[results.length - 1];
+        assertSame(failedResult, gateResult.getFailedRiskAnalysisResult());
+        assertEquals(failedResult.getRiskType(), gateResult.getFailedRiskType());
+        assertTrue(failedResult.getRiskValue() > 0.0f);
+        // The gate stops at the first risk that exceeds its threshold
+        for (int i = 0; i < results.length - 1; i++) {
+            assertEquals(0.0f, results[i].getRiskValue());
+        }
+        assertEquals(instance.getRisksAnalysers().size(), results.length + gateResult.getRun().getUnfinishedRiskTypes().size());
+        for (SupportedRisks unfinishedRiskType : gateResult.getRun().getUnfinishedRiskTypes()) {
+            for (RiskAnalysisResult result : results) {
+                assertNotEquals(unfinishedRiskType, result.getRiskType());
+            }
+        }
+        // The risk value of the failed risk does not exceed a threshold equal to it
+        riskThresholds.put(failedResult.getRiskType(), failedResult.getRiskValue());
+        assertNotEquals(failedResult.getRiskType(), instance.gate(riskThresholds).getFailedRiskType());
+    }
+
+    /**
+     * Test of gate method, of class LicenseRiskAnalysisEngine.
+     */
+    @Test
+    void testGateWhenArgumentsAreInvalid() {
+        System.out.println("gate");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        LicenseRiskAnalysisEngine instance = new LicenseRiskAnalysisEngine(new RiskAnalyserObsoleteComponentsLicenses(project));
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.gate(null); // Should throw an exception
+        });
+        Map<SupportedRisks, Float> riskThresholds = new HashMap<>();
+        riskThresholds.put(null, 0.5f);
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.gate(riskThresholds); // Should throw an exception
+        });
+        riskThresholds.clear();
+        riskThresholds.put(SupportedRisks.HAVING_OBSOLETE_COMPONENTS_LICENSES, null);
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.gate(riskThresholds); // Should throw an exception
+        });
+        riskThresholds.put(SupportedRisks.HAVING_OBSOLETE_COMPONENTS_LICENSES, -0.1f);
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.gate(riskThresholds); // Should throw an exception
+        });
+        riskThresholds.put(SupportedRisks.HAVING_OBSOLETE_COMPONENTS_LICENSES, 1.1f);
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.gate(riskThresholds); // Should throw an exception
+        });
+        // No gated risk analysers, so nothing can fail
+        riskThresholds.clear();
+        RiskAnalysisGateResult gateResult = instance.gate(riskThresholds);
+        assertTrue(gateResult.isPassed());
+        assertEquals(0, gateResult.getRun().getNumberOfResults());
+    }
+
+    private LicenseRiskAnalysisEngine getEngineWithEveryRiskAnalyser(Project project) {
+        LicenseRiskAnalysisEngine engine = new LicenseRiskAnalysisEngine(new RiskAnalyserObsoleteComponentsLicenses(project));
+        engine.addRiskAnalyser(new RiskAnalyserUnfashionableComponentsLicenses(project));
+        engine.addRiskAnalyser(new RiskAnalyserScarcelySpreadComponentsLicenses(project));
+        engine.addRiskAnalyser(new RiskAnalyserHeterogeneousComponentsLicenses(project));
+        engine.addRiskAnalyser(new RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses(project));
+        engine.addRiskAnalyser(new RiskAnalyserComponentsLicensesMisalignedFromProjectLicenses(project));
+        engine.addRiskAnalyser(new RiskAnalyserLimitedSetOfPotentialComponentsLicenses(project));
+        engine.addRiskAnalyser(new RiskAnalyserLimitedSetOfPotentialProjectLicenses(project));
+        return engine;
+    }
+
+    private void assertSameResults(RiskAnalysisRun expectedRun, RiskAnalysisRun run) {
+        assertEquals(expectedRun.getNumberOfResults(), run.getNumberOfResults());
+        for (int i = 0; i < expectedRun.getNumberOfResults(); i++) {
+            RiskAnalysisResult expected = expectedRun.getResults()[i];
+            RiskAnalysisResult result = run.getResults()[i];
+            assertEquals(expected.getRiskType(), result.getRiskType());
+            assertEquals(expected.getRiskExposure(), result.getRiskExposure());
+            assertEquals(expected.getRiskImpact(), result.getRiskImpact());
+            assertEquals(expected.getRiskValue(), result.getRiskValue());
+            assertEquals(expected.getRootCauses(), result.getRootCauses());
+            assertEquals(expected.getWarnings(), result.getWarnings());
+            assertEquals(expected.getGoodThings(), result.getGoodThings());
+            assertEquals(expected.getTips(), result.getTips());
+        }
+    }
+
 }
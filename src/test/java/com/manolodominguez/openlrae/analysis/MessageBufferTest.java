@@ -0,0 +1,244 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.analysis;
+
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class MessageBufferTest {
+
+    public MessageBufferTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of constructor, of class MessageBuffer.
+     */
+    @Test
+    void testConstructor() {
+        System.out.println("Constructor");
+        MessageBuffer instance = new MessageBuffer();
+        assertTrue(instance.isCollecting());
+        assertTrue(instance.isEmpty());
+        assertEquals(0, instance.size());
+        assertTrue(instance.freeze().isEmpty());
+    }
+
+    /**
+     * Test of constructor, of class MessageBuffer.
+     */
+    @Test
+    void testConstructorWhenNotCollecting() {
+        System.out.println("Constructor");
+        MessageBuffer instance = new MessageBuffer(false);
+        assertFalse(instance.isCollecting());
+        instance.add(new TranslatableMessage("A message"));
+        instance.addAll(Arrays.asList(new TranslatableMessage("Another message")));
+        assertTrue(instance.isEmpty());
+        assertTrue(instance.freeze().isEmpty());
+    }
+
+    /**
+     * Test of add method, of class MessageBuffer.
+     */
+    @Test
+    void testAdd() {
+        System.out.println("add");
+        MessageBuffer instance = new MessageBuffer();
+        List<TranslatableMessage> expected = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            TranslatableMessage message = new TranslatableMessage("Message ", i);
+            instance.add(message);
+            expected.add(message);
+            assertEquals(i + 1, instance.size());
+        }
+        assertFalse(instance.isEmpty());
+        assertEquals(expected, instance.freeze());
+    }
+
+    /**
+     * Test of add method, of class MessageBuffer.
+     */
+    @Test
+    void testAddWhenMessageIsNull() {
+        System.out.println("add");
+        MessageBuffer instance = new MessageBuffer();
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.add(null);
+        });
+    }
+
+    /**
+     * Test of add method, of class MessageBuffer.
+     */
+    @Test
+    void testAddWhenFrozen() {
+        System.out.println("add");
+        MessageBuffer instance = new MessageBuffer();
+        instance.freeze();
+        assertThrows(IllegalStateException.class, () -> {
+            instance.add(new TranslatableMessage("A message"));
+        });
+    }
+
+    /**
+     * Test of addAll method, of class MessageBuffer.
+     */
+    @Test
+    void testAddAll() {
+        System.out.println("addAll");
+        MessageBuffer instance = new MessageBuffer();
+        TranslatableMessage first = new TranslatableMessage("First message");
+        TranslatableMessage second = new TranslatableMessage("Second message");
+        instance.add(first);
+        instance.addAll(Arrays.asList(second, first));
+        assertEquals(Arrays.asList(first, second, first), instance.freeze());
+        assertThrows(IllegalArgumentException.class, () -> {
+            new MessageBuffer().addAll(null);
+        });
+    }
+
+    /**
+     * Test of freeze method, of class MessageBuffer.
+     */
+    @Test
+    void testFreeze() {
+        System.out.println("freeze");
+        MessageBuffer instance = new MessageBuffer();
+        instance.add(new TranslatableMessage("A message"));
+        List<TranslatableMessage> frozenMessages = instance.freeze();
+        assertEquals(1, frozenMessages.size());
+        assertSame(frozenMessages, instance.freeze());
+        assertThrows(UnsupportedOperationException.class, () -> {
+            frozenMessages.add(new TranslatableMessage("Another message"));
+        });
+        assertThrows(UnsupportedOperationException.class, () -> {
+            frozenMessages.set(0, new TranslatableMessage("Another message"));
+        });
+    }
+
+    /**
+     * Test of static freeze method, of class MessageBuffer.
+     */
+    @Test
+    void testStaticFreeze() {
+        System.out.println("freeze");
+        List<TranslatableMessage> messages = new ArrayList<>();
+        messages.add(new TranslatableMessage("A message"));
+        List<TranslatableMessage> frozenMessages = MessageBuffer.freeze(messages);
+        assertEquals(messages, frozenMessages);
+        messages.add(new TranslatableMessage("Another message"));
+        assertEquals(1, frozenMessages.size());
+        assertSame(frozenMessages, MessageBuffer.freeze(frozenMessages));
+        assertThrows(IllegalArgumentException.class, () -> {
+            MessageBuffer.freeze(null);
+        });
+    }
+
+    /**
+     * Test of getNumberOfDistinctMessages method, of class MessageBuffer.
+     */
+    @Test
+    void testGetNumberOfDistinctMessages() {
+        System.out.println("getNumberOfDistinctMessages");
+        MessageBuffer instance = new MessageBuffer();
+        assertEquals(0, instance.getNumberOfDistinctMessages());
+        for (int i = 0; i < 1000; i++) {
+            instance.add(new TranslatableMessage("Message ", i % 10));
+        }
+        assertEquals(1000, instance.size());
+        assertEquals(10, instance.getNumberOfDistinctMessages());
+    }
+
+    /**
+     * Test of freeze method, of class MessageBuffer, when equal messages are
+     * added.
+     */
+    @Test
+    void testFreezeWhenMessagesAreRepeated() {
+        System.out.println("freeze");
+        MessageBuffer instance = new MessageBuffer();
+        TranslatableMessage first = new TranslatableMessage("A message");
+        instance.add(first);
+        instance.add(new TranslatableMessage("Another message"));
+        instance.add(new TranslatableMessage("A message"));
+        List<TranslatableMessage> frozenMessages = instance.freeze();
+        assertEquals(3, frozenMessages.size());
+        // Only the first of equal messages is kept
+        assertSame(first, frozenMessages.get(2));
+    }
+
+    /**
+     * Test of countDistinct method, of class MessageBuffer.
+     */
+    @Test
+    void testCountDistinct() {
+        System.out.println("countDistinct");
+        MessageBuffer instance = new MessageBuffer();
+        for (int i = 0; i < 100; i++) {
+            instance.add(new TranslatableMessage("Tip ", i % 3));
+        }
+        List<CountedMessage> expected = Arrays.asList(new CountedMessage(new TranslatableMessage("Tip ", 0), 34), new CountedMessage(new TranslatableMessage("Tip ", 1), 33), new CountedMessage(new TranslatableMessage("Tip ", 2), 33));
+        List<CountedMessage> countedMessages = MessageBuffer.countDistinct(instance.freeze());
+        assertEquals(expected, countedMessages);
+        assertSame(countedMessages, MessageBuffer.countDistinct(instance.freeze()));
+        assertThrows(UnsupportedOperationException.class, () -> {
+            countedMessages.remove(0);
+        });
+        // Lists that are not frozen are counted too
+        List<TranslatableMessage> messages = Arrays.asList(new TranslatableMessage("Tip ", 0), new TranslatableMessage("Tip ", 1), new TranslatableMessage("Tip ", 0));
+        assertEquals(Arrays.asList(new CountedMessage(new TranslatableMessage("Tip ", 0), 2), new CountedMessage(new TranslatableMessage("Tip ", 1), 1)), MessageBuffer.countDistinct(messages));
+        assertTrue(MessageBuffer.countDistinct(new ArrayList<>()).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> {
+            MessageBuffer.countDistinct(null);
+        });
+    }
+
+}
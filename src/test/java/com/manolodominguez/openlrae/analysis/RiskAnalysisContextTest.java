@@ -0,0 +1,210 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.analysis;
+
+import com.manolodominguez.openlrae.analysis.riskanalysers.RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses;
+import com.manolodominguez.openlrae.arquitecture.Project;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesKnowledgeBase;
+import com.manolodominguez.openlrae.reporting.SupportedVerbosityLevel;
+import com.manolodominguez.openlrae.resourceslocators.FilesPaths;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class RiskAnalysisContextTest {
+
+    public RiskAnalysisContextTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of constructor, of class RiskAnalysisContext.
+     */
+    @Test
+    void testConstructor() {
+        System.out.println("Constructor");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        RiskAnalysisContext instance = new RiskAnalysisContext(project);
+        assertSame(project, instance.getProject());
+        assertSame(LicensesKnowledgeBase.getCurrent(), instance.getLicensesKnowledgeBase());
+        instance = new RiskAnalysisContext(project, LicensesKnowledgeBase.getBuiltIn());
+        assertSame(LicensesKnowledgeBase.getBuiltIn(), instance.getLicensesKnowledgeBase());
+    }
+
+    /**
+     * Test of constructor, of class RiskAnalysisContext.
+     */
+    @Test
+    void testConstructorWhenArgumentsAreNull() {
+        System.out.println("Constructor");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        assertThrows(IllegalArgumentException.class, () -> {
+            new RiskAnalysisContext(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new RiskAnalysisContext(project, null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new RiskAnalysisContext(project, LicensesKnowledgeBase.getCurrent(), null);
+        });
+    }
+
+    /**
+     * Test of getVerbosity method, of class RiskAnalysisContext.
+     */
+    @Test
+    void testGetVerbosity() {
+        System.out.println("getVerbosity");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        RiskAnalysisContext instance = new RiskAnalysisContext(project);
+        assertEquals(SupportedVerbosityLevel.DETAILED, instance.getVerbosity());
+        assertTrue(instance.isCollectingMessages());
+        assertTrue(instance.isCollectingTips());
+        RiskAnalysisContext richInstance = instance.withVerbosity(SupportedVerbosityLevel.RICH);
+        assertEquals(SupportedVerbosityLevel.RICH, richInstance.getVerbosity());
+        assertTrue(richInstance.isCollectingMessages());
+        assertFalse(richInstance.isCollectingTips());
+        // Facts are shared with the original context
+        assertSame(instance.getComponentBindingsFacts(), richInstance.getComponentBindingsFacts());
+        RiskAnalysisContext essentialInstance = richInstance.withCancellationRequest(() -> true).withVerbosity(SupportedVerbosityLevel.ESSENTIAL);
+        assertEquals(SupportedVerbosityLevel.ESSENTIAL, essentialInstance.getVerbosity());
+        assertFalse(essentialInstance.isCollectingMessages());
+        assertFalse(essentialInstance.isCollectingTips());
+        // The cancellation request is kept, and so the verbosity is by
+        // cancellable contexts
+        assertTrue(essentialInstance.isCancelled());
+        assertEquals(SupportedVerbosityLevel.RICH, richInstance.withCancellationRequest(() -> true).getVerbosity());
+        assertThrows(IllegalArgumentException.class, () -> {
+            richInstance.withVerbosity(null);
+        });
+    }
+
+    /**
+     * Test of getComponentBindingsFacts method, of class RiskAnalysisContext.
+     */
+    @Test
+    void testGetComponentBindingsFacts() {
+        System.out.println("getComponentBindingsFacts");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        RiskAnalysisContext instance = new RiskAnalysisContext(project);
+        ComponentBindingsFacts facts = instance.getComponentBindingsFacts();
+        assertEquals(project.getBillOfComponentBindings().size(), facts.getNumberOfComponentBindings());
+        // Computed once and shared
+        assertSame(facts, instance.getComponentBindingsFacts());
+        RiskAnalysisContext cancellableInstance = instance.withCancellationRequest(() -> true);
+        assertSame(facts, cancellableInstance.getComponentBindingsFacts());
+        assertSame(project, cancellableInstance.getProject());
+        assertSame(instance.getLicensesKnowledgeBase(), cancellableInstance.getLicensesKnowledgeBase());
+        assertTrue(cancellableInstance.isCancelled());
+        assertFalse(instance.isCancelled());
+        // Other contexts compute their own facts
+        assertNotSame(facts, new RiskAnalysisContext(project).getComponentBindingsFacts());
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.withCancellationRequest(null);
+        });
+    }
+
+    /**
+     * Test of checkNotCancelled method, of class RiskAnalysisContext.
+     */
+    @Test
+    void testCheckNotCancelled() {
+        System.out.println("checkNotCancelled");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        RiskAnalysisContext instance = new RiskAnalysisContext(project);
+        assertFalse(instance.isCancelled());
+        instance.checkNotCancelled();
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        RiskAnalysisContext cancellableInstance = new RiskAnalysisContext(project, LicensesKnowledgeBase.getCurrent(), cancelled::get);
+        assertFalse(cancellableInstance.isCancelled());
+        cancellableInstance.checkNotCancelled();
+        cancelled.set(true);
+        assertTrue(cancellableInstance.isCancelled());
+        assertThrows(CancellationException.class, () -> {
+            cancellableInstance.checkNotCancelled();
+        });
+        // Risk analysers stop when the run is cancelled
+        RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses riskAnalyser = new RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses();
+        assertThrows(CancellationException.class, () -> {
+            riskAnalyser.getRiskAnalisysResult(cancellableInstance);
+        });
+    }
+
+    /**
+     * Test of the use of a single risk analyser by concurrent runs, each one
+     * with its own RiskAnalysisContext.
+     */
+    @Test
+    void testConcurrentRuns() {
+        System.out.println("concurrentRuns");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses riskAnalyser = new RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses();
+        RiskAnalysisResult expectedResult = riskAnalyser.getRiskAnalisysResult(new RiskAnalysisContext(project));
+        List<CompletableFuture<RiskAnalysisResult>> futureResults = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            futureResults.add(CompletableFuture.supplyAsync(() -> riskAnalyser.getRiskAnalisysResult(new RiskAnalysisContext(project))));
+        }
+        for (CompletableFuture<RiskAnalysisResult> futureResult : futureResults) {
+            RiskAnalysisResult result = futureResult.join();
+            assertEquals(expectedResult.getRiskExposure(), result.getRiskExposure());
+            assertEquals(expectedResult.getRiskImpact(), result.getRiskImpact());
+            assertEquals(expectedResult.getRootCauses(), result.getRootCauses());
+            assertEquals(expectedResult.getWarnings(), result.getWarnings());
+            assertEquals(expectedResult.getTips(), result.getTips());
+        }
+    }
+}
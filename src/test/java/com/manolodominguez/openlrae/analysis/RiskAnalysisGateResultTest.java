@@ -0,0 +1,121 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.analysis;
+
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class RiskAnalysisGateResultTest {
+
+    public RiskAnalysisGateResultTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of constructor, of class RiskAnalysisGateResult.
+     */
+    @Test
+    void testConstructor() {
+        System.out.println("Constructor");
+        Instant startTime = Instant.now();
+        RiskAnalysisRun run = new RiskAnalysisRun(startTime, startTime, new RiskAnalysisResult[]{getResult()});
+        RiskAnalysisGateResult instance = new RiskAnalysisGateResult(run);
+        assertTrue(instance.isPassed());
+        assertNull(instance.getFailedRiskType());
+        assertNull(instance.getFailedRiskAnalysisResult());
+        assertSame(run, instance.getRun());
+    }
+
+    /**
+     * Test of constructor, of class RiskAnalysisGateResult.
+     */
+    @Test
+    void testConstructorWhenGateHasFailed() {
+        System.out.println("Constructor");
+        Instant startTime = Instant.now();
+        RiskAnalysisResult result = getResult();
+        List<SupportedRisks> unfinishedRiskTypes = new ArrayList<>();
+        unfinishedRiskTypes.add(SupportedRisks.HAVING_UNFASHIONABLE_COMPONENTS_LICENSES);
+        RiskAnalysisRun run = new RiskAnalysisRun(startTime, startTime, new RiskAnalysisResult[]{result}, unfinishedRiskTypes);
+        RiskAnalysisGateResult instance = new RiskAnalysisGateResult(run, result);
+        assertFalse(instance.isPassed());
+        assertEquals(SupportedRisks.HAVING_OBSOLETE_COMPONENTS_LICENSES, instance.getFailedRiskType());
+        assertSame(result, instance.getFailedRiskAnalysisResult());
+        assertSame(run, instance.getRun());
+        assertTrue(instance.getRun().isPartial());
+    }
+
+    /**
+     * Test of constructor, of class RiskAnalysisGateResult.
+     */
+    @Test
+    void testConstructorWhenArgumentsAreInvalid() {
+        System.out.println("Constructor");
+        Instant startTime = Instant.now();
+        RiskAnalysisResult result = getResult();
+        RiskAnalysisRun run = new RiskAnalysisRun(startTime, startTime, new RiskAnalysisResult[]{result});
+        assertThrows(IllegalArgumentException.class, () -> {
+            new RiskAnalysisGateResult(null); // Should throw an exception
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new RiskAnalysisGateResult(null, result); // Should throw an exception
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new RiskAnalysisGateResult(run, null); // Should throw an exception
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new RiskAnalysisGateResult(run, getResult()); // Should throw an exception
+        });
+    }
+
+    private RiskAnalysisResult getResult() {
+        return new RiskAnalysisResult(SupportedRisks.HAVING_OBSOLETE_COMPONENTS_LICENSES, 0.5f, 0.5f, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+    }
+}
@@ -22,7 +22,12 @@
  */
 package com.manolodominguez.openlrae.analysis;
 
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
+import com.manolodominguez.openlrae.i18n.SupportedLanguages;
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
+import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.AfterAll;
@@ -386,4 +391,87 @@ class RiskAnalysisResultTest {
         assertNotNull(analysisResult.getTips());
     }
 
+    /**
+     * Test constructor of class RiskAnalysisResult, when messages are not
+     * translated yet.
+     */
+    @Test
+    void testConstructorWithMessages() {
+        System.out.println("Constructor");
+        SupportedRisks riskType = SupportedRisks.HAVING_OBSOLETE_COMPONENTS_LICENSES;
+        CopyOnWriteArrayList<TranslatableMessage> rootCauses = new CopyOnWriteArrayList<>();
+        rootCauses.add(new TranslatableMessage("A component ", SupportedLinks.STATIC));
+        CopyOnWriteArrayList<TranslatableMessage> warnings = new CopyOnWriteArrayList<>();
+        CopyOnWriteArrayList<TranslatableMessage> goodThings = new CopyOnWriteArrayList<>();
+        CopyOnWriteArrayList<TranslatableMessage> tips = new CopyOnWriteArrayList<>();
+        RiskAnalysisResult analysisResult = new RiskAnalysisResult(riskType, 0.5f, 0.5f, SupportedLanguages.SPANISH, rootCauses, warnings, goodThings, tips);
+        assertEquals(SupportedLanguages.SPANISH, analysisResult.getLanguage());
+        assertEquals(rootCauses, analysisResult.getRootCauseMessages());
+        assertThrows(UnsupportedOperationException.class, () -> {
+            analysisResult.getRootCauseMessages().add(new TranslatableMessage("Another root cause"));
+        });
+        // The result keeps a snapshot of the messages
+        rootCauses.add(new TranslatableMessage("Another root cause"));
+        assertEquals(1, analysisResult.getRootCauseMessages().size());
+        assertThrows(IllegalArgumentException.class, () -> {
+            new RiskAnalysisResult(riskType, 0.5f, 0.5f, null, rootCauses, warnings, goodThings, tips);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new RiskAnalysisResult(riskType, 0.5f, 0.5f, SupportedLanguages.SPANISH, null, warnings, goodThings, tips);
+        });
+    }
+
+    /**
+     * Test of getRootCauses, getWarnings, getGoodThings and getTips methods,
+     * of class RiskAnalysisResult, when messages are translated on demand.
+     */
+    @Test
+    void testGetTranslatedMessages() {
+        System.out.println("getTranslatedMessages");
+        SupportedRisks riskType = SupportedRisks.HAVING_OBSOLETE_COMPONENTS_LICENSES;
+        List<TranslatableMessage> rootCauses = Arrays.asList(new TranslatableMessage("Root cause ", SupportedLinks.STATIC));
+        List<TranslatableMessage> warnings = Arrays.asList(new TranslatableMessage("Warning ", SupportedLinks.DYNAMIC));
+        List<TranslatableMessage> goodThings = Arrays.asList(new TranslatableMessage("Good thing ", SupportedLinks.STATIC));
+        List<TranslatableMessage> tips = Arrays.asList(new TranslatableMessage("Tip ", SupportedLinks.DYNAMIC));
+        RiskAnalysisResult analysisResult = new RiskAnalysisResult(riskType, 0.5f, 0.5f, SupportedLanguages.DEFAULT_LANGUAGE, rootCauses, warnings, goodThings, tips);
+        assertEquals(Arrays.asList("Root cause linked statically"), analysisResult.getRootCauses());
+        assertEquals(Arrays.asList("Warning linked dynamically"), analysisResult.getWarnings());
+        assertEquals(Arrays.asList("Good thing linked statically"), analysisResult.getGoodThings());
+        assertEquals(Arrays.asList("Tip linked dynamically"), analysisResult.getTips());
+        // Translations are kept once done
+        assertSame(analysisResult.getRootCauses(), analysisResult.getRootCauses());
+        assertEquals(Arrays.asList("Root cause enlazado estáticamente"), analysisResult.getRootCauses(SupportedLanguages.SPANISH));
+        assertEquals(Arrays.asList("Warning enlazado dinámicamente"), analysisResult.getWarnings(SupportedLanguages.SPANISH));
+        assertEquals(Arrays.asList("Good thing enlazado estáticamente"), analysisResult.getGoodThings(SupportedLanguages.SPANISH));
+        assertEquals(Arrays.asList("Tip enlazado dinámicamente"), analysisResult.getTips(SupportedLanguages.SPANISH));
+        assertThrows(UnsupportedOperationException.class, () -> {
+            analysisResult.getTips().add("Another tip");
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            analysisResult.getRootCauses(null);
+        });
+    }
+
+    /**
+     * Test of getDistinctRootCauseMessages, getDistinctWarningMessages,
+     * getDistinctGoodThingMessages and getDistinctTipMessages methods, of
+     * class RiskAnalysisResult.
+     */
+    @Test
+    void testGetDistinctMessages() {
+        System.out.println("getDistinctMessages");
+        SupportedRisks riskType = SupportedRisks.HAVING_OBSOLETE_COMPONENTS_LICENSES;
+        List<TranslatableMessage> rootCauses = Arrays.asList(new TranslatableMessage("Root cause ", SupportedLinks.STATIC));
+        List<TranslatableMessage> warnings = Arrays.asList();
+        List<TranslatableMessage> goodThings = Arrays.asList(new TranslatableMessage("Good thing"), new TranslatableMessage("Good thing"));
+        List<TranslatableMessage> tips = Arrays.asList(new TranslatableMessage("Tip ", 1), new TranslatableMessage("Tip ", 2), new TranslatableMessage("Tip ", 1));
+        RiskAnalysisResult analysisResult = new RiskAnalysisResult(riskType, 0.5f, 0.5f, SupportedLanguages.DEFAULT_LANGUAGE, rootCauses, warnings, goodThings, tips);
+        assertEquals(Arrays.asList(new CountedMessage(rootCauses.get(0), 1)), analysisResult.getDistinctRootCauseMessages());
+        assertTrue(analysisResult.getDistinctWarningMessages().isEmpty());
+        assertEquals(Arrays.asList(new CountedMessage(new TranslatableMessage("Good thing"), 2)), analysisResult.getDistinctGoodThingMessages());
+        assertEquals(Arrays.asList(new CountedMessage(new TranslatableMessage("Tip ", 1), 2), new CountedMessage(new TranslatableMessage("Tip ", 2), 1)), analysisResult.getDistinctTipMessages());
+        // Every occurrence is still reported
+        assertEquals(Arrays.asList("Tip 1", "Tip 2", "Tip 1"), analysisResult.getTips());
+    }
+
 }
@@ -0,0 +1,198 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.analysis;
+
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class RiskAnalysisResultsCacheTest {
+
+    public RiskAnalysisResultsCacheTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of constructor, of class RiskAnalysisResultsCache.
+     */
+    @Test
+    void testConstructor() {
+        System.out.println("Constructor");
+        RiskAnalysisResultsCache instance = new RiskAnalysisResultsCache(10, Duration.ofMinutes(5));
+        assertEquals(10, instance.getMaxSize());
+        assertEquals(Duration.ofMinutes(5), instance.getTimeToLive());
+        assertEquals(0, instance.getSize());
+        assertEquals(0, instance.getHits());
+        assertEquals(0, instance.getMisses());
+        assertThrows(IllegalArgumentException.class, () -> {
+            new RiskAnalysisResultsCache(0, Duration.ofMinutes(5));
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new RiskAnalysisResultsCache(10, null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new RiskAnalysisResultsCache(10, Duration.ZERO);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new RiskAnalysisResultsCache(10, Duration.ofMinutes(5), null);
+        });
+    }
+
+    /**
+     * Test of get method, of class RiskAnalysisResultsCache.
+     */
+    @Test
+    void testGet() {
+        System.out.println("get");
+        RiskAnalysisResultsCache instance = new RiskAnalysisResultsCache(10, Duration.ofMinutes(5));
+        RiskAnalysisResult[] results = new RiskAnalysisResult[]{getResult()};
+        assertNull(instance.get("fingerprint"));
+        instance.put("fingerprint", results);
+        RiskAnalysisResult[] cachedResults = instance.get("fingerprint");
+        assertNotSame(results, cachedResults);
+        assertSame(results[0], cachedResults[0]);
+        assertEquals(1, instance.getHits());
+        assertEquals(1, instance.getMisses());
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.get(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.put(null, results);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.put("fingerprint", null);
+        });
+    }
+
+    /**
+     * Test of get method, of class RiskAnalysisResultsCache, when the cache is
+     * full.
+     */
+    @Test
+    void testGetWhenCacheIsFull() {
+        System.out.println("get");
+        RiskAnalysisResultsCache instance = new RiskAnalysisResultsCache(2, Duration.ofMinutes(5));
+        RiskAnalysisResult[] results = new RiskAnalysisResult[]{getResult()};
+        instance.put("first", results);
+        instance.put("second", results);
+        // "first" becomes the most recently used one
+        assertNotNull(instance.get("first"));
+        instance.put("third", results);
+        assertEquals(2, instance.getSize());
+        assertNotNull(instance.get("first"));
+        assertNull(instance.get("second"));
+        assertNotNull(instance.get("third"));
+    }
+
+    /**
+     * Test of get method, of class RiskAnalysisResultsCache, when entries
+     * expire.
+     */
+    @Test
+    void testGetWhenExpired() {
+        System.out.println("get");
+        MutableClock clock = new MutableClock();
+        RiskAnalysisResultsCache instance = new RiskAnalysisResultsCache(10, Duration.ofMinutes(5), clock);
+        instance.put("fingerprint", new RiskAnalysisResult[]{getResult()});
+        clock.advance(Duration.ofMinutes(5));
+        assertNotNull(instance.get("fingerprint"));
+        clock.advance(Duration.ofSeconds(1));
+        assertNull(instance.get("fingerprint"));
+        assertEquals(0, instance.getSize());
+    }
+
+    /**
+     * Test of clear method, of class RiskAnalysisResultsCache.
+     */
+    @Test
+    void testClear() {
+        System.out.println("clear");
+        RiskAnalysisResultsCache instance = new RiskAnalysisResultsCache(10, Duration.ofMinutes(5));
+        instance.put("fingerprint", new RiskAnalysisResult[]{getResult()});
+        instance.get("fingerprint");
+        instance.clear();
+        assertEquals(0, instance.getSize());
+        assertNull(instance.get("fingerprint"));
+        // Counters are kept
+        assertEquals(1, instance.getHits());
+        assertEquals(1, instance.getMisses());
+    }
+
+    private RiskAnalysisResult getResult() {
+        return new RiskAnalysisResult(SupportedRisks.HAVING_OBSOLETE_COMPONENTS_LICENSES, 0.5f, 0.5f, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant = Instant.now();
+
+        private void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+
+}
@@ -0,0 +1,156 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.analysis;
+
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class RiskAnalysisRunTest {
+
+    public RiskAnalysisRunTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of constructor, of class RiskAnalysisRun.
+     */
+    @Test
+    void testConstructor() {
+        System.out.println("Constructor");
+        Instant startTime = Instant.now();
+        Instant endTime = startTime.plusMillis(10);
+        RiskAnalysisResult[] results = new RiskAnalysisResult[]{getResult()};
+        RiskAnalysisRun instance = new RiskAnalysisRun(startTime, endTime, results);
+        assertEquals(startTime, instance.getStartTime());
+        assertEquals(endTime, instance.getEndTime());
+        assertEquals(1, instance.getNumberOfResults());
+        assertSame(results[0], instance.getResults()[0]);
+        // Same start and end time is allowed
+        assertEquals(0, new RiskAnalysisRun(startTime, startTime, new RiskAnalysisResult[0]).getNumberOfResults());
+    }
+
+    /**
+     * Test of constructor, of class RiskAnalysisRun.
+     */
+    @Test
+    void testConstructorWhenArgumentsAreInvalid() {
+        System.out.println("Constructor");
+        Instant startTime = Instant.now();
+        Instant endTime = startTime.plusMillis(10);
+        RiskAnalysisResult[] results = new RiskAnalysisResult[]{getResult()};
+        assertThrows(IllegalArgumentException.class, () -> {
+            new RiskAnalysisRun(null, endTime, results);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new RiskAnalysisRun(startTime, null, results);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new RiskAnalysisRun(endTime, startTime, results);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new RiskAnalysisRun(startTime, endTime, null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new RiskAnalysisRun(startTime, endTime, new RiskAnalysisResult[]{null});
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new RiskAnalysisRun(startTime, endTime, results, null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new RiskAnalysisRun(startTime, endTime, results, Arrays.asList((SupportedRisks) null));
+        });
+    }
+
+    /**
+     * Test of getResults method, of class RiskAnalysisRun.
+     */
+    @Test
+    void testGetResults() {
+        System.out.println("getResults");
+        Instant startTime = Instant.now();
+        RiskAnalysisResult result = getResult();
+        RiskAnalysisResult[] results = new RiskAnalysisResult[]{result};
+        RiskAnalysisRun instance = new RiskAnalysisRun(startTime, startTime, results);
+        // Changing the source array or the returned one does not change the run
+        results[0] = getResult();
+        instance.getResults()[0] = getResult();
+        assertSame(result, instance.getResults()[0]);
+        assertNotSame(instance.getResults(), instance.getResults());
+    }
+
+    /**
+     * Test of isPartial method, of class RiskAnalysisRun.
+     */
+    @Test
+    void testIsPartial() {
+        System.out.println("isPartial");
+        Instant startTime = Instant.now();
+        RiskAnalysisResult[] results = new RiskAnalysisResult[]{getResult()};
+        RiskAnalysisRun instance = new RiskAnalysisRun(startTime, startTime, results);
+        assertFalse(instance.isPartial());
+        assertTrue(instance.getUnfinishedRiskTypes().isEmpty());
+        List<SupportedRisks> unfinishedRiskTypes = new ArrayList<>();
+        unfinishedRiskTypes.add(SupportedRisks.HAVING_UNFASHIONABLE_COMPONENTS_LICENSES);
+        instance = new RiskAnalysisRun(startTime, startTime, results, unfinishedRiskTypes);
+        unfinishedRiskTypes.clear();
+        assertTrue(instance.isPartial());
+        assertEquals(1, instance.getUnfinishedRiskTypes().size());
+        assertEquals(SupportedRisks.HAVING_UNFASHIONABLE_COMPONENTS_LICENSES, instance.getUnfinishedRiskTypes().get(0));
+        List<SupportedRisks> instanceUnfinishedRiskTypes = instance.getUnfinishedRiskTypes();
+        assertThrows(UnsupportedOperationException.class, () -> {
+            instanceUnfinishedRiskTypes.clear();
+        });
+    }
+
+    private RiskAnalysisResult getResult() {
+        return new RiskAnalysisResult(SupportedRisks.HAVING_OBSOLETE_COMPONENTS_LICENSES, 0.5f, 0.5f, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+    }
+}
@@ -0,0 +1,181 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.analysis;
+
+import com.manolodominguez.openlrae.arquitecture.Project;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesKnowledgeBase;
+import com.manolodominguez.openlrae.resourceslocators.FilesPaths;
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class RiskAnalysisTallyTest {
+
+    public RiskAnalysisTallyTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of add method, of class RiskAnalysisTally.
+     */
+    @Test
+    void testAdd() {
+        System.out.println("add");
+        ComponentBindingsFacts facts = getFacts();
+        RiskAnalysisTally instance = new RiskAnalysisTally();
+        assertEquals(0, instance.getNumberOfComponentBindings());
+        instance.add(new ComponentBindingContribution(facts, 0, 0.5f, 0.25f, 1.0f, Arrays.asList(new TranslatableMessage("rootCause")), new ArrayList<>(), new ArrayList<>(), Arrays.asList(new TranslatableMessage("tip"))));
+        instance.add(new ComponentBindingContribution(facts, 1, 0.25f, 0.5f, 1.0f, new ArrayList<>(), Arrays.asList(new TranslatableMessage("warning")), Arrays.asList(new TranslatableMessage("goodThing")), new ArrayList<>()));
+        assertEquals(2, instance.getNumberOfComponentBindings());
+        assertEquals(0.75f, instance.getRiskExposure());
+        assertEquals(0.75f, instance.getRiskImpact());
+        assertEquals(2.0f, instance.getMaxImpact());
+        assertEquals(Arrays.asList(new TranslatableMessage("rootCause")), instance.getRootCauses());
+        assertEquals(Arrays.asList(new TranslatableMessage("warning")), instance.getWarnings());
+        assertEquals(Arrays.asList(new TranslatableMessage("goodThing")), instance.getGoodThings());
+        assertEquals(Arrays.asList(new TranslatableMessage("tip")), instance.getTips());
+        int frequency = (facts.getLicense(0) == facts.getLicense(1)) ? 2 : 1;
+        assertEquals(frequency, instance.getLicenseFrequency(facts.getLicense(0)));
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.add(null);
+        });
+    }
+
+    /**
+     * Test of remove method, of class RiskAnalysisTally.
+     */
+    @Test
+    void testRemove() {
+        System.out.println("remove");
+        ComponentBindingsFacts facts = getFacts();
+        RiskAnalysisTally instance = new RiskAnalysisTally();
+        instance.add(new ComponentBindingContribution(facts, 0, 0.5f, 0.25f, 1.0f, Arrays.asList(new TranslatableMessage("rootCause")), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+        instance.add(new ComponentBindingContribution(facts, 1, 0.25f, 0.5f, 1.0f, Arrays.asList(new TranslatableMessage("anotherRootCause")), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+        assertTrue(instance.remove(facts.getComponentBindings().get(0)));
+        assertEquals(1, instance.getNumberOfComponentBindings());
+        assertEquals(0.25f, instance.getRiskExposure());
+        assertEquals(0.5f, instance.getRiskImpact());
+        assertEquals(1.0f, instance.getMaxImpact());
+        assertEquals(Arrays.asList(new TranslatableMessage("anotherRootCause")), instance.getRootCauses());
+        assertEquals(facts.getComponentBindings().get(1), instance.getContributions().get(0).getComponentBinding()); // We're comparing objects references here
+        // Already removed
+        assertFalse(instance.remove(facts.getComponentBindings().get(0)));
+        // Removing every contribution leaves no residues behind
+        assertTrue(instance.remove(facts.getComponentBindings().get(1)));
+        assertEquals(0, instance.getNumberOfComponentBindings());
+        assertEquals(0.0f, instance.getRiskExposure());
+        assertEquals(0, instance.getLicenseFrequency(facts.getLicense(1)));
+        assertEquals(0.0f, instance.getLicenseWeight(facts.getLicense(1)));
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.remove(null);
+        });
+    }
+
+    /**
+     * Test of add and remove methods, of class RiskAnalysisTally, when a
+     * component binding is added several times.
+     */
+    @Test
+    void testAddAndRemoveKeepOrder() {
+        System.out.println("addAndRemove");
+        ComponentBindingsFacts facts = getFacts();
+        RiskAnalysisTally instance = new RiskAnalysisTally();
+        instance.add(new ComponentBindingContribution(facts, 0, 0.5f, 0.25f, 1.0f, Arrays.asList(new TranslatableMessage("first")), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+        assertEquals(Arrays.asList(new TranslatableMessage("first")), instance.getRootCauses());
+        instance.add(new ComponentBindingContribution(facts, 1, 0.25f, 0.5f, 1.0f, Arrays.asList(new TranslatableMessage("second")), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+        instance.add(new ComponentBindingContribution(facts, 0, 0.5f, 0.25f, 1.0f, Arrays.asList(new TranslatableMessage("third")), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+        // Messages keep the order contributions were added
+        assertEquals(Arrays.asList(new TranslatableMessage("first"), new TranslatableMessage("second"), new TranslatableMessage("third")), instance.getRootCauses());
+        assertSame(instance.getRootCauses(), instance.getRootCauses());
+        // The first contribution of the component binding is removed
+        assertTrue(instance.remove(facts.getComponentBindings().get(0)));
+        assertEquals(Arrays.asList(new TranslatableMessage("second"), new TranslatableMessage("third")), instance.getRootCauses());
+        assertEquals(facts.getComponentBindings().get(1), instance.getContributions().get(0).getComponentBinding()); // We're comparing objects references here
+        assertEquals(facts.getComponentBindings().get(0), instance.getContributions().get(1).getComponentBinding()); // We're comparing objects references here
+        instance.add(new ComponentBindingContribution(facts, 0, 0.5f, 0.25f, 1.0f, Arrays.asList(new TranslatableMessage("fourth")), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+        assertEquals(Arrays.asList(new TranslatableMessage("second"), new TranslatableMessage("third"), new TranslatableMessage("fourth")), instance.getRootCauses());
+        assertTrue(instance.getWarnings().isEmpty());
+    }
+
+    /**
+     * Test of getLicenseWeight method, of class RiskAnalysisTally.
+     */
+    @Test
+    void testGetLicenseWeight() {
+        System.out.println("getLicenseWeight");
+        ComponentBindingsFacts facts = getFacts();
+        RiskAnalysisTally instance = new RiskAnalysisTally();
+        for (int i = 0; i < facts.getNumberOfComponentBindings(); i++) {
+            instance.add(new ComponentBindingContribution(facts, i, 0.0f, 0.0f, 0.0f, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), new ArrayList<>()));
+        }
+        float weight = 0.0f;
+        int frequency = 0;
+        for (int i = 0; i < facts.getNumberOfComponentBindings(); i++) {
+            if (facts.getLicense(i) == facts.getLicense(0)) {
+                weight += facts.getWeightValue(i);
+                frequency++;
+            }
+        }
+        assertEquals(weight, instance.getLicenseWeight(facts.getLicense(0)));
+        assertEquals(frequency, instance.getLicenseFrequency(facts.getLicense(0)));
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getLicenseWeight(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getLicenseFrequency(null);
+        });
+    }
+
+    private ComponentBindingsFacts getFacts() {
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        return new ComponentBindingsFacts(project, LicensesKnowledgeBase.getCurrent());
+    }
+
+}
@@ -0,0 +1,114 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.analysis.riskanalysers;
+
+import com.manolodominguez.openlrae.analysis.RiskAnalysisContext;
+import com.manolodominguez.openlrae.analysis.RiskAnalysisResult;
+import com.manolodominguez.openlrae.arquitecture.Component;
+import com.manolodominguez.openlrae.arquitecture.ComponentBinding;
+import com.manolodominguez.openlrae.arquitecture.Project;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedComponentWeights;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRedistributions;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRisks;
+import com.manolodominguez.openlrae.resourceslocators.FilesPaths;
+import java.net.URL;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class AbstractRiskAnalyserTest {
+
+    public AbstractRiskAnalyserTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of getRiskAnalisysResult method, of class AbstractRiskAnalyser,
+     * running a risk analyser that is not bound to a project on several
+     * projects, one after another.
+     */
+    @Test
+    void testGetRiskAnalisysResultWithContext() {
+        System.out.println("getRiskAnalisysResult");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project exampleProject = new Project(projectURL);
+        Project otherProject = new Project("OtherProject", "1.0", SupportedLicenses.MIT, SupportedRedistributions.SOFTWARE_PACKAGE_OR_SAAS, new ComponentBinding(new Component("Library", "1.0", SupportedLicenses.GPL_2_0_ONLY), SupportedLinks.STATIC, SupportedComponentWeights.HIGH));
+        // A risk analyser that adds up the contribution of each component
+        // binding
+        RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses incompatibilities = new RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses();
+        // And a risk analyser that only looks at the project licenses
+        RiskAnalyserObsoleteProjectLicenses obsolescences = new RiskAnalyserObsoleteProjectLicenses();
+        for (int i = 0; i < 2; i++) {
+            // Each run only depends on the project of its context, not on
+            // previous runs on other projects
+            RiskAnalysisResult result = incompatibilities.getRiskAnalisysResult(new RiskAnalysisContext(exampleProject));
+            assertEquals(SupportedRisks.HAVING_COMPONENTS_LICENSES_INCOMPATIBLE_WITH_PROJECT_LICENSES, result.getRiskType());
+            assertEquals(0.25f, result.getRiskExposure());
+            assertEquals(0.25f, result.getRiskImpact());
+            assertEquals(2, result.getRootCauses().size());
+            assertEquals(3, result.getGoodThings().size());
+            result = incompatibilities.getRiskAnalisysResult(new RiskAnalysisContext(otherProject));
+            assertEquals(1.0f, result.getRiskExposure());
+            assertEquals(1.0f, result.getRiskImpact());
+            assertEquals(1, result.getRootCauses().size());
+            assertTrue(result.getGoodThings().isEmpty());
+            result = obsolescences.getRiskAnalisysResult(new RiskAnalysisContext(exampleProject));
+            assertEquals(SupportedRisks.HAVING_OBSOLETE_PROJECT_LICENSES, result.getRiskType());
+            assertEquals(0.5f, result.getRiskExposure());
+            assertEquals(0.165f, result.getRiskImpact());
+            assertEquals(1, result.getRootCauses().size());
+            result = obsolescences.getRiskAnalisysResult(new RiskAnalysisContext(otherProject));
+            assertEquals(0.0f, result.getRiskExposure());
+            assertEquals(0.0f, result.getRiskImpact());
+            assertTrue(result.getRootCauses().isEmpty());
+            assertEquals(1, result.getGoodThings().size());
+        }
+        // Still not bound to any project
+        assertNull(incompatibilities.getProject());
+        assertNull(obsolescences.getProject());
+    }
+}
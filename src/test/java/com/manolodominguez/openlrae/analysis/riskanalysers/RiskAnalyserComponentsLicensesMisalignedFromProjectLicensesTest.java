@@ -166,5 +166,23 @@ class RiskAnalyserComponentsLicensesMisalignedFromProjectLicensesTest {
             // Should throw an exception because event is null
             instance.onLanguageChange(null);
         });
-    }    
+    }
+
+    /**
+     * Test of getRiskAnalisysResult method, of class RiskAnalyserComponentsLicensesMisalignedFromProjectLicenses, when the
+     * risk analyser is not bound to a project.
+     */
+    @Test
+    void testGetRiskAnalisysResultWithContextWhenUnbound() {
+        System.out.println("getRiskAnalisysResult");
+        RiskAnalyserComponentsLicensesMisalignedFromProjectLicenses instance = new RiskAnalyserComponentsLicensesMisalignedFromProjectLicenses();
+        // Should throw an exception because there is no project to analyse
+        assertThrows(IllegalStateException.class, () -> {
+            instance.getRiskAnalisysResult();
+        });
+        // Should throw an exception because context is null
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getRiskAnalisysResult(null);
+        });
+    }
 }
@@ -166,6 +166,23 @@ class RiskAnalyserHavingComponentsLicensesIncompatibleWithProjectLicensesTest {
             // Should throw an exception because event is null
             instance.onLanguageChange(null);
         });
-    }         
-    
+    }
+
+    /**
+     * Test of getRiskAnalisysResult method, of class RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses, when the
+     * risk analyser is not bound to a project.
+     */
+    @Test
+    void testGetRiskAnalisysResultWithContextWhenUnbound() {
+        System.out.println("getRiskAnalisysResult");
+        RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses instance = new RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses();
+        // Should throw an exception because there is no project to analyse
+        assertThrows(IllegalStateException.class, () -> {
+            instance.getRiskAnalisysResult();
+        });
+        // Should throw an exception because context is null
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getRiskAnalisysResult(null);
+        });
+    }
 }
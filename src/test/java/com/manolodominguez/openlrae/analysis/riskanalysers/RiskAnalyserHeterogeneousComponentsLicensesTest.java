@@ -173,4 +173,21 @@ class RiskAnalyserHeterogeneousComponentsLicensesTest {
         });
     }
 
+    /**
+     * Test of getRiskAnalisysResult method, of class RiskAnalyserHeterogeneousComponentsLicenses, when the
+     * risk analyser is not bound to a project.
+     */
+    @Test
+    void testGetRiskAnalisysResultWithContextWhenUnbound() {
+        System.out.println("getRiskAnalisysResult");
+        RiskAnalyserHeterogeneousComponentsLicenses instance = new RiskAnalyserHeterogeneousComponentsLicenses();
+        // Should throw an exception because there is no project to analyse
+        assertThrows(IllegalStateException.class, () -> {
+            instance.getRiskAnalisysResult();
+        });
+        // Should throw an exception because context is null
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getRiskAnalisysResult(null);
+        });
+    }
 }
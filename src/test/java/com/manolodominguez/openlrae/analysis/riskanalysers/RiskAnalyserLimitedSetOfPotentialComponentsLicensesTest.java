@@ -169,4 +169,21 @@ class RiskAnalyserLimitedSetOfPotentialComponentsLicensesTest {
         });
     }
 
+    /**
+     * Test of getRiskAnalisysResult method, of class RiskAnalyserLimitedSetOfPotentialComponentsLicenses, when the
+     * risk analyser is not bound to a project.
+     */
+    @Test
+    void testGetRiskAnalisysResultWithContextWhenUnbound() {
+        System.out.println("getRiskAnalisysResult");
+        RiskAnalyserLimitedSetOfPotentialComponentsLicenses instance = new RiskAnalyserLimitedSetOfPotentialComponentsLicenses();
+        // Should throw an exception because there is no project to analyse
+        assertThrows(IllegalStateException.class, () -> {
+            instance.getRiskAnalisysResult();
+        });
+        // Should throw an exception because context is null
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getRiskAnalisysResult(null);
+        });
+    }
 }
@@ -87,6 +87,16 @@ class RiskAnalyserLimitedSetOfPotentialProjectLicensesTest {
         assertEquals(SupportedRisks.HAVING_A_LIMITED_SET_OF_POTENTIAL_PROJECT_LICENSES, instance.handledRiskType);
     }
     
+    /**
+     * Test of getAnalysisCost method, of class RiskAnalyserLimitedSetOfPotentialProjectLicenses.
+     */
+    @Test
+    void testGetAnalysisCost() {
+        System.out.println("getAnalysisCost");
+        RiskAnalyserLimitedSetOfPotentialProjectLicenses instance = new RiskAnalyserLimitedSetOfPotentialProjectLicenses();
+        assertEquals(SupportedAnalysisCosts.HIGH, instance.getAnalysisCost());
+    }
+
     /**
      * Test of getRiskAnalisysResult method, of class RiskAnalyserLimitedSetOfPotentialProjectLicenses.
      */
@@ -166,5 +176,23 @@ class RiskAnalyserLimitedSetOfPotentialProjectLicensesTest {
             // Should throw an exception because event is null
             instance.onLanguageChange(null);
         });
-    }           
+    }
+
+    /**
+     * Test of getRiskAnalisysResult method, of class RiskAnalyserLimitedSetOfPotentialProjectLicenses, when the
+     * risk analyser is not bound to a project.
+     */
+    @Test
+    void testGetRiskAnalisysResultWithContextWhenUnbound() {
+        System.out.println("getRiskAnalisysResult");
+        RiskAnalyserLimitedSetOfPotentialProjectLicenses instance = new RiskAnalyserLimitedSetOfPotentialProjectLicenses();
+        // Should throw an exception because there is no project to analyse
+        assertThrows(IllegalStateException.class, () -> {
+            instance.getRiskAnalisysResult();
+        });
+        // Should throw an exception because context is null
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getRiskAnalisysResult(null);
+        });
+    }
 }
@@ -87,6 +87,16 @@ class RiskAnalyserObsoleteComponentsLicensesTest {
         assertEquals(SupportedRisks.HAVING_OBSOLETE_COMPONENTS_LICENSES, instance.handledRiskType);
     }
     
+    /**
+     * Test of getAnalysisCost method, of class RiskAnalyserObsoleteComponentsLicenses.
+     */
+    @Test
+    void testGetAnalysisCost() {
+        System.out.println("getAnalysisCost");
+        RiskAnalyserObsoleteComponentsLicenses instance = new RiskAnalyserObsoleteComponentsLicenses();
+        assertEquals(SupportedAnalysisCosts.MEDIUM, instance.getAnalysisCost());
+    }
+
     /**
      * Test of getRiskAnalisysResult method, of class RiskAnalyserLicensesOfComponentsTooObsolete.
      */
@@ -167,5 +177,23 @@ class RiskAnalyserObsoleteComponentsLicensesTest {
             // Should throw an exception because event is null
             instance.onLanguageChange(null);
         });
-    }    
+    }
+
+    /**
+     * Test of getRiskAnalisysResult method, of class RiskAnalyserObsoleteComponentsLicenses, when the
+     * risk analyser is not bound to a project.
+     */
+    @Test
+    void testGetRiskAnalisysResultWithContextWhenUnbound() {
+        System.out.println("getRiskAnalisysResult");
+        RiskAnalyserObsoleteComponentsLicenses instance = new RiskAnalyserObsoleteComponentsLicenses();
+        // Should throw an exception because there is no project to analyse
+        assertThrows(IllegalStateException.class, () -> {
+            instance.getRiskAnalisysResult();
+        });
+        // Should throw an exception because context is null
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getRiskAnalisysResult(null);
+        });
+    }
 }
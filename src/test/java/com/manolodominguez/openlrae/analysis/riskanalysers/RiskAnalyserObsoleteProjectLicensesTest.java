@@ -87,6 +87,16 @@ class RiskAnalyserObsoleteProjectLicensesTest {
         assertEquals(SupportedRisks.HAVING_OBSOLETE_PROJECT_LICENSES, instance.handledRiskType);
     }
     
+    /**
+     * Test of getAnalysisCost method, of class RiskAnalyserObsoleteProjectLicenses.
+     */
+    @Test
+    void testGetAnalysisCost() {
+        System.out.println("getAnalysisCost");
+        RiskAnalyserObsoleteProjectLicenses instance = new RiskAnalyserObsoleteProjectLicenses();
+        assertEquals(SupportedAnalysisCosts.LOW, instance.getAnalysisCost());
+    }
+
     /**
      * Test of getRiskAnalisysResult method, of class RiskAnalyserProjectLicensesTooObsolete.
      */
@@ -166,5 +176,23 @@ class RiskAnalyserObsoleteProjectLicensesTest {
             // Should throw an exception because event is null
             instance.onLanguageChange(null);
         });
-    }        
+    }
+
+    /**
+     * Test of getRiskAnalisysResult method, of class RiskAnalyserObsoleteProjectLicenses, when the
+     * risk analyser is not bound to a project.
+     */
+    @Test
+    void testGetRiskAnalisysResultWithContextWhenUnbound() {
+        System.out.println("getRiskAnalisysResult");
+        RiskAnalyserObsoleteProjectLicenses instance = new RiskAnalyserObsoleteProjectLicenses();
+        // Should throw an exception because there is no project to analyse
+        assertThrows(IllegalStateException.class, () -> {
+            instance.getRiskAnalisysResult();
+        });
+        // Should throw an exception because context is null
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getRiskAnalisysResult(null);
+        });
+    }
 }
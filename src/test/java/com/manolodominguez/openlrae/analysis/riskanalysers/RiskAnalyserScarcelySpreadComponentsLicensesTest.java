@@ -167,5 +167,22 @@ class RiskAnalyserScarcelySpreadComponentsLicensesTest {
             instance.onLanguageChange(null);
         });
     }
-    
+
+    /**
+     * Test of getRiskAnalisysResult method, of class RiskAnalyserScarcelySpreadComponentsLicenses, when the
+     * risk analyser is not bound to a project.
+     */
+    @Test
+    void testGetRiskAnalisysResultWithContextWhenUnbound() {
+        System.out.println("getRiskAnalisysResult");
+        RiskAnalyserScarcelySpreadComponentsLicenses instance = new RiskAnalyserScarcelySpreadComponentsLicenses();
+        // Should throw an exception because there is no project to analyse
+        assertThrows(IllegalStateException.class, () -> {
+            instance.getRiskAnalisysResult();
+        });
+        // Should throw an exception because context is null
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getRiskAnalisysResult(null);
+        });
+    }
 }
@@ -87,6 +87,16 @@ class RiskAnalyserScarcelySpreadProjectLicensesTest {
         assertEquals(SupportedRisks.HAVING_SCARCELY_SPREAD_PROJECT_LICENSES, instance.handledRiskType);
     }
     
+    /**
+     * Test of getAnalysisCost method, of class RiskAnalyserScarcelySpreadProjectLicenses.
+     */
+    @Test
+    void testGetAnalysisCost() {
+        System.out.println("getAnalysisCost");
+        RiskAnalyserScarcelySpreadProjectLicenses instance = new RiskAnalyserScarcelySpreadProjectLicenses();
+        assertEquals(SupportedAnalysisCosts.LOW, instance.getAnalysisCost());
+    }
+
     /**
      * Test of getRiskAnalisysResult method, of class RiskAnalyserScarcelySpreadProjectLicenses.
      */
@@ -166,5 +176,23 @@ class RiskAnalyserScarcelySpreadProjectLicensesTest {
             // Should throw an exception because event is null
             instance.onLanguageChange(null);
         });
-    }    
+    }
+
+    /**
+     * Test of getRiskAnalisysResult method, of class RiskAnalyserScarcelySpreadProjectLicenses, when the
+     * risk analyser is not bound to a project.
+     */
+    @Test
+    void testGetRiskAnalisysResultWithContextWhenUnbound() {
+        System.out.println("getRiskAnalisysResult");
+        RiskAnalyserScarcelySpreadProjectLicenses instance = new RiskAnalyserScarcelySpreadProjectLicenses();
+        // Should throw an exception because there is no project to analyse
+        assertThrows(IllegalStateException.class, () -> {
+            instance.getRiskAnalisysResult();
+        });
+        // Should throw an exception because context is null
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getRiskAnalisysResult(null);
+        });
+    }
 }
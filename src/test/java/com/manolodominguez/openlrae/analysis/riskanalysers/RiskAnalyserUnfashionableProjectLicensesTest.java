@@ -87,6 +87,16 @@ class RiskAnalyserUnfashionableProjectLicensesTest {
         assertEquals(SupportedRisks.HAVING_UNFASHIONABLE_PROJECT_LICENSES, instance.handledRiskType);
     }
     
+    /**
+     * Test of getAnalysisCost method, of class RiskAnalyserUnfashionableProjectLicenses.
+     */
+    @Test
+    void testGetAnalysisCost() {
+        System.out.println("getAnalysisCost");
+        RiskAnalyserUnfashionableProjectLicenses instance = new RiskAnalyserUnfashionableProjectLicenses();
+        assertEquals(SupportedAnalysisCosts.LOW, instance.getAnalysisCost());
+    }
+
     /**
      * Test of getRiskAnalisysResult method, of class RiskAnalyserUnfashionableProjectLicenses.
      */
@@ -167,5 +177,22 @@ class RiskAnalyserUnfashionableProjectLicensesTest {
             instance.onLanguageChange(null);
         });
     }
-    
+
+    /**
+     * Test of getRiskAnalisysResult method, of class RiskAnalyserUnfashionableProjectLicenses, when the
+     * risk analyser is not bound to a project.
+     */
+    @Test
+    void testGetRiskAnalisysResultWithContextWhenUnbound() {
+        System.out.println("getRiskAnalisysResult");
+        RiskAnalyserUnfashionableProjectLicenses instance = new RiskAnalyserUnfashionableProjectLicenses();
+        // Should throw an exception because there is no project to analyse
+        assertThrows(IllegalStateException.class, () -> {
+            instance.getRiskAnalisysResult();
+        });
+        // Should throw an exception because context is null
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getRiskAnalisysResult(null);
+        });
+    }
 }
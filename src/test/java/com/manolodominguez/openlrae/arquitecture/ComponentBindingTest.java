@@ -179,6 +179,30 @@ class ComponentBindingTest {
         assertEquals("ComponentName (Artistic-2.0), linked dynamically", instance.getFullNameForDummyComponent());
     }
 
+    /**
+     * Test of getFullNameMessage method, of class ComponentBinding.
+     */
+    @Test
+    void testGetFullNameMessage() {
+        System.out.println("getFullNameMessage");
+        Component component = new Component("ComponentName", "ComponentVersion", SupportedLicenses.ARTISTIC_2_0);
+        ComponentBinding instance = new ComponentBinding(component, SupportedLinks.DYNAMIC, SupportedComponentWeights.HIGH);
+        assertEquals("ComponentName-ComponentVersion (Artistic-2.0), linked dynamically", instance.getFullNameMessage().translate(SupportedLanguages.DEFAULT_LANGUAGE));
+        assertEquals("ComponentName-ComponentVersion (Artistic-2.0), enlazado dinámicamente", instance.getFullNameMessage().translate(SupportedLanguages.SPANISH));
+    }
+
+    /**
+     * Test of getFullNameMessageForDummyComponent method, of class
+     * ComponentBinding.
+     */
+    @Test
+    void testGetFullNameMessageForDummyComponent() {
+        System.out.println("getFullNameMessageForDummyComponent");
+        Component component = new Component("ComponentName", "ComponentVersion", SupportedLicenses.ARTISTIC_2_0);
+        ComponentBinding instance = new ComponentBinding(component, SupportedLinks.DYNAMIC, SupportedComponentWeights.HIGH);
+        assertEquals(instance.getFullNameForDummyComponent(), instance.getFullNameMessageForDummyComponent().translate(SupportedLanguages.DEFAULT_LANGUAGE));
+    }
+
     /**
      * Test of getLanguage method, of class ComponentBinding.
      */
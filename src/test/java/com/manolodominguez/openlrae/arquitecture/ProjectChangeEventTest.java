@@ -0,0 +1,96 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.arquitecture;
+
+import com.manolodominguez.openlrae.resourceslocators.FilesPaths;
+import java.net.URL;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class ProjectChangeEventTest {
+
+    public ProjectChangeEventTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of constructor, of class ProjectChangeEvent.
+     */
+    @Test
+    void testConstructor() {
+        System.out.println("Constructor");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        ComponentBinding componentBinding = project.getBillOfComponentBindings().get(0);
+        ProjectChangeEvent instance = new ProjectChangeEvent(project, SupportedProjectChanges.COMPONENT_BINDING_REMOVED, componentBinding);
+        assertEquals(project, instance.getProject()); // We're comparing objects references here
+        assertEquals(SupportedProjectChanges.COMPONENT_BINDING_REMOVED, instance.getChange());
+        assertEquals(componentBinding, instance.getComponentBinding()); // We're comparing objects references here
+        // No component binding is needed when a license is added
+        assertNull(new ProjectChangeEvent(project, SupportedProjectChanges.LICENSE_ADDED, null).getComponentBinding());
+    }
+
+    /**
+     * Test of constructor, of class ProjectChangeEvent.
+     */
+    @Test
+    void testConstructorWhenArgumentsAreInvalid() {
+        System.out.println("Constructor");
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        ComponentBinding componentBinding = project.getBillOfComponentBindings().get(0);
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ProjectChangeEvent(null, SupportedProjectChanges.COMPONENT_BINDING_ADDED, componentBinding);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ProjectChangeEvent(project, null, componentBinding);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new ProjectChangeEvent(project, SupportedProjectChanges.COMPONENT_BINDING_ADDED, null);
+        });
+    }
+
+}
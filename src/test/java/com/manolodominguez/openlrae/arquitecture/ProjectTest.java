@@ -30,6 +30,7 @@ import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedRedistributions;
 import com.manolodominguez.openlrae.i18n.LanguageChangeEvent;
 import com.manolodominguez.openlrae.i18n.SupportedLanguages;
+import com.manolodominguez.openlrae.i18n.TranslatableMessage;
 import com.manolodominguez.openlrae.resourceslocators.FilesPaths;
 import java.io.BufferedReader;
 import java.io.FileNotFoundException;
@@ -37,6 +38,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Locale;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.AfterAll;
@@ -385,6 +388,117 @@ class ProjectTest {
         assertEquals(secondComponentBinding, project.getBillOfComponentBindings().get(1)); // We're comparing objects references here
     }
 
+    /**
+     * Test of removeComponentBinding method, of class Project.
+     */
+    @Test
+    void testRemoveComponentBinding() {
+        System.out.println("removeComponentBinding");
+        Component firstComponent = new Component("ComponentName1", "ComponentVersion1", SupportedLicenses.ARTISTIC_2_0);
+        Component secondComponent = new Component("ComponentName1", "ComponentVersion2", SupportedLicenses.MIT);
+        ComponentBinding firstComponentBinding = new ComponentBinding(firstComponent, SupportedLinks.DYNAMIC, SupportedComponentWeights.HIGH);
+        ComponentBinding secondComponentBinding = new ComponentBinding(secondComponent, SupportedLinks.DYNAMIC, SupportedComponentWeights.NEAR_HIGH);
+        String projectName = "MyProject";
+        String projectVersion = "MyProjectVersion";
+        SupportedLicenses firstProjectLicense = SupportedLicenses.ARTISTIC_2_0;
+        SupportedRedistributions projectRedistribution = SupportedRedistributions.SOFTWARE_PACKAGE_OR_SAAS;
+        Project project = new Project(projectName, projectVersion, firstProjectLicense, projectRedistribution, firstComponentBinding);
+        assertFalse(project.removeComponentBinding(secondComponentBinding));
+        project.addComponentBinding(secondComponentBinding);
+        assertTrue(project.removeComponentBinding(firstComponentBinding));
+        assertEquals(1, project.getBillOfComponentBindings().size());
+        assertEquals(secondComponentBinding, project.getBillOfComponentBindings().get(0)); // We're comparing objects references here
+        // The last component binding cannot be removed
+        assertThrows(IllegalStateException.class, () -> {
+            project.removeComponentBinding(secondComponentBinding);
+        });
+    }
+
+    /**
+     * Test of removeComponentBinding method, of class Project.
+     */
+    @Test
+    void testRemoveComponentBindingWhenNull() {
+        System.out.println("removeComponentBinding");
+        Component firstComponent = new Component("ComponentName1", "ComponentVersion1", SupportedLicenses.ARTISTIC_2_0);
+        ComponentBinding firstComponentBinding = new ComponentBinding(firstComponent, SupportedLinks.DYNAMIC, SupportedComponentWeights.HIGH);
+        String projectName = "MyProject";
+        String projectVersion = "MyProjectVersion";
+        SupportedLicenses firstProjectLicense = SupportedLicenses.ARTISTIC_2_0;
+        SupportedRedistributions projectRedistribution = SupportedRedistributions.SOFTWARE_PACKAGE_OR_SAAS;
+        Project project = new Project(projectName, projectVersion, firstProjectLicense, projectRedistribution, firstComponentBinding);
+        assertThrows(IllegalArgumentException.class, () -> {
+            project.removeComponentBinding(null);
+        });
+    }
+
+    /**
+     * Test of addProjectChangeListener method, of class Project.
+     */
+    @Test
+    void testAddProjectChangeListener() {
+        System.out.println("addProjectChangeListener");
+        Component firstComponent = new Component("ComponentName1", "ComponentVersion1", SupportedLicenses.ARTISTIC_2_0);
+        Component secondComponent = new Component("ComponentName1", "ComponentVersion2", SupportedLicenses.MIT);
+        ComponentBinding firstComponentBinding = new ComponentBinding(firstComponent, SupportedLinks.DYNAMIC, SupportedComponentWeights.HIGH);
+        ComponentBinding secondComponentBinding = new ComponentBinding(secondComponent, SupportedLinks.DYNAMIC, SupportedComponentWeights.NEAR_HIGH);
+        String projectName = "MyProject";
+        String projectVersion = "MyProjectVersion";
+        SupportedLicenses firstProjectLicense = SupportedLicenses.ARTISTIC_2_0;
+        SupportedRedistributions projectRedistribution = SupportedRedistributions.SOFTWARE_PACKAGE_OR_SAAS;
+        Project project = new Project(projectName, projectVersion, firstProjectLicense, projectRedistribution, firstComponentBinding);
+        List<ProjectChangeEvent> projectChangeEvents = new ArrayList<>();
+        IProjectChangeListener projectChangeListener = projectChangeEvents::add;
+        project.addProjectChangeListener(projectChangeListener);
+        project.addComponentBinding(secondComponentBinding);
+        project.addLicense(SupportedLicenses.MIT);
+        project.removeComponentBinding(secondComponentBinding);
+        assertEquals(3, projectChangeEvents.size());
+        assertEquals(SupportedProjectChanges.COMPONENT_BINDING_ADDED, projectChangeEvents.get(0).getChange());
+        assertEquals(secondComponentBinding, projectChangeEvents.get(0).getComponentBinding()); // We're comparing objects references here
+        assertEquals(SupportedProjectChanges.LICENSE_ADDED, projectChangeEvents.get(1).getChange());
+        assertEquals(SupportedProjectChanges.COMPONENT_BINDING_REMOVED, projectChangeEvents.get(2).getChange());
+        assertEquals(project, projectChangeEvents.get(2).getProject()); // We're comparing objects references here
+        // Once removed, the listener is not notified any longer
+        project.removeProjectChangeListener(projectChangeListener);
+        project.addComponentBinding(secondComponentBinding);
+        assertEquals(3, projectChangeEvents.size());
+        assertThrows(IllegalArgumentException.class, () -> {
+            project.addProjectChangeListener(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            project.removeProjectChangeListener(null);
+        });
+    }
+
+    /**
+     * Test of getFingerprint method, of class Project.
+     */
+    @Test
+    void testGetFingerprint() {
+        System.out.println("getFingerprint");
+        Component firstComponent = new Component("ComponentName1", "ComponentVersion1", SupportedLicenses.ARTISTIC_2_0);
+        Component secondComponent = new Component("ComponentName1", "ComponentVersion2", SupportedLicenses.MIT);
+        String projectName = "MyProject";
+        String projectVersion = "MyProjectVersion";
+        SupportedLicenses firstProjectLicense = SupportedLicenses.ARTISTIC_2_0;
+        SupportedRedistributions projectRedistribution = SupportedRedistributions.SOFTWARE_PACKAGE_OR_SAAS;
+        Project project = new Project(projectName, projectVersion, firstProjectLicense, projectRedistribution, new ComponentBinding(firstComponent, SupportedLinks.DYNAMIC, SupportedComponentWeights.HIGH));
+        project.addComponentBinding(new ComponentBinding(secondComponent, SupportedLinks.DYNAMIC, SupportedComponentWeights.NEAR_HIGH));
+        // The same definition, with components in a different order
+        Project sameProject = new Project(projectName, projectVersion, firstProjectLicense, projectRedistribution, new ComponentBinding(secondComponent, SupportedLinks.DYNAMIC, SupportedComponentWeights.NEAR_HIGH));
+        sameProject.addComponentBinding(new ComponentBinding(firstComponent, SupportedLinks.DYNAMIC, SupportedComponentWeights.HIGH));
+        // A different weight
+        Project anotherProject = new Project(projectName, projectVersion, firstProjectLicense, projectRedistribution, new ComponentBinding(secondComponent, SupportedLinks.DYNAMIC, SupportedComponentWeights.HIGH));
+        anotherProject.addComponentBinding(new ComponentBinding(firstComponent, SupportedLinks.DYNAMIC, SupportedComponentWeights.HIGH));
+        assertEquals(64, project.getFingerprint().length());
+        assertEquals(project.getFingerprint(), sameProject.getFingerprint());
+        assertNotEquals(project.getFingerprint(), anotherProject.getFingerprint());
+        String fingerprint = project.getFingerprint();
+        project.addLicense(SupportedLicenses.MIT);
+        assertNotEquals(fingerprint, project.getFingerprint());
+    }
+
     /**
      * Test of getName method, of class Project.
      */
@@ -419,6 +533,31 @@ class ProjectTest {
         assertEquals("MyProject-MyProjectVersion (Artistic-2.0, Apache-2.0), that is going to be redistributed", project.getFullName());
     }
 
+    /**
+     * Test of getFullNameMessage method, of class Project.
+     */
+    @Test
+    void testGetFullNameMessage() {
+        System.out.println("getFullNameMessage");
+        Component firstComponent = new Component("ComponentName1", "ComponentVersion1", SupportedLicenses.ARTISTIC_2_0);
+        ComponentBinding firstComponentBinding = new ComponentBinding(firstComponent, SupportedLinks.DYNAMIC, SupportedComponentWeights.HIGH);
+        String projectName = "MyProject";
+        String projectVersion = "MyProjectVersion";
+        SupportedLicenses firstProjectLicense = SupportedLicenses.ARTISTIC_2_0;
+        SupportedLicenses secondProjectLicense = SupportedLicenses.APACHE_2_0;
+        SupportedRedistributions projectRedistribution = SupportedRedistributions.SOFTWARE_PACKAGE_OR_SAAS;
+        Project project = new Project(projectName, projectVersion, firstProjectLicense, projectRedistribution, firstComponentBinding);
+        TranslatableMessage fullNameMessage = project.getFullNameMessage();
+        assertSame(fullNameMessage, project.getFullNameMessage()); // We're comparing objects references here
+        assertEquals("MyProject-MyProjectVersion (Artistic-2.0), that is going to be redistributed", fullNameMessage.translate(SupportedLanguages.DEFAULT_LANGUAGE));
+        // Adding a license does not change messages already built
+        project.addLicense(secondProjectLicense);
+        assertEquals("MyProject-MyProjectVersion (Artistic-2.0), that is going to be redistributed", fullNameMessage.translate(SupportedLanguages.DEFAULT_LANGUAGE));
+        assertEquals(project.getFullName(), project.getFullNameMessage().translate(SupportedLanguages.DEFAULT_LANGUAGE));
+        project.onLanguageChange(new LanguageChangeEvent(project, SupportedLanguages.SPANISH));
+        assertEquals(project.getFullName(), project.getFullNameMessage().translate(SupportedLanguages.SPANISH));
+    }
+
     /**
      * Test of getVersion method, of class Project.
      */
@@ -157,4 +157,21 @@ class SupportedLicensesTest {
         assertEquals(28, SupportedLicenses.getNotFicticiousLicenses().length);
     }
 
+    /**
+     * Test of isOnlyForComponents method, of class SupportedLicenses.
+     */
+    @Test
+    void testIsOnlyForComponents() {
+        System.out.println("isOnlyForComponents");
+        int onlyForComponents = 0;
+        for (SupportedLicenses license : SupportedLicenses.values()) {
+            if (license.isOnlyForComponents()) {
+                onlyForComponents++;
+            }
+        }
+        assertEquals(SupportedLicenses.getFicticiousLicenses().length, onlyForComponents);
+        assertTrue(SupportedLicenses.UNDEFINED.isOnlyForComponents());
+        assertFalse(SupportedLicenses.APACHE_2_0.isOnlyForComponents());
+    }
+
 }
@@ -22,13 +22,19 @@
  */
 package com.manolodominguez.openlrae.baseofknowledge.licenseproperties;
 
+import com.manolodominguez.openlrae.arquitecture.ComponentBinding;
 import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilityFactory;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilityPolicy;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilitySlice;
+import com.manolodominguez.openlrae.bok.licenseproperties.licensecompatibilities.LicenseCompatibilityEntry;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedCompatibilities;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
 import com.manolodominguez.openlrae.bok.basevalues.SupportedRedistributions;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.AfterAll;
@@ -148,6 +154,205 @@ class LicensesCompatibilityFactoryTest {
         
     }
 
+    /**
+     * Test of lookup method, of class LicensesCompatibilityFactory.
+     */
+    @Test
+    void testLookup() {
+        System.out.println("lookup");
+        LicensesCompatibilityFactory instance = LicensesCompatibilityFactory.getInstance();
+        int numberOfEntries = 0;
+        for (SupportedLicenses componentLicense: SupportedLicenses.getLicensesForComponents()) {
+            for (SupportedLicenses projectLicense: SupportedLicenses.getLicensesForProjects()) {
+                for (SupportedLinks componentLink: SupportedLinks.values()) {
+                    for (SupportedRedistributions projectRedistribution: SupportedRedistributions.values()) {
+                        LicenseCompatibilityEntry entry = instance.lookup(componentLicense, projectLicense, componentLink, projectRedistribution);
+                        if (entry == null) {
+                            // Combinations out of the base of knowledge are 
+                            // unsupported.
+                            assertEquals(SupportedCompatibilities.UNSUPPORTED, instance.getCompatibilityOf(componentLicense, projectLicense, componentLink, projectRedistribution));
+                            assertFalse(instance.hasASpecificWarning(componentLicense, projectLicense, componentLink, projectRedistribution));
+                        } else {
+                            numberOfEntries++;
+                            // The entry has to be the one that solves the 
+                            // queried combination.
+                            assertEquals(componentLicense, entry.getComponentLicense());
+                            assertEquals(projectLicense, entry.getProjectLicense());
+                            assertEquals(componentLink, entry.getLink());
+                            assertEquals(projectRedistribution, entry.getRedistribution());
+                            assertEquals(entry.getCompatibility(), instance.getCompatibilityOf(componentLicense, projectLicense, componentLink, projectRedistribution));
+                            assertEquals(entry.hasSpecificWarning(), instance.hasASpecificWarning(componentLicense, projectLicense, componentLink, projectRedistribution));
+                            assertEquals(entry.getSpecificWarningKey(), instance.getSpecificWarningKey(componentLicense, projectLicense, componentLink, projectRedistribution));
+                        }
+                    }
+                }
+            }
+        }
+        assertEquals(instance.getNumberOfSupportedCombinations(), numberOfEntries);
+    }
+
+    /**
+     * Test of lookup method, of class LicensesCompatibilityFactory.
+     */
+    @Test
+    void testLookupWhenArgumentsAreNull() {
+        System.out.println("lookup");
+        LicensesCompatibilityFactory instance = LicensesCompatibilityFactory.getInstance();
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.lookup(null, SupportedLicenses.ARTISTIC_2_0, SupportedLinks.STATIC, SupportedRedistributions.NONE);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.lookup(SupportedLicenses.APACHE_2_0, null, SupportedLinks.STATIC, SupportedRedistributions.NONE);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.lookup(SupportedLicenses.APACHE_2_0, SupportedLicenses.APACHE_2_0, null, SupportedRedistributions.NONE);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.lookup(SupportedLicenses.APACHE_2_0, SupportedLicenses.APACHE_2_0, SupportedLinks.DYNAMIC, null);
+        });
+    }
+
+    /**
+     * Test of getProjectLicensesMask method, of class LicensesCompatibilityFactory.
+     */
+    @Test
+    void testGetProjectLicensesMask() {
+        System.out.println("getProjectLicensesMask");
+        LicensesCompatibilityFactory instance = LicensesCompatibilityFactory.getInstance();
+        for (SupportedLicenses componentLicense: SupportedLicenses.getLicensesForComponents()) {
+            for (SupportedLinks componentLink: SupportedLinks.values()) {
+                for (SupportedRedistributions projectRedistribution: SupportedRedistributions.values()) {
+                    long allMasks = 0L;
+                    for (SupportedCompatibilities compatibility: SupportedCompatibilities.values()) {
+                        long mask = instance.getProjectLicensesMask(componentLicense, componentLink, projectRedistribution, compatibility);
+                        // Each project license belongs to just one mask
+                        assertEquals(0L, allMasks & mask);
+                        allMasks |= mask;
+                        for (SupportedLicenses projectLicense: SupportedLicenses.getLicensesForProjects()) {
+                            boolean inMask = (mask & (1L << projectLicense.ordinal())) != 0L;
+                            assertEquals(compatibility == instance.getCompatibilityOf(componentLicense, projectLicense, componentLink, projectRedistribution), inMask);
+                        }
+                    }
+                    assertEquals(instance.getAllProjectLicensesMask(), allMasks);
+                }
+            }
+        }
+    }
+
+    /**
+     * Test of getProjectLicensesMask method, of class LicensesCompatibilityFactory.
+     */
+    @Test
+    void testGetProjectLicensesMaskWhenArgumentsAreNull() {
+        System.out.println("getProjectLicensesMask");
+        LicensesCompatibilityFactory instance = LicensesCompatibilityFactory.getInstance();
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getProjectLicensesMask(null, SupportedLinks.STATIC, SupportedRedistributions.NONE, SupportedCompatibilities.COMPATIBLE);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getProjectLicensesMask(SupportedLicenses.APACHE_2_0, null, SupportedRedistributions.NONE, SupportedCompatibilities.COMPATIBLE);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getProjectLicensesMask(SupportedLicenses.APACHE_2_0, SupportedLinks.STATIC, null, SupportedCompatibilities.COMPATIBLE);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getProjectLicensesMask(SupportedLicenses.APACHE_2_0, SupportedLinks.STATIC, SupportedRedistributions.NONE, null);
+        });
+    }
+
+    /**
+     * Test of getAllProjectLicensesMask method, of class LicensesCompatibilityFactory.
+     */
+    @Test
+    void testGetAllProjectLicensesMask() {
+        System.out.println("getAllProjectLicensesMask");
+        LicensesCompatibilityFactory instance = LicensesCompatibilityFactory.getInstance();
+        long mask = instance.getAllProjectLicensesMask();
+        assertEquals(SupportedLicenses.getLicensesForProjects().length, Long.bitCount(mask));
+        for (SupportedLicenses projectLicense: SupportedLicenses.getLicensesForProjects()) {
+            assertNotEquals(0L, mask & (1L << projectLicense.ordinal()));
+        }
+    }
+
+    /**
+     * Test of getCompatibilitiesOf method, of class LicensesCompatibilityFactory.
+     */
+    @Test
+    void testGetCompatibilitiesOfWhenArgumentsAreInvalid() {
+        System.out.println("getCompatibilitiesOf");
+        LicensesCompatibilityFactory instance = LicensesCompatibilityFactory.getInstance();
+        List<ComponentBinding> componentBindings = new ArrayList<>();
+        List<SupportedLicenses> projectLicenses = new ArrayList<>();
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getCompatibilitiesOf(null, projectLicenses, SupportedRedistributions.NONE);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getCompatibilitiesOf(componentBindings, null, SupportedRedistributions.NONE);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getCompatibilitiesOf(componentBindings, projectLicenses, null);
+        });
+        List<SupportedLicenses> projectLicensesWithNull = new ArrayList<>();
+        projectLicensesWithNull.add(null);
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getCompatibilitiesOf(componentBindings, projectLicensesWithNull, SupportedRedistributions.NONE);
+        });
+        // Empty bill of components
+        assertEquals(0, instance.getCompatibilitiesOf(componentBindings, projectLicenses, SupportedRedistributions.NONE).getCompatibilities().length);
+    }
+
+    /**
+     * Test of withPolicy method, of class LicensesCompatibilityFactory.
+     */
+    @Test
+    void testWithPolicy() {
+        System.out.println("withPolicy");
+        LicensesCompatibilityFactory instance = LicensesCompatibilityFactory.getInstance();
+        List<LicenseCompatibilityEntry> overrides1 = new ArrayList<>();
+        overrides1.add(new LicenseCompatibilityEntry(SupportedLicenses.MIT, SupportedLicenses.APACHE_2_0, SupportedCompatibilities.UNCOMPATIBLE, SupportedLinks.STATIC, SupportedRedistributions.NONE, null));
+        overrides1.add(new LicenseCompatibilityEntry(SupportedLicenses.MIT, SupportedLicenses.MIT, SupportedCompatibilities.UNKNOWN, SupportedLinks.STATIC, SupportedRedistributions.NONE, null));
+        List<LicenseCompatibilityEntry> overrides2 = new ArrayList<>();
+        overrides2.add(new LicenseCompatibilityEntry(SupportedLicenses.MIT, SupportedLicenses.MIT, SupportedCompatibilities.MOSTLY_UNCOMPATIBLE, SupportedLinks.STATIC, SupportedRedistributions.NONE, "A_WARNING"));
+        LicensesCompatibilityFactory withPolicies = instance.withPolicy(new LicensesCompatibilityPolicy("policy1", overrides1)).withPolicy(new LicensesCompatibilityPolicy("policy2", overrides2));
+        assertEquals(2, withPolicies.getPolicies().size());
+        assertEquals("policy2", withPolicies.getPolicies().get(1).getName());
+        // Overridden by the first policy
+        assertEquals(SupportedCompatibilities.UNCOMPATIBLE, withPolicies.getCompatibilityOf(SupportedLicenses.MIT, SupportedLicenses.APACHE_2_0, SupportedLinks.STATIC, SupportedRedistributions.NONE));
+        // Overridden by both policies. The last one wins
+        assertEquals(SupportedCompatibilities.MOSTLY_UNCOMPATIBLE, withPolicies.getCompatibilityOf(SupportedLicenses.MIT, SupportedLicenses.MIT, SupportedLinks.STATIC, SupportedRedistributions.NONE));
+        assertEquals("A_WARNING", withPolicies.getSpecificWarningKey(SupportedLicenses.MIT, SupportedLicenses.MIT, SupportedLinks.STATIC, SupportedRedistributions.NONE));
+        assertEquals(0L, withPolicies.getProjectLicensesMask(SupportedLicenses.MIT, SupportedLinks.STATIC, SupportedRedistributions.NONE, SupportedCompatibilities.MOSTLY_UNCOMPATIBLE) & ~(1L << SupportedLicenses.MIT.ordinal()));
+        // Not overridden
+        assertEquals(instance.getCompatibilityOf(SupportedLicenses.GPL_2_0_ONLY, SupportedLicenses.MIT, SupportedLinks.STATIC, SupportedRedistributions.NONE), withPolicies.getCompatibilityOf(SupportedLicenses.GPL_2_0_ONLY, SupportedLicenses.MIT, SupportedLinks.STATIC, SupportedRedistributions.NONE));
+        assertEquals(instance.getNumberOfSupportedCombinations(), withPolicies.getNumberOfSupportedCombinations());
+        // The original factory is not modified
+        assertTrue(instance.getPolicies().isEmpty());
+        assertEquals(SupportedCompatibilities.COMPATIBLE, instance.getCompatibilityOf(SupportedLicenses.MIT, SupportedLicenses.APACHE_2_0, SupportedLinks.STATIC, SupportedRedistributions.NONE));
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.withPolicy(null);
+        });
+    }
+
+    /**
+     * Test of getLoadedSlices method, of class LicensesCompatibilityFactory.
+     */
+    @Test
+    void testGetLoadedSlices() {
+        System.out.println("getLoadedSlices");
+        LicensesCompatibilityFactory instance = LicensesCompatibilityFactory.getInstance();
+        instance.getCompatibilityOf(SupportedLicenses.APACHE_2_0, SupportedLicenses.MIT, SupportedLinks.DYNAMIC, SupportedRedistributions.SOFTWARE_PACKAGE_OR_SAAS);
+        boolean found = false;
+        for (LicensesCompatibilitySlice slice : instance.getLoadedSlices()) {
+            if ((slice.getLink() == SupportedLinks.DYNAMIC) && (slice.getRedistribution() == SupportedRedistributions.SOFTWARE_PACKAGE_OR_SAAS)) {
+                found = true;
+            }
+        }
+        assertTrue(found);
+        // This loads every slice
+        instance.getNumberOfSupportedCombinations();
+        assertEquals(SupportedLinks.values().length * SupportedRedistributions.values().length, instance.getLoadedSlices().size());
+    }
+
     /**
      * Test of getNumberOfSupportedCombinations method, of class LicensesCompatibilityFactory.
      */
@@ -177,5 +382,56 @@ class LicensesCompatibilityFactoryTest {
         // of links.
         assertTrue(instance.getLicensesCoverage() >= 0.8f, "Not enough coverage. Before releasing OpenLRAE, be sure that at least 80% of compatibility coverage is reached.");
     }
-    
+
+    /**
+     * Test of getLicensesCoverage method, of class LicensesCompatibilityFactory.
+     */
+    @Test
+    void testGetLicensesCoveragePerSlice() {
+        System.out.println("getLicensesCoverage");
+        LicensesCompatibilityFactory instance = LicensesCompatibilityFactory.getInstance();
+        float coverage = 0.0f;
+        for (SupportedRedistributions redistribution : SupportedRedistributions.values()) {
+            for (SupportedLinks link : SupportedLinks.values()) {
+                float sliceCoverage = instance.getLicensesCoverage(link, redistribution);
+                assertTrue((sliceCoverage >= 0.0f) && (sliceCoverage <= 1.0f));
+                coverage += sliceCoverage;
+            }
+        }
+        // The global coverage is the average of the coverage of each slice
+        assertEquals(instance.getLicensesCoverage(), coverage / (SupportedLinks.values().length * SupportedRedistributions.values().length), 0.0001f);
+    }
+
+    /**
+     * Test of getSlice method, of class LicensesCompatibilityFactory.
+     */
+    @Test
+    void testGetSlice() {
+        System.out.println("getSlice");
+        LicensesCompatibilityFactory instance = LicensesCompatibilityFactory.getInstance();
+        LicensesCompatibilitySlice slice = instance.getSlice(SupportedLinks.DYNAMIC, SupportedRedistributions.NONE);
+        assertEquals(SupportedLinks.DYNAMIC, slice.getLink());
+        assertEquals(SupportedRedistributions.NONE, slice.getRedistribution());
+        // Slices are loaded once
+        assertSame(slice, instance.getSlice(SupportedLinks.DYNAMIC, SupportedRedistributions.NONE));
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getSlice(null, SupportedRedistributions.NONE);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getSlice(SupportedLinks.DYNAMIC, null);
+        });
+    }
+
+    /**
+     * Test of getCompatibilityGraph method, of class LicensesCompatibilityFactory.
+     */
+    @Test
+    void testGetCompatibilityGraph() {
+        System.out.println("getCompatibilityGraph");
+        LicensesCompatibilityFactory instance = LicensesCompatibilityFactory.getInstance();
+        assertNotNull(instance.getCompatibilityGraph());
+        // The graph is built once
+        assertSame(instance.getCompatibilityGraph(), instance.getCompatibilityGraph());
+    }
+
 }
@@ -0,0 +1,203 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.baseofknowledge.licenseproperties;
+
+import com.manolodominguez.openlrae.arquitecture.Component;
+import com.manolodominguez.openlrae.arquitecture.ComponentBinding;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedCompatibilities;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedComponentWeights;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRedistributions;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilityFactory;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilityGraph;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class LicensesCompatibilityGraphTest {
+
+    public LicensesCompatibilityGraphTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of constructor, of class LicensesCompatibilityGraph.
+     */
+    @Test
+    void testConstructorWhenFactoryIsNull() {
+        System.out.println("Constructor");
+        assertThrows(IllegalArgumentException.class, () -> {
+            new LicensesCompatibilityGraph(null);
+        });
+    }
+
+    /**
+     * Test of getCompatibleProjectLicensesMask method, of class
+     * LicensesCompatibilityGraph.
+     */
+    @Test
+    void testGetCompatibleProjectLicensesMask() {
+        System.out.println("getCompatibleProjectLicensesMask");
+        LicensesCompatibilityFactory factory = LicensesCompatibilityFactory.getInstance();
+        LicensesCompatibilityGraph instance = factory.getCompatibilityGraph();
+        for (SupportedRedistributions redistribution : SupportedRedistributions.values()) {
+            for (SupportedLinks link : SupportedLinks.values()) {
+                for (SupportedLicenses componentLicense : SupportedLicenses.getLicensesForComponents()) {
+                    long mask = instance.getCompatibleProjectLicensesMask(componentLicense, link, redistribution);
+                    for (SupportedLicenses projectLicense : SupportedLicenses.values()) {
+                        SupportedCompatibilities compatibility = factory.getCompatibilityOf(componentLicense, projectLicense, link, redistribution);
+                        boolean isEdge = (compatibility == SupportedCompatibilities.COMPATIBLE) || (compatibility == SupportedCompatibilities.FORCED_COMPATIBLE);
+                        assertEquals(isEdge, (mask & (1L << projectLicense.ordinal())) != 0L);
+                    }
+                }
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getCompatibleProjectLicensesMask(null, SupportedLinks.STATIC, SupportedRedistributions.NONE);
+        });
+    }
+
+    /**
+     * Test of getReachableLicensesMask method, of class
+     * LicensesCompatibilityGraph.
+     */
+    @Test
+    void testGetReachableLicensesMask() {
+        System.out.println("getReachableLicensesMask");
+        LicensesCompatibilityGraph instance = LicensesCompatibilityFactory.getInstance().getCompatibilityGraph();
+        for (SupportedRedistributions redistribution : SupportedRedistributions.values()) {
+            for (SupportedLinks link : SupportedLinks.values()) {
+                for (SupportedLicenses license : SupportedLicenses.values()) {
+                    long reachable = instance.getReachableLicensesMask(license, link, redistribution);
+                    long edges = instance.getCompatibleProjectLicensesMask(license, link, redistribution);
+                    // Direct edges are reachable
+                    assertEquals(edges, reachable & edges);
+                    // Reachability is transitive
+                    for (SupportedLicenses reachedLicense : LicensesCompatibilityGraph.getLicensesOf(reachable)) {
+                        long reachedFromReached = instance.getReachableLicensesMask(reachedLicense, link, redistribution);
+                        assertEquals(reachedFromReached, reachable & reachedFromReached);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Test of isReachable and getRelicensingPath methods, of class
+     * LicensesCompatibilityGraph.
+     */
+    @Test
+    void testGetRelicensingPath() {
+        System.out.println("getRelicensingPath");
+        LicensesCompatibilityGraph instance = LicensesCompatibilityFactory.getInstance().getCompatibilityGraph();
+        for (SupportedRedistributions redistribution : SupportedRedistributions.values()) {
+            for (SupportedLinks link : SupportedLinks.values()) {
+                for (SupportedLicenses fromLicense : SupportedLicenses.values()) {
+                    for (SupportedLicenses toLicense : SupportedLicenses.values()) {
+                        List<SupportedLicenses> path = instance.getRelicensingPath(fromLicense, toLicense, link, redistribution);
+                        if (instance.isReachable(fromLicense, toLicense, link, redistribution)) {
+                            assertTrue(path.size() >= 2);
+                            assertEquals(fromLicense, path.get(0));
+                            assertEquals(toLicense, path.get(path.size() - 1));
+                            for (int i = 1; i < path.size(); i++) {
+                                assertTrue((instance.getCompatibleProjectLicensesMask(path.get(i - 1), link, redistribution) & (1L << path.get(i).ordinal())) != 0L);
+                            }
+                        } else {
+                            assertTrue(path.isEmpty());
+                        }
+                    }
+                }
+            }
+        }
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.isReachable(SupportedLicenses.MIT, null, SupportedLinks.STATIC, SupportedRedistributions.NONE);
+        });
+    }
+
+    /**
+     * Test of getCompatibleProjectLicensesMask method, of class
+     * LicensesCompatibilityGraph, for a whole bill of components.
+     */
+    @Test
+    void testGetCompatibleProjectLicensesMaskOfComponentBindings() {
+        System.out.println("getCompatibleProjectLicensesMask");
+        LicensesCompatibilityFactory factory = LicensesCompatibilityFactory.getInstance();
+        LicensesCompatibilityGraph instance = factory.getCompatibilityGraph();
+        ComponentBinding componentBinding1 = new ComponentBinding(new Component("component1", "1.0", SupportedLicenses.LGPL_2_1_ONLY), SupportedLinks.STATIC, SupportedComponentWeights.HIGH);
+        ComponentBinding componentBinding2 = new ComponentBinding(new Component("component2", "1.0", SupportedLicenses.MIT), SupportedLinks.DYNAMIC, SupportedComponentWeights.HIGH);
+        List<ComponentBinding> componentBindings = new ArrayList<>();
+        componentBindings.add(componentBinding1);
+        componentBindings.add(componentBinding2);
+        long mask = instance.getCompatibleProjectLicensesMask(componentBindings, SupportedRedistributions.SOFTWARE_PACKAGE_OR_SAAS);
+        assertEquals(factory.getAllProjectLicensesMask() & instance.getCompatibleProjectLicensesMask(SupportedLicenses.LGPL_2_1_ONLY, SupportedLinks.STATIC, SupportedRedistributions.SOFTWARE_PACKAGE_OR_SAAS) & instance.getCompatibleProjectLicensesMask(SupportedLicenses.MIT, SupportedLinks.DYNAMIC, SupportedRedistributions.SOFTWARE_PACKAGE_OR_SAAS), mask);
+        // What if component1 were linked dynamically?
+        long relinkedMask = instance.getCompatibleProjectLicensesMask(componentBindings, SupportedRedistributions.SOFTWARE_PACKAGE_OR_SAAS, componentBinding1, SupportedLinks.DYNAMIC);
+        List<ComponentBinding> relinkedComponentBindings = new ArrayList<>();
+        relinkedComponentBindings.add(new ComponentBinding(new Component("component1", "1.0", SupportedLicenses.LGPL_2_1_ONLY), SupportedLinks.DYNAMIC, SupportedComponentWeights.HIGH));
+        relinkedComponentBindings.add(componentBinding2);
+        assertEquals(instance.getCompatibleProjectLicensesMask(relinkedComponentBindings, SupportedRedistributions.SOFTWARE_PACKAGE_OR_SAAS), relinkedMask);
+        // An empty bill of components is compatible with every project license
+        assertEquals(factory.getAllProjectLicensesMask(), instance.getCompatibleProjectLicensesMask(new ArrayList<>(), SupportedRedistributions.NONE));
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getCompatibleProjectLicensesMask(componentBindings, SupportedRedistributions.NONE, new ComponentBinding(new Component("component3", "1.0", SupportedLicenses.MIT), SupportedLinks.STATIC, SupportedComponentWeights.HIGH), SupportedLinks.DYNAMIC);
+        });
+    }
+
+    /**
+     * Test of getLicensesOf method, of class LicensesCompatibilityGraph.
+     */
+    @Test
+    void testGetLicensesOf() {
+        System.out.println("getLicensesOf");
+        List<SupportedLicenses> licenses = LicensesCompatibilityGraph.getLicensesOf((1L << SupportedLicenses.MIT.ordinal()) | (1L << SupportedLicenses.APACHE_2_0.ordinal()));
+        assertEquals(2, licenses.size());
+        assertTrue(licenses.contains(SupportedLicenses.MIT));
+        assertTrue(licenses.contains(SupportedLicenses.APACHE_2_0));
+        assertTrue(LicensesCompatibilityGraph.getLicensesOf(0L).isEmpty());
+    }
+}
@@ -0,0 +1,152 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.baseofknowledge.licenseproperties;
+
+import com.manolodominguez.openlrae.bok.basevalues.SupportedCompatibilities;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRedistributions;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilityFactory;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilityMatrix;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class LicensesCompatibilityMatrixTest {
+
+    public LicensesCompatibilityMatrixTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of constructor, of class LicensesCompatibilityMatrix.
+     */
+    @Test
+    void testConstructorWhenFactoryIsNull() {
+        System.out.println("Constructor");
+        assertThrows(IllegalArgumentException.class, () -> {
+            new LicensesCompatibilityMatrix(null);
+        });
+    }
+
+    /**
+     * Test of getMatrixAsCSVString method, of class
+     * LicensesCompatibilityMatrix.
+     */
+    @Test
+    void testGetMatrixAsCSVString() {
+        System.out.println("getMatrixAsCSVString");
+        LicensesCompatibilityFactory factory = LicensesCompatibilityFactory.getInstance();
+        LicensesCompatibilityMatrix instance = new LicensesCompatibilityMatrix(factory);
+        String[] lines = instance.getMatrixAsCSVString().split("\n");
+        assertEquals("componentlicense,projectlicense,link,redistribution,compatibility,specificwarningkey", lines[0]);
+        assertEquals(factory.getNumberOfSupportedCombinations() + 1, lines.length);
+        for (int i = 1; i < lines.length; i++) {
+            String[] fields = lines[i].split(",", -1);
+            assertEquals(6, fields.length);
+            SupportedLicenses componentLicense = SupportedLicenses.valueOf(fields[0]);
+            SupportedLicenses projectLicense = SupportedLicenses.valueOf(fields[1]);
+            SupportedLinks link = SupportedLinks.valueOf(fields[2]);
+            SupportedRedistributions redistribution = SupportedRedistributions.valueOf(fields[3]);
+            assertEquals(factory.getCompatibilityOf(componentLicense, projectLicense, link, redistribution), SupportedCompatibilities.valueOf(fields[4]));
+            assertEquals(factory.hasASpecificWarning(componentLicense, projectLicense, link, redistribution), !fields[5].isEmpty());
+        }
+    }
+
+    /**
+     * Test of getMatrixAsJSONArray method, of class
+     * LicensesCompatibilityMatrix.
+     */
+    @Test
+    void testGetMatrixAsJSONArray() {
+        System.out.println("getMatrixAsJSONArray");
+        LicensesCompatibilityFactory factory = LicensesCompatibilityFactory.getInstance();
+        LicensesCompatibilityMatrix instance = new LicensesCompatibilityMatrix(factory);
+        JSONArray compatibilities = instance.getMatrixAsJSONArray();
+        assertEquals(factory.getNumberOfSupportedCombinations(), compatibilities.length());
+        for (int i = 0; i < compatibilities.length(); i++) {
+            JSONObject compatibility = compatibilities.getJSONObject(i);
+            SupportedLicenses componentLicense = SupportedLicenses.valueOf(compatibility.getString("componentlicense"));
+            SupportedLicenses projectLicense = SupportedLicenses.valueOf(compatibility.getString("projectlicense"));
+            SupportedLinks link = SupportedLinks.valueOf(compatibility.getString("link"));
+            SupportedRedistributions redistribution = SupportedRedistributions.valueOf(compatibility.getString("redistribution"));
+            assertEquals(factory.getCompatibilityOf(componentLicense, projectLicense, link, redistribution), SupportedCompatibilities.valueOf(compatibility.getString("compatibility")));
+            assertEquals(factory.hasASpecificWarning(componentLicense, projectLicense, link, redistribution), compatibility.has("specificwarningkey"));
+        }
+        assertEquals(compatibilities.length(), new JSONArray(instance.getMatrixAsCompactJSONString()).length());
+        assertEquals(compatibilities.length(), new JSONArray(instance.getMatrixAsBeautifiedJSONString()).length());
+    }
+
+    /**
+     * Test of getMatrixAsCompactTable method, of class
+     * LicensesCompatibilityMatrix.
+     */
+    @Test
+    void testGetMatrixAsCompactTable() {
+        System.out.println("getMatrixAsCompactTable");
+        LicensesCompatibilityFactory factory = LicensesCompatibilityFactory.getInstance();
+        LicensesCompatibilityMatrix instance = new LicensesCompatibilityMatrix(factory);
+        String[] lines = instance.getMatrixAsCompactTable().split("\n");
+        SupportedLicenses[] componentLicenses = SupportedLicenses.getLicensesForComponents();
+        SupportedLicenses[] projectLicenses = SupportedLicenses.getLicensesForProjects();
+        assertEquals(SupportedRedistributions.values().length * SupportedLinks.values().length * (projectLicenses.length + 1), lines.length);
+        int line = 0;
+        for (SupportedRedistributions redistribution : SupportedRedistributions.values()) {
+            for (SupportedLinks link : SupportedLinks.values()) {
+                assertEquals("# " + link.toString() + " " + redistribution.toString(), lines[line++]);
+                for (SupportedLicenses projectLicense : projectLicenses) {
+                    String row = lines[line++];
+                    assertEquals(componentLicenses.length + 1 + projectLicense.toString().length(), row.length());
+                    assertTrue(row.endsWith(" " + projectLicense.toString()));
+                    for (int i = 0; i < componentLicenses.length; i++) {
+                        assertEquals(factory.getCompatibilityOf(componentLicenses[i], projectLicense, link, redistribution).ordinal(), Character.getNumericValue(row.charAt(i)));
+                    }
+                }
+            }
+        }
+    }
+}
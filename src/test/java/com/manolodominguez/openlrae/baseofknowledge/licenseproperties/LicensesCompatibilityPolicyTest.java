@@ -0,0 +1,147 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.baseofknowledge.licenseproperties;
+
+import com.manolodominguez.openlrae.bok.basevalues.SupportedCompatibilities;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRedistributions;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilityPolicy;
+import com.manolodominguez.openlrae.bok.licenseproperties.licensecompatibilities.LicenseCompatibilityEntry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class LicensesCompatibilityPolicyTest {
+
+    public LicensesCompatibilityPolicyTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of constructor, of class LicensesCompatibilityPolicy.
+     */
+    @Test
+    void testConstructorWhenArgumentsAreInvalid() {
+        System.out.println("Constructor");
+        assertThrows(IllegalArgumentException.class, () -> {
+            new LicensesCompatibilityPolicy(null, new ArrayList<>());
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new LicensesCompatibilityPolicy("", new ArrayList<>());
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new LicensesCompatibilityPolicy("policy", null);
+        });
+        List<LicenseCompatibilityEntry> overrides = new ArrayList<>();
+        overrides.add(null);
+        assertThrows(IllegalArgumentException.class, () -> {
+            new LicensesCompatibilityPolicy("policy", overrides);
+        });
+    }
+
+    /**
+     * Test of getName method, of class LicensesCompatibilityPolicy.
+     */
+    @Test
+    void testGetName() {
+        System.out.println("getName");
+        LicensesCompatibilityPolicy instance = new LicensesCompatibilityPolicy("policy", new ArrayList<>());
+        assertEquals("policy", instance.getName());
+    }
+
+    /**
+     * Test of getFingerprint method, of class LicensesCompatibilityPolicy.
+     */
+    @Test
+    void testGetFingerprint() {
+        System.out.println("getFingerprint");
+        List<LicenseCompatibilityEntry> overrides = new ArrayList<>();
+        overrides.add(new LicenseCompatibilityEntry(SupportedLicenses.MIT, SupportedLicenses.MIT, SupportedCompatibilities.UNCOMPATIBLE, SupportedLinks.STATIC, SupportedRedistributions.NONE, null));
+        overrides.add(new LicenseCompatibilityEntry(SupportedLicenses.MIT, SupportedLicenses.MIT, SupportedCompatibilities.UNKNOWN, SupportedLinks.DYNAMIC, SupportedRedistributions.NONE, "WARNING"));
+        LicensesCompatibilityPolicy instance = new LicensesCompatibilityPolicy("policy", overrides);
+        assertEquals(64, instance.getFingerprint().length());
+        // The name does not matter, the overrides do
+        assertEquals(instance.getFingerprint(), new LicensesCompatibilityPolicy("otherPolicy", overrides).getFingerprint());
+        List<LicenseCompatibilityEntry> otherOverrides = new ArrayList<>();
+        otherOverrides.add(new LicenseCompatibilityEntry(SupportedLicenses.MIT, SupportedLicenses.MIT, SupportedCompatibilities.UNCOMPATIBLE, SupportedLinks.STATIC, SupportedRedistributions.NONE, null));
+        otherOverrides.add(new LicenseCompatibilityEntry(SupportedLicenses.MIT, SupportedLicenses.MIT, SupportedCompatibilities.UNKNOWN, SupportedLinks.DYNAMIC, SupportedRedistributions.NONE, null));
+        assertNotEquals(instance.getFingerprint(), new LicensesCompatibilityPolicy("policy", otherOverrides).getFingerprint());
+        // The order does matter, as the last override of a combination wins
+        List<LicenseCompatibilityEntry> reversedOverrides = new ArrayList<>();
+        reversedOverrides.add(overrides.get(1));
+        reversedOverrides.add(overrides.get(0));
+        assertNotEquals(instance.getFingerprint(), new LicensesCompatibilityPolicy("policy", reversedOverrides).getFingerprint());
+        assertNotEquals(instance.getFingerprint(), new LicensesCompatibilityPolicy("policy", new ArrayList<>()).getFingerprint());
+    }
+
+    /**
+     * Test of getOverrides method, of class LicensesCompatibilityPolicy.
+     */
+    @Test
+    void testGetOverrides() {
+        System.out.println("getOverrides");
+        List<LicenseCompatibilityEntry> overrides = new ArrayList<>();
+        overrides.add(new LicenseCompatibilityEntry(SupportedLicenses.MIT, SupportedLicenses.MIT, SupportedCompatibilities.UNCOMPATIBLE, SupportedLinks.STATIC, SupportedRedistributions.NONE, null));
+        overrides.add(new LicenseCompatibilityEntry(SupportedLicenses.MIT, SupportedLicenses.MIT, SupportedCompatibilities.UNKNOWN, SupportedLinks.DYNAMIC, SupportedRedistributions.NONE, null));
+        overrides.add(new LicenseCompatibilityEntry(SupportedLicenses.MIT, SupportedLicenses.MIT, SupportedCompatibilities.MOSTLY_COMPATIBLE, SupportedLinks.STATIC, SupportedRedistributions.NONE, null));
+        LicensesCompatibilityPolicy instance = new LicensesCompatibilityPolicy("policy", overrides);
+        assertEquals(3, instance.getOverrides().size());
+        List<LicenseCompatibilityEntry> sliceOverrides = instance.getOverrides(SupportedLinks.STATIC, SupportedRedistributions.NONE);
+        // The last ones first
+        assertEquals(2, sliceOverrides.size());
+        assertEquals(SupportedCompatibilities.MOSTLY_COMPATIBLE, sliceOverrides.get(0).getCompatibility());
+        assertEquals(SupportedCompatibilities.UNCOMPATIBLE, sliceOverrides.get(1).getCompatibility());
+        assertTrue(instance.getOverrides(SupportedLinks.STATIC, SupportedRedistributions.SOFTWARE_PACKAGE_OR_SAAS).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getOverrides(null, SupportedRedistributions.NONE);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getOverrides(SupportedLinks.STATIC, null);
+        });
+    }
+}
@@ -0,0 +1,137 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.baseofknowledge.licenseproperties;
+
+import com.manolodominguez.openlrae.bok.basevalues.SupportedCompatibilities;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRedistributions;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilitySlice;
+import com.manolodominguez.openlrae.bok.licenseproperties.licensecompatibilities.LicenseCompatibilityEntry;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class LicensesCompatibilitySliceTest {
+
+    public LicensesCompatibilitySliceTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of constructor, of class LicensesCompatibilitySlice.
+     */
+    @Test
+    void testConstructor() {
+        System.out.println("Constructor");
+        List<LicenseCompatibilityEntry> compatibilities = new ArrayList<>();
+        compatibilities.add(new LicenseCompatibilityEntry(SupportedLicenses.APACHE_2_0, SupportedLicenses.MIT, SupportedCompatibilities.COMPATIBLE, SupportedLinks.STATIC, SupportedRedistributions.NONE, null));
+        // Duplicated. The first one wins
+        compatibilities.add(new LicenseCompatibilityEntry(SupportedLicenses.APACHE_2_0, SupportedLicenses.MIT, SupportedCompatibilities.UNCOMPATIBLE, SupportedLinks.STATIC, SupportedRedistributions.NONE, null));
+        // Other slice. Ignored
+        compatibilities.add(new LicenseCompatibilityEntry(SupportedLicenses.APACHE_2_0, SupportedLicenses.MIT, SupportedCompatibilities.UNCOMPATIBLE, SupportedLinks.DYNAMIC, SupportedRedistributions.NONE, null));
+        LicensesCompatibilitySlice instance = new LicensesCompatibilitySlice(SupportedLinks.STATIC, SupportedRedistributions.NONE, compatibilities);
+        assertEquals(SupportedLinks.STATIC, instance.getLink());
+        assertEquals(SupportedRedistributions.NONE, instance.getRedistribution());
+        assertEquals(1, instance.getNumberOfSupportedCombinations());
+        assertEquals(1, instance.getCompatibilities().size());
+        assertEquals(SupportedCompatibilities.COMPATIBLE, instance.lookup(SupportedLicenses.APACHE_2_0, SupportedLicenses.MIT).getCompatibility());
+        assertNull(instance.lookup(SupportedLicenses.MIT, SupportedLicenses.APACHE_2_0));
+    }
+
+    /**
+     * Test of constructor, of class LicensesCompatibilitySlice.
+     */
+    @Test
+    void testConstructorWhenArgumentsAreNull() {
+        System.out.println("Constructor");
+        assertThrows(IllegalArgumentException.class, () -> {
+            new LicensesCompatibilitySlice(null, SupportedRedistributions.NONE, new ArrayList<>());
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new LicensesCompatibilitySlice(SupportedLinks.STATIC, null, new ArrayList<>());
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new LicensesCompatibilitySlice(SupportedLinks.STATIC, SupportedRedistributions.NONE, null);
+        });
+    }
+
+    /**
+     * Test of getProjectLicensesMask method, of class LicensesCompatibilitySlice.
+     */
+    @Test
+    void testGetProjectLicensesMask() {
+        System.out.println("getProjectLicensesMask");
+        List<LicenseCompatibilityEntry> compatibilities = new ArrayList<>();
+        compatibilities.add(new LicenseCompatibilityEntry(SupportedLicenses.APACHE_2_0, SupportedLicenses.MIT, SupportedCompatibilities.COMPATIBLE, SupportedLinks.STATIC, SupportedRedistributions.NONE, null));
+        LicensesCompatibilitySlice instance = new LicensesCompatibilitySlice(SupportedLinks.STATIC, SupportedRedistributions.NONE, compatibilities);
+        assertEquals(1L << SupportedLicenses.MIT.ordinal(), instance.getProjectLicensesMask(SupportedLicenses.APACHE_2_0, SupportedCompatibilities.COMPATIBLE));
+        // The rest of project licenses are unsupported
+        assertEquals(SupportedLicenses.getLicensesForProjects().length - 1, Long.bitCount(instance.getProjectLicensesMask(SupportedLicenses.APACHE_2_0, SupportedCompatibilities.UNSUPPORTED)));
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getProjectLicensesMask(null, SupportedCompatibilities.COMPATIBLE);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getProjectLicensesMask(SupportedLicenses.APACHE_2_0, null);
+        });
+    }
+
+    /**
+     * Test of lookup method, of class LicensesCompatibilitySlice.
+     */
+    @Test
+    void testLookupWhenArgumentsAreNull() {
+        System.out.println("lookup");
+        LicensesCompatibilitySlice instance = new LicensesCompatibilitySlice(SupportedLinks.STATIC, SupportedRedistributions.NONE, new ArrayList<>());
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.lookup(null, SupportedLicenses.MIT);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.lookup(SupportedLicenses.MIT, null);
+        });
+    }
+}
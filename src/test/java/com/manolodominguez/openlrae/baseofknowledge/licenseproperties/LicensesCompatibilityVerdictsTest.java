@@ -0,0 +1,129 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.baseofknowledge.licenseproperties;
+
+import com.manolodominguez.openlrae.arquitecture.Component;
+import com.manolodominguez.openlrae.arquitecture.ComponentBinding;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedComponentWeights;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRedistributions;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilityFactory;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilityVerdicts;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class LicensesCompatibilityVerdictsTest {
+
+    public LicensesCompatibilityVerdictsTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of all query methods, of class LicensesCompatibilityVerdicts.
+     */
+    @Test
+    void testVerdicts() {
+        System.out.println("verdicts");
+        LicensesCompatibilityFactory factory = LicensesCompatibilityFactory.getInstance();
+        List<ComponentBinding> componentBindings = new ArrayList<>();
+        for (SupportedLicenses license : SupportedLicenses.getLicensesForComponents()) {
+            for (SupportedLinks link : SupportedLinks.values()) {
+                componentBindings.add(new ComponentBinding(new Component("component", "1.0", license), link, SupportedComponentWeights.HIGH));
+            }
+        }
+        List<SupportedLicenses> projectLicenses = new ArrayList<>();
+        projectLicenses.add(SupportedLicenses.GPL_2_0_ONLY);
+        projectLicenses.add(SupportedLicenses.APACHE_2_0);
+        projectLicenses.add(SupportedLicenses.LGPL_2_1_OR_LATER);
+        for (SupportedRedistributions redistribution : SupportedRedistributions.values()) {
+            LicensesCompatibilityVerdicts instance = factory.getCompatibilitiesOf(componentBindings, projectLicenses, redistribution);
+            assertEquals(componentBindings.size(), instance.getNumberOfComponentBindings());
+            assertEquals(projectLicenses.size(), instance.getNumberOfProjectLicenses());
+            assertEquals(componentBindings.size() * projectLicenses.size(), instance.getCompatibilities().length);
+            for (int i = 0; i < componentBindings.size(); i++) {
+                for (int j = 0; j < projectLicenses.size(); j++) {
+                    ComponentBinding componentBinding = componentBindings.get(i);
+                    assertEquals(factory.getCompatibilityOf(componentBinding.getComponent().getLicense(), projectLicenses.get(j), componentBinding.getLinkType(), redistribution), instance.getCompatibility(i, j));
+                    assertEquals(instance.getCompatibility(i, j).ordinal(), instance.getCompatibilities()[(i * projectLicenses.size()) + j]);
+                    boolean hasSpecificWarning = factory.hasASpecificWarning(componentBinding.getComponent().getLicense(), projectLicenses.get(j), componentBinding.getLinkType(), redistribution);
+                    assertEquals(hasSpecificWarning, instance.hasSpecificWarning(i, j));
+                    assertEquals(hasSpecificWarning, instance.getSpecificWarnings().get((i * projectLicenses.size()) + j));
+                    if (hasSpecificWarning) {
+                        assertEquals(factory.getSpecificWarningKey(componentBinding.getComponent().getLicense(), projectLicenses.get(j), componentBinding.getLinkType(), redistribution), instance.getSpecificWarningKey(i, j));
+                    } else {
+                        final int row = i;
+                        final int column = j;
+                        assertThrows(IllegalStateException.class, () -> {
+                            instance.getSpecificWarningKey(row, column);
+                        });
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Test of getCompatibility method, of class LicensesCompatibilityVerdicts.
+     */
+    @Test
+    void testGetCompatibilityWhenOutOfRange() {
+        System.out.println("getCompatibility");
+        List<ComponentBinding> componentBindings = new ArrayList<>();
+        componentBindings.add(new ComponentBinding(new Component("component", "1.0", SupportedLicenses.MIT), SupportedLinks.STATIC, SupportedComponentWeights.HIGH));
+        List<SupportedLicenses> projectLicenses = new ArrayList<>();
+        projectLicenses.add(SupportedLicenses.MIT);
+        LicensesCompatibilityVerdicts instance = LicensesCompatibilityFactory.getInstance().getCompatibilitiesOf(componentBindings, projectLicenses, SupportedRedistributions.NONE);
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getCompatibility(1, 0);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getCompatibility(0, -1);
+        });
+    }
+}
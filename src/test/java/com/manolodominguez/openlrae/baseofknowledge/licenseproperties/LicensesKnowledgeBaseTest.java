@@ -0,0 +1,301 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.baseofknowledge.licenseproperties;
+
+import com.manolodominguez.openlrae.bok.basevalues.SupportedCompatibilities;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedObsolescences;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRedistributions;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedSpreadings;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedTrends;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilityFactory;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesCompatibilityPolicy;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesKnowledgeBase;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesObsolescencesFactory;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesSpreadingFactory;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesTrendFactory;
+import com.manolodominguez.openlrae.bok.licenseproperties.licensecompatibilities.LicenseCompatibilityEntry;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class LicensesKnowledgeBaseTest {
+
+    public LicensesKnowledgeBaseTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+        // Other tests expect the built-in knowledge base
+        LicensesKnowledgeBase.setCurrent(LicensesKnowledgeBase.getBuiltIn());
+    }
+
+    /**
+     * Test of getBuiltIn method, of class LicensesKnowledgeBase.
+     */
+    @Test
+    void testGetBuiltIn() {
+        System.out.println("getBuiltIn");
+        LicensesKnowledgeBase instance1 = LicensesKnowledgeBase.getBuiltIn();
+        LicensesKnowledgeBase instance2 = LicensesKnowledgeBase.getBuiltIn();
+        assertSame(instance1, instance2);
+        assertEquals("built-in", instance1.getVersion());
+    }
+
+    /**
+     * Test of getCurrent method, of class LicensesKnowledgeBase.
+     */
+    @Test
+    void testGetCurrent() {
+        System.out.println("getCurrent");
+        assertSame(LicensesKnowledgeBase.getBuiltIn(), LicensesKnowledgeBase.getCurrent());
+        assertSame(LicensesKnowledgeBase.getCurrent().getLicensesCompatibilityFactory(), LicensesCompatibilityFactory.getInstance());
+        assertSame(LicensesKnowledgeBase.getCurrent().getLicensesObsolescencesFactory(), LicensesObsolescencesFactory.getInstance());
+        assertSame(LicensesKnowledgeBase.getCurrent().getLicensesTrendFactory(), LicensesTrendFactory.getInstance());
+        assertSame(LicensesKnowledgeBase.getCurrent().getLicensesSpreadingFactory(), LicensesSpreadingFactory.getInstance());
+    }
+
+    /**
+     * Test of setCurrent method, of class LicensesKnowledgeBase.
+     */
+    @Test
+    void testSetCurrent() {
+        System.out.println("setCurrent");
+        // An analysis gets the factory before the swap...
+        LicensesObsolescencesFactory inFlight = LicensesObsolescencesFactory.getInstance();
+        LicensesKnowledgeBase instance = new LicensesKnowledgeBase(KNOWLEDGE_BASE);
+        LicensesKnowledgeBase previous = LicensesKnowledgeBase.setCurrent(instance);
+        assertSame(LicensesKnowledgeBase.getBuiltIn(), previous);
+        assertSame(instance, LicensesKnowledgeBase.getCurrent());
+        // ... and keeps reading the old snapshot, while new analyses get the
+        // new one.
+        assertEquals(SupportedObsolescences.UPDATED, inFlight.getObsolescenceOf(SupportedLicenses.MIT));
+        assertEquals(SupportedObsolescences.OUTDATED, LicensesObsolescencesFactory.getInstance().getObsolescenceOf(SupportedLicenses.MIT));
+        assertThrows(IllegalArgumentException.class, () -> {
+            LicensesKnowledgeBase.setCurrent(null);
+        });
+    }
+
+    /**
+     * Test of withCompatibilityPolicy method, of class LicensesKnowledgeBase.
+     */
+    @Test
+    void testWithCompatibilityPolicy() {
+        System.out.println("withCompatibilityPolicy");
+        List<LicenseCompatibilityEntry> overrides = new ArrayList<>();
+        overrides.add(new LicenseCompatibilityEntry(SupportedLicenses.MIT, SupportedLicenses.APACHE_2_0, SupportedCompatibilities.UNCOMPATIBLE, SupportedLinks.STATIC, SupportedRedistributions.NONE, null));
+        LicensesKnowledgeBase builtIn = LicensesKnowledgeBase.getBuiltIn();
+        LicensesKnowledgeBase instance = builtIn.withCompatibilityPolicy(new LicensesCompatibilityPolicy("legal", overrides));
+        assertEquals("built-in+legal@" + new LicensesCompatibilityPolicy("legal", overrides).getFingerprint(), instance.getVersion());
+        // Same name, different overrides
+        List<LicenseCompatibilityEntry> otherOverrides = new ArrayList<>();
+        otherOverrides.add(new LicenseCompatibilityEntry(SupportedLicenses.MIT, SupportedLicenses.APACHE_2_0, SupportedCompatibilities.UNKNOWN, SupportedLinks.STATIC, SupportedRedistributions.NONE, null));
+        assertNotEquals(instance.getVersion(), builtIn.withCompatibilityPolicy(new LicensesCompatibilityPolicy("legal", otherOverrides)).getVersion());
+        // Same name, same overrides
+        assertEquals(instance.getVersion(), builtIn.withCompatibilityPolicy(new LicensesCompatibilityPolicy("legal", overrides)).getVersion());
+        assertEquals(SupportedCompatibilities.UNCOMPATIBLE, instance.getLicensesCompatibilityFactory().getCompatibilityOf(SupportedLicenses.MIT, SupportedLicenses.APACHE_2_0, SupportedLinks.STATIC, SupportedRedistributions.NONE));
+        assertSame(builtIn.getLicensesTrendFactory(), instance.getLicensesTrendFactory());
+        // Not in use until setCurrent(...) is called
+        assertSame(builtIn, LicensesKnowledgeBase.getCurrent());
+        assertThrows(IllegalArgumentException.class, () -> {
+            builtIn.withCompatibilityPolicy(null);
+        });
+    }
+
+    /**
+     * Test of getFingerprint method, of class LicensesKnowledgeBase.
+     */
+    @Test
+    void testGetFingerprint() {
+        System.out.println("getFingerprint");
+        LicensesKnowledgeBase instance = new LicensesKnowledgeBase("{\"version\": \"2026.2\", \"trends\": {\"MIT\": \"TRENDY\"}, \"spreadings\": {\"MIT\": \"LITTLE_WIDESPREAD\"}}");
+        assertEquals(64, instance.getFingerprint().length());
+        // The order of the keys does not matter
+        assertEquals(instance.getFingerprint(), new LicensesKnowledgeBase("{\"spreadings\": {\"MIT\": \"LITTLE_WIDESPREAD\"}, \"trends\": {\"MIT\": \"TRENDY\"}, \"version\": \"2026.2\"}").getFingerprint());
+        // The content does, even if the version is the same
+        assertNotEquals(instance.getFingerprint(), new LicensesKnowledgeBase("{\"version\": \"2026.2\", \"trends\": {\"MIT\": \"UNFASHIONABLE\"}, \"spreadings\": {\"MIT\": \"LITTLE_WIDESPREAD\"}}").getFingerprint());
+        assertNotEquals(instance.getFingerprint(), LicensesKnowledgeBase.getBuiltIn().getFingerprint());
+        // Policies change the fingerprint of the knowledge base they are
+        // applied to
+        LicensesCompatibilityPolicy policy = new LicensesCompatibilityPolicy("legal", new ArrayList<>());
+        assertNotEquals(instance.getFingerprint(), instance.withCompatibilityPolicy(policy).getFingerprint());
+        assertEquals(instance.withCompatibilityPolicy(policy).getFingerprint(), instance.withCompatibilityPolicy(policy).getFingerprint());
+        assertNotEquals(instance.withCompatibilityPolicy(policy).getFingerprint(), LicensesKnowledgeBase.getBuiltIn().withCompatibilityPolicy(policy).getFingerprint());
+    }
+
+    /**
+     * Test of constructor, of class LicensesKnowledgeBase.
+     */
+    @Test
+    void testConstructorFromJSONString() {
+        System.out.println("Constructor");
+        LicensesKnowledgeBase instance = new LicensesKnowledgeBase(KNOWLEDGE_BASE);
+        assertEquals("2026.1", instance.getVersion());
+        LicensesCompatibilityFactory compatibilities = instance.getLicensesCompatibilityFactory();
+        assertEquals(1, compatibilities.getNumberOfSupportedCombinations());
+        assertEquals(SupportedCompatibilities.UNCOMPATIBLE, compatibilities.getCompatibilityOf(SupportedLicenses.MIT, SupportedLicenses.APACHE_2_0, SupportedLinks.STATIC, SupportedRedistributions.NONE));
+        assertEquals("A_WARNING", compatibilities.getSpecificWarningKey(SupportedLicenses.MIT, SupportedLicenses.APACHE_2_0, SupportedLinks.STATIC, SupportedRedistributions.NONE));
+        assertEquals(SupportedCompatibilities.UNSUPPORTED, compatibilities.getCompatibilityOf(SupportedLicenses.MIT, SupportedLicenses.MIT, SupportedLinks.STATIC, SupportedRedistributions.NONE));
+        // Overridden values
+        assertEquals(SupportedObsolescences.OUTDATED, instance.getLicensesObsolescencesFactory().getObsolescenceOf(SupportedLicenses.MIT));
+        assertEquals(SupportedTrends.UNFASHIONABLE, instance.getLicensesTrendFactory().getTrendOf(SupportedLicenses.MIT));
+        assertEquals(SupportedObsolescences.OUTDATED, instance.getLicensesProfiles().getObsolescenceOf(SupportedLicenses.MIT));
+        assertEquals(SupportedTrends.UNFASHIONABLE.getTrendValue(), instance.getLicensesProfiles().getTrendValueOf(SupportedLicenses.MIT));
+        // Built-in values
+        assertEquals(LicensesKnowledgeBase.getBuiltIn().getLicensesObsolescencesFactory().getObsolescenceOf(SupportedLicenses.GPL_2_0_ONLY), instance.getLicensesObsolescencesFactory().getObsolescenceOf(SupportedLicenses.GPL_2_0_ONLY));
+        assertEquals(LicensesKnowledgeBase.getBuiltIn().getLicensesSpreadingFactory().getSpreadingOf(SupportedLicenses.MIT), instance.getLicensesSpreadingFactory().getSpreadingOf(SupportedLicenses.MIT));
+    }
+
+    /**
+     * Test of constructor, of class LicensesKnowledgeBase.
+     */
+    @Test
+    void testConstructorFromJSONStringWithoutCompatibilities() {
+        System.out.println("Constructor");
+        LicensesKnowledgeBase instance = new LicensesKnowledgeBase("{\"version\": \"2026.2\", \"spreadings\": {\"MIT\": \"LITTLE_WIDESPREAD\"}}");
+        assertSame(LicensesKnowledgeBase.getBuiltIn().getLicensesCompatibilityFactory(), instance.getLicensesCompatibilityFactory());
+        assertEquals(SupportedSpreadings.LITTLE_WIDESPREAD, instance.getLicensesSpreadingFactory().getSpreadingOf(SupportedLicenses.MIT));
+    }
+
+    /**
+     * Test of constructor, of class LicensesKnowledgeBase.
+     */
+    @Test
+    void testConstructorFromJSONStringWhenInvalid() {
+        System.out.println("Constructor");
+        assertThrows(IllegalArgumentException.class, () -> {
+            new LicensesKnowledgeBase((String) null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new LicensesKnowledgeBase("");
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new LicensesKnowledgeBase("This is not JSON");
+        });
+        // No version
+        assertThrows(IllegalArgumentException.class, () -> {
+            new LicensesKnowledgeBase("{\"trends\": {\"MIT\": \"TRENDY\"}}");
+        });
+        // Unknown license
+        assertThrows(IllegalArgumentException.class, () -> {
+            new LicensesKnowledgeBase("{\"version\": \"1\", \"trends\": {\"WTFPL\": \"TRENDY\"}}");
+        });
+        // Ficticious license used as project license
+        assertThrows(IllegalArgumentException.class, () -> {
+            new LicensesKnowledgeBase("{\"version\": \"1\", \"compatibilities\": [{\"componentlicense\": \"MIT\", \"projectlicense\": \"UNDEFINED\", \"link\": \"STATIC\", \"redistribution\": \"NONE\", \"compatibility\": \"COMPATIBLE\"}]}");
+        });
+    }
+
+    /**
+     * Test of constructor, of class LicensesKnowledgeBase.
+     */
+    @Test
+    void testConstructorFromURL() throws IOException {
+        System.out.println("Constructor");
+        File file = File.createTempFile("knowledgebase", ".json");
+        file.deleteOnExit();
+        Files.write(file.toPath(), KNOWLEDGE_BASE.getBytes(StandardCharsets.UTF_8));
+        LicensesKnowledgeBase instance = new LicensesKnowledgeBase(file.toURI().toURL());
+        assertEquals("2026.1", instance.getVersion());
+        assertThrows(IllegalArgumentException.class, () -> {
+            new LicensesKnowledgeBase((URL) null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new LicensesKnowledgeBase(new File(file.getPath() + ".missing").toURI().toURL());
+        });
+    }
+
+    /**
+     * Test of constructor, of class LicensesKnowledgeBase, closing the stream
+     * it reads the knowledge base from.
+     */
+    @Test
+    void testConstructorFromURLClosesStream() throws IOException {
+        System.out.println("Constructor");
+        AtomicInteger numberOfClosedStreams = new AtomicInteger();
+        URL knowledgeBaseURL = new URL(null, "test:knowledgebase", new URLStreamHandler() {
+            @Override
+            protected URLConnection openConnection(URL url) {
+                return new URLConnection(url) {
+                    @Override
+                    public void connect() {
+                    }
+
+                    @Override
+                    public InputStream getInputStream() {
+                        return new ByteArrayInputStream(KNOWLEDGE_BASE.getBytes(StandardCharsets.UTF_8)) {
+                            @Override
+                            public void close() throws IOException {
+                                numberOfClosedStreams.incrementAndGet();
+                                super.close();
+                            }
+                        };
+                    }
+                };
+            }
+        });
+        for (int i = 1; i <= 3; i++) {
+            assertEquals("2026.1", new LicensesKnowledgeBase(knowledgeBaseURL).getVersion());
+            assertEquals(i, numberOfClosedStreams.get());
+        }
+    }
+
+    private static final String KNOWLEDGE_BASE = "{"
+            + "\"version\": \"2026.1\","
+            + "\"compatibilities\": [{\"componentlicense\": \"MIT\", \"projectlicense\": \"APACHE_2_0\", \"link\": \"STATIC\", \"redistribution\": \"NONE\", \"compatibility\": \"UNCOMPATIBLE\", \"specificwarningkey\": \"A_WARNING\"}],"
+            + "\"obsolescences\": {\"MIT\": \"OUTDATED\"},"
+            + "\"trends\": {\"MIT\": \"UNFASHIONABLE\"}"
+            + "}";
+}
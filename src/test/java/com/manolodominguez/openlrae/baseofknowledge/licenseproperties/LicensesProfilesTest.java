@@ -0,0 +1,115 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.baseofknowledge.licenseproperties;
+
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesKnowledgeBase;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesObsolescencesFactory;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesProfiles;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesSpreadingFactory;
+import com.manolodominguez.openlrae.bok.licenseproperties.LicensesTrendFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class LicensesProfilesTest {
+
+    public LicensesProfilesTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of getInstance method, of class LicensesProfiles.
+     */
+    @Test
+    void testGetInstance() {
+        System.out.println("getInstance");
+        assertSame(LicensesKnowledgeBase.getCurrent().getLicensesProfiles(), LicensesProfiles.getInstance());
+    }
+
+    /**
+     * Test of all getters, of class LicensesProfiles.
+     */
+    @Test
+    void testGetters() {
+        System.out.println("getters");
+        LicensesProfiles instance = LicensesProfiles.getInstance();
+        for (SupportedLicenses license : SupportedLicenses.values()) {
+            assertEquals(LicensesObsolescencesFactory.getInstance().getObsolescenceOf(license), instance.getObsolescenceOf(license));
+            assertEquals(LicensesObsolescencesFactory.getInstance().getObsolescenceOf(license).getObsolescenceValue(), instance.getObsolescenceValueOf(license));
+            assertEquals(LicensesTrendFactory.getInstance().getTrendOf(license), instance.getTrendOf(license));
+            assertEquals(LicensesTrendFactory.getInstance().getTrendOf(license).getTrendValue(), instance.getTrendValueOf(license));
+            assertEquals(LicensesSpreadingFactory.getInstance().getSpreadingOf(license), instance.getSpreadingOf(license));
+            assertEquals(LicensesSpreadingFactory.getInstance().getSpreadingOf(license).getSpreadingValue(), instance.getSpreadingValueOf(license));
+        }
+    }
+
+    /**
+     * Test of all getters, of class LicensesProfiles.
+     */
+    @Test
+    void testGettersWhenLicenseIsNull() {
+        System.out.println("getters");
+        LicensesProfiles instance = LicensesProfiles.getInstance();
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getObsolescenceOf(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getObsolescenceValueOf(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getTrendOf(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getTrendValueOf(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getSpreadingOf(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getSpreadingValueOf(null);
+        });
+    }
+}
@@ -0,0 +1,199 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.baseofknowledge.licenseproperties.licensecompatibilities;
+
+import com.manolodominguez.openlrae.bok.basevalues.SupportedCompatibilities;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedRedistributions;
+import com.manolodominguez.openlrae.bok.licenseproperties.licensecompatibilities.LicenseCompatibilityEntry;
+import com.manolodominguez.openlrae.bok.licenseproperties.licensecompatibilities.PrecompiledCompatibilities;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class PrecompiledCompatibilitiesTest {
+
+    public PrecompiledCompatibilitiesTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of getInstance method, of class PrecompiledCompatibilities.
+     */
+    @Test
+    void testGetInstance() {
+        System.out.println("getInstance");
+        PrecompiledCompatibilities instance1 = PrecompiledCompatibilities.getInstance();
+        PrecompiledCompatibilities instance2 = PrecompiledCompatibilities.getInstance();
+        assertSame(instance1, instance2);
+    }
+
+    /**
+     * Test of getCompatibilities method, of class PrecompiledCompatibilities.
+     */
+    @Test
+    void testGetCompatibilities() {
+        System.out.println("getCompatibilities");
+        PrecompiledCompatibilities instance = PrecompiledCompatibilities.getInstance();
+        // Whether precompiled or not, the base of knowledge has to be the one
+        // defined in subfactories.
+        assertEquals(toStrings(PrecompiledCompatibilities.getCompatibilitiesFromSubfactories()), toStrings(instance.getCompatibilities()));
+    }
+
+    /**
+     * Test of getCompatibilities method, of class PrecompiledCompatibilities.
+     */
+    @Test
+    void testGetCompatibilitiesOfASlice() {
+        System.out.println("getCompatibilities");
+        PrecompiledCompatibilities instance = PrecompiledCompatibilities.getInstance();
+        int numberOfCompatibilities = 0;
+        for (SupportedRedistributions redistribution : SupportedRedistributions.values()) {
+            for (SupportedLinks link : SupportedLinks.values()) {
+                for (LicenseCompatibilityEntry entry : instance.getCompatibilities(link, redistribution)) {
+                    assertEquals(link, entry.getLink());
+                    assertEquals(redistribution, entry.getRedistribution());
+                    numberOfCompatibilities++;
+                }
+            }
+        }
+        assertEquals(instance.getCompatibilities().size(), numberOfCompatibilities);
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getCompatibilities(null, SupportedRedistributions.NONE);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getCompatibilities(SupportedLinks.STATIC, null);
+        });
+    }
+
+    /**
+     * Test of isPrecompiled method, of class PrecompiledCompatibilities.
+     */
+    @Test
+    void testIsPrecompiled() {
+        System.out.println("isPrecompiled");
+        // The binary resource is generated by the build before running tests
+        assertTrue(PrecompiledCompatibilities.getInstance().isPrecompiled());
+    }
+
+    /**
+     * Test of write and read methods, of class PrecompiledCompatibilities.
+     */
+    @Test
+    void testWriteAndRead() throws IOException {
+        System.out.println("write/read");
+        List<LicenseCompatibilityEntry> compatibilities = PrecompiledCompatibilities.getCompatibilitiesFromSubfactories();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        PrecompiledCompatibilities.write(compatibilities, outputStream);
+        List<LicenseCompatibilityEntry> readCompatibilities = PrecompiledCompatibilities.read(new ByteArrayInputStream(outputStream.toByteArray()));
+        assertEquals(compatibilities.size(), readCompatibilities.size());
+        assertEquals(toStrings(compatibilities), toStrings(readCompatibilities));
+    }
+
+    /**
+     * Test of write method, of class PrecompiledCompatibilities.
+     */
+    @Test
+    void testWriteWhenCombinationIsDuplicated() throws IOException {
+        System.out.println("write");
+        List<LicenseCompatibilityEntry> compatibilities = new ArrayList<>();
+        compatibilities.add(new LicenseCompatibilityEntry(SupportedLicenses.APACHE_2_0, SupportedLicenses.MIT, SupportedCompatibilities.COMPATIBLE, SupportedLinks.STATIC, SupportedRedistributions.NONE, "WARNING"));
+        compatibilities.add(new LicenseCompatibilityEntry(SupportedLicenses.APACHE_2_0, SupportedLicenses.MIT, SupportedCompatibilities.UNCOMPATIBLE, SupportedLinks.STATIC, SupportedRedistributions.NONE, null));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        PrecompiledCompatibilities.write(compatibilities, outputStream);
+        List<LicenseCompatibilityEntry> readCompatibilities = PrecompiledCompatibilities.read(new ByteArrayInputStream(outputStream.toByteArray()));
+        // The first one wins
+        assertEquals(1, readCompatibilities.size());
+        assertEquals(SupportedCompatibilities.COMPATIBLE, readCompatibilities.get(0).getCompatibility());
+        assertEquals("WARNING", readCompatibilities.get(0).getSpecificWarningKey());
+    }
+
+    /**
+     * Test of write method, of class PrecompiledCompatibilities.
+     */
+    @Test
+    void testWriteWhenArgumentsAreNull() {
+        System.out.println("write");
+        assertThrows(IllegalArgumentException.class, () -> {
+            PrecompiledCompatibilities.write(null, new ByteArrayOutputStream());
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            PrecompiledCompatibilities.write(new ArrayList<>(), null);
+        });
+    }
+
+    /**
+     * Test of read method, of class PrecompiledCompatibilities.
+     */
+    @Test
+    void testReadWhenInputStreamIsMalformed() {
+        System.out.println("read");
+        assertThrows(IllegalArgumentException.class, () -> {
+            PrecompiledCompatibilities.read(null);
+        });
+        assertThrows(IOException.class, () -> {
+            PrecompiledCompatibilities.read(new ByteArrayInputStream(new byte[0]));
+        });
+        assertThrows(IOException.class, () -> {
+            PrecompiledCompatibilities.read(new ByteArrayInputStream("Not a base of knowledge".getBytes()));
+        });
+    }
+
+    private Set<String> toStrings(List<LicenseCompatibilityEntry> compatibilities) {
+        Set<String> strings = new HashSet<>();
+        for (LicenseCompatibilityEntry entry : compatibilities) {
+            strings.add(entry.getComponentLicense() + "/" + entry.getProjectLicense() + "/" + entry.getLink() + "/" + entry.getRedistribution() + "/" + entry.getCompatibility() + "/" + entry.getSpecificWarningKey());
+        }
+        return strings;
+    }
+}
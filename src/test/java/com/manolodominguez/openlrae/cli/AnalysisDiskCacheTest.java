@@ -0,0 +1,153 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.cli;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class AnalysisDiskCacheTest {
+
+    public AnalysisDiskCacheTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of constructor, of class AnalysisDiskCache.
+     */
+    @Test
+    void testConstructor(@TempDir Path temporaryDirectory) {
+        System.out.println("Constructor");
+        AnalysisDiskCache instance = new AnalysisDiskCache(temporaryDirectory.toFile(), 1024);
+        assertEquals(temporaryDirectory.toFile(), instance.getDirectory());
+        assertEquals(1024, instance.getMaxSize());
+        assertThrows(IllegalArgumentException.class, () -> {
+            new AnalysisDiskCache(null, 1024);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new AnalysisDiskCache(temporaryDirectory.toFile(), 0);
+        });
+    }
+
+    /**
+     * Test of getKey method, of class AnalysisDiskCache.
+     */
+    @Test
+    void testGetKey(@TempDir Path temporaryDirectory) {
+        System.out.println("getKey");
+        AnalysisDiskCache instance = new AnalysisDiskCache(temporaryDirectory.toFile(), 1024);
+        byte[] projectDefinition = "{}".getBytes(StandardCharsets.UTF_8);
+        String key = instance.getKey(projectDefinition, "3.2", "built-in");
+        assertEquals(64, key.length());
+        assertEquals(key, instance.getKey(projectDefinition, "3.2", "built-in"));
+        assertNotEquals(key, instance.getKey(projectDefinition, "3.3", "built-in"));
+        assertNotEquals(key, instance.getKey("{ }".getBytes(StandardCharsets.UTF_8), "3.2", "built-in"));
+        // Versions cannot be mixed up
+        assertNotEquals(instance.getKey(projectDefinition, "ab", "c"), instance.getKey(projectDefinition, "a", "bc"));
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getKey(null, "3.2");
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.getKey(projectDefinition, "3.2", null);
+        });
+    }
+
+    /**
+     * Test of get method, of class AnalysisDiskCache.
+     */
+    @Test
+    void testGet(@TempDir Path temporaryDirectory) {
+        System.out.println("get");
+        File directory = temporaryDirectory.resolve("cache").toFile();
+        AnalysisDiskCache instance = new AnalysisDiskCache(directory, 1024);
+        String key = instance.getKey("{}".getBytes(StandardCharsets.UTF_8), "3.2");
+        assertNull(instance.get(key));
+        instance.put(key, "report");
+        assertEquals("report", instance.get(key));
+        // Only the report is left in the directory
+        assertEquals(1, directory.list().length);
+        instance.put(key, "another report");
+        assertEquals("another report", instance.get(key));
+        assertEquals(1, directory.list().length);
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.get(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.get("../report");
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.put(key, null);
+        });
+    }
+
+    /**
+     * Test of put method, of class AnalysisDiskCache, when the directory
+     * exceeds its maximum size.
+     */
+    @Test
+    void testPutWhenDirectoryIsFull(@TempDir Path temporaryDirectory) {
+        System.out.println("put");
+        File directory = temporaryDirectory.toFile();
+        AnalysisDiskCache instance = new AnalysisDiskCache(directory, 25);
+        String firstKey = instance.getKey("first".getBytes(StandardCharsets.UTF_8));
+        String secondKey = instance.getKey("second".getBytes(StandardCharsets.UTF_8));
+        String thirdKey = instance.getKey("third".getBytes(StandardCharsets.UTF_8));
+        instance.put(firstKey, "0123456789");
+        instance.put(secondKey, "0123456789");
+        // The first report becomes the most recently used one
+        new File(directory, secondKey + ".json").setLastModified(System.currentTimeMillis() - 60000);
+        new File(directory, firstKey + ".json").setLastModified(System.currentTimeMillis() - 30000);
+        instance.put(thirdKey, "0123456789");
+        assertEquals(2, directory.list().length);
+        assertNotNull(instance.get(firstKey));
+        assertNull(instance.get(secondKey));
+        assertNotNull(instance.get(thirdKey));
+    }
+
+}
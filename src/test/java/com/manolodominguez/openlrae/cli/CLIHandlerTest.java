@@ -23,11 +23,17 @@
 package com.manolodominguez.openlrae.cli;
 
 import com.manolodominguez.openlrae.resourceslocators.FilesPaths;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -106,6 +112,29 @@ class CLIHandlerTest {
             instance.runAnalysis(FilesPaths.PROJECT_EXAMPLE.getFilePath());
     }    
 
+    /**
+     * Test of runAnalysis method, of class CLIHandler, using a cache
+     * directory.
+     */
+    @Test
+    void testRunAnalysisWithCache(@TempDir Path temporaryDirectory) throws IOException {
+        System.out.println("runAnalysis");
+        Path projectFile = temporaryDirectory.resolve("project.json");
+        try (InputStream inputStream = getClass().getResourceAsStream(FilesPaths.PROJECT_EXAMPLE.getFilePath())) {
+            Files.copy(inputStream, projectFile);
+        }
+        File cacheDirectory = temporaryDirectory.resolve("cache").toFile();
+        CLIHandler instance = new CLIHandler();
+        instance.runAnalysis(projectFile.toString(), cacheDirectory.toString());
+        assertEquals(1, cacheDirectory.list().length);
+        // The second run is served from the cache
+        instance.runAnalysis(projectFile.toString(), cacheDirectory.toString());
+        assertEquals(1, cacheDirectory.list().length);
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.runAnalysis(projectFile.toString(), "");
+        });
+    }
+
     /**
      * Test of runExample method, of class CLIHandler.
      */
@@ -128,6 +157,17 @@ class CLIHandlerTest {
         instance.showInfo();
     }
 
+    /**
+     * Test of showCompatibilityMatrix method, of class CLIHandler.
+     */
+    @Test
+    void testShowCompatibilityMatrix() {
+        System.out.println("showCompatibilityMatrix");
+        CLIHandler instance = new CLIHandler();
+        assertNotNull(instance);
+        instance.showCompatibilityMatrix();
+    }
+
     /**
      * Test of showOptions method, of class CLIHandler.
      */
@@ -0,0 +1,136 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.i18n;
+
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
+import java.util.Arrays;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class TranslatableMessageTest {
+
+    public TranslatableMessageTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of constructor, of class TranslatableMessage.
+     */
+    @Test
+    void testConstructor() {
+        System.out.println("Constructor");
+        Object[] terms = {"A ", SupportedLinks.STATIC, " component"};
+        TranslatableMessage instance = new TranslatableMessage(terms);
+        assertEquals(Arrays.asList(terms), instance.getTerms());
+        // The message is immutable
+        terms[1] = SupportedLinks.DYNAMIC;
+        assertEquals(SupportedLinks.STATIC, instance.getTerms().get(1));
+        assertThrows(UnsupportedOperationException.class, () -> {
+            instance.getTerms().set(1, SupportedLinks.DYNAMIC);
+        });
+    }
+
+    /**
+     * Test of constructor, of class TranslatableMessage.
+     */
+    @Test
+    void testConstructorWhenArgumentsAreInvalid() {
+        System.out.println("Constructor");
+        assertThrows(IllegalArgumentException.class, () -> {
+            new TranslatableMessage((Object[]) null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new TranslatableMessage("A", null);
+        });
+        // Only terms that can be translated are allowed
+        assertThrows(IllegalArgumentException.class, () -> {
+            new TranslatableMessage("A", new Object());
+        });
+    }
+
+    /**
+     * Test of translate method, of class TranslatableMessage.
+     */
+    @Test
+    void testTranslate() {
+        System.out.println("translate");
+        TranslatableMessage nested = new TranslatableMessage(new TranslationKey(Translations.PROJECT, "THAT"), " ", SupportedLinks.STATIC);
+        TranslatableMessage instance = new TranslatableMessage(SupportedLicenses.APACHE_2_0, ", ", nested, ", ", 2);
+        assertEquals("Apache-2.0, that linked statically, 2", instance.translate(SupportedLanguages.DEFAULT_LANGUAGE));
+        assertEquals("Apache-2.0, que enlazado estáticamente, 2", instance.translate(SupportedLanguages.SPANISH));
+        assertEquals("", new TranslatableMessage().translate(SupportedLanguages.DEFAULT_LANGUAGE));
+        assertEquals("plain", new TranslatableMessage("plain").translate(SupportedLanguages.SPANISH));
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.translate(null);
+        });
+    }
+
+    /**
+     * Test of equals and hashCode methods, of class TranslatableMessage.
+     */
+    @Test
+    void testEquals() {
+        System.out.println("equals");
+        TranslatableMessage instance = new TranslatableMessage("A ", SupportedLinks.STATIC);
+        assertEquals(new TranslatableMessage("A ", SupportedLinks.STATIC), instance);
+        assertEquals(new TranslatableMessage("A ", SupportedLinks.STATIC).hashCode(), instance.hashCode());
+        assertNotEquals(new TranslatableMessage("A ", SupportedLinks.DYNAMIC), instance);
+        assertNotEquals(new TranslatableMessage("A "), instance);
+        assertNotEquals("A linked statically", instance);
+    }
+
+    /**
+     * Test of toString method, of class TranslatableMessage.
+     */
+    @Test
+    void testToString() {
+        System.out.println("toString");
+        TranslatableMessage instance = new TranslatableMessage("A component ", SupportedLinks.DYNAMIC);
+        assertEquals("A component linked dynamically", instance.toString());
+    }
+
+}
@@ -0,0 +1,124 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.i18n;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class TranslationKeyTest {
+
+    public TranslationKeyTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of constructor, of class TranslationKey.
+     */
+    @Test
+    void testConstructor() {
+        System.out.println("Constructor");
+        TranslationKey instance = new TranslationKey(Translations.PROJECT, "THAT");
+        assertEquals(Translations.PROJECT, instance.getTranslations());
+        assertEquals("THAT", instance.getKey());
+    }
+
+    /**
+     * Test of constructor, of class TranslationKey.
+     */
+    @Test
+    void testConstructorWhenArgumentsAreInvalid() {
+        System.out.println("Constructor");
+        assertThrows(IllegalArgumentException.class, () -> {
+            new TranslationKey(null, "THAT");
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            new TranslationKey(Translations.PROJECT, null);
+        });
+        // The key does not exist in the translations
+        assertThrows(IllegalArgumentException.class, () -> {
+            new TranslationKey(Translations.PROJECT, "NON_EXISTING_KEY");
+        });
+    }
+
+    /**
+     * Test of translate method, of class TranslationKey.
+     */
+    @Test
+    void testTranslate() {
+        System.out.println("translate");
+        TranslationKey instance = new TranslationKey(Translations.PROJECT, "THAT");
+        assertEquals("that", instance.translate(SupportedLanguages.DEFAULT_LANGUAGE));
+        assertEquals("que", instance.translate(SupportedLanguages.SPANISH));
+        assertThrows(IllegalArgumentException.class, () -> {
+            instance.translate(null);
+        });
+    }
+
+    /**
+     * Test of equals and hashCode methods, of class TranslationKey.
+     */
+    @Test
+    void testEquals() {
+        System.out.println("equals");
+        TranslationKey instance = new TranslationKey(Translations.SUPPORTED_LINKS, "STATIC");
+        assertEquals(new TranslationKey(Translations.SUPPORTED_LINKS, "STATIC"), instance);
+        assertEquals(new TranslationKey(Translations.SUPPORTED_LINKS, "STATIC").hashCode(), instance.hashCode());
+        assertNotEquals(new TranslationKey(Translations.SUPPORTED_LINKS, "DYNAMIC"), instance);
+        assertNotEquals(new TranslationKey(Translations.PROJECT, "THAT"), instance);
+        assertNotEquals("STATIC", instance);
+    }
+
+    /**
+     * Test of toString method, of class TranslationKey.
+     */
+    @Test
+    void testToString() {
+        System.out.println("toString");
+        TranslationKey instance = new TranslationKey(Translations.PROJECT, "THAT");
+        assertEquals("PROJECT.THAT", instance.toString());
+    }
+
+}
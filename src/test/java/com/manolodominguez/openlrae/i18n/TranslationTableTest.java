@@ -0,0 +1,112 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.i18n;
+
+import java.util.MissingResourceException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class TranslationTableTest {
+
+    public TranslationTableTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of containsKey method, of class TranslationTable.
+     */
+    @Test
+    void testContainsKey() {
+        System.out.println("containsKey");
+        TranslationTable instance = TranslationsRegistry.getInstance().getTable(SupportedLanguages.SPANISH, Translations.PROJECT);
+        assertTrue(instance.containsKey("THAT"));
+        assertFalse(instance.containsKey("NON_EXISTING_KEY"));
+        assertThrows(IllegalArgumentException.class, () -> {
+            // Should throw an exception because key is null
+            instance.containsKey(null);
+        });
+    }
+
+    /**
+     * Test of getKeyOrdinal method, of class TranslationTable.
+     */
+    @Test
+    void testGetKeyOrdinal() {
+        System.out.println("getKeyOrdinal");
+        TranslationTable instance = TranslationsRegistry.getInstance().getTable(SupportedLanguages.SPANISH, Translations.PROJECT);
+        int keyOrdinal = instance.getKeyOrdinal("THAT");
+        assertTrue(keyOrdinal >= 0);
+        assertEquals("que", instance.getString(keyOrdinal));
+        assertEquals(TranslationTable.NOT_FOUND, instance.getKeyOrdinal("NON_EXISTING_KEY"));
+        assertThrows(IllegalArgumentException.class, () -> {
+            // Should throw an exception because key is null
+            instance.getKeyOrdinal(null);
+        });
+    }
+
+    /**
+     * Test of getString method, of class TranslationTable.
+     */
+    @Test
+    void testGetString() {
+        System.out.println("getString");
+        TranslationTable instance = TranslationsRegistry.getInstance().getTable(SupportedLanguages.DEFAULT_LANGUAGE, Translations.PROJECT);
+        assertEquals("that", instance.getString("THAT"));
+        assertThrows(MissingResourceException.class, () -> {
+            // Should throw an exception because the key does not exist
+            instance.getString("NON_EXISTING_KEY");
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            // Should throw an exception because key is null
+            instance.getString(null);
+        });
+        assertThrows(IllegalArgumentException.class, () -> {
+            // Should throw an exception because the ordinal is out of range
+            instance.getString(-1);
+        });
+    }
+
+}
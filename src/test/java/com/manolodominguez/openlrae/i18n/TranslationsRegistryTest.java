@@ -0,0 +1,123 @@
+/* 
+ * Open Licensing Risk Analysis Engine (Open LRAE) is a licensing risk analysis 
+ * engine in the form of Java library that allow the detection of risks related 
+ * to licensing from the set of components (and their respective licenses) you
+ * are using in a given project.
+ * 
+ * Copyright (C) Manuel Domínguez Dorado - ingeniero@ManoloDominguez.com.
+ * 
+ * This program is free software: you can redistribute it and/or modify it under 
+ * the terms of the GNU Lesser General Public License as published by the Free 
+ * Software Foundation, either version 3 of the License, or (at your option) any
+ * later version.
+ * 
+ * This program is distributed in the hope that it will be useful, but WITHOUT 
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU General Public License for more 
+ * details.
+ * 
+ * You should have received a copy of the GNU Lesser General Public License 
+ * along with this program. If not, see 
+ * https://www.gnu.org/licenses/lgpl-3.0.en.html.
+ */
+package com.manolodominguez.openlrae.i18n;
+
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
+import java.util.ResourceBundle;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ *
+ * @author manolodd
+ */
+class TranslationsRegistryTest {
+
+    public TranslationsRegistryTest() {
+    }
+
+    @BeforeAll
+    public static void setUpClass() {
+    }
+
+    @AfterAll
+    public static void tearDownClass() {
+    }
+
+    @BeforeEach
+    void setUp() {
+    }
+
+    @AfterEach
+    void tearDown() {
+    }
+
+    /**
+     * Test of getInstance method, of class TranslationsRegistry.
+     */
+    @Test
+    void testGetInstance() {
+        System.out.println("getInstance");
+        assertNotNull(TranslationsRegistry.getInstance());
+        assertSame(TranslationsRegistry.getInstance(), TranslationsRegistry.getInstance());
+    }
+
+    /**
+     * Test of getTable method, of class TranslationsRegistry.
+     */
+    @Test
+    void testGetTable() {
+        System.out.println("getTable");
+        TranslationsRegistry instance = TranslationsRegistry.getInstance();
+        for (SupportedLanguages language : SupportedLanguages.values()) {
+            for (Translations translations : Translations.values()) {
+                TranslationTable table = instance.getTable(language, translations);
+                assertSame(translations, table.getTranslations());
+                assertSame(language, table.getLanguage());
+                // Tables are shared
+                assertSame(table, instance.getTable(language, translations));
+                // Tables have the same texts as resource bundles
+                ResourceBundle resourceBundle = translations.getResourceBundle(language.getLocale());
+                for (String key : resourceBundle.keySet()) {
+                    assertEquals(resourceBundle.getString(key), table.getString(key));
+                }
+            }
+        }
+        assertEquals("que", instance.getTable(SupportedLanguages.SPANISH, Translations.PROJECT).getString("THAT"));
+        assertEquals("that", instance.getTable(SupportedLanguages.DEFAULT_LANGUAGE, Translations.PROJECT).getString("THAT"));
+        // The ordinal of a key is the same in every language
+        int keyOrdinal = instance.getTable(SupportedLanguages.SPANISH, Translations.SUPPORTED_LINKS).getKeyOrdinal(SupportedLinks.STATIC.toString());
+        assertEquals(keyOrdinal, instance.getTable(SupportedLanguages.DEFAULT_LANGUAGE, Translations.SUPPORTED_LINKS).getKeyOrdinal(SupportedLinks.STATIC.toString()));
+    }
+
+    /**
+     * Test of getTable method, of class TranslationsRegistry.
+     */
+    @Test
+    void testGetTableWhenLanguageIsNull() {
+        System.out.println("getTable");
+        TranslationsRegistry instance = TranslationsRegistry.getInstance();
+        assertThrows(IllegalArgumentException.class, () -> {
+            // Should throw an exception because language is null
+            instance.getTable(null, Translations.PROJECT);
+        });
+    }
+
+    /**
+     * Test of getTable method, of class TranslationsRegistry.
+     */
+    @Test
+    void testGetTableWhenTranslationsIsNull() {
+        System.out.println("getTable");
+        TranslationsRegistry instance = TranslationsRegistry.getInstance();
+        assertThrows(IllegalArgumentException.class, () -> {
+            // Should throw an exception because translations is null
+            instance.getTable(SupportedLanguages.SPANISH, null);
+        });
+    }
+
+}
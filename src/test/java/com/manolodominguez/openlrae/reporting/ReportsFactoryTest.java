@@ -22,6 +22,7 @@
  */
 package com.manolodominguez.openlrae.reporting;
 
+import com.manolodominguez.openlrae.analysis.CountedMessage;
 import com.manolodominguez.openlrae.analysis.LicenseRiskAnalysisEngine;
 import com.manolodominguez.openlrae.analysis.RiskAnalysisResult;
 import com.manolodominguez.openlrae.analysis.riskanalysers.RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses;
@@ -30,7 +31,12 @@ import com.manolodominguez.openlrae.analysis.riskanalysers.RiskAnalyserLimitedSe
 import com.manolodominguez.openlrae.analysis.riskanalysers.RiskAnalyserLimitedSetOfPotentialProjectLicenses;
 import com.manolodominguez.openlrae.analysis.riskanalysers.RiskAnalyserScarcelySpreadComponentsLicenses;
 import com.manolodominguez.openlrae.analysis.riskanalysers.RiskAnalyserUnfashionableComponentsLicenses;
+import com.manolodominguez.openlrae.arquitecture.Component;
+import com.manolodominguez.openlrae.arquitecture.ComponentBinding;
 import com.manolodominguez.openlrae.arquitecture.Project;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedComponentWeights;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLicenses;
+import com.manolodominguez.openlrae.bok.basevalues.SupportedLinks;
 import com.manolodominguez.openlrae.resourceslocators.FilesPaths;
 import java.net.URL;
 import org.everit.json.schema.Schema;
@@ -198,4 +204,49 @@ class ReportsFactoryTest {
         assertFalse(reportAsPlainText.isEmpty());
     }
 
+    /**
+     * Test of getReportAsPlainText method, of class ReportsFactory, when
+     * messages are deduplicated.
+     */
+    @Test
+    void testGetReportAsPlainTextWhenDeduplicatingMessages() {
+        System.out.println("getReportAsPlainText");
+        // Define the project. In this case, it is defined from a JSON file.
+        URL projectURL = getClass().getResource(FilesPaths.PROJECT_EXAMPLE.getFilePath());
+        Project project = new Project(projectURL);
+        // Bind the same component twice, so that the same messages are reported
+        // more than once
+        project.addComponentBinding(new ComponentBinding(new Component("Library", "1.0", SupportedLicenses.GPL_2_0_ONLY), SupportedLinks.STATIC, SupportedComponentWeights.HIGH));
+        project.addComponentBinding(new ComponentBinding(new Component("Library", "1.0", SupportedLicenses.GPL_2_0_ONLY), SupportedLinks.STATIC, SupportedComponentWeights.HIGH));
+
+        // Define desired risk analysers we want to use for this project
+        RiskAnalyserObsoleteComponentsLicenses riskAnalyser1 = new RiskAnalyserObsoleteComponentsLicenses(project);
+        RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses riskAnalyser2 = new RiskAnalyserComponentsLicensesIncompatibleWithProjectLicenses(project);
+        // Define a Risk analysis engine and add these risk analysers
+        LicenseRiskAnalysisEngine riskAnalysisEngine = new LicenseRiskAnalysisEngine(riskAnalyser1);
+        riskAnalysisEngine.addRiskAnalyser(riskAnalyser2);
+
+        // Run the license risks analysis and collect results
+        RiskAnalysisResult[] resultSet = riskAnalysisEngine.analyse();
+        try {
+            String fullReport = ReportsFactory.getInstance(SupportedVerbosityLevel.DETAILED).getReportAsPlainText(project, resultSet);
+            String deduplicatedReport = ReportsFactory.getInstance(SupportedVerbosityLevel.DETAILED, true).getReportAsPlainText(project, resultSet);
+            for (RiskAnalysisResult riskAnalysisResult : resultSet) {
+                for (CountedMessage tip : riskAnalysisResult.getDistinctTipMessages()) {
+                    String translatedTip = tip.getMessage().translate(riskAnalysisResult.getLanguage());
+                    if (tip.getOccurrences() > 1) {
+                        assertTrue(deduplicatedReport.contains("=> " + translatedTip + " (x" + tip.getOccurrences() + ")\n"));
+                        assertFalse(deduplicatedReport.contains("=> " + translatedTip + "\n"));
+                    } else {
+                        assertTrue(deduplicatedReport.contains("=> " + translatedTip + "\n"));
+                    }
+                }
+            }
+            assertTrue(deduplicatedReport.length() < fullReport.length());
+            assertEquals(fullReport, ReportsFactory.getInstance(SupportedVerbosityLevel.DETAILED).getReportAsPlainText(project, resultSet));
+        } finally {
+            ReportsFactory.getInstance();
+        }
+    }
+
 }
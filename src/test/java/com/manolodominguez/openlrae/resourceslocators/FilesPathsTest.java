@@ -61,8 +61,8 @@ class FilesPathsTest {
     @Test
     void testItemsNumber() {
         System.out.println("items number");
-        // Currently there are 4 file paths defined in enum
-        assertEquals(5, FilesPaths.values().length);
+        // Currently there are 6 file paths defined in enum
+        assertEquals(6, FilesPaths.values().length);
     }
 
     /**
@@ -81,6 +81,7 @@ class FilesPathsTest {
                 case REPORT_SCHEMA:
                 case PROJECT_EXAMPLE:
                 case INVALID_PROJECT_EXAMPLE:
+                case KNOWLEDGE_BASE_SCHEMA:
                     worksFine &= true;
                     break;
                 default: